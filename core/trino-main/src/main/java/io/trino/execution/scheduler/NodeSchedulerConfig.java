@@ -50,6 +50,7 @@ public class NodeSchedulerConfig
     private int maxAdjustedPendingSplitsWeightPerTask = 2000;
     private NodeSchedulerPolicy nodeSchedulerPolicy = NodeSchedulerPolicy.UNIFORM;
     private boolean optimizedLocalScheduling = true;
+    private boolean splitAffinityEnabled;
     private SplitsBalancingPolicy splitsBalancingPolicy = SplitsBalancingPolicy.STAGE;
     private int maxUnacknowledgedSplitsPerTask = 2000;
     private Duration allowedNoMatchingNodePeriod = new Duration(2, TimeUnit.MINUTES);
@@ -182,6 +183,19 @@ public class NodeSchedulerConfig
         return this;
     }
 
+    public boolean isSplitAffinityEnabled()
+    {
+        return splitAffinityEnabled;
+    }
+
+    @Config("node-scheduler.split-affinity-enabled")
+    @ConfigDescription("Assign remotely accessible splits to the first of their preferred nodes with queue space, in the order listed by the connector, and fall back to other nodes after the exhausted node wait period")
+    public NodeSchedulerConfig setSplitAffinityEnabled(boolean splitAffinityEnabled)
+    {
+        this.splitAffinityEnabled = splitAffinityEnabled;
+        return this;
+    }
+
     // TODO: respect in pipelined mode
     @Config("node-scheduler.allowed-no-matching-node-period")
     @ConfigDescription("How long scheduler should wait before failing a query for which hard task requirements (e.g. node exposing specific catalog) cannot be satisfied. Relevant for TASK retry policy only.")
@@ -196,9 +210,8 @@ public class NodeSchedulerConfig
         return allowedNoMatchingNodePeriod;
     }
 
-    // TODO: respect in pipelined mode
     @Config("node-scheduler.exhausted-node-wait-period")
-    @ConfigDescription("Maximum time to wait for resource availability on preferred nodes before scheduling a remotely accessible split on other nodes. Relevant for TASK retry policy only.")
+    @ConfigDescription("Maximum time to wait for resource availability on preferred nodes before scheduling a remotely accessible split on other nodes. Relevant for TASK retry policy, and for pipelined execution when split affinity is enabled.")
     public NodeSchedulerConfig setExhaustedNodeWaitPeriod(Duration exhaustedNodeWaitPeriod)
     {
         this.exhaustedNodeWaitPeriod = exhaustedNodeWaitPeriod;
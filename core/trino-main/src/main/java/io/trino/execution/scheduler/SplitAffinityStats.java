@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.execution.scheduler;
+
+import com.google.errorprone.annotations.ThreadSafe;
+import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Cluster wide statistics of where splits with preferred nodes are scheduled.
+ * Splits assigned to a node other than their preferred nodes are likely to miss
+ * the worker caches keyed by the preferred nodes.
+ */
+@ThreadSafe
+public class SplitAffinityStats
+{
+    private final CounterStat primaryNodeAssignments = new CounterStat();
+    private final CounterStat replicaNodeAssignments = new CounterStat();
+    private final CounterStat fallbackAssignments = new CounterStat();
+    private final TimeStat fallbackWaitTime = new TimeStat(MILLISECONDS);
+
+    @Managed
+    @Nested
+    public CounterStat getPrimaryNodeAssignments()
+    {
+        return primaryNodeAssignments;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getReplicaNodeAssignments()
+    {
+        return replicaNodeAssignments;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getFallbackAssignments()
+    {
+        return fallbackAssignments;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getFallbackWaitTime()
+    {
+        return fallbackWaitTime;
+    }
+
+    @Managed
+    public double getPreferredNodeHitRate()
+    {
+        long preferred = primaryNodeAssignments.getTotalCount() + replicaNodeAssignments.getTotalCount();
+        long total = preferred + fallbackAssignments.getTotalCount();
+        if (total == 0) {
+            return Double.NaN;
+        }
+        return (double) preferred / total;
+    }
+}
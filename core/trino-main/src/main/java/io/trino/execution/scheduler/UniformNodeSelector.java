@@ -21,7 +21,9 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import io.airlift.log.Logger;
+import io.airlift.units.Duration;
 import io.trino.execution.NodeTaskMap;
 import io.trino.execution.RemoteTask;
 import io.trino.execution.scheduler.NodeSchedulerConfig.SplitsBalancingPolicy;
@@ -41,6 +43,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.concurrent.MoreFutures.whenAnyCompleteCancelOthers;
 import static io.trino.execution.scheduler.NodeScheduler.calculateLowWatermark;
 import static io.trino.execution.scheduler.NodeScheduler.filterNodes;
 import static io.trino.execution.scheduler.NodeScheduler.getAllNodes;
@@ -51,6 +54,8 @@ import static io.trino.execution.scheduler.NodeScheduler.selectNodes;
 import static io.trino.execution.scheduler.NodeScheduler.toWhenHasSplitQueueSpaceFuture;
 import static io.trino.spi.StandardErrorCode.NO_NODES_AVAILABLE;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class UniformNodeSelector
@@ -69,6 +74,10 @@ public class UniformNodeSelector
     private final SplitsBalancingPolicy splitsBalancingPolicy;
     private final boolean optimizedLocalScheduling;
     private final QueueSizeAdjuster queueSizeAdjuster;
+    private final Optional<Duration> splitAffinityMaxWait;
+    private final SplitAffinityStats splitAffinityStats;
+    private final Ticker ticker;
+    private final Map<Split, Long> splitAffinityWaitStart = new HashMap<>();
 
     public UniformNodeSelector(
             InternalNodeManager nodeManager,
@@ -81,7 +90,9 @@ public class UniformNodeSelector
             long maxAdjustedPendingSplitsWeightPerTask,
             int maxUnacknowledgedSplitsPerTask,
             SplitsBalancingPolicy splitsBalancingPolicy,
-            boolean optimizedLocalScheduling)
+            boolean optimizedLocalScheduling,
+            Optional<Duration> splitAffinityMaxWait,
+            SplitAffinityStats splitAffinityStats)
     {
         this(nodeManager,
                 nodeTaskMap,
@@ -93,7 +104,10 @@ public class UniformNodeSelector
                 maxUnacknowledgedSplitsPerTask,
                 splitsBalancingPolicy,
                 optimizedLocalScheduling,
-                new QueueSizeAdjuster(minPendingSplitsWeightPerTask, maxAdjustedPendingSplitsWeightPerTask));
+                new QueueSizeAdjuster(minPendingSplitsWeightPerTask, maxAdjustedPendingSplitsWeightPerTask),
+                splitAffinityMaxWait,
+                splitAffinityStats,
+                Ticker.systemTicker());
     }
 
     @VisibleForTesting
@@ -109,6 +123,39 @@ public class UniformNodeSelector
             SplitsBalancingPolicy splitsBalancingPolicy,
             boolean optimizedLocalScheduling,
             QueueSizeAdjuster queueSizeAdjuster)
+    {
+        this(nodeManager,
+                nodeTaskMap,
+                includeCoordinator,
+                nodeMap,
+                minCandidates,
+                maxSplitsWeightPerNode,
+                minPendingSplitsWeightPerTask,
+                maxUnacknowledgedSplitsPerTask,
+                splitsBalancingPolicy,
+                optimizedLocalScheduling,
+                queueSizeAdjuster,
+                Optional.empty(),
+                new SplitAffinityStats(),
+                Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    UniformNodeSelector(
+            InternalNodeManager nodeManager,
+            NodeTaskMap nodeTaskMap,
+            boolean includeCoordinator,
+            Supplier<NodeMap> nodeMap,
+            int minCandidates,
+            long maxSplitsWeightPerNode,
+            long minPendingSplitsWeightPerTask,
+            int maxUnacknowledgedSplitsPerTask,
+            SplitsBalancingPolicy splitsBalancingPolicy,
+            boolean optimizedLocalScheduling,
+            QueueSizeAdjuster queueSizeAdjuster,
+            Optional<Duration> splitAffinityMaxWait,
+            SplitAffinityStats splitAffinityStats,
+            Ticker ticker)
     {
         this.nodeManager = requireNonNull(nodeManager, "nodeManager is null");
         this.nodeTaskMap = requireNonNull(nodeTaskMap, "nodeTaskMap is null");
@@ -122,6 +169,9 @@ public class UniformNodeSelector
         this.splitsBalancingPolicy = requireNonNull(splitsBalancingPolicy, "splitsBalancingPolicy is null");
         this.optimizedLocalScheduling = optimizedLocalScheduling;
         this.queueSizeAdjuster = queueSizeAdjuster;
+        this.splitAffinityMaxWait = requireNonNull(splitAffinityMaxWait, "splitAffinityMaxWait is null");
+        this.splitAffinityStats = requireNonNull(splitAffinityStats, "splitAffinityStats is null");
+        this.ticker = requireNonNull(ticker, "ticker is null");
     }
 
     @Override
@@ -156,8 +206,14 @@ public class UniformNodeSelector
         NodeMap nodeMap = this.nodeMap.get().get();
         NodeAssignmentStats assignmentStats = new NodeAssignmentStats(nodeTaskMap, nodeMap, existingTasks);
         queueSizeAdjuster.update(existingTasks, assignmentStats);
+        // the scheduler passes all its pending splits, so splits which are no longer passed
+        // were scheduled elsewhere or abandoned, and do not wait for their preferred nodes anymore
+        if (!splitAffinityWaitStart.isEmpty()) {
+            splitAffinityWaitStart.keySet().retainAll(splits);
+        }
         Set<InternalNode> blockedExactNodes = new HashSet<>();
         boolean splitWaitingForAnyNode = false;
+        long minAffinityWaitRemainingNanos = Long.MAX_VALUE;
 
         List<InternalNode> filteredNodes = filterNodes(nodeMap, includeCoordinator, ImmutableSet.of());
         ResettableRandomizedIterator<InternalNode> randomCandidates = new ResettableRandomizedIterator<>(filteredNodes);
@@ -168,10 +224,25 @@ public class UniformNodeSelector
 
             List<InternalNode> candidateNodes;
             boolean exactNodes;
+            List<InternalNode> preferredNodes = ImmutableList.of();
+            boolean waitForPreferredNodes = false;
             if (!split.isRemotelyAccessible()) {
                 candidateNodes = selectExactNodes(nodeMap, split.getAddresses(), includeCoordinator);
                 exactNodes = true;
             }
+            else if (splitAffinityMaxWait.isPresent() && !split.getAddresses().isEmpty()) {
+                preferredNodes = selectExactNodes(nodeMap, split.getAddresses(), includeCoordinator);
+                if (!preferredNodes.isEmpty() && getSplitAffinityWaitRemainingNanos(split) > 0) {
+                    candidateNodes = preferredNodes;
+                    exactNodes = true;
+                    waitForPreferredNodes = true;
+                }
+                else {
+                    // preferred nodes are not available or stayed busy for too long
+                    candidateNodes = selectNodes(minCandidates, randomCandidates);
+                    exactNodes = false;
+                }
+            }
             else {
                 // optimizedLocalScheduling enables prioritized assignment of splits to local nodes when splits contain locality information
                 if (optimizedLocalScheduling && !split.getAddresses().isEmpty()) {
@@ -195,7 +266,16 @@ public class UniformNodeSelector
                 throw new TrinoException(NO_NODES_AVAILABLE, "No nodes available to run query");
             }
 
-            InternalNode chosenNode = chooseNodeForSplit(assignmentStats, candidateNodes);
+            InternalNode chosenNode;
+            if (waitForPreferredNodes) {
+                // keep the split on the first preferred node that is not full, so it is read from the same node cache
+                chosenNode = getFreeNodesForStage(assignmentStats, candidateNodes).stream()
+                        .findFirst()
+                        .orElse(null);
+            }
+            else {
+                chosenNode = chooseNodeForSplit(assignmentStats, candidateNodes);
+            }
             if (chosenNode == null) {
                 long minWeight = Long.MAX_VALUE;
                 for (InternalNode node : candidateNodes) {
@@ -215,8 +295,15 @@ public class UniformNodeSelector
             if (chosenNode != null) {
                 assignment.put(chosenNode, split);
                 assignmentStats.addAssignedSplit(chosenNode, split.getSplitWeight());
+                if (splitAffinityMaxWait.isPresent() && split.isRemotelyAccessible() && !split.getAddresses().isEmpty()) {
+                    recordSplitAffinity(split, preferredNodes, chosenNode);
+                }
             }
             else {
+                if (waitForPreferredNodes) {
+                    splitAffinityWaitStart.putIfAbsent(split, ticker.read());
+                    minAffinityWaitRemainingNanos = Math.min(minAffinityWaitRemainingNanos, getSplitAffinityWaitRemainingNanos(split));
+                }
                 candidateNodes.forEach(schedulableNodes::remove);
                 if (!exactNodes) {
                     splitWaitingForAnyNode = true;
@@ -239,11 +326,51 @@ public class UniformNodeSelector
         }
         else {
             blocked = toWhenHasSplitQueueSpaceFuture(blockedExactNodes, existingTasks, calculateLowWatermark(minPendingSplitsWeightPerTask));
+            if (minAffinityWaitRemainingNanos != Long.MAX_VALUE && !blocked.isDone()) {
+                // wake up the scheduler when a split waiting for its preferred nodes may fall back to other nodes
+                SettableFuture<Void> waitExpired = SettableFuture.create();
+                delayedExecutor(minAffinityWaitRemainingNanos, NANOSECONDS).execute(() -> waitExpired.set(null));
+                blocked = whenAnyCompleteCancelOthers(ImmutableList.of(blocked, waitExpired));
+            }
         }
 
         return new SplitPlacementResult(blocked, assignment);
     }
 
+    @VisibleForTesting
+    int getSplitsWaitingForAffinity()
+    {
+        return splitAffinityWaitStart.size();
+    }
+
+    private long getSplitAffinityWaitRemainingNanos(Split split)
+    {
+        Long waitStart = splitAffinityWaitStart.get(split);
+        long maxWaitNanos = splitAffinityMaxWait.orElseThrow().roundTo(NANOSECONDS);
+        if (waitStart == null) {
+            return maxWaitNanos;
+        }
+        return maxWaitNanos - (ticker.read() - waitStart);
+    }
+
+    private void recordSplitAffinity(Split split, List<InternalNode> preferredNodes, InternalNode chosenNode)
+    {
+        Long waitStart = splitAffinityWaitStart.remove(split);
+        int preference = preferredNodes.indexOf(chosenNode);
+        if (preference == 0) {
+            splitAffinityStats.getPrimaryNodeAssignments().update(1);
+        }
+        else if (preference > 0) {
+            splitAffinityStats.getReplicaNodeAssignments().update(1);
+        }
+        else {
+            splitAffinityStats.getFallbackAssignments().update(1);
+            if (waitStart != null) {
+                splitAffinityStats.getFallbackWaitTime().addNanos(ticker.read() - waitStart);
+            }
+        }
+    }
+
     @Override
     public SplitPlacementResult computeAssignments(Set<Split> splits, List<RemoteTask> existingTasks, BucketNodeMap bucketNodeMap)
     {
@@ -29,6 +29,8 @@ import io.trino.metadata.InternalNodeManager;
 import io.trino.spi.HostAddress;
 import io.trino.spi.SplitWeight;
 import io.trino.spi.connector.CatalogHandle;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -66,6 +68,8 @@ public class UniformNodeSelectorFactory
     private final boolean optimizedLocalScheduling;
     private final NodeTaskMap nodeTaskMap;
     private final Duration nodeMapMemoizationDuration;
+    private final Optional<Duration> splitAffinityMaxWait;
+    private final SplitAffinityStats splitAffinityStats = new SplitAffinityStats();
 
     @Inject
     public UniformNodeSelectorFactory(
@@ -98,6 +102,14 @@ public class UniformNodeSelectorFactory
         this.minPendingSplitsWeightPerTask = SplitWeight.rawValueForStandardSplitCount(minPendingSplitsPerTask);
         this.maxAdjustedPendingSplitsWeightPerTask = SplitWeight.rawValueForStandardSplitCount(maxAdjustedPendingSplitsWeightPerTask);
         this.nodeMapMemoizationDuration = nodeMapMemoizationDuration;
+        this.splitAffinityMaxWait = config.isSplitAffinityEnabled() ? Optional.of(config.getExhaustedNodeWaitPeriod()) : Optional.empty();
+    }
+
+    @Managed
+    @Nested
+    public SplitAffinityStats getSplitAffinityStats()
+    {
+        return splitAffinityStats;
     }
 
     @Override
@@ -128,7 +140,9 @@ public class UniformNodeSelectorFactory
                 maxAdjustedPendingSplitsWeightPerTask,
                 getMaxUnacknowledgedSplitsPerTask(session),
                 splitsBalancingPolicy,
-                optimizedLocalScheduling);
+                optimizedLocalScheduling,
+                splitAffinityMaxWait,
+                splitAffinityStats);
     }
 
     private NodeMap createNodeMap(Optional<CatalogHandle> catalogHandle)
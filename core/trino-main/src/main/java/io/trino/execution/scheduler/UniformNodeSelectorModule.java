@@ -17,12 +17,16 @@ import com.google.inject.Binder;
 import com.google.inject.Module;
 import com.google.inject.Scopes;
 
+import static org.weakref.jmx.guice.ExportBinder.newExporter;
+
 public class UniformNodeSelectorModule
         implements Module
 {
     @Override
     public void configure(Binder binder)
     {
+        binder.bind(UniformNodeSelectorFactory.class).in(Scopes.SINGLETON);
         binder.bind(NodeSelectorFactory.class).to(UniformNodeSelectorFactory.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(UniformNodeSelectorFactory.class).withGeneratedName();
     }
 }
@@ -42,6 +42,7 @@ public class TestNodeSchedulerConfig
                 .setIncludeCoordinator(true)
                 .setSplitsBalancingPolicy(NodeSchedulerConfig.SplitsBalancingPolicy.STAGE)
                 .setOptimizedLocalScheduling(true)
+                .setSplitAffinityEnabled(false)
                 .setAllowedNoMatchingNodePeriod(new Duration(2, MINUTES))
                 .setExhaustedNodeWaitPeriod(new Duration(2, MINUTES)));
     }
@@ -59,6 +60,7 @@ public class TestNodeSchedulerConfig
                 .put("node-scheduler.max-unacknowledged-splits-per-task", "501")
                 .put("node-scheduler.splits-balancing-policy", "node")
                 .put("node-scheduler.optimized-local-scheduling", "false")
+                .put("node-scheduler.split-affinity-enabled", "true")
                 .put("node-scheduler.allowed-no-matching-node-period", "1m")
                 .put("node-scheduler.exhausted-node-wait-period", "3m")
                 .buildOrThrow();
@@ -73,6 +75,7 @@ public class TestNodeSchedulerConfig
                 .setMinCandidates(11)
                 .setSplitsBalancingPolicy(NODE)
                 .setOptimizedLocalScheduling(false)
+                .setSplitAffinityEnabled(true)
                 .setAllowedNoMatchingNodePeriod(new Duration(1, MINUTES))
                 .setExhaustedNodeWaitPeriod(new Duration(3, MINUTES));
 
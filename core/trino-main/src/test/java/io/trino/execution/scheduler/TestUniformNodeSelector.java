@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import io.airlift.testing.TestingTicker;
+import io.airlift.units.Duration;
 import io.trino.Session;
 import io.trino.client.NodeVersion;
 import io.trino.execution.MockRemoteTaskFactory;
@@ -60,6 +61,7 @@ import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static io.trino.testing.TestingHandles.TEST_CATALOG_HANDLE;
 import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
@@ -333,6 +335,83 @@ public class TestUniformNodeSelector
         org.assertj.guava.api.Assertions.assertThat(assignmentsNode1Dead).hasSameEntriesAs(expected);
     }
 
+    @Test
+    public void testSplitAffinity()
+    {
+        InternalNode node3 = new InternalNode("node3", URI.create("http://10.0.0.2:11"), NodeVersion.UNKNOWN, false);
+        nodeManager.addNodes(node3);
+
+        TestingTicker ticker = new TestingTicker();
+        SplitAffinityStats stats = new SplitAffinityStats();
+        UniformNodeSelector affinityNodeSelector = new UniformNodeSelector(
+                nodeManager,
+                nodeTaskMap,
+                false,
+                () -> createNodeMap(TEST_CATALOG_HANDLE),
+                10,
+                100,
+                100,
+                500,
+                NodeSchedulerConfig.SplitsBalancingPolicy.STAGE,
+                false,
+                new UniformNodeSelector.QueueSizeAdjuster(100, 100, ticker),
+                Optional.of(new Duration(1, SECONDS)),
+                stats,
+                ticker);
+        nodeSelector = affinityNodeSelector;
+
+        // all splits prefer node1 and then node2, and each node has room for a single split
+        Split primarySplit = new Split(TEST_CATALOG_HANDLE, new TestingSplit(true, ImmutableList.of(node1.getHostAndPort(), node2.getHostAndPort())));
+        Split replicaSplit = new Split(TEST_CATALOG_HANDLE, new TestingSplit(true, ImmutableList.of(node1.getHostAndPort(), node2.getHostAndPort())));
+        Split fallbackSplit = new Split(TEST_CATALOG_HANDLE, new TestingSplit(true, ImmutableList.of(node1.getHostAndPort(), node2.getHostAndPort())));
+        splits.add(primarySplit);
+        splits.add(replicaSplit);
+        splits.add(fallbackSplit);
+
+        Multimap<InternalNode, Split> assignments1 = nodeSelector.computeAssignments(splits, ImmutableList.copyOf(taskMap.values())).getAssignments();
+        ArrayListMultimap<InternalNode, Split> expected = ArrayListMultimap.create();
+        expected.put(node1, primarySplit);
+        expected.put(node2, replicaSplit);
+        org.assertj.guava.api.Assertions.assertThat(assignments1).hasSameEntriesAs(expected);
+        assertThat(stats.getPrimaryNodeAssignments().getTotalCount()).isEqualTo(1);
+        assertThat(stats.getReplicaNodeAssignments().getTotalCount()).isEqualTo(1);
+
+        MockRemoteTaskFactory remoteTaskFactory = new MockRemoteTaskFactory(remoteTaskExecutor, remoteTaskScheduledExecutor);
+        int task = 0;
+        for (InternalNode node : assignments1.keySet()) {
+            TaskId taskId = new TaskId(new StageId("test", 1), task, 0);
+            task++;
+            MockRemoteTaskFactory.MockRemoteTask remoteTask = remoteTaskFactory.createTableScanTask(taskId, node, ImmutableList.copyOf(assignments1.get(node)), nodeTaskMap.createPartitionedSplitCountTracker(node, taskId));
+            nodeTaskMap.addTask(node, remoteTask);
+            taskMap.put(node, remoteTask);
+        }
+
+        // the preferred nodes are busy, so the split waits for them
+        SplitPlacementResult result = nodeSelector.computeAssignments(ImmutableSet.of(fallbackSplit), ImmutableList.copyOf(taskMap.values()));
+        assertThat(result.getAssignments().isEmpty()).isTrue();
+        assertThat(result.getBlocked().isDone()).isFalse();
+        assertThat(stats.getFallbackAssignments().getTotalCount()).isEqualTo(0);
+        assertThat(affinityNodeSelector.getSplitsWaitingForAffinity()).isEqualTo(1);
+
+        // the wait for the preferred nodes expired, so the split falls back to another node
+        ticker.increment(1, TimeUnit.SECONDS);
+        Multimap<InternalNode, Split> assignments2 = nodeSelector.computeAssignments(ImmutableSet.of(fallbackSplit), ImmutableList.copyOf(taskMap.values())).getAssignments();
+        expected = ArrayListMultimap.create();
+        expected.put(node3, fallbackSplit);
+        org.assertj.guava.api.Assertions.assertThat(assignments2).hasSameEntriesAs(expected);
+        assertThat(stats.getFallbackAssignments().getTotalCount()).isEqualTo(1);
+        assertThat(stats.getFallbackWaitTime().getAllTime().getCount()).isEqualTo(1.0);
+        assertThat(stats.getPreferredNodeHitRate()).isEqualTo(2.0 / 3);
+        assertThat(affinityNodeSelector.getSplitsWaitingForAffinity()).isEqualTo(0);
+
+        // a split which is no longer pending does not wait for its preferred nodes anymore
+        Split abandonedSplit = new Split(TEST_CATALOG_HANDLE, new TestingSplit(true, ImmutableList.of(node1.getHostAndPort(), node2.getHostAndPort())));
+        assertThat(nodeSelector.computeAssignments(ImmutableSet.of(abandonedSplit), ImmutableList.copyOf(taskMap.values())).getAssignments().isEmpty()).isTrue();
+        assertThat(affinityNodeSelector.getSplitsWaitingForAffinity()).isEqualTo(1);
+        nodeSelector.computeAssignments(ImmutableSet.of(), ImmutableList.copyOf(taskMap.values()));
+        assertThat(affinityNodeSelector.getSplitsWaitingForAffinity()).isEqualTo(0);
+    }
+
     private NodeMap createNodeMap(CatalogHandle catalogHandle)
     {
         Set<InternalNode> nodes = nodeManager.getActiveCatalogNodes(catalogHandle);
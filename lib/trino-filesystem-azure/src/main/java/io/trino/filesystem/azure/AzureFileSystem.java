@@ -60,6 +60,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static com.azure.storage.common.implementation.Constants.HeaderConstants.ETAG_WILDCARD;
 import static com.google.common.base.Preconditions.checkArgument;
@@ -80,6 +81,7 @@ public class AzureFileSystem
         implements TrinoFileSystem
 {
     private final HttpClient httpClient;
+    private final Executor readExecutor;
     private final TracingOptions tracingOptions;
     private final AzureAuth azureAuth;
     private final String endpoint;
@@ -90,6 +92,7 @@ public class AzureFileSystem
 
     public AzureFileSystem(
             HttpClient httpClient,
+            Executor readExecutor,
             TracingOptions tracingOptions,
             AzureAuth azureAuth,
             String endpoint,
@@ -99,6 +102,7 @@ public class AzureFileSystem
             DataSize maxSingleUploadSize)
     {
         this.httpClient = requireNonNull(httpClient, "httpClient is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
         this.tracingOptions = requireNonNull(tracingOptions, "tracingOptions is null");
         this.azureAuth = requireNonNull(azureAuth, "azureAuth is null");
         this.endpoint = requireNonNull(endpoint, "endpoint is null");
@@ -114,7 +118,7 @@ public class AzureFileSystem
     {
         AzureLocation azureLocation = new AzureLocation(location);
         BlobClient client = createBlobClient(azureLocation, Optional.empty());
-        return new AzureInputFile(azureLocation, OptionalLong.empty(), Optional.empty(), client, readBlockSizeBytes);
+        return new AzureInputFile(azureLocation, OptionalLong.empty(), Optional.empty(), readExecutor, client, readBlockSizeBytes);
     }
 
     @Override
@@ -122,7 +126,7 @@ public class AzureFileSystem
     {
         AzureLocation azureLocation = new AzureLocation(location);
         BlobClient client = createBlobClient(azureLocation, Optional.of(key));
-        return new AzureInputFile(azureLocation, OptionalLong.empty(), Optional.empty(), client, readBlockSizeBytes);
+        return new AzureInputFile(azureLocation, OptionalLong.empty(), Optional.empty(), readExecutor, client, readBlockSizeBytes);
     }
 
     @Override
@@ -130,7 +134,7 @@ public class AzureFileSystem
     {
         AzureLocation azureLocation = new AzureLocation(location);
         BlobClient client = createBlobClient(azureLocation, Optional.empty());
-        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.empty(), client, readBlockSizeBytes);
+        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.empty(), readExecutor, client, readBlockSizeBytes);
     }
 
     @Override
@@ -138,7 +142,7 @@ public class AzureFileSystem
     {
         AzureLocation azureLocation = new AzureLocation(location);
         BlobClient client = createBlobClient(azureLocation, Optional.of(key));
-        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.empty(), client, readBlockSizeBytes);
+        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.empty(), readExecutor, client, readBlockSizeBytes);
     }
 
     @Override
@@ -146,7 +150,7 @@ public class AzureFileSystem
     {
         AzureLocation azureLocation = new AzureLocation(location);
         BlobClient client = createBlobClient(azureLocation, Optional.empty());
-        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.of(lastModified), client, readBlockSizeBytes);
+        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.of(lastModified), readExecutor, client, readBlockSizeBytes);
     }
 
     @Override
@@ -154,7 +158,7 @@ public class AzureFileSystem
     {
         AzureLocation azureLocation = new AzureLocation(location);
         BlobClient client = createBlobClient(azureLocation, Optional.of(key));
-        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.of(lastModified), client, readBlockSizeBytes);
+        return new AzureInputFile(azureLocation, OptionalLong.of(length), Optional.of(lastModified), readExecutor, client, readBlockSizeBytes);
     }
 
     @Override
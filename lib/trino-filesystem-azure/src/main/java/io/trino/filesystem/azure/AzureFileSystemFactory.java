@@ -18,6 +18,7 @@ import com.azure.core.http.okhttp.OkHttpAsyncHttpClientBuilder;
 import com.azure.core.tracing.opentelemetry.OpenTelemetryTracingOptions;
 import com.azure.core.util.HttpClientOptions;
 import com.azure.core.util.TracingOptions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.airlift.units.DataSize;
 import io.opentelemetry.api.OpenTelemetry;
@@ -29,10 +30,12 @@ import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 
 public class AzureFileSystemFactory
         implements TrinoFileSystemFactory
@@ -46,6 +49,10 @@ public class AzureFileSystemFactory
     private final TracingOptions tracingOptions;
     private final OkHttpClient okHttpClient;
     private final HttpClient httpClient;
+    private final ExecutorService readExecutor = newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("azure-read-%s")
+            .setDaemon(true)
+            .build());
 
     @Inject
     public AzureFileSystemFactory(OpenTelemetry openTelemetry, AzureAuth azureAuth, AzureFileSystemConfig config)
@@ -98,12 +105,13 @@ public class AzureFileSystemFactory
     {
         okHttpClient.dispatcher().executorService().shutdownNow();
         okHttpClient.connectionPool().evictAll();
+        readExecutor.shutdownNow();
     }
 
     @Override
     public TrinoFileSystem create(ConnectorIdentity identity)
     {
-        return new AzureFileSystem(httpClient, tracingOptions, auth, endpoint, readBlockSize, writeBlockSize, maxWriteConcurrency, maxSingleUploadSize);
+        return new AzureFileSystem(httpClient, readExecutor, tracingOptions, auth, endpoint, readBlockSize, writeBlockSize, maxWriteConcurrency, maxSingleUploadSize);
     }
 
     public static HttpClient createAzureHttpClient(OkHttpClient okHttpClient, HttpClientOptions clientOptions)
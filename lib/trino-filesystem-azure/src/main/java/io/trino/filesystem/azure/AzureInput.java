@@ -17,11 +17,17 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.options.BlobInputStreamOptions;
 import com.azure.storage.blob.specialized.BlobInputStream;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.VectoredReads;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.List;
 import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 
 import static io.trino.filesystem.azure.AzureUtils.handleAzureException;
 import static java.util.Objects.checkFromIndexSize;
@@ -31,13 +37,15 @@ class AzureInput
         implements TrinoInput
 {
     private final AzureLocation location;
+    private final Executor readExecutor;
     private final BlobClient blobClient;
     private OptionalLong length;
     private boolean closed;
 
-    public AzureInput(AzureLocation location, BlobClient blobClient, OptionalLong length)
+    public AzureInput(AzureLocation location, Executor readExecutor, BlobClient blobClient, OptionalLong length)
     {
         this.location = requireNonNull(location, "location is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
         this.blobClient = requireNonNull(blobClient, "blobClient is null");
         this.length = requireNonNull(length, "length is null");
     }
@@ -74,6 +82,12 @@ class AzureInput
         }
     }
 
+    @Override
+    public List<ListenableFuture<Slice>> readVectored(List<FileRange> ranges)
+    {
+        return VectoredReads.readVectored(this, ranges, readExecutor);
+    }
+
     @Override
     public int readTail(byte[] buffer, int bufferOffset, int bufferLength)
             throws IOException
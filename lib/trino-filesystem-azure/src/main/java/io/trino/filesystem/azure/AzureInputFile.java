@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.trino.filesystem.azure.AzureUtils.handleAzureException;
@@ -33,18 +34,20 @@ class AzureInputFile
         implements TrinoInputFile
 {
     private final AzureLocation location;
+    private final Executor readExecutor;
     private final BlobClient blobClient;
     private final int readBlockSizeBytes;
 
     private OptionalLong length;
     private Optional<Instant> lastModified;
 
-    public AzureInputFile(AzureLocation location, OptionalLong length, Optional<Instant> lastModified, BlobClient blobClient, int readBlockSizeBytes)
+    public AzureInputFile(AzureLocation location, OptionalLong length, Optional<Instant> lastModified, Executor readExecutor, BlobClient blobClient, int readBlockSizeBytes)
     {
         this.location = requireNonNull(location, "location is null");
         location.location().verifyValidFileLocation();
         this.length = requireNonNull(length, "length is null");
         this.lastModified = requireNonNull(lastModified, "lastModified is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
         this.blobClient = requireNonNull(blobClient, "blobClient is null");
         checkArgument(readBlockSizeBytes >= 0, "readBlockSizeBytes is negative");
         this.readBlockSizeBytes = readBlockSizeBytes;
@@ -74,7 +77,7 @@ class AzureInputFile
             throws IOException
     {
         try {
-            return new AzureInput(location, blobClient, length);
+            return new AzureInput(location, readExecutor, blobClient, length);
         }
         catch (RuntimeException e) {
             throw handleAzureException(e, "opening file", location);
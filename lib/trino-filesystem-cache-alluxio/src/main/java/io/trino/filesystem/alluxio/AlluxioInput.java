@@ -16,14 +16,25 @@ package io.trino.filesystem.alluxio;
 import alluxio.client.file.URIStatus;
 import alluxio.client.file.cache.CacheManager;
 import alluxio.conf.AlluxioConfiguration;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
 import io.opentelemetry.api.trace.Tracer;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.TrinoInput;
 import io.trino.filesystem.TrinoInputFile;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static io.airlift.slice.Slices.wrappedBuffer;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.util.Collections.nCopies;
 import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.requireNonNull;
 
@@ -73,6 +84,69 @@ public class AlluxioInput
         doExternalRead(position + bytesRead, buffer, offset + bytesRead, length - bytesRead);
     }
 
+    @Override
+    public List<ListenableFuture<Slice>> readVectored(List<FileRange> ranges)
+    {
+        List<byte[]> buffers;
+        try {
+            buffers = readVectoredInternal(ranges);
+        }
+        catch (IOException e) {
+            ListenableFuture<Slice> failure = immediateFailedFuture(e);
+            return nCopies(ranges.size(), failure);
+        }
+        return buffers.stream()
+                .map(buffer -> immediateFuture(wrappedBuffer(buffer)))
+                .collect(toImmutableList());
+    }
+
+    private List<byte[]> readVectoredInternal(List<FileRange> ranges)
+            throws IOException
+    {
+        ensureOpen();
+
+        // serve what is cached, and fetch all the missing pages from the external input in one vectored read
+        List<byte[]> buffers = new ArrayList<>(ranges.size());
+        List<Integer> missIndexes = new ArrayList<>();
+        List<Integer> missOffsets = new ArrayList<>();
+        List<AlluxioInputHelper.PageAlignedRead> missReads = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            FileRange range = ranges.get(i);
+            if (range.end() > fileLength) {
+                throw new EOFException("Read %s of %s requested bytes: %s".formatted(max(fileLength - range.position(), 0), range.length(), inputFile.location()));
+            }
+            byte[] buffer = new byte[range.length()];
+            buffers.add(buffer);
+            if (range.length() == 0) {
+                continue;
+            }
+            int bytesRead = helper.doCacheRead(range.position(), buffer, 0, range.length());
+            if (bytesRead == range.length()) {
+                continue;
+            }
+            missIndexes.add(i);
+            missOffsets.add(bytesRead);
+            missReads.add(helper.alignRead(range.position() + bytesRead, range.length() - bytesRead));
+        }
+        if (missReads.isEmpty()) {
+            return buffers;
+        }
+
+        List<Slice> externalData = getInput().readFully(missReads.stream()
+                .map(aligned -> new FileRange(aligned.pageStart(), aligned.length()))
+                .collect(toImmutableList()));
+        for (int i = 0; i < missReads.size(); i++) {
+            AlluxioInputHelper.PageAlignedRead aligned = missReads.get(i);
+            byte[] readBuffer = externalData.get(i).getBytes();
+            helper.putCache(aligned.pageStart(), aligned.pageEnd(), readBuffer, aligned.length());
+            FileRange range = ranges.get(missIndexes.get(i));
+            int offset = missOffsets.get(i);
+            System.arraycopy(readBuffer, aligned.pageOffset(), buffers.get(missIndexes.get(i)), offset, range.length() - offset);
+            statistics.recordExternalRead(readBuffer.length);
+        }
+        return buffers;
+    }
+
     private int doExternalRead(long position, byte[] buffer, int offset, int length)
             throws IOException
     {
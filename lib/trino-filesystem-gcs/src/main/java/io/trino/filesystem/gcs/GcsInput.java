@@ -17,14 +17,20 @@ import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobGetOption;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.VectoredReads;
 import io.trino.filesystem.encryption.EncryptionKey;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.trino.filesystem.gcs.GcsUtils.encodedKey;
@@ -38,15 +44,17 @@ final class GcsInput
         implements TrinoInput
 {
     private final GcsLocation location;
+    private final Executor readExecutor;
     private final Storage storage;
     private final int readBlockSize;
     private final OptionalLong length;
     private final Optional<EncryptionKey> key;
     private boolean closed;
 
-    public GcsInput(GcsLocation location, Storage storage, int readBlockSize, OptionalLong length, Optional<EncryptionKey> key)
+    public GcsInput(GcsLocation location, Executor readExecutor, Storage storage, int readBlockSize, OptionalLong length, Optional<EncryptionKey> key)
     {
         this.location = requireNonNull(location, "location is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
         this.storage = requireNonNull(storage, "storage is null");
         checkArgument(readBlockSize >= 0, "readBlockSize is negative");
         this.readBlockSize = readBlockSize;
@@ -78,6 +86,12 @@ final class GcsInput
         }
     }
 
+    @Override
+    public List<ListenableFuture<Slice>> readVectored(List<FileRange> ranges)
+    {
+        return VectoredReads.readVectored(this, ranges, readExecutor);
+    }
+
     @Override
     public int readTail(byte[] buffer, int bufferOffset, int bufferLength)
             throws IOException
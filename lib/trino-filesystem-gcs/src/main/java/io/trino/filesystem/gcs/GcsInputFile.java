@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 
 import static io.trino.filesystem.gcs.GcsUtils.encodedKey;
 import static io.trino.filesystem.gcs.GcsUtils.getBlob;
@@ -36,6 +37,7 @@ public class GcsInputFile
         implements TrinoInputFile
 {
     private final GcsLocation location;
+    private final Executor readExecutor;
     private final Storage storage;
     private final int readBlockSize;
     private final OptionalLong predeclaredLength;
@@ -43,9 +45,10 @@ public class GcsInputFile
     private OptionalLong length;
     private Optional<Instant> lastModified;
 
-    public GcsInputFile(GcsLocation location, Storage storage, int readBockSize, OptionalLong predeclaredLength, Optional<Instant> lastModified, Optional<EncryptionKey> key)
+    public GcsInputFile(GcsLocation location, Executor readExecutor, Storage storage, int readBockSize, OptionalLong predeclaredLength, Optional<Instant> lastModified, Optional<EncryptionKey> key)
     {
         this.location = requireNonNull(location, "location is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
         this.storage = requireNonNull(storage, "storage is null");
         this.readBlockSize = readBockSize;
         this.predeclaredLength = requireNonNull(predeclaredLength, "length is null");
@@ -59,7 +62,7 @@ public class GcsInputFile
             throws IOException
     {
         // Note: Only pass predeclared length, to keep the contract of TrinoFileSystem.newInputFile
-        return new GcsInput(location, storage, readBlockSize, predeclaredLength, key);
+        return new GcsInput(location, readExecutor, storage, readBlockSize, predeclaredLength, key);
     }
 
     @Override
@@ -14,6 +14,7 @@
 package io.trino.filesystem.manager;
 
 import io.airlift.configuration.Config;
+import jakarta.validation.constraints.AssertFalse;
 
 public class FileSystemConfig
 {
@@ -23,6 +24,7 @@ public class FileSystemConfig
     private boolean nativeS3Enabled;
     private boolean nativeGcsEnabled;
     private boolean cacheEnabled;
+    private boolean diskCacheEnabled;
 
     public boolean isHadoopEnabled()
     {
@@ -95,4 +97,22 @@ public class FileSystemConfig
         this.cacheEnabled = enabled;
         return this;
     }
+
+    public boolean isDiskCacheEnabled()
+    {
+        return diskCacheEnabled;
+    }
+
+    @Config("fs.disk-cache.enabled")
+    public FileSystemConfig setDiskCacheEnabled(boolean diskCacheEnabled)
+    {
+        this.diskCacheEnabled = diskCacheEnabled;
+        return this;
+    }
+
+    @AssertFalse(message = "fs.cache.enabled and fs.disk-cache.enabled cannot both be set")
+    public boolean isMultipleCachesEnabled()
+    {
+        return cacheEnabled && diskCacheEnabled;
+    }
 }
@@ -34,6 +34,7 @@ import io.trino.filesystem.cache.CachingHostAddressProvider;
 import io.trino.filesystem.cache.DefaultCacheKeyProvider;
 import io.trino.filesystem.cache.DefaultCachingHostAddressProvider;
 import io.trino.filesystem.cache.TrinoFileSystemCache;
+import io.trino.filesystem.cache.disk.DiskFileSystemCacheModule;
 import io.trino.filesystem.gcs.GcsFileSystemFactory;
 import io.trino.filesystem.gcs.GcsFileSystemModule;
 import io.trino.filesystem.memory.MemoryFileSystemCache;
@@ -126,6 +127,9 @@ public class FileSystemModule
         if (config.isCacheEnabled()) {
             install(new AlluxioFileSystemCacheModule(isCoordinator));
         }
+        if (config.isDiskCacheEnabled()) {
+            install(new DiskFileSystemCacheModule(isCoordinator));
+        }
         if (coordinatorFileCaching) {
             install(new MemoryFileSystemCacheModule(isCoordinator));
         }
@@ -14,6 +14,7 @@
 package io.trino.filesystem.manager;
 
 import com.google.common.collect.ImmutableMap;
+import jakarta.validation.constraints.AssertFalse;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
@@ -21,6 +22,7 @@ import java.util.Map;
 import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
 import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
 import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
+import static io.airlift.testing.ValidationAssertions.assertFailsValidation;
 
 public class TestFileSystemConfig
 {
@@ -33,7 +35,8 @@ public class TestFileSystemConfig
                 .setNativeAzureEnabled(false)
                 .setNativeS3Enabled(false)
                 .setNativeGcsEnabled(false)
-                .setCacheEnabled(false));
+                .setCacheEnabled(false)
+                .setDiskCacheEnabled(false));
     }
 
     @Test
@@ -46,6 +49,7 @@ public class TestFileSystemConfig
                 .put("fs.native-s3.enabled", "true")
                 .put("fs.native-gcs.enabled", "true")
                 .put("fs.cache.enabled", "true")
+                .put("fs.disk-cache.enabled", "true")
                 .buildOrThrow();
 
         FileSystemConfig expected = new FileSystemConfig()
@@ -54,8 +58,21 @@ public class TestFileSystemConfig
                 .setNativeAzureEnabled(true)
                 .setNativeS3Enabled(true)
                 .setNativeGcsEnabled(true)
-                .setCacheEnabled(true);
+                .setCacheEnabled(true)
+                .setDiskCacheEnabled(true);
 
         assertFullMapping(properties, expected);
     }
+
+    @Test
+    public void testValidation()
+    {
+        assertFailsValidation(
+                new FileSystemConfig()
+                        .setCacheEnabled(true)
+                        .setDiskCacheEnabled(true),
+                "multipleCachesEnabled",
+                "fs.cache.enabled and fs.disk-cache.enabled cannot both be set",
+                AssertFalse.class);
+    }
 }
@@ -68,15 +68,19 @@ import static java.util.stream.Collectors.toMap;
 final class S3FileSystem
         implements TrinoFileSystem
 {
-    private final Executor uploadExecutor;
+    private final S3StreamingUploads uploads;
+    private final Executor readExecutor;
+    private final Optional<S3ReadAhead> readAhead;
     private final S3Client client;
     private final S3Presigner preSigner;
     private final S3Context context;
     private final RequestPayer requestPayer;
 
-    public S3FileSystem(Executor uploadExecutor, S3Client client, S3Presigner preSigner, S3Context context)
+    public S3FileSystem(S3StreamingUploads uploads, Executor readExecutor, Optional<S3ReadAhead> readAhead, S3Client client, S3Presigner preSigner, S3Context context)
     {
-        this.uploadExecutor = requireNonNull(uploadExecutor, "uploadExecutor is null");
+        this.uploads = requireNonNull(uploads, "uploads is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
+        this.readAhead = requireNonNull(readAhead, "readAhead is null");
         this.client = requireNonNull(client, "client is null");
         this.preSigner = requireNonNull(preSigner, "preSigner is null");
         this.context = requireNonNull(context, "context is null");
@@ -86,49 +90,49 @@ final class S3FileSystem
     @Override
     public TrinoInputFile newInputFile(Location location)
     {
-        return new S3InputFile(client, context, new S3Location(location), null, null, Optional.empty());
+        return new S3InputFile(readExecutor, readAhead, client, context, new S3Location(location), null, null, Optional.empty());
     }
 
     @Override
     public TrinoInputFile newInputFile(Location location, long length)
     {
-        return new S3InputFile(client, context, new S3Location(location), length, null, Optional.empty());
+        return new S3InputFile(readExecutor, readAhead, client, context, new S3Location(location), length, null, Optional.empty());
     }
 
     @Override
     public TrinoInputFile newInputFile(Location location, long length, Instant lastModified)
     {
-        return new S3InputFile(client, context, new S3Location(location), length, lastModified, Optional.empty());
+        return new S3InputFile(readExecutor, readAhead, client, context, new S3Location(location), length, lastModified, Optional.empty());
     }
 
     @Override
     public TrinoInputFile newEncryptedInputFile(Location location, EncryptionKey key)
     {
-        return new S3InputFile(client, context, new S3Location(location), null, null, Optional.of(key));
+        return new S3InputFile(readExecutor, readAhead, client, context, new S3Location(location), null, null, Optional.of(key));
     }
 
     @Override
     public TrinoInputFile newEncryptedInputFile(Location location, long length, EncryptionKey key)
     {
-        return new S3InputFile(client, context, new S3Location(location), length, null, Optional.of(key));
+        return new S3InputFile(readExecutor, readAhead, client, context, new S3Location(location), length, null, Optional.of(key));
     }
 
     @Override
     public TrinoInputFile newEncryptedInputFile(Location location, long length, Instant lastModified, EncryptionKey key)
     {
-        return new S3InputFile(client, context, new S3Location(location), length, lastModified, Optional.of(key));
+        return new S3InputFile(readExecutor, readAhead, client, context, new S3Location(location), length, lastModified, Optional.of(key));
     }
 
     @Override
     public TrinoOutputFile newOutputFile(Location location)
     {
-        return new S3OutputFile(uploadExecutor, client, context, new S3Location(location), Optional.empty());
+        return new S3OutputFile(uploads, client, context, new S3Location(location), Optional.empty());
     }
 
     @Override
     public TrinoOutputFile newEncryptedOutputFile(Location location, EncryptionKey key)
     {
-        return new S3OutputFile(uploadExecutor, client, context, new S3Location(location), Optional.of(key));
+        return new S3OutputFile(uploads, client, context, new S3Location(location), Optional.of(key));
     }
 
     @Override
@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static com.google.common.base.Strings.nullToEmpty;
+import static io.airlift.units.DataSize.Unit.GIGABYTE;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static software.amazon.awssdk.awscore.retry.AwsRetryStrategy.adaptiveRetryStrategy;
 import static software.amazon.awssdk.awscore.retry.AwsRetryStrategy.legacyRetryStrategy;
@@ -101,6 +102,14 @@ public class S3FileSystemConfig
     private String sseCustomerKey;
     private boolean useWebIdentityTokenCredentialsProvider;
     private DataSize streamingPartSize = DataSize.of(16, MEGABYTE);
+    private int streamingMaxConcurrentUploads = 1;
+    private DataSize streamingMaxUploadMemory = DataSize.of(1, GIGABYTE);
+    private int maxReadThreads = 100;
+    private boolean readAheadEnabled;
+    private DataSize readAheadMinRequestSize = DataSize.of(1, MEGABYTE);
+    private DataSize readAheadMaxRequestSize = DataSize.of(16, MEGABYTE);
+    private int readAheadMaxRequests = 4;
+    private DataSize readAheadMaxMemory = DataSize.of(256, MEGABYTE);
     private boolean requesterPays;
     private Integer maxConnections = 500;
     private Duration connectionTtl;
@@ -363,6 +372,125 @@ public class S3FileSystemConfig
         return this;
     }
 
+    @Min(1)
+    public int getStreamingMaxConcurrentUploads()
+    {
+        return streamingMaxConcurrentUploads;
+    }
+
+    @Config("s3.streaming.max-concurrent-uploads")
+    @ConfigDescription("Maximum number of parts uploaded concurrently for a single S3 streaming upload")
+    public S3FileSystemConfig setStreamingMaxConcurrentUploads(int streamingMaxConcurrentUploads)
+    {
+        this.streamingMaxConcurrentUploads = streamingMaxConcurrentUploads;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getStreamingMaxUploadMemory()
+    {
+        return streamingMaxUploadMemory;
+    }
+
+    @Config("s3.streaming.max-upload-memory")
+    @ConfigDescription("Maximum memory used by the parts being uploaded by all S3 streaming uploads")
+    public S3FileSystemConfig setStreamingMaxUploadMemory(DataSize streamingMaxUploadMemory)
+    {
+        this.streamingMaxUploadMemory = streamingMaxUploadMemory;
+        return this;
+    }
+
+    @Min(1)
+    public int getMaxReadThreads()
+    {
+        return maxReadThreads;
+    }
+
+    @Config("s3.max-read-threads")
+    @ConfigDescription("Maximum number of threads used by all files for parallel ranged reads and read-ahead requests")
+    public S3FileSystemConfig setMaxReadThreads(int maxReadThreads)
+    {
+        this.maxReadThreads = maxReadThreads;
+        return this;
+    }
+
+    public boolean isReadAheadEnabled()
+    {
+        return readAheadEnabled;
+    }
+
+    @Config("s3.read-ahead.enabled")
+    @ConfigDescription("Fetch data ahead of sequential readers with background ranged requests")
+    public S3FileSystemConfig setReadAheadEnabled(boolean readAheadEnabled)
+    {
+        this.readAheadEnabled = readAheadEnabled;
+        return this;
+    }
+
+    @NotNull
+    @MinDataSize("1kB")
+    public DataSize getReadAheadMinRequestSize()
+    {
+        return readAheadMinRequestSize;
+    }
+
+    @Config("s3.read-ahead.min-request-size")
+    @ConfigDescription("Size of the first read-ahead request after opening or seeking a stream")
+    public S3FileSystemConfig setReadAheadMinRequestSize(DataSize readAheadMinRequestSize)
+    {
+        this.readAheadMinRequestSize = readAheadMinRequestSize;
+        return this;
+    }
+
+    @NotNull
+    @MaxDataSize("1GB")
+    public DataSize getReadAheadMaxRequestSize()
+    {
+        return readAheadMaxRequestSize;
+    }
+
+    @Config("s3.read-ahead.max-request-size")
+    @ConfigDescription("Maximum size of a read-ahead request")
+    public S3FileSystemConfig setReadAheadMaxRequestSize(DataSize readAheadMaxRequestSize)
+    {
+        this.readAheadMaxRequestSize = readAheadMaxRequestSize;
+        return this;
+    }
+
+    @Min(1)
+    public int getReadAheadMaxRequests()
+    {
+        return readAheadMaxRequests;
+    }
+
+    @Config("s3.read-ahead.max-requests")
+    @ConfigDescription("Maximum number of read-ahead requests in flight for a stream")
+    public S3FileSystemConfig setReadAheadMaxRequests(int readAheadMaxRequests)
+    {
+        this.readAheadMaxRequests = readAheadMaxRequests;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getReadAheadMaxMemory()
+    {
+        return readAheadMaxMemory;
+    }
+
+    @Config("s3.read-ahead.max-memory")
+    @ConfigDescription("Maximum memory used by read-ahead buffers of all streams")
+    public S3FileSystemConfig setReadAheadMaxMemory(DataSize readAheadMaxMemory)
+    {
+        this.readAheadMaxMemory = readAheadMaxMemory;
+        return this;
+    }
+
+    @AssertTrue(message = "s3.read-ahead.max-request-size must not be smaller than s3.read-ahead.min-request-size")
+    public boolean isReadAheadRequestSizeValid()
+    {
+        return readAheadMaxRequestSize.compareTo(readAheadMinRequestSize) >= 0;
+    }
+
     public boolean isRequesterPays()
     {
         return requesterPays;
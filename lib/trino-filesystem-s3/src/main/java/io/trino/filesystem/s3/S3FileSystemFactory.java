@@ -22,6 +22,7 @@ import jakarta.annotation.PreDestroy;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.util.Optional;
 import java.util.concurrent.Executor;
 
 public final class S3FileSystemFactory
@@ -30,7 +31,9 @@ public final class S3FileSystemFactory
     private final S3FileSystemLoader loader;
     private final S3Client client;
     private final S3Context context;
-    private final Executor uploadExecutor;
+    private final S3StreamingUploads uploads;
+    private final Executor readExecutor;
+    private final Optional<S3ReadAhead> readAhead;
     private final S3Presigner preSigner;
 
     @Inject
@@ -40,7 +43,9 @@ public final class S3FileSystemFactory
         this.client = loader.createClient();
         this.preSigner = loader.createPreSigner();
         this.context = loader.context();
-        this.uploadExecutor = loader.uploadExecutor();
+        this.uploads = loader.uploads();
+        this.readExecutor = loader.readExecutor();
+        this.readAhead = loader.readAhead();
     }
 
     @PreDestroy
@@ -54,6 +59,6 @@ public final class S3FileSystemFactory
     @Override
     public TrinoFileSystem create(ConnectorIdentity identity)
     {
-        return new S3FileSystem(uploadExecutor, client, preSigner, context.withCredentials(identity));
+        return new S3FileSystem(uploads, readExecutor, readAhead, client, preSigner, context.withCredentials(identity));
     }
 }
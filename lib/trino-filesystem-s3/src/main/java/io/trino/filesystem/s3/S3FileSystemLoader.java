@@ -14,6 +14,7 @@
 package io.trino.filesystem.s3;
 
 import com.google.inject.Inject;
+import io.airlift.concurrent.BoundedExecutor;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.awssdk.v2_2.AwsSdkTelemetry;
 import io.trino.filesystem.Location;
@@ -60,7 +61,11 @@ final class S3FileSystemLoader
     private final S3ClientFactory clientFactory;
     private final S3Presigner preSigner;
     private final S3Context context;
+    private final S3StreamingUploads uploads;
+    private final Optional<S3ReadAhead> readAhead;
     private final ExecutorService uploadExecutor = newCachedThreadPool(daemonThreadsNamed("s3-upload-%s"));
+    private final ExecutorService readExecutorService = newCachedThreadPool(daemonThreadsNamed("s3-read-%s"));
+    private final Executor readExecutor;
     private final Map<Optional<S3SecurityMappingResult>, S3Client> clients = new ConcurrentHashMap<>();
 
     @Inject
@@ -96,6 +101,22 @@ final class S3FileSystemLoader
                 Optional.empty(),
                 config.getCannedAcl(),
                 config.isSupportsExclusiveCreate());
+
+        this.readExecutor = new BoundedExecutor(readExecutorService, config.getMaxReadThreads());
+
+        this.uploads = new S3StreamingUploads(
+                uploadExecutor,
+                stats,
+                config.getStreamingMaxConcurrentUploads(),
+                config.getStreamingMaxUploadMemory().toBytes());
+
+        this.readAhead = config.isReadAheadEnabled() ? Optional.of(new S3ReadAhead(
+                readExecutor,
+                stats,
+                toIntExact(config.getReadAheadMinRequestSize().toBytes()),
+                toIntExact(config.getReadAheadMaxRequestSize().toBytes()),
+                config.getReadAheadMaxRequests(),
+                config.getReadAheadMaxMemory().toBytes())) : Optional.empty();
     }
 
     @Override
@@ -111,7 +132,7 @@ final class S3FileSystemLoader
                 context = context.withKmsKeyId(mapping.get().kmsKeyId().get());
             }
 
-            return new S3FileSystem(uploadExecutor, client, preSigner, context);
+            return new S3FileSystem(uploads, readExecutor, readAhead, client, preSigner, context);
         };
     }
 
@@ -120,6 +141,7 @@ final class S3FileSystemLoader
     {
         try (httpClient) {
             uploadExecutor.shutdownNow();
+            readExecutorService.shutdownNow();
         }
     }
 
@@ -138,9 +160,19 @@ final class S3FileSystemLoader
         return context;
     }
 
-    Executor uploadExecutor()
+    S3StreamingUploads uploads()
+    {
+        return uploads;
+    }
+
+    Executor readExecutor()
+    {
+        return readExecutor;
+    }
+
+    Optional<S3ReadAhead> readAhead()
     {
-        return uploadExecutor;
+        return readAhead;
     }
 
     private static S3ClientFactory s3ClientFactory(SdkHttpClient httpClient, OpenTelemetry openTelemetry, S3FileSystemConfig config, MetricPublisher metricPublisher)
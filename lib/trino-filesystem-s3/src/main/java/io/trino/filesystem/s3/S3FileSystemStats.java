@@ -14,6 +14,8 @@
 package io.trino.filesystem.s3;
 
 import io.airlift.log.Logger;
+import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
 import org.weakref.jmx.Managed;
 import org.weakref.jmx.Nested;
 import software.amazon.awssdk.metrics.MetricCollection;
@@ -24,8 +26,10 @@ import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static software.amazon.awssdk.core.internal.metrics.SdkErrorType.SERVER_ERROR;
 import static software.amazon.awssdk.core.internal.metrics.SdkErrorType.THROTTLING;
 import static software.amazon.awssdk.core.metrics.CoreMetric.API_CALL_DURATION;
@@ -50,6 +54,15 @@ public class S3FileSystemStats
     private final AwsSdkV2ApiCallStats abortMultipartUpload = new AwsSdkV2ApiCallStats();
     private final AwsSdkV2ApiCallStats uploadPart = new AwsSdkV2ApiCallStats();
 
+    private final CounterStat readAheadBytes = new CounterStat();
+    private final CounterStat readAheadWastedBytes = new CounterStat();
+    private final CounterStat readAheadStalls = new CounterStat();
+    private final AtomicLong readAheadBufferedBytes = new AtomicLong();
+
+    private final AtomicLong inFlightUploads = new AtomicLong();
+    private final AtomicLong uploadBufferedBytes = new AtomicLong();
+    private final TimeStat uploadStallTime = new TimeStat(MILLISECONDS);
+
     private static final AwsSdkV2ApiCallStats dummy = new DummyAwsSdkV2ApiCallStats();
 
     @Managed
@@ -129,6 +142,67 @@ public class S3FileSystemStats
         return uploadPart;
     }
 
+    @Managed
+    @Nested
+    public CounterStat getReadAheadBytes()
+    {
+        return readAheadBytes;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getReadAheadWastedBytes()
+    {
+        return readAheadWastedBytes;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getReadAheadStalls()
+    {
+        return readAheadStalls;
+    }
+
+    @Managed
+    public long getReadAheadBufferedBytes()
+    {
+        return readAheadBufferedBytes.get();
+    }
+
+    void updateReadAheadBufferedBytes(long delta)
+    {
+        readAheadBufferedBytes.addAndGet(delta);
+    }
+
+    @Managed
+    public long getInFlightUploads()
+    {
+        return inFlightUploads.get();
+    }
+
+    @Managed
+    public long getUploadBufferedBytes()
+    {
+        return uploadBufferedBytes.get();
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getUploadStallTime()
+    {
+        return uploadStallTime;
+    }
+
+    void updateInFlightUploads(long delta)
+    {
+        inFlightUploads.addAndGet(delta);
+    }
+
+    void updateUploadBufferedBytes(long delta)
+    {
+        uploadBufferedBytes.addAndGet(delta);
+    }
+
     public MetricPublisher newMetricPublisher()
     {
         return new JmxMetricPublisher(this);
@@ -13,8 +13,12 @@
  */
 package io.trino.filesystem.s3;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.Location;
 import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.VectoredReads;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -26,6 +30,8 @@ import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.requireNonNull;
@@ -34,13 +40,15 @@ final class S3Input
         implements TrinoInput
 {
     private final Location location;
+    private final Executor readExecutor;
     private final S3Client client;
     private final GetObjectRequest request;
     private boolean closed;
 
-    public S3Input(Location location, S3Client client, GetObjectRequest request)
+    public S3Input(Location location, Executor readExecutor, S3Client client, GetObjectRequest request)
     {
         this.location = requireNonNull(location, "location is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
         this.client = requireNonNull(client, "client is null");
         this.request = requireNonNull(request, "request is null");
     }
@@ -67,6 +75,12 @@ final class S3Input
         }
     }
 
+    @Override
+    public List<ListenableFuture<Slice>> readVectored(List<FileRange> ranges)
+    {
+        return VectoredReads.readVectored(this, ranges, readExecutor);
+    }
+
     @Override
     public int readTail(byte[] buffer, int offset, int length)
             throws IOException
@@ -31,6 +31,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Verify.verify;
 import static io.trino.filesystem.s3.S3FileSystemConfig.S3SseType.NONE;
@@ -42,6 +43,8 @@ import static java.util.Objects.requireNonNull;
 final class S3InputFile
         implements TrinoInputFile
 {
+    private final Executor readExecutor;
+    private final Optional<S3ReadAhead> readAhead;
     private final S3Client client;
     private final S3Location location;
     private final S3Context context;
@@ -50,8 +53,10 @@ final class S3InputFile
     private Long length;
     private Instant lastModified;
 
-    public S3InputFile(S3Client client, S3Context context, S3Location location, Long length, Instant lastModified, Optional<EncryptionKey> key)
+    public S3InputFile(Executor readExecutor, Optional<S3ReadAhead> readAhead, S3Client client, S3Context context, S3Location location, Long length, Instant lastModified, Optional<EncryptionKey> key)
     {
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
+        this.readAhead = requireNonNull(readAhead, "readAhead is null");
         this.client = requireNonNull(client, "client is null");
         this.location = requireNonNull(location, "location is null");
         this.context = requireNonNull(context, "context is null");
@@ -67,12 +72,16 @@ final class S3InputFile
     @Override
     public TrinoInput newInput()
     {
-        return new S3Input(location(), client, newGetObjectRequest());
+        return new S3Input(location(), readExecutor, client, newGetObjectRequest());
     }
 
     @Override
     public TrinoInputStream newStream()
     {
+        // read-ahead needs the file length to avoid requesting ranges past the end of the file
+        if (readAhead.isPresent() && (length != null)) {
+            return new S3ReadAheadInputStream(location(), newInput(), readAhead.get(), length);
+        }
         return new S3InputStream(location(), client, newGetObjectRequest(), length);
     }
 
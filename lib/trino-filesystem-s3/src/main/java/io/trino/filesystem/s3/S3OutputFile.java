@@ -22,7 +22,6 @@ import software.amazon.awssdk.services.s3.S3Client;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Optional;
-import java.util.concurrent.Executor;
 
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static java.util.Objects.requireNonNull;
@@ -30,15 +29,15 @@ import static java.util.Objects.requireNonNull;
 final class S3OutputFile
         implements TrinoOutputFile
 {
-    private final Executor uploadExecutor;
+    private final S3StreamingUploads uploads;
     private final S3Client client;
     private final S3Context context;
     private final S3Location location;
     private final Optional<EncryptionKey> key;
 
-    public S3OutputFile(Executor uploadExecutor, S3Client client, S3Context context, S3Location location, Optional<EncryptionKey> key)
+    public S3OutputFile(S3StreamingUploads uploads, S3Client client, S3Context context, S3Location location, Optional<EncryptionKey> key)
     {
-        this.uploadExecutor = requireNonNull(uploadExecutor, "uploadExecutor is null");
+        this.uploads = requireNonNull(uploads, "uploads is null");
         this.client = requireNonNull(client, "client is null");
         this.context = requireNonNull(context, "context is null");
         this.location = requireNonNull(location, "location is null");
@@ -76,7 +75,7 @@ final class S3OutputFile
 
     public OutputStream create(AggregatedMemoryContext memoryContext, boolean exclusive)
     {
-        return new S3OutputStream(memoryContext, uploadExecutor, client, context, location, exclusive, key);
+        return new S3OutputStream(memoryContext, uploads, client, context, location, exclusive, key);
     }
 
     @Override
@@ -39,8 +39,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 import static com.google.common.base.Verify.verify;
@@ -56,13 +58,14 @@ import static java.lang.System.arraycopy;
 import static java.net.HttpURLConnection.HTTP_PRECON_FAILED;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Future.State.SUCCESS;
 
 final class S3OutputStream
         extends OutputStream
 {
-    private final List<CompletedPart> parts = new ArrayList<>();
+    private final List<CompletableFuture<CompletedPart>> partUploads = new ArrayList<>();
     private final LocalMemoryContext memoryContext;
-    private final Executor uploadExecutor;
+    private final S3StreamingUploads uploads;
     private final S3Client client;
     private final S3Location location;
     private final S3Context context;
@@ -80,17 +83,17 @@ final class S3OutputStream
     private boolean closed;
     private boolean failed;
     private boolean multipartUploadStarted;
-    private Future<CompletedPart> inProgressUploadFuture;
+    private CompletableFuture<String> uploadIdFuture;
 
-    // Mutated by background thread which does the multipart upload.
-    // Read by both main thread and background thread.
-    // Visibility is ensured by calling get() on inProgressUploadFuture.
-    private Optional<String> uploadId = Optional.empty();
+    // updated by the writing thread and by the completion of part uploads on the upload executor
+    private long bufferMemory;
+    private long uploadMemory;
+    private boolean memoryContextClosed;
 
-    public S3OutputStream(AggregatedMemoryContext memoryContext, Executor uploadExecutor, S3Client client, S3Context context, S3Location location, boolean exclusiveCreate, Optional<EncryptionKey> key)
+    public S3OutputStream(AggregatedMemoryContext memoryContext, S3StreamingUploads uploads, S3Client client, S3Context context, S3Location location, boolean exclusiveCreate, Optional<EncryptionKey> key)
     {
         this.memoryContext = memoryContext.newLocalMemoryContext(S3OutputStream.class.getSimpleName());
-        this.uploadExecutor = requireNonNull(uploadExecutor, "uploadExecutor is null");
+        this.uploads = requireNonNull(uploads, "uploads is null");
         this.client = requireNonNull(client, "client is null");
         this.location = requireNonNull(location, "location is null");
         this.exclusiveCreate = exclusiveCreate;
@@ -164,8 +167,8 @@ final class S3OutputStream
 
         try {
             flushBuffer(true);
-            memoryContext.close();
-            waitForPreviousUploadFinish();
+            closeMemoryContext();
+            waitForUploads();
         }
         catch (IOException | RuntimeException e) {
             abortUploadSuppressed(e);
@@ -173,7 +176,7 @@ final class S3OutputStream
         }
 
         try {
-            uploadId.ifPresent(this::finishUpload);
+            uploadId().ifPresent(this::finishUpload);
         }
         catch (SdkException e) {
             abortUploadSuppressed(e);
@@ -199,7 +202,7 @@ final class S3OutputStream
                 target = clamp(target, capacity, partSize);
             }
             buffer = Arrays.copyOf(buffer, target);
-            memoryContext.setBytes(buffer.length);
+            updateBufferMemory(buffer.length);
         }
     }
 
@@ -261,30 +264,104 @@ final class S3OutputStream
                 this.initialBufferSize = partSize;
                 bufferSize = 0;
             }
-            memoryContext.setBytes(0);
 
             try {
-                waitForPreviousUploadFinish();
+                startUpload(data, length);
             }
             catch (IOException e) {
                 failed = true;
                 abortUploadSuppressed(e);
                 throw e;
             }
-            multipartUploadStarted = true;
-            inProgressUploadFuture = supplyAsync(() -> uploadPage(data, length), uploadExecutor);
         }
     }
 
-    private void waitForPreviousUploadFinish()
+    private void startUpload(byte[] data, int length)
             throws IOException
     {
-        if (inProgressUploadFuture == null) {
-            return;
+        // wait until the stream may start another upload and the memory budget allows it
+        long start = System.nanoTime();
+        boolean stalled = false;
+        while (true) {
+            List<CompletableFuture<CompletedPart>> running = getRunningUploads();
+            if (running.isEmpty()) {
+                uploads.reserve(length);
+                break;
+            }
+            if ((running.size() < uploads.maxConcurrentUploads()) && uploads.tryReserve(length)) {
+                break;
+            }
+            stalled = true;
+            waitForAnyUpload(running);
+        }
+        if (stalled) {
+            uploads.stats().getUploadStallTime().addNanos(System.nanoTime() - start);
+        }
+
+        if (uploadIdFuture == null) {
+            uploadIdFuture = supplyAsync(this::createMultipartUpload, uploads.executor());
+        }
+        multipartUploadStarted = true;
+        int partNumber = ++currentPartNumber;
+
+        uploads.stats().updateInFlightUploads(1);
+        // the data of the part is retained by the upload instead of the buffer
+        updateUploadMemory(length);
+        updateBufferMemory((buffer == null) ? 0 : buffer.length);
+        CompletableFuture<CompletedPart> future = uploadIdFuture
+                .thenApplyAsync(uploadId -> uploadPart(uploadId, partNumber, data, length), uploads.executor())
+                .whenComplete((_, _) -> {
+                    uploads.free(length);
+                    uploads.stats().updateInFlightUploads(-1);
+                    updateUploadMemory(-length);
+                });
+        partUploads.add(future);
+    }
+
+    private List<CompletableFuture<CompletedPart>> getRunningUploads()
+            throws IOException
+    {
+        List<CompletableFuture<CompletedPart>> running = new ArrayList<>();
+        for (CompletableFuture<CompletedPart> upload : partUploads) {
+            if (!upload.isDone()) {
+                running.add(upload);
+            }
+            else if (upload.isCompletedExceptionally()) {
+                // fail fast instead of buffering more data for an upload that cannot complete
+                waitForUpload(upload);
+            }
         }
+        return running;
+    }
 
+    private static void waitForAnyUpload(List<CompletableFuture<CompletedPart>> running)
+            throws IOException
+    {
         try {
-            inProgressUploadFuture.get();
+            CompletableFuture.anyOf(running.toArray(CompletableFuture[]::new)).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        catch (ExecutionException _) {
+            // the failure is reported when the completed uploads are checked
+        }
+    }
+
+    private void waitForUploads()
+            throws IOException
+    {
+        for (CompletableFuture<CompletedPart> upload : partUploads) {
+            waitForUpload(upload);
+        }
+    }
+
+    private static void waitForUpload(Future<CompletedPart> future)
+            throws IOException
+    {
+        try {
+            future.get();
         }
         catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -295,36 +372,70 @@ final class S3OutputStream
         }
     }
 
-    private CompletedPart uploadPage(byte[] data, int length)
+    private synchronized void updateBufferMemory(long bytes)
     {
-        if (uploadId.isEmpty()) {
-            CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
-                    .overrideConfiguration(context::applyCredentialProviderOverride)
-                    .acl(cannedAcl)
-                    .requestPayer(requestPayer)
-                    .bucket(location.bucket())
-                    .key(location.key())
-                    .applyMutation(builder ->
-                        key.ifPresentOrElse(
-                                encryption ->
-                                    builder.sseCustomerKey(encoded(encryption))
-                                            .sseCustomerAlgorithm(encryption.algorithm())
-                                            .sseCustomerKeyMD5(md5Checksum(encryption)),
-                                    () -> setEncryptionSettings(builder, context.s3SseContext())))
-                    .build();
+        bufferMemory = bytes;
+        updateMemoryUsage();
+    }
+
+    private synchronized void updateUploadMemory(long delta)
+    {
+        uploadMemory += delta;
+        updateMemoryUsage();
+    }
+
+    private synchronized void closeMemoryContext()
+    {
+        memoryContextClosed = true;
+        memoryContext.close();
+    }
+
+    private synchronized void updateMemoryUsage()
+    {
+        // uploads can complete after the stream is closed
+        if (!memoryContextClosed) {
+            memoryContext.setBytes(bufferMemory + uploadMemory);
+        }
+    }
 
-            uploadId = Optional.of(client.createMultipartUpload(request).uploadId());
+    private Optional<String> uploadId()
+    {
+        if ((uploadIdFuture == null) || (uploadIdFuture.state() != SUCCESS)) {
+            return Optional.empty();
         }
+        return Optional.of(uploadIdFuture.resultNow());
+    }
 
-        currentPartNumber++;
+    private String createMultipartUpload()
+    {
+        CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+                .overrideConfiguration(context::applyCredentialProviderOverride)
+                .acl(cannedAcl)
+                .requestPayer(requestPayer)
+                .bucket(location.bucket())
+                .key(location.key())
+                .applyMutation(builder ->
+                    key.ifPresentOrElse(
+                            encryption ->
+                                builder.sseCustomerKey(encoded(encryption))
+                                        .sseCustomerAlgorithm(encryption.algorithm())
+                                        .sseCustomerKeyMD5(md5Checksum(encryption)),
+                                () -> setEncryptionSettings(builder, context.s3SseContext())))
+                .build();
+
+        return client.createMultipartUpload(request).uploadId();
+    }
+
+    private CompletedPart uploadPart(String uploadId, int partNumber, byte[] data, int length)
+    {
         UploadPartRequest request = UploadPartRequest.builder()
                 .overrideConfiguration(context::applyCredentialProviderOverride)
                 .requestPayer(requestPayer)
                 .bucket(location.bucket())
                 .key(location.key())
                 .contentLength((long) length)
-                .uploadId(uploadId.get())
-                .partNumber(currentPartNumber)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
                 .applyMutation(builder ->
                     key.ifPresentOrElse(
                             encryption ->
@@ -338,17 +449,18 @@ final class S3OutputStream
 
         UploadPartResponse response = client.uploadPart(request, RequestBody.fromByteBuffer(bytes));
 
-        CompletedPart part = CompletedPart.builder()
-                .partNumber(currentPartNumber)
+        return CompletedPart.builder()
+                .partNumber(partNumber)
                 .eTag(response.eTag())
                 .build();
-
-        parts.add(part);
-        return part;
     }
 
     private void finishUpload(String uploadId)
     {
+        List<CompletedPart> parts = partUploads.stream()
+                .map(CompletableFuture::resultNow)
+                .toList();
+
         CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder()
                 .overrideConfiguration(context::applyCredentialProviderOverride)
                 .requestPayer(requestPayer)
@@ -374,7 +486,17 @@ final class S3OutputStream
 
     private void abortUpload()
     {
-        uploadId.map(id -> AbortMultipartUploadRequest.builder()
+        // let the running uploads finish, so that no part is uploaded after the upload is aborted
+        for (CompletableFuture<CompletedPart> upload : partUploads) {
+            try {
+                upload.join();
+            }
+            catch (CancellationException | CompletionException _) {
+                // the upload is aborted anyway
+            }
+        }
+
+        uploadId().map(id -> AbortMultipartUploadRequest.builder()
                         .overrideConfiguration(context::applyCredentialProviderOverride)
                         .requestPayer(requestPayer)
                         .bucket(location.bucket())
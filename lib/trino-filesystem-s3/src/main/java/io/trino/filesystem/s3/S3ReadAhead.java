@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.s3;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Settings and memory budget shared by all read-ahead streams of a file system loader.
+ */
+final class S3ReadAhead
+{
+    private final Executor executor;
+    private final S3FileSystemStats stats;
+    private final int minRequestSize;
+    private final int maxRequestSize;
+    private final int maxRequests;
+    private final long maxMemory;
+    private final AtomicLong reservedMemory = new AtomicLong();
+
+    public S3ReadAhead(Executor executor, S3FileSystemStats stats, int minRequestSize, int maxRequestSize, int maxRequests, long maxMemory)
+    {
+        this.executor = requireNonNull(executor, "executor is null");
+        this.stats = requireNonNull(stats, "stats is null");
+        checkArgument(minRequestSize > 0, "minRequestSize must be positive");
+        checkArgument(maxRequestSize >= minRequestSize, "maxRequestSize is smaller than minRequestSize");
+        checkArgument(maxRequests > 0, "maxRequests must be positive");
+        checkArgument(maxMemory >= 0, "maxMemory is negative");
+        this.minRequestSize = minRequestSize;
+        this.maxRequestSize = maxRequestSize;
+        this.maxRequests = maxRequests;
+        this.maxMemory = maxMemory;
+    }
+
+    public Executor executor()
+    {
+        return executor;
+    }
+
+    public S3FileSystemStats stats()
+    {
+        return stats;
+    }
+
+    public int minRequestSize()
+    {
+        return minRequestSize;
+    }
+
+    public int maxRequestSize()
+    {
+        return maxRequestSize;
+    }
+
+    public int maxRequests()
+    {
+        return maxRequests;
+    }
+
+    /**
+     * Reserves memory for a request issued ahead of the reader, failing when the budget is exhausted.
+     */
+    public boolean tryReserve(long bytes)
+    {
+        while (true) {
+            long reserved = reservedMemory.get();
+            if (reserved + bytes > maxMemory) {
+                return false;
+            }
+            if (reservedMemory.compareAndSet(reserved, reserved + bytes)) {
+                stats.updateReadAheadBufferedBytes(bytes);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves memory for a request the reader is waiting for, which is always allowed.
+     */
+    public void reserve(long bytes)
+    {
+        reservedMemory.addAndGet(bytes);
+        stats.updateReadAheadBufferedBytes(bytes);
+    }
+
+    public void free(long bytes)
+    {
+        reservedMemory.addAndGet(-bytes);
+        stats.updateReadAheadBufferedBytes(-bytes);
+    }
+}
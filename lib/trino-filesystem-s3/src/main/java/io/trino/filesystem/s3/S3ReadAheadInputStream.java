@@ -0,0 +1,339 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.s3;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.TrinoInputStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.util.concurrent.Futures.submit;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.lang.Math.clamp;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Future.State.SUCCESS;
+
+/**
+ * Input stream for sequential readers that keeps ranged requests in flight ahead
+ * of the read position. Requests start small and double in size while the reader
+ * moves forward. The number of requests in flight follows the ratio between the
+ * time it takes to fetch a request and the time the reader takes to consume it,
+ * so a reader that is slower than the network keeps a single request in flight.
+ * Each request reads its range to the end, so the HTTP connection goes back to
+ * the pool instead of being aborted when the reader seeks. Requests that are no
+ * longer needed are therefore not cancelled: their memory is returned to the
+ * budget once they complete, and the bytes the reader did not consume are
+ * counted as wasted.
+ */
+final class S3ReadAheadInputStream
+        extends TrinoInputStream
+{
+    private final Location location;
+    private final TrinoInput input;
+    private final S3ReadAhead readAhead;
+    private final long length;
+    private final Deque<Request> requests = new ArrayDeque<>();
+
+    private long position;
+    private long nextRequestPosition;
+    private int requestSize;
+    private int maxRequests = 1;
+    private boolean closed;
+
+    public S3ReadAheadInputStream(Location location, TrinoInput input, S3ReadAhead readAhead, long length)
+    {
+        this.location = requireNonNull(location, "location is null");
+        this.input = requireNonNull(input, "input is null");
+        this.readAhead = requireNonNull(readAhead, "readAhead is null");
+        this.length = length;
+        this.requestSize = readAhead.minRequestSize();
+    }
+
+    @Override
+    public int available()
+            throws IOException
+    {
+        ensureOpen();
+        Request request = requests.peekFirst();
+        if ((request != null) && request.contains(position) && request.data.isDone()) {
+            return toIntExact(request.end() - position);
+        }
+        return 0;
+    }
+
+    @Override
+    public long getPosition()
+    {
+        return position;
+    }
+
+    @Override
+    public void seek(long position)
+            throws IOException
+    {
+        ensureOpen();
+        if (position < 0) {
+            throw new IOException("Negative seek offset");
+        }
+        if (position > length) {
+            throw new IOException("Cannot seek to %s. File size is %s: %s".formatted(position, length, location));
+        }
+        this.position = position;
+    }
+
+    @Override
+    public int read()
+            throws IOException
+    {
+        ensureOpen();
+        if (position >= length) {
+            return -1;
+        }
+
+        Request request = currentRequest();
+        int value = request.data()[toIntExact(position - request.position)] & 0xFF;
+        position++;
+        request.consumed++;
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length)
+            throws IOException
+    {
+        ensureOpen();
+        checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= this.length) {
+            return -1;
+        }
+
+        Request request = currentRequest();
+        int n = toIntExact(min(length, request.end() - position));
+        System.arraycopy(request.data(), toIntExact(position - request.position), buffer, offset, n);
+        position += n;
+        request.consumed += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n)
+            throws IOException
+    {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+
+        long skip = min(n, length - position);
+        position += skip;
+        return skip;
+    }
+
+    @Override
+    public void skipNBytes(long n)
+            throws IOException
+    {
+        ensureOpen();
+        if (n <= 0) {
+            return;
+        }
+
+        long position = this.position + n;
+        if ((position < 0) || (position > length)) {
+            throw new EOFException("Unable to skip %s bytes (position=%s, fileSize=%s): %s".formatted(n, this.position, length, location));
+        }
+        this.position = position;
+    }
+
+    @Override
+    public void close()
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        discardRequests();
+        input.close();
+    }
+
+    private Request currentRequest()
+            throws IOException
+    {
+        // drop the requests the reader has moved past
+        while (!requests.isEmpty() && requests.getFirst().end() <= position) {
+            Request request = requests.removeFirst();
+            if (request.consumed == 0) {
+                // the reader skipped the whole request, so it is not reading sequentially
+                requestSize = readAhead.minRequestSize();
+                maxRequests = 1;
+            }
+            else {
+                adapt(request);
+            }
+            release(request);
+        }
+
+        if (!requests.isEmpty() && !requests.getFirst().contains(position)) {
+            // backward seek
+            discardRequests();
+            requestSize = readAhead.minRequestSize();
+            maxRequests = 1;
+        }
+        if (requests.isEmpty()) {
+            nextRequestPosition = position;
+        }
+
+        scheduleRequests();
+
+        Request request = requests.getFirst();
+        if (request.availableNanos == 0) {
+            if (!request.data.isDone()) {
+                readAhead.stats().getReadAheadStalls().update(1);
+            }
+            try {
+                request.data.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                discardRequests();
+                throw new InterruptedIOException();
+            }
+            catch (ExecutionException e) {
+                discardRequests();
+                throwIfInstanceOf(e.getCause(), IOException.class);
+                throwIfUnchecked(e.getCause());
+                throw new IOException("Failed to read S3 file: " + location, e.getCause());
+            }
+            request.availableNanos = System.nanoTime();
+        }
+        return request;
+    }
+
+    private void adapt(Request request)
+    {
+        // keep enough requests in flight to fetch data as fast as the reader consumes it
+        long consumeNanos = max(System.nanoTime() - request.availableNanos, 1);
+        long requiredRequests = (request.fetchNanos + consumeNanos - 1) / consumeNanos;
+        maxRequests = clamp(requiredRequests, 1, readAhead.maxRequests());
+
+        // larger requests amortize the request latency while the reader keeps moving forward
+        requestSize = min(requestSize * 2, readAhead.maxRequestSize());
+    }
+
+    private void scheduleRequests()
+    {
+        while ((requests.size() < maxRequests) && (nextRequestPosition < length)) {
+            int size = toIntExact(min(requestSize, length - nextRequestPosition));
+            if (requests.isEmpty()) {
+                readAhead.reserve(size);
+            }
+            else if (!readAhead.tryReserve(size)) {
+                // memory budget is exhausted, so only fetch what the reader needs next
+                break;
+            }
+
+            Request request = new Request(nextRequestPosition, size);
+            request.data = submit(() -> fetch(request), readAhead.executor());
+            requests.addLast(request);
+            nextRequestPosition += size;
+        }
+    }
+
+    private byte[] fetch(Request request)
+            throws IOException
+    {
+        long start = System.nanoTime();
+        byte[] data = new byte[request.length];
+        input.readFully(request.position, data, 0, request.length);
+        request.fetchNanos = System.nanoTime() - start;
+        readAhead.stats().getReadAheadBytes().update(request.length);
+        return data;
+    }
+
+    private void discardRequests()
+    {
+        while (!requests.isEmpty()) {
+            release(requests.removeFirst());
+        }
+    }
+
+    private void release(Request request)
+    {
+        // the buffer is held by the fetch until the request completes
+        int unconsumed = request.length - request.consumed;
+        request.data.addListener(() -> {
+            if ((request.data.state() == SUCCESS) && (unconsumed > 0)) {
+                readAhead.stats().getReadAheadWastedBytes().update(unconsumed);
+            }
+            readAhead.free(request.length);
+        }, directExecutor());
+    }
+
+    private void ensureOpen()
+            throws IOException
+    {
+        if (closed) {
+            throw new IOException("Input stream closed: " + location);
+        }
+    }
+
+    private static final class Request
+    {
+        private final long position;
+        private final int length;
+        private ListenableFuture<byte[]> data;
+        private volatile long fetchNanos;
+        private long availableNanos;
+        private int consumed;
+
+        private Request(long position, int length)
+        {
+            this.position = position;
+            this.length = length;
+        }
+
+        private long end()
+        {
+            return position + length;
+        }
+
+        private boolean contains(long position)
+        {
+            return (position >= this.position) && (position < end());
+        }
+
+        private byte[] data()
+        {
+            // only called once the request has completed
+            return data.resultNow();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.s3;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executor, concurrency limit and memory budget for the part uploads of all
+ * output streams of a file system loader.
+ */
+final class S3StreamingUploads
+{
+    private final Executor executor;
+    private final S3FileSystemStats stats;
+    private final int maxConcurrentUploads;
+    private final long maxMemory;
+    private final AtomicLong reservedMemory = new AtomicLong();
+
+    public S3StreamingUploads(Executor executor, S3FileSystemStats stats, int maxConcurrentUploads, long maxMemory)
+    {
+        this.executor = requireNonNull(executor, "executor is null");
+        this.stats = requireNonNull(stats, "stats is null");
+        checkArgument(maxConcurrentUploads > 0, "maxConcurrentUploads must be positive");
+        checkArgument(maxMemory >= 0, "maxMemory is negative");
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        this.maxMemory = maxMemory;
+    }
+
+    public Executor executor()
+    {
+        return executor;
+    }
+
+    public S3FileSystemStats stats()
+    {
+        return stats;
+    }
+
+    public int maxConcurrentUploads()
+    {
+        return maxConcurrentUploads;
+    }
+
+    /**
+     * Reserves memory for an additional part upload of a stream, failing when the budget is exhausted.
+     */
+    public boolean tryReserve(long bytes)
+    {
+        while (true) {
+            long reserved = reservedMemory.get();
+            if (reserved + bytes > maxMemory) {
+                return false;
+            }
+            if (reservedMemory.compareAndSet(reserved, reserved + bytes)) {
+                stats.updateUploadBufferedBytes(bytes);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves memory for the only part upload of a stream, which is always allowed
+     * so that every stream can make progress.
+     */
+    public void reserve(long bytes)
+    {
+        reservedMemory.addAndGet(bytes);
+        stats.updateUploadBufferedBytes(bytes);
+    }
+
+    public void free(long bytes)
+    {
+        reservedMemory.addAndGet(-bytes);
+        stats.updateUploadBufferedBytes(-bytes);
+    }
+}
@@ -28,6 +28,7 @@ import static io.airlift.configuration.testing.ConfigAssertions.assertFullMappin
 import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
 import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
 import static io.airlift.testing.ValidationAssertions.assertFailsValidation;
+import static io.airlift.units.DataSize.Unit.GIGABYTE;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.filesystem.s3.S3FileSystemConfig.RetryMode.LEGACY;
 import static io.trino.filesystem.s3.S3FileSystemConfig.RetryMode.STANDARD;
@@ -57,6 +58,14 @@ public class TestS3FileSystemConfig
                 .setUseWebIdentityTokenCredentialsProvider(false)
                 .setSseCustomerKey(null)
                 .setStreamingPartSize(DataSize.of(16, MEGABYTE))
+                .setStreamingMaxConcurrentUploads(1)
+                .setStreamingMaxUploadMemory(DataSize.of(1, GIGABYTE))
+                .setMaxReadThreads(100)
+                .setReadAheadEnabled(false)
+                .setReadAheadMinRequestSize(DataSize.of(1, MEGABYTE))
+                .setReadAheadMaxRequestSize(DataSize.of(16, MEGABYTE))
+                .setReadAheadMaxRequests(4)
+                .setReadAheadMaxMemory(DataSize.of(256, MEGABYTE))
                 .setRequesterPays(false)
                 .setMaxConnections(500)
                 .setConnectionTtl(null)
@@ -96,6 +105,14 @@ public class TestS3FileSystemConfig
                 .put("s3.sse.customer-key", "customerKey")
                 .put("s3.use-web-identity-token-credentials-provider", "true")
                 .put("s3.streaming.part-size", "42MB")
+                .put("s3.streaming.max-concurrent-uploads", "8")
+                .put("s3.streaming.max-upload-memory", "2GB")
+                .put("s3.max-read-threads", "20")
+                .put("s3.read-ahead.enabled", "true")
+                .put("s3.read-ahead.min-request-size", "2MB")
+                .put("s3.read-ahead.max-request-size", "8MB")
+                .put("s3.read-ahead.max-requests", "3")
+                .put("s3.read-ahead.max-memory", "64MB")
                 .put("s3.requester-pays", "true")
                 .put("s3.max-connections", "42")
                 .put("s3.connection-ttl", "1m")
@@ -126,6 +143,14 @@ public class TestS3FileSystemConfig
                 .setStsRegion("us-west-2")
                 .setCannedAcl(ObjectCannedAcl.BUCKET_OWNER_FULL_CONTROL)
                 .setStreamingPartSize(DataSize.of(42, MEGABYTE))
+                .setStreamingMaxConcurrentUploads(8)
+                .setStreamingMaxUploadMemory(DataSize.of(2, GIGABYTE))
+                .setMaxReadThreads(20)
+                .setReadAheadEnabled(true)
+                .setReadAheadMinRequestSize(DataSize.of(2, MEGABYTE))
+                .setReadAheadMaxRequestSize(DataSize.of(8, MEGABYTE))
+                .setReadAheadMaxRequests(3)
+                .setReadAheadMaxMemory(DataSize.of(64, MEGABYTE))
                 .setRetryMode(STANDARD)
                 .setMaxErrorRetries(12)
                 .setSseType(S3SseType.KMS)
@@ -160,4 +185,15 @@ public class TestS3FileSystemConfig
                 "s3.sse.customer-key has to be set for server-side encryption with customer-provided key",
                 AssertTrue.class);
     }
+
+    @Test
+    public void testReadAheadRequestSizeValidation()
+    {
+        assertFailsValidation(new S3FileSystemConfig()
+                        .setReadAheadMinRequestSize(DataSize.of(8, MEGABYTE))
+                        .setReadAheadMaxRequestSize(DataSize.of(4, MEGABYTE)),
+                "readAheadRequestSizeValid",
+                "s3.read-ahead.max-request-size must not be smaller than s3.read-ahead.min-request-size",
+                AssertTrue.class);
+    }
 }
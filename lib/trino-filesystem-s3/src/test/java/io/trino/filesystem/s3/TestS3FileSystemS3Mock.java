@@ -16,6 +16,12 @@ package io.trino.filesystem.s3;
 import com.adobe.testing.s3mock.testcontainers.S3MockContainer;
 import io.airlift.units.DataSize;
 import io.opentelemetry.api.OpenTelemetry;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.filesystem.TrinoInputFile;
+import io.trino.filesystem.TrinoInputStream;
+import io.trino.memory.context.AggregatedMemoryContext;
+import io.trino.spi.security.ConnectorIdentity;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -24,8 +30,17 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.testing.assertions.Assert.assertEventually;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Testcontainers
@@ -71,14 +86,140 @@ public class TestS3FileSystemS3Mock
     @Override
     protected S3FileSystemFactory createS3FileSystemFactory()
     {
-        return new S3FileSystemFactory(OpenTelemetry.noop(), new S3FileSystemConfig()
+        return new S3FileSystemFactory(OpenTelemetry.noop(), createS3FileSystemConfig(), new S3FileSystemStats());
+    }
+
+    private static S3FileSystemConfig createS3FileSystemConfig()
+    {
+        return new S3FileSystemConfig()
                 .setAwsAccessKey("accesskey")
                 .setAwsSecretKey("secretkey")
                 .setEndpoint(S3_MOCK.getHttpEndpoint())
                 .setRegion(Region.US_EAST_1.id())
                 .setPathStyleAccess(true)
                 .setStreamingPartSize(DataSize.valueOf("5.5MB"))
-                .setSupportsExclusiveCreate(false), new S3FileSystemStats());
+                .setSupportsExclusiveCreate(false);
+    }
+
+    @Test
+    void testConcurrentPartUploads()
+            throws IOException
+    {
+        S3FileSystemStats stats = new S3FileSystemStats();
+        S3FileSystemFactory factory = new S3FileSystemFactory(OpenTelemetry.noop(), createS3FileSystemConfig()
+                .setStreamingMaxConcurrentUploads(3), stats);
+        try {
+            TrinoFileSystem fileSystem = factory.create(ConnectorIdentity.ofUser("test"));
+            Location location = getRootLocation().appendPath("concurrent-upload.bin");
+            // several parts of 5.5MB, the last one smaller
+            byte[] contents = new byte[25 * 1024 * 1024];
+            ThreadLocalRandom.current().nextBytes(contents);
+            try {
+                try (OutputStream outputStream = fileSystem.newOutputFile(location).create()) {
+                    for (int offset = 0; offset < contents.length; offset += 100_000) {
+                        outputStream.write(contents, offset, min(100_000, contents.length - offset));
+                    }
+                }
+                assertThat(stats.getInFlightUploads()).isEqualTo(0);
+                assertThat(stats.getUploadBufferedBytes()).isEqualTo(0);
+
+                try (TrinoInputStream inputStream = fileSystem.newInputFile(location).newStream()) {
+                    assertThat(inputStream.readAllBytes()).isEqualTo(contents);
+                }
+            }
+            finally {
+                fileSystem.deleteFile(location);
+            }
+        }
+        finally {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void testMemoryUsageAfterPartUpload()
+            throws IOException
+    {
+        S3FileSystemFactory factory = createS3FileSystemFactory();
+        try {
+            TrinoFileSystem fileSystem = factory.create(ConnectorIdentity.ofUser("test"));
+            Location location = getRootLocation().appendPath("upload-memory.bin");
+            int partSize = toIntExact(DataSize.valueOf("5.5MB").toBytes());
+            byte[] contents = new byte[partSize + 1000];
+            ThreadLocalRandom.current().nextBytes(contents);
+            AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
+            try {
+                try (OutputStream outputStream = fileSystem.newOutputFile(location).create(memoryContext)) {
+                    // a full part starts an upload, and only the remaining bytes are buffered
+                    outputStream.write(contents);
+                    // the memory of the part is released when its upload completes, not when the next one starts
+                    assertEventually(() -> assertThat(memoryContext.getBytes()).isLessThan(partSize));
+                }
+                assertThat(memoryContext.getBytes()).isZero();
+
+                try (TrinoInputStream inputStream = fileSystem.newInputFile(location).newStream()) {
+                    assertThat(inputStream.readAllBytes()).isEqualTo(contents);
+                }
+            }
+            finally {
+                fileSystem.deleteFile(location);
+            }
+        }
+        finally {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void testReadAhead()
+            throws IOException
+    {
+        S3FileSystemStats stats = new S3FileSystemStats();
+        S3FileSystemFactory factory = new S3FileSystemFactory(OpenTelemetry.noop(), createS3FileSystemConfig()
+                .setReadAheadEnabled(true)
+                .setReadAheadMinRequestSize(DataSize.valueOf("16kB"))
+                .setReadAheadMaxRequestSize(DataSize.valueOf("256kB"))
+                .setReadAheadMaxRequests(3), stats);
+        try {
+            TrinoFileSystem fileSystem = factory.create(ConnectorIdentity.ofUser("test"));
+            Location location = getRootLocation().appendPath("read-ahead.bin");
+            byte[] contents = new byte[1024 * 1024 + 123];
+            ThreadLocalRandom.current().nextBytes(contents);
+            fileSystem.newOutputFile(location).createOrOverwrite(contents);
+            try {
+                TrinoInputFile inputFile = fileSystem.newInputFile(location, contents.length);
+                try (TrinoInputStream inputStream = inputFile.newStream()) {
+                    assertThat(inputStream.readAllBytes()).isEqualTo(contents);
+                    assertThat(inputStream.read()).isEqualTo(-1);
+
+                    // seeking back restarts the read-ahead from the new position
+                    inputStream.seek(1000);
+                    byte[] buffer = new byte[5000];
+                    inputStream.readNBytes(buffer, 0, buffer.length);
+                    assertThat(buffer).isEqualTo(Arrays.copyOfRange(contents, 1000, 6000));
+                    assertThat(inputStream.getPosition()).isEqualTo(6000);
+                }
+
+                // the requests still in flight when the stream is closed release their buffers when they complete
+                assertEventually(() -> {
+                    assertThat(stats.getReadAheadBytes().getTotalCount()).isGreaterThanOrEqualTo(contents.length);
+                    assertThat(stats.getReadAheadWastedBytes().getTotalCount()).isGreaterThan(0);
+                    assertThat(stats.getReadAheadBufferedBytes()).isEqualTo(0);
+                });
+
+                // without the file length the stream does not read ahead
+                try (TrinoInputStream inputStream = fileSystem.newInputFile(location).newStream()) {
+                    assertThat(inputStream).isInstanceOf(S3InputStream.class);
+                    assertThat(inputStream.readAllBytes()).isEqualTo(contents);
+                }
+            }
+            finally {
+                fileSystem.deleteFile(location);
+            }
+        }
+        finally {
+            factory.destroy();
+        }
     }
 
     @Test
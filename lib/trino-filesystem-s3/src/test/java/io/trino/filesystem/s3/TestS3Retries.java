@@ -36,6 +36,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.trino.testing.containers.Minio.MINIO_API_PORT;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -111,7 +112,7 @@ public class TestS3Retries
                 .bucket(location.bucket())
                 .key(location.key())
                 .build();
-        S3Input input = new S3Input(location.location(), s3client, request);
+        S3Input input = new S3Input(location.location(), directExecutor(), s3client, request);
 
         byte[] bytes = new byte[TEST_DATA_SIZE];
         assertThatThrownBy(() -> input.readFully(0, bytes, 0, TEST_DATA_SIZE)).cause()
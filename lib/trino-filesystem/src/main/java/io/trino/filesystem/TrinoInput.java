@@ -13,11 +13,17 @@
  */
 package io.trino.filesystem;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
 
 public interface TrinoInput
         extends Closeable
@@ -43,4 +49,33 @@ public interface TrinoInput
         int read = readTail(buffer, 0, length);
         return Slices.wrappedBuffer(buffer, 0, read);
     }
+
+    /**
+     * Reads the given ranges of the file. The returned futures are in the same order
+     * as the ranges. Implementations backed by remote storage should merge nearby
+     * ranges and fetch them in parallel, see {@link VectoredReads}. The default
+     * implementation reads the ranges one at a time in the calling thread.
+     */
+    default List<ListenableFuture<Slice>> readVectored(List<FileRange> ranges)
+    {
+        ImmutableList.Builder<ListenableFuture<Slice>> futures = ImmutableList.builderWithExpectedSize(ranges.size());
+        for (FileRange range : ranges) {
+            try {
+                futures.add(immediateFuture(readFully(range.position(), range.length())));
+            }
+            catch (IOException e) {
+                futures.add(immediateFailedFuture(e));
+            }
+        }
+        return futures.build();
+    }
+
+    /**
+     * Reads the given ranges of the file and waits for all of them, see {@link #readVectored(List)}.
+     */
+    default List<Slice> readFully(List<FileRange> ranges)
+            throws IOException
+    {
+        return VectoredReads.getAll(readVectored(ranges));
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.units.DataSize.Unit.KILOBYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static java.lang.Math.max;
+import static java.lang.Math.toIntExact;
+import static java.util.Collections.nCopies;
+import static java.util.Comparator.comparingLong;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helpers for implementing {@link TrinoInput#readVectored(List)} on top of positioned reads.
+ */
+public final class VectoredReads
+{
+    // Ranges closer than this are fetched with a single request, as reading the gap
+    // is cheaper than another round-trip to the object store
+    private static final long MAX_MERGE_DISTANCE = DataSize.of(64, KILOBYTE).toBytes();
+    // Larger merged ranges would reduce the parallelism of the fetch
+    private static final long MAX_MERGED_SIZE = DataSize.of(4, MEGABYTE).toBytes();
+
+    private VectoredReads() {}
+
+    /**
+     * Merges nearby ranges and reads the merged ranges in parallel on the executor.
+     * The input must support concurrent positioned reads.
+     */
+    public static List<ListenableFuture<Slice>> readVectored(TrinoInput input, List<FileRange> ranges, Executor executor)
+    {
+        requireNonNull(input, "input is null");
+        requireNonNull(executor, "executor is null");
+
+        List<ListenableFuture<Slice>> futures = new ArrayList<>(nCopies(ranges.size(), null));
+        for (MergedRange mergedRange : mergeRanges(ranges)) {
+            FileRange range = mergedRange.range();
+            ListenableFuture<Slice> data = Futures.submit(() -> input.readFully(range.position(), range.length()), executor);
+            for (int index : mergedRange.indexes()) {
+                FileRange member = ranges.get(index);
+                if (member.equals(range)) {
+                    futures.set(index, data);
+                }
+                else {
+                    int offset = toIntExact(member.position() - range.position());
+                    futures.set(index, Futures.transform(data, slice -> slice.slice(offset, member.length()), directExecutor()));
+                }
+            }
+        }
+        return ImmutableList.copyOf(futures);
+    }
+
+    /**
+     * Waits for all the reads, and cancels the remaining ones if any of them fails.
+     */
+    public static List<Slice> getAll(List<ListenableFuture<Slice>> futures)
+            throws IOException
+    {
+        try {
+            return Futures.allAsList(futures).get();
+        }
+        catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throwIfInstanceOf(e.getCause(), IOException.class);
+            throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @VisibleForTesting
+    static List<MergedRange> mergeRanges(List<FileRange> ranges)
+    {
+        List<Integer> order = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            order.add(i);
+        }
+        order.sort(comparingLong(index -> ranges.get(index).position()));
+
+        ImmutableList.Builder<MergedRange> mergedRanges = ImmutableList.builder();
+        ImmutableList.Builder<Integer> indexes = null;
+        long start = 0;
+        long end = 0;
+        for (int index : order) {
+            FileRange range = ranges.get(index);
+            if (indexes != null && range.position() <= end + MAX_MERGE_DISTANCE && max(end, range.end()) - start <= MAX_MERGED_SIZE) {
+                end = max(end, range.end());
+                indexes.add(index);
+                continue;
+            }
+            if (indexes != null) {
+                mergedRanges.add(new MergedRange(new FileRange(start, toIntExact(end - start)), indexes.build()));
+            }
+            indexes = ImmutableList.builder();
+            indexes.add(index);
+            start = range.position();
+            end = range.end();
+        }
+        if (indexes != null) {
+            mergedRanges.add(new MergedRange(new FileRange(start, toIntExact(end - start)), indexes.build()));
+        }
+        return mergedRanges.build();
+    }
+
+    @VisibleForTesting
+    record MergedRange(FileRange range, List<Integer> indexes)
+    {
+        MergedRange
+        {
+            requireNonNull(range, "range is null");
+            indexes = ImmutableList.copyOf(requireNonNull(indexes, "indexes is null"));
+        }
+    }
+}
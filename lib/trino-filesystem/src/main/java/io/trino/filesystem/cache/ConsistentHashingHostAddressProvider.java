@@ -32,9 +32,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
@@ -60,13 +62,28 @@ public class ConsistentHashingHostAddressProvider
         this.replicationFactor = configuration.getPreferredHostsCount();
     }
 
+    /**
+     * Returns the node owning the split on the hash ring first, followed by the
+     * other replicas, so that the scheduler can favor the primary node and only
+     * use the replicas when the primary node is busy.
+     */
     @Override
     public List<HostAddress> getHosts(String splitPath, List<HostAddress> defaultAddresses)
     {
-        return consistentHashRing.locate(splitPath, replicationFactor)
-                .stream()
-                .map(TrinoNode::getHostAndPort)
-                .sorted(hostAddressComparator)
+        Set<TrinoNode> nodes = consistentHashRing.locate(splitPath, replicationFactor);
+        if (nodes.size() <= 1) {
+            return nodes.stream()
+                    .map(TrinoNode::getHostAndPort)
+                    .collect(toImmutableList());
+        }
+
+        TrinoNode primary = getOnlyElement(consistentHashRing.locate(splitPath, 1));
+        return Stream.concat(
+                        Stream.of(primary.getHostAndPort()),
+                        nodes.stream()
+                                .filter(node -> !node.equals(primary))
+                                .map(TrinoNode::getHostAndPort)
+                                .sorted(hostAddressComparator))
                 .collect(toImmutableList());
     }
 
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.TrinoInputFile;
+import io.trino.filesystem.cache.disk.DiskPageStore.PageKey;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+import static java.lang.Math.ceilDiv;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+
+final class DiskCacheInput
+        implements TrinoInput
+{
+    private final TrinoInputFile inputFile;
+    private final long fileLength;
+    private final PageKey fileKey;
+    private final DiskFileSystemCache cache;
+    private final int pageSize;
+
+    private TrinoInput input;
+    private boolean closed;
+
+    public DiskCacheInput(TrinoInputFile inputFile, long fileLength, String cacheKey, DiskFileSystemCache cache)
+    {
+        this.inputFile = requireNonNull(inputFile, "inputFile is null");
+        this.fileLength = fileLength;
+        this.fileKey = DiskFileSystemCache.firstPageKey(cacheKey);
+        this.cache = requireNonNull(cache, "cache is null");
+        this.pageSize = cache.getPageSize();
+    }
+
+    public Location location()
+    {
+        return inputFile.location();
+    }
+
+    public long length()
+    {
+        return fileLength;
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length)
+            throws IOException
+    {
+        ensureOpen();
+        checkFromIndexSize(offset, length, buffer.length);
+        if (position < 0) {
+            throw new IOException("Negative seek offset");
+        }
+        if (length == 0) {
+            return;
+        }
+        if (position + length > fileLength) {
+            throw new EOFException("Read %s of %s requested bytes: %s".formatted(max(fileLength - position, 0), length, inputFile.location()));
+        }
+
+        // serve the cached pages, and read each run of consecutive missing pages with a single request
+        long end = position + length;
+        long missStart = -1;
+        long current = position;
+        while (current < end) {
+            int pageOffset = toIntExact(current % pageSize);
+            int chunk = toIntExact(min(end - current, pageSize - pageOffset));
+            int bytesRead = cache.readPage(fileKey.withPageNumber(current / pageSize), pageOffset, buffer, offset + toIntExact(current - position), chunk);
+            if (bytesRead == chunk) {
+                if (missStart >= 0) {
+                    readExternal(missStart, current, position, buffer, offset);
+                    missStart = -1;
+                }
+            }
+            else if (missStart < 0) {
+                missStart = current;
+            }
+            current += chunk;
+        }
+        if (missStart >= 0) {
+            readExternal(missStart, end, position, buffer, offset);
+        }
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int bufferOffset, int bufferLength)
+            throws IOException
+    {
+        ensureOpen();
+        checkFromIndexSize(bufferOffset, bufferLength, buffer.length);
+
+        int readSize = toIntExact(min(fileLength, bufferLength));
+        readFully(fileLength - readSize, buffer, bufferOffset, readSize);
+        return readSize;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        closed = true;
+        if (input != null) {
+            input.close();
+            input = null;
+        }
+    }
+
+    private void readExternal(long start, long end, long position, byte[] buffer, int offset)
+            throws IOException
+    {
+        // read whole pages, so they can be cached
+        long firstPage = start / pageSize;
+        long readStart = firstPage * pageSize;
+        long readEnd = min(ceilDiv(end, pageSize) * pageSize, fileLength);
+        byte[] data = new byte[toIntExact(readEnd - readStart)];
+        getInput().readFully(readStart, data, 0, data.length);
+        cache.recordExternalRead(data.length);
+
+        System.arraycopy(data, toIntExact(start - readStart), buffer, offset + toIntExact(start - position), toIntExact(end - start));
+        for (long page = firstPage; page * pageSize < readEnd; page++) {
+            int pageOffset = toIntExact(page * pageSize - readStart);
+            cache.fillPage(fileKey.withPageNumber(page), data, pageOffset, min(pageSize, data.length - pageOffset));
+        }
+    }
+
+    private TrinoInput getInput()
+            throws IOException
+    {
+        if (input == null) {
+            input = inputFile.newInput();
+        }
+        return input;
+    }
+
+    private void ensureOpen()
+            throws IOException
+    {
+        if (closed) {
+            throw new IOException("Input closed: " + inputFile.location());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoInputStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+import static com.google.common.primitives.Ints.saturatedCast;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+
+final class DiskCacheInputStream
+        extends TrinoInputStream
+{
+    private final Location location;
+    private final DiskCacheInput input;
+    private final long fileLength;
+    private final byte[] singleByte = new byte[1];
+
+    private long position;
+    private boolean closed;
+
+    public DiskCacheInputStream(Location location, DiskCacheInput input)
+    {
+        this.location = requireNonNull(location, "location is null");
+        this.input = requireNonNull(input, "input is null");
+        this.fileLength = input.length();
+    }
+
+    @Override
+    public int available()
+            throws IOException
+    {
+        ensureOpen();
+        return saturatedCast(fileLength - position);
+    }
+
+    @Override
+    public long getPosition()
+    {
+        return position;
+    }
+
+    @Override
+    public void seek(long position)
+            throws IOException
+    {
+        ensureOpen();
+        if (position < 0) {
+            throw new IOException("Negative seek offset");
+        }
+        if (position > fileLength) {
+            throw new IOException("Cannot seek to %s. File size is %s: %s".formatted(position, fileLength, location));
+        }
+        this.position = position;
+    }
+
+    @Override
+    public int read()
+            throws IOException
+    {
+        ensureOpen();
+        if (position >= fileLength) {
+            return -1;
+        }
+        input.readFully(position, singleByte, 0, 1);
+        position++;
+        return singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length)
+            throws IOException
+    {
+        ensureOpen();
+        checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= fileLength) {
+            return -1;
+        }
+
+        int readLength = toIntExact(min(length, fileLength - position));
+        input.readFully(position, buffer, offset, readLength);
+        position += readLength;
+        return readLength;
+    }
+
+    @Override
+    public long skip(long n)
+            throws IOException
+    {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+
+        long skip = min(n, fileLength - position);
+        position += skip;
+        return skip;
+    }
+
+    @Override
+    public void skipNBytes(long n)
+            throws IOException
+    {
+        ensureOpen();
+        if (n <= 0) {
+            return;
+        }
+
+        long position = this.position + n;
+        if ((position < 0) || (position > fileLength)) {
+            throw new EOFException("Unable to skip %s bytes (position=%s, fileSize=%s): %s".formatted(n, this.position, fileLength, location));
+        }
+        this.position = position;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (!closed) {
+            closed = true;
+            input.close();
+        }
+    }
+
+    private void ensureOpen()
+            throws IOException
+    {
+        if (closed) {
+            throw new IOException("Input stream closed: " + location);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import com.google.errorprone.annotations.ThreadSafe;
+import org.weakref.jmx.Managed;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@ThreadSafe
+public class DiskCacheStats
+{
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong corruptedPageCount = new AtomicLong();
+    private final AtomicLong fillSkippedCount = new AtomicLong();
+    private final AtomicLong cacheReadBytes = new AtomicLong();
+    private final AtomicLong externalReadBytes = new AtomicLong();
+
+    @Managed
+    public long getHitCount()
+    {
+        return hitCount.get();
+    }
+
+    @Managed
+    public long getMissCount()
+    {
+        return missCount.get();
+    }
+
+    @Managed
+    public double getHitRate()
+    {
+        long hits = hitCount.get();
+        long requests = hits + missCount.get();
+        if (requests == 0) {
+            return Double.NaN;
+        }
+        return (double) hits / requests;
+    }
+
+    @Managed
+    public long getEvictionCount()
+    {
+        return evictionCount.get();
+    }
+
+    @Managed
+    public long getCorruptedPageCount()
+    {
+        return corruptedPageCount.get();
+    }
+
+    @Managed
+    public long getFillSkippedCount()
+    {
+        return fillSkippedCount.get();
+    }
+
+    @Managed
+    public long getCacheReadBytes()
+    {
+        return cacheReadBytes.get();
+    }
+
+    @Managed
+    public long getExternalReadBytes()
+    {
+        return externalReadBytes.get();
+    }
+
+    void recordHit(int bytes)
+    {
+        hitCount.incrementAndGet();
+        cacheReadBytes.addAndGet(bytes);
+    }
+
+    void recordMiss()
+    {
+        missCount.incrementAndGet();
+    }
+
+    void recordEviction()
+    {
+        evictionCount.incrementAndGet();
+    }
+
+    void recordCorruptedPage()
+    {
+        corruptedPageCount.incrementAndGet();
+    }
+
+    void recordFillSkipped()
+    {
+        fillSkippedCount.incrementAndGet();
+    }
+
+    void recordExternalRead(int bytes)
+    {
+        externalReadBytes.addAndGet(bytes);
+    }
+}
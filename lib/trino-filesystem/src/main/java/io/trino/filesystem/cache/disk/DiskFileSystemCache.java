@@ -0,0 +1,224 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import io.airlift.log.Logger;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.TrinoInputFile;
+import io.trino.filesystem.TrinoInputStream;
+import io.trino.filesystem.cache.TrinoFileSystemCache;
+import io.trino.filesystem.cache.disk.DiskPageStore.PageKey;
+import io.trino.spi.catalog.CatalogName;
+import jakarta.annotation.PreDestroy;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Caches files in fixed size pages on a local disk. Pages missing from the cache
+ * are read from the file system and written to the cache in the background, so
+ * readers never wait for the cache disk.
+ */
+public final class DiskFileSystemCache
+        implements TrinoFileSystemCache
+{
+    private static final Logger log = Logger.get(DiskFileSystemCache.class);
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final DiskPageStore store;
+    private final ExecutorService fillExecutor;
+    private final long maxPendingFillBytes;
+    private final AtomicLong pendingFillBytes = new AtomicLong();
+    private final DiskCacheStats stats = new DiskCacheStats();
+
+    @Inject
+    public DiskFileSystemCache(CatalogName catalogName, DiskFileSystemCacheConfig config)
+            throws IOException
+    {
+        this(
+                Path.of(config.getDirectory()).resolve(catalogName.toString()),
+                config,
+                newFixedThreadPool(config.getFillThreads(), daemonThreadsNamed("disk-cache-fill-" + catalogName + "-%s")));
+    }
+
+    @VisibleForTesting
+    public DiskFileSystemCache(Path directory, DiskFileSystemCacheConfig config, ExecutorService fillExecutor)
+            throws IOException
+    {
+        this.fillExecutor = requireNonNull(fillExecutor, "fillExecutor is null");
+        this.maxPendingFillBytes = config.getMaxPendingFillSize().toBytes();
+        this.store = new DiskPageStore(
+                directory,
+                config.getMaxSize().toBytes(),
+                toIntExact(config.getPageSize().toBytes()),
+                config.getTtl().toMillis(),
+                stats);
+    }
+
+    @Override
+    public TrinoInput cacheInput(TrinoInputFile delegate, String key)
+            throws IOException
+    {
+        return new DiskCacheInput(delegate, delegate.length(), key, this);
+    }
+
+    @Override
+    public TrinoInputStream cacheStream(TrinoInputFile delegate, String key)
+            throws IOException
+    {
+        return new DiskCacheInputStream(delegate.location(), new DiskCacheInput(delegate, delegate.length(), key, this));
+    }
+
+    @Override
+    public long cacheLength(TrinoInputFile delegate, String key)
+            throws IOException
+    {
+        return delegate.length();
+    }
+
+    @Override
+    public void expire(Location location)
+            throws IOException
+    {
+        // cache keys include the modification time of the file, so pages of replaced files are never read and age out
+    }
+
+    @Override
+    public void expire(Collection<Location> locations)
+            throws IOException
+    {
+    }
+
+    @PreDestroy
+    public void shutdown()
+            throws IOException
+    {
+        fillExecutor.shutdownNow();
+        store.close();
+    }
+
+    @Managed
+    @Nested
+    public DiskCacheStats getStats()
+    {
+        return stats;
+    }
+
+    @Managed
+    public long getCachedBytes()
+    {
+        return store.getCachedBytes();
+    }
+
+    @Managed
+    public long getCachedPages()
+    {
+        return store.getCachedPages();
+    }
+
+    @Managed
+    public long getPendingFillBytes()
+    {
+        return pendingFillBytes.get();
+    }
+
+    int getPageSize()
+    {
+        return store.getPageSize();
+    }
+
+    static PageKey firstPageKey(String key)
+    {
+        ByteBuffer hash = ByteBuffer.wrap(HASH_FUNCTION.hashString(key, UTF_8).asBytes());
+        return new PageKey(hash.getLong(0), hash.getLong(8), 0);
+    }
+
+    /**
+     * Reads a range of a cached page.
+     *
+     * @return the number of bytes read, or -1 if the page is not cached
+     */
+    int readPage(PageKey key, int pageOffset, byte[] buffer, int offset, int length)
+            throws IOException
+    {
+        int bytesRead = store.read(key, pageOffset, buffer, offset, length);
+        if (bytesRead < 0) {
+            stats.recordMiss();
+        }
+        else {
+            stats.recordHit(bytesRead);
+        }
+        return bytesRead;
+    }
+
+    /**
+     * Schedules writing a page read from the file system to the cache.
+     * The page is not cached when too many pages are waiting to be written.
+     */
+    void fillPage(PageKey key, byte[] data, int offset, int length)
+    {
+        if (pendingFillBytes.addAndGet(length) > maxPendingFillBytes) {
+            pendingFillBytes.addAndGet(-length);
+            stats.recordFillSkipped();
+            return;
+        }
+        if (!store.startWrite(key)) {
+            pendingFillBytes.addAndGet(-length);
+            return;
+        }
+
+        byte[] page = Arrays.copyOfRange(data, offset, offset + length);
+        try {
+            fillExecutor.execute(() -> {
+                try {
+                    store.write(key, page, 0, length);
+                }
+                catch (IOException e) {
+                    log.warn(e, "Failed to write page to cache");
+                }
+                finally {
+                    pendingFillBytes.addAndGet(-length);
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            store.abortWrite(key);
+            pendingFillBytes.addAndGet(-length);
+        }
+    }
+
+    void recordExternalRead(int length)
+    {
+        stats.recordExternalRead(length);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import io.airlift.configuration.Config;
+import io.airlift.configuration.ConfigDescription;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
+import io.airlift.units.MaxDataSize;
+import io.airlift.units.MinDataSize;
+import io.airlift.units.MinDuration;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static java.util.concurrent.TimeUnit.DAYS;
+
+public class DiskFileSystemCacheConfig
+{
+    private String directory;
+    private DataSize maxSize;
+    private DataSize pageSize = DataSize.of(1, MEGABYTE);
+    private Duration ttl = new Duration(7, DAYS);
+    private int fillThreads = 4;
+    private DataSize maxPendingFillSize = DataSize.of(128, MEGABYTE);
+
+    @NotNull
+    public String getDirectory()
+    {
+        return directory;
+    }
+
+    @Config("fs.disk-cache.directory")
+    @ConfigDescription("Base directory to cache data. Each catalog uses a subdirectory named after the catalog.")
+    public DiskFileSystemCacheConfig setDirectory(String directory)
+    {
+        this.directory = directory;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getMaxSize()
+    {
+        return maxSize;
+    }
+
+    @Config("fs.disk-cache.max-size")
+    @ConfigDescription("Maximum disk space used by the cache of a catalog")
+    public DiskFileSystemCacheConfig setMaxSize(DataSize maxSize)
+    {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    @NotNull
+    @MinDataSize("64kB")
+    @MaxDataSize("15MB")
+    public DataSize getPageSize()
+    {
+        return pageSize;
+    }
+
+    @Config("fs.disk-cache.page-size")
+    @ConfigDescription("Size of the pages cached on disk")
+    public DiskFileSystemCacheConfig setPageSize(DataSize pageSize)
+    {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    @NotNull
+    @MinDuration("1s")
+    public Duration getTtl()
+    {
+        return ttl;
+    }
+
+    @Config("fs.disk-cache.ttl")
+    @ConfigDescription("Duration to keep pages in the cache prior to eviction")
+    public DiskFileSystemCacheConfig setTtl(Duration ttl)
+    {
+        this.ttl = ttl;
+        return this;
+    }
+
+    @Min(1)
+    public int getFillThreads()
+    {
+        return fillThreads;
+    }
+
+    @Config("fs.disk-cache.fill-threads")
+    @ConfigDescription("Number of threads writing pages read from the file system to the cache")
+    public DiskFileSystemCacheConfig setFillThreads(int fillThreads)
+    {
+        this.fillThreads = fillThreads;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getMaxPendingFillSize()
+    {
+        return maxPendingFillSize;
+    }
+
+    @Config("fs.disk-cache.max-pending-fill-size")
+    @ConfigDescription("Maximum size of the pages waiting to be written to the cache. Pages read while the limit is reached are not cached.")
+    public DiskFileSystemCacheConfig setMaxPendingFillSize(DataSize maxPendingFillSize)
+    {
+        this.maxPendingFillSize = maxPendingFillSize;
+        return this;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import com.google.inject.Binder;
+import com.google.inject.Provider;
+import io.airlift.configuration.AbstractConfigurationAwareModule;
+import io.trino.filesystem.cache.CachingHostAddressProvider;
+import io.trino.filesystem.cache.ConsistentHashingHostAddressProvider;
+import io.trino.filesystem.cache.ConsistentHashingHostAddressProviderConfig;
+import io.trino.filesystem.cache.TrinoFileSystemCache;
+import io.trino.spi.catalog.CatalogName;
+
+import static com.google.inject.Scopes.SINGLETON;
+import static com.google.inject.multibindings.OptionalBinder.newOptionalBinder;
+import static io.airlift.configuration.ConfigBinder.configBinder;
+import static org.weakref.jmx.guice.ExportBinder.newExporter;
+
+public class DiskFileSystemCacheModule
+        extends AbstractConfigurationAwareModule
+{
+    private final boolean isCoordinator;
+
+    public DiskFileSystemCacheModule(boolean isCoordinator)
+    {
+        this.isCoordinator = isCoordinator;
+    }
+
+    @Override
+    protected void setup(Binder binder)
+    {
+        configBinder(binder).bindConfig(DiskFileSystemCacheConfig.class);
+        configBinder(binder).bindConfig(ConsistentHashingHostAddressProviderConfig.class);
+
+        if (isCoordinator) {
+            newOptionalBinder(binder, CachingHostAddressProvider.class).setBinding().to(ConsistentHashingHostAddressProvider.class).in(SINGLETON);
+        }
+        binder.bind(DiskFileSystemCache.class).in(SINGLETON);
+        binder.bind(TrinoFileSystemCache.class).to(DiskFileSystemCache.class).in(SINGLETON);
+
+        Provider<CatalogName> catalogName = binder.getProvider(CatalogName.class);
+        newExporter(binder).export(DiskFileSystemCache.class)
+                .as(generator -> generator.generatedNameOf(DiskFileSystemCache.class, catalogName.get().toString()));
+    }
+}
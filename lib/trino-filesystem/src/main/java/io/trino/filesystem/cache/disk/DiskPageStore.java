@@ -0,0 +1,512 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import com.google.errorprone.annotations.ThreadSafe;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import io.airlift.log.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.zip.CRC32C;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Pages of a fixed maximum size, stored in the slots of a single data file.
+ * The slot of every page is recorded in an index file that is memory mapped,
+ * so the cached pages survive a restart. An index entry is written after the
+ * page data, and the checksum of a page recovered on startup is verified on
+ * its first read, so a page that was not completely written is never served.
+ * <p>
+ * Pages are evicted using a segmented LRU policy: new pages enter a probation
+ * segment and move to a protected segment when they are read again, so a scan
+ * of data that is read only once does not evict frequently read pages.
+ */
+@ThreadSafe
+final class DiskPageStore
+        implements Closeable
+{
+    private static final Logger log = Logger.get(DiskPageStore.class);
+
+    static final String INDEX_FILE = "pages.index";
+    static final String DATA_FILE = "pages.data";
+
+    private static final long MAGIC = 0x5452_494E_4F50_4147L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 8;
+    private static final int HEADER_PAGE_SIZE = 12;
+    private static final int HEADER_SLOT_COUNT = 16;
+
+    private static final int ENTRY_SIZE = 40;
+    private static final int ENTRY_KEY_HIGH = 0;
+    private static final int ENTRY_KEY_LOW = 8;
+    private static final int ENTRY_PAGE_NUMBER = 16;
+    private static final int ENTRY_CREATE_TIME = 24;
+    private static final int ENTRY_LENGTH = 32;
+    private static final int ENTRY_CHECKSUM = 36;
+
+    private static final double PROTECTED_SEGMENT_RATIO = 0.8;
+
+    private final int pageSize;
+    private final int slotCount;
+    private final long ttlMillis;
+    private final DiskCacheStats stats;
+    private final FileChannel indexChannel;
+    private final FileLock indexLock;
+    private final MappedByteBuffer index;
+    private final FileChannel dataChannel;
+    private final int protectedSegmentCapacity;
+    // incremented whenever a slot is reused, so readers can detect that a page was evicted while it was read
+    private final AtomicIntegerArray generations;
+
+    @GuardedBy("this")
+    private final Map<PageKey, Integer> slots = new HashMap<>();
+    @GuardedBy("this")
+    private final PageKey[] keys;
+    @GuardedBy("this")
+    private final int[] lengths;
+    @GuardedBy("this")
+    private final long[] createTimes;
+    @GuardedBy("this")
+    private final int[] checksums;
+    @GuardedBy("this")
+    private final BitSet verified;
+    @GuardedBy("this")
+    private final Queue<Integer> freeSlots = new ArrayDeque<>();
+    @GuardedBy("this")
+    private final Set<Integer> probationSegment = new LinkedHashSet<>();
+    @GuardedBy("this")
+    private final Set<Integer> protectedSegment = new LinkedHashSet<>();
+    @GuardedBy("this")
+    private final Set<PageKey> filling = new HashSet<>();
+    @GuardedBy("this")
+    private long cachedBytes;
+    @GuardedBy("this")
+    private boolean closed;
+
+    public DiskPageStore(Path directory, long maxSize, int pageSize, long ttlMillis, DiskCacheStats stats)
+            throws IOException
+    {
+        checkArgument(pageSize > 0, "pageSize must be positive");
+        checkArgument(maxSize >= pageSize, "maxSize must be at least the page size");
+        checkArgument(ttlMillis > 0, "ttlMillis must be positive");
+        long slotCount = maxSize / pageSize;
+        checkArgument(HEADER_SIZE + slotCount * ENTRY_SIZE <= Integer.MAX_VALUE, "Too many pages, increase the page size: %s", slotCount);
+        this.pageSize = pageSize;
+        this.slotCount = toIntExact(slotCount);
+        this.ttlMillis = ttlMillis;
+        this.stats = requireNonNull(stats, "stats is null");
+        this.protectedSegmentCapacity = max(1, (int) (slotCount * PROTECTED_SEGMENT_RATIO));
+        this.generations = new AtomicIntegerArray(this.slotCount);
+        this.keys = new PageKey[this.slotCount];
+        this.lengths = new int[this.slotCount];
+        this.createTimes = new long[this.slotCount];
+        this.checksums = new int[this.slotCount];
+        this.verified = new BitSet(this.slotCount);
+
+        createDirectories(directory);
+        FileChannel indexChannel = FileChannel.open(directory.resolve(INDEX_FILE), CREATE, READ, WRITE);
+        FileChannel dataChannel = null;
+        try {
+            indexLock = indexChannel.tryLock();
+            if (indexLock == null) {
+                throw new IOException("Cache directory is used by another process: " + directory);
+            }
+            dataChannel = FileChannel.open(directory.resolve(DATA_FILE), CREATE, READ, WRITE);
+
+            long indexSize = HEADER_SIZE + slotCount * ENTRY_SIZE;
+            if (indexChannel.size() != indexSize) {
+                indexChannel.truncate(0);
+            }
+            index = indexChannel.map(READ_WRITE, 0, indexSize);
+        }
+        catch (IOException | RuntimeException e) {
+            try (indexChannel; FileChannel _ = dataChannel) {
+                throw e;
+            }
+        }
+        this.indexChannel = indexChannel;
+        this.dataChannel = dataChannel;
+
+        if (isCompatible()) {
+            recover();
+        }
+        else {
+            reset();
+        }
+    }
+
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    public synchronized long getCachedBytes()
+    {
+        return cachedBytes;
+    }
+
+    public synchronized int getCachedPages()
+    {
+        return slots.size();
+    }
+
+    /**
+     * Reads a range of a cached page.
+     *
+     * @return the number of bytes read, or -1 if the page is not cached
+     */
+    public int read(PageKey key, int pageOffset, byte[] buffer, int offset, int length)
+            throws IOException
+    {
+        int slot;
+        int generation;
+        int pageLength;
+        int checksum;
+        boolean verify;
+        synchronized (this) {
+            Integer cachedSlot = slots.get(key);
+            if (cachedSlot == null) {
+                return -1;
+            }
+            slot = cachedSlot;
+            if (isExpired(createTimes[slot])) {
+                remove(slot);
+                return -1;
+            }
+            touch(slot);
+            generation = generations.get(slot);
+            pageLength = lengths[slot];
+            checksum = checksums[slot];
+            verify = !verified.get(slot);
+        }
+        if (pageOffset >= pageLength) {
+            return -1;
+        }
+
+        int readLength = min(length, pageLength - pageOffset);
+        long slotPosition = (long) slot * pageSize;
+        if (verify) {
+            byte[] page = new byte[pageLength];
+            if (!readData(slotPosition, page, 0, pageLength) || checksum(page, pageLength) != checksum) {
+                stats.recordCorruptedPage();
+                invalidate(slot, generation);
+                return -1;
+            }
+            markVerified(slot, generation);
+            System.arraycopy(page, pageOffset, buffer, offset, readLength);
+        }
+        else if (!readData(slotPosition + pageOffset, buffer, offset, readLength)) {
+            invalidate(slot, generation);
+            return -1;
+        }
+
+        if (generations.get(slot) != generation) {
+            // the page was evicted and the slot reused while it was read
+            return -1;
+        }
+        return readLength;
+    }
+
+    /**
+     * Registers a pending write of a page, failing if the page is already cached or being written.
+     */
+    public synchronized boolean startWrite(PageKey key)
+    {
+        if (closed || slots.containsKey(key)) {
+            return false;
+        }
+        return filling.add(key);
+    }
+
+    public synchronized void abortWrite(PageKey key)
+    {
+        filling.remove(key);
+    }
+
+    /**
+     * Writes a page registered with {@link #startWrite}, evicting other pages if the store is full.
+     */
+    public void write(PageKey key, byte[] data, int offset, int length)
+            throws IOException
+    {
+        checkArgument(length > 0 && length <= pageSize, "invalid page length: %s", length);
+        int slot;
+        synchronized (this) {
+            slot = closed ? -1 : allocateSlot();
+            if (slot < 0) {
+                filling.remove(key);
+                return;
+            }
+        }
+
+        boolean written = false;
+        try {
+            writeData((long) slot * pageSize, data, offset, length);
+            written = true;
+        }
+        finally {
+            synchronized (this) {
+                filling.remove(key);
+                if (written && !closed) {
+                    add(slot, key, length, checksum(data, offset, length), System.currentTimeMillis());
+                }
+                else {
+                    freeSlots.add(slot);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close()
+            throws IOException
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (indexChannel; dataChannel) {
+            index.force();
+            indexLock.release();
+        }
+    }
+
+    @GuardedBy("this")
+    private void touch(int slot)
+    {
+        if (probationSegment.remove(slot)) {
+            protectedSegment.add(slot);
+            if (protectedSegment.size() > protectedSegmentCapacity) {
+                // demote the least recently used protected page, so it gets another chance before it is evicted
+                int demoted = protectedSegment.iterator().next();
+                protectedSegment.remove(demoted);
+                probationSegment.add(demoted);
+            }
+        }
+        else if (protectedSegment.remove(slot)) {
+            protectedSegment.add(slot);
+        }
+    }
+
+    @GuardedBy("this")
+    private int allocateSlot()
+    {
+        if (freeSlots.isEmpty()) {
+            Set<Integer> segment = probationSegment.isEmpty() ? protectedSegment : probationSegment;
+            if (segment.isEmpty()) {
+                // all slots are being written
+                return -1;
+            }
+            remove(segment.iterator().next());
+            stats.recordEviction();
+        }
+        int slot = freeSlots.remove();
+        generations.incrementAndGet(slot);
+        return slot;
+    }
+
+    @GuardedBy("this")
+    private void add(int slot, PageKey key, int length, int checksum, long createTime)
+    {
+        keys[slot] = key;
+        lengths[slot] = length;
+        checksums[slot] = checksum;
+        createTimes[slot] = createTime;
+        verified.set(slot);
+        slots.put(key, slot);
+        probationSegment.add(slot);
+        cachedBytes += length;
+
+        int entry = entryOffset(slot);
+        index.putLong(entry + ENTRY_KEY_HIGH, key.keyHigh());
+        index.putLong(entry + ENTRY_KEY_LOW, key.keyLow());
+        index.putLong(entry + ENTRY_PAGE_NUMBER, key.pageNumber());
+        index.putLong(entry + ENTRY_CREATE_TIME, createTime);
+        index.putInt(entry + ENTRY_CHECKSUM, checksum);
+        // the length marks the entry as valid, so it is written last
+        index.putInt(entry + ENTRY_LENGTH, length);
+    }
+
+    @GuardedBy("this")
+    private void remove(int slot)
+    {
+        slots.remove(keys[slot]);
+        probationSegment.remove(slot);
+        protectedSegment.remove(slot);
+        keys[slot] = null;
+        cachedBytes -= lengths[slot];
+        lengths[slot] = 0;
+        verified.clear(slot);
+        index.putInt(entryOffset(slot) + ENTRY_LENGTH, 0);
+        generations.incrementAndGet(slot);
+        freeSlots.add(slot);
+    }
+
+    private synchronized void invalidate(int slot, int generation)
+    {
+        if (generations.get(slot) == generation && keys[slot] != null) {
+            remove(slot);
+        }
+    }
+
+    private synchronized void markVerified(int slot, int generation)
+    {
+        if (generations.get(slot) == generation) {
+            verified.set(slot);
+        }
+    }
+
+    private boolean isExpired(long createTime)
+    {
+        return System.currentTimeMillis() - createTime >= ttlMillis;
+    }
+
+    private boolean isCompatible()
+    {
+        return index.getLong(HEADER_MAGIC) == MAGIC &&
+                index.getInt(HEADER_VERSION) == VERSION &&
+                index.getInt(HEADER_PAGE_SIZE) == pageSize &&
+                index.getInt(HEADER_SLOT_COUNT) == slotCount;
+    }
+
+    private synchronized void reset()
+            throws IOException
+    {
+        for (int slot = 0; slot < slotCount; slot++) {
+            index.putInt(entryOffset(slot) + ENTRY_LENGTH, 0);
+            freeSlots.add(slot);
+        }
+        dataChannel.truncate(0);
+        index.putLong(HEADER_MAGIC, MAGIC);
+        index.putInt(HEADER_VERSION, VERSION);
+        index.putInt(HEADER_PAGE_SIZE, pageSize);
+        index.putInt(HEADER_SLOT_COUNT, slotCount);
+        index.force();
+    }
+
+    private synchronized void recover()
+    {
+        List<Integer> recovered = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            int entry = entryOffset(slot);
+            int length = index.getInt(entry + ENTRY_LENGTH);
+            if (length == 0) {
+                freeSlots.add(slot);
+                continue;
+            }
+            PageKey key = new PageKey(
+                    index.getLong(entry + ENTRY_KEY_HIGH),
+                    index.getLong(entry + ENTRY_KEY_LOW),
+                    index.getLong(entry + ENTRY_PAGE_NUMBER));
+            long createTime = index.getLong(entry + ENTRY_CREATE_TIME);
+            if (length < 0 || length > pageSize || isExpired(createTime) || slots.containsKey(key)) {
+                index.putInt(entry + ENTRY_LENGTH, 0);
+                freeSlots.add(slot);
+                continue;
+            }
+            keys[slot] = key;
+            lengths[slot] = length;
+            checksums[slot] = index.getInt(entry + ENTRY_CHECKSUM);
+            createTimes[slot] = createTime;
+            slots.put(key, slot);
+            cachedBytes += length;
+            recovered.add(slot);
+        }
+
+        // the access order is not persisted, so the oldest pages are evicted first
+        recovered.sort(Comparator.comparingLong(slot -> createTimes[slot]));
+        probationSegment.addAll(recovered);
+        log.info("Recovered %s cached pages (%s bytes)", recovered.size(), cachedBytes);
+    }
+
+    private boolean readData(long position, byte[] buffer, int offset, int length)
+            throws IOException
+    {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, offset, length);
+        while (byteBuffer.hasRemaining()) {
+            int read = dataChannel.read(byteBuffer, position + byteBuffer.position() - offset);
+            if (read < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeData(long position, byte[] data, int offset, int length)
+            throws IOException
+    {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(data, offset, length);
+        while (byteBuffer.hasRemaining()) {
+            dataChannel.write(byteBuffer, position + byteBuffer.position() - offset);
+        }
+    }
+
+    private static int entryOffset(int slot)
+    {
+        return HEADER_SIZE + slot * ENTRY_SIZE;
+    }
+
+    private static int checksum(byte[] data, int length)
+    {
+        return checksum(data, 0, length);
+    }
+
+    private static int checksum(byte[] data, int offset, int length)
+    {
+        CRC32C crc = new CRC32C();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Identifies a page of a cached file by the 128-bit hash of the cache key of the file.
+     */
+    record PageKey(long keyHigh, long keyLow, long pageNumber)
+    {
+        public PageKey withPageNumber(long pageNumber)
+        {
+            return new PageKey(keyHigh, keyLow, pageNumber);
+        }
+    }
+}
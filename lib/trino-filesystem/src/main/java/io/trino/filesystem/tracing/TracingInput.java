@@ -13,16 +13,24 @@
  */
 package io.trino.filesystem.tracing;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.semconv.ExceptionAttributes;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.Location;
 import io.trino.filesystem.TrinoInput;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.trino.filesystem.tracing.Tracing.attribute;
 import static io.trino.filesystem.tracing.Tracing.withTracing;
 import static java.util.Objects.requireNonNull;
@@ -81,6 +89,26 @@ final class TracingInput
         return withTracing(span, () -> delegate.readTail(length));
     }
 
+    @Override
+    public List<ListenableFuture<Slice>> readVectored(List<FileRange> ranges)
+    {
+        Span span = spanBuilder("Input.readVectored", ranges.stream().mapToLong(FileRange::length).sum())
+                .startSpan();
+        List<ListenableFuture<Slice>> futures;
+        try (var _ = span.makeCurrent()) {
+            futures = delegate.readVectored(ranges);
+        }
+        catch (Throwable t) {
+            span.setStatus(StatusCode.ERROR, t.getMessage());
+            span.recordException(t, Attributes.of(ExceptionAttributes.EXCEPTION_ESCAPED, true));
+            span.end();
+            throw t;
+        }
+        // the reads complete in the background, so end the span once all of them are done
+        Futures.whenAllComplete(futures).run(span::end, directExecutor());
+        return futures;
+    }
+
     @Override
     public void close()
             throws IOException
@@ -516,6 +516,24 @@ public abstract class AbstractTestTrinoFileSystem
                     assertThat(slice.getInt(4 + i * 4)).isEqualTo(totalPositions - 9 + i);
                 }
 
+                // vectored read
+                List<FileRange> ranges = ImmutableList.of(
+                        new FileRange(MEGABYTE, 40),
+                        new FileRange(0, 40),
+                        new FileRange(8, 16),
+                        new FileRange(fileSize - 40, 40));
+                List<Slice> slices = trinoInput.readFully(ranges);
+                assertThat(slices).hasSize(ranges.size());
+                for (int i = 0; i < ranges.size(); i++) {
+                    FileRange range = ranges.get(i);
+                    assertThat(slices.get(i)).isEqualTo(trinoInput.readFully(range.position(), range.length()));
+                }
+                assertThat(slices.get(1).getInt(0)).isEqualTo(0);
+                assertThat(slices.get(2).getInt(0)).isEqualTo(2);
+                assertThatThrownBy(() -> trinoInput.readFully(ImmutableList.of(new FileRange(fileSize - 10, 20))))
+                        .isInstanceOf(IOException.class)
+                        .hasMessageContaining(tempBlob.location().toString());
+
                 // verify all the methods throw after close
                 trinoInput.close();
                 assertThatThrownBy(() -> trinoInput.readFully(0, 10))
@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.trino.filesystem.VectoredReads.MergedRange;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.trino.filesystem.VectoredReads.mergeRanges;
+import static java.lang.Math.toIntExact;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestVectoredReads
+{
+    private static final int MEGABYTE = 1024 * 1024;
+
+    @Test
+    public void testMergeRanges()
+    {
+        List<FileRange> ranges = ImmutableList.of(
+                new FileRange(10 * MEGABYTE, 100),
+                new FileRange(0, 100),
+                new FileRange(1000, 100),
+                new FileRange(50, 100),
+                new FileRange(200_000, 100));
+
+        assertThat(mergeRanges(ranges)).containsExactly(
+                // overlapping and nearby ranges are merged
+                new MergedRange(new FileRange(0, 1100), ImmutableList.of(1, 3, 2)),
+                new MergedRange(new FileRange(200_000, 100), ImmutableList.of(4)),
+                new MergedRange(new FileRange(10 * MEGABYTE, 100), ImmutableList.of(0)));
+    }
+
+    @Test
+    public void testMergedRangeSizeIsLimited()
+    {
+        List<FileRange> ranges = ImmutableList.of(
+                new FileRange(0, 3 * MEGABYTE),
+                new FileRange(3 * MEGABYTE, 2 * MEGABYTE),
+                new FileRange(5 * MEGABYTE, 100));
+
+        assertThat(mergeRanges(ranges)).containsExactly(
+                new MergedRange(new FileRange(0, 3 * MEGABYTE), ImmutableList.of(0)),
+                new MergedRange(new FileRange(3 * MEGABYTE, 2 * MEGABYTE + 100), ImmutableList.of(1, 2)));
+    }
+
+    @Test
+    public void testReadVectored()
+            throws IOException
+    {
+        Slice data = createData(MEGABYTE);
+        List<FileRange> reads = new ArrayList<>();
+        TrinoInput input = new SliceInput(data)
+        {
+            @Override
+            public Slice readFully(long position, int length)
+                    throws IOException
+            {
+                reads.add(new FileRange(position, length));
+                return super.readFully(position, length);
+            }
+        };
+
+        List<FileRange> ranges = ImmutableList.of(
+                new FileRange(500_000, 1000),
+                new FileRange(0, 100),
+                new FileRange(200, 300),
+                new FileRange(300, 10));
+        List<ListenableFuture<Slice>> futures = VectoredReads.readVectored(input, ranges, directExecutor());
+        List<Slice> slices = VectoredReads.getAll(futures);
+
+        assertThat(slices).hasSize(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            FileRange range = ranges.get(i);
+            assertThat(slices.get(i)).isEqualTo(data.slice((int) range.position(), range.length()));
+        }
+        assertThat(reads).containsExactlyInAnyOrder(
+                new FileRange(0, 500),
+                new FileRange(500_000, 1000));
+    }
+
+    @Test
+    public void testReadVectoredFailure()
+    {
+        TrinoInput input = new SliceInput(createData(1000));
+
+        List<FileRange> ranges = ImmutableList.of(new FileRange(0, 100), new FileRange(500_000, 100));
+        assertThatThrownBy(() -> VectoredReads.getAll(VectoredReads.readVectored(input, ranges, directExecutor())))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> input.readFully(ranges))
+                .isInstanceOf(EOFException.class);
+    }
+
+    private static class SliceInput
+            implements TrinoInput
+    {
+        private final Slice data;
+
+        public SliceInput(Slice data)
+        {
+            this.data = data;
+        }
+
+        @Override
+        public void readFully(long position, byte[] buffer, int bufferOffset, int bufferLength)
+                throws IOException
+        {
+            if (position + bufferLength > data.length()) {
+                throw new EOFException("Read past end of data");
+            }
+            data.getBytes(toIntExact(position), buffer, bufferOffset, bufferLength);
+        }
+
+        @Override
+        public int readTail(byte[] buffer, int bufferOffset, int bufferLength)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static Slice createData(int length)
+    {
+        Slice data = Slices.allocate(length);
+        for (int i = 0; i < length; i++) {
+            data.setByte(i, i);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache;
+
+import io.airlift.units.DataSize;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.TrinoInputFile;
+import io.trino.filesystem.cache.disk.DiskFileSystemCache;
+import io.trino.filesystem.cache.disk.DiskFileSystemCacheConfig;
+import io.trino.filesystem.memory.MemoryFileSystem;
+import io.trino.filesystem.memory.MemoryFileSystemCache;
+import io.trino.filesystem.memory.MemoryFileSystemCacheConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
+import static io.trino.jmh.Benchmarks.benchmark;
+import static java.lang.Math.toIntExact;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(iterations = 10, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkFileSystemCache
+{
+    private static final Location LOCATION = Location.of("memory:///benchmark");
+
+    @Param({"MEMORY", "DISK"})
+    public CacheType cacheType;
+
+    @Param({"4096", "65536", "1048576"})
+    public int readSize;
+
+    private final DataSize fileSize = DataSize.of(8, DataSize.Unit.MEGABYTE);
+    private Path cacheDirectory;
+    private TrinoFileSystemCache cache;
+    private TrinoInput input;
+    private byte[] buffer;
+
+    @Setup(Level.Trial)
+    public void setup()
+            throws IOException
+    {
+        MemoryFileSystem delegate = new MemoryFileSystem();
+        byte[] content = new byte[toIntExact(fileSize.toBytes())];
+        ThreadLocalRandom.current().nextBytes(content);
+        delegate.newOutputFile(LOCATION).createOrOverwrite(content);
+
+        cacheDirectory = Files.createTempDirectory("benchmark-cache");
+        cache = switch (cacheType) {
+            case MEMORY -> new MemoryFileSystemCache(new MemoryFileSystemCacheConfig()
+                    .setMaxSize(DataSize.of(64, DataSize.Unit.MEGABYTE))
+                    .setMaxContentLength(fileSize));
+            case DISK -> new DiskFileSystemCache(
+                    cacheDirectory,
+                    new DiskFileSystemCacheConfig().setMaxSize(DataSize.of(64, DataSize.Unit.MEGABYTE)),
+                    newDirectExecutorService());
+        };
+
+        TrinoInputFile inputFile = new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider()).newInputFile(LOCATION);
+        input = inputFile.newInput();
+        buffer = new byte[readSize];
+        // populate the cache
+        input.readFully(0, content.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+            throws IOException
+    {
+        input.close();
+        if (cache instanceof DiskFileSystemCache diskCache) {
+            diskCache.shutdown();
+        }
+        deleteRecursively(cacheDirectory, ALLOW_INSECURE);
+    }
+
+    @Benchmark
+    public byte[] randomRead()
+            throws IOException
+    {
+        long position = ThreadLocalRandom.current().nextLong(fileSize.toBytes() - readSize);
+        input.readFully(position, buffer, 0, readSize);
+        return buffer;
+    }
+
+    public enum CacheType
+    {
+        MEMORY,
+        DISK,
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        benchmark(BenchmarkFileSystemCache.class).run();
+    }
+}
@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import io.trino.client.NodeVersion;
 import io.trino.metadata.InternalNode;
+import io.trino.spi.HostAddress;
 import io.trino.spi.Node;
 import io.trino.testing.TestingNodeManager;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -81,6 +83,29 @@ public class TestConsistentHashingCacheHostAddressProvider
         assertMinimalRedistribution(addOne, addTwo);
     }
 
+    @Test
+    public void testPrimaryHostFirst()
+    {
+        TestingNodeManager nodeManager = new TestingNodeManager(true);
+        for (int i = 1; i <= 5; i++) {
+            nodeManager.addNode(node("test-" + i));
+        }
+        ConsistentHashingHostAddressProvider primaryProvider = new ConsistentHashingHostAddressProvider(
+                nodeManager,
+                new ConsistentHashingHostAddressProviderConfig().setPreferredHostsCount(1));
+        ConsistentHashingHostAddressProvider replicatedProvider = new ConsistentHashingHostAddressProvider(
+                nodeManager,
+                new ConsistentHashingHostAddressProviderConfig().setPreferredHostsCount(3));
+        primaryProvider.refreshHashRing();
+        replicatedProvider.refreshHashRing();
+
+        for (int i = 0; i < 100; i++) {
+            List<HostAddress> hosts = replicatedProvider.getHosts(String.valueOf(i), ImmutableList.of());
+            assertThat(hosts).hasSize(3).doesNotHaveDuplicates();
+            assertThat(hosts.getFirst()).isEqualTo(primaryProvider.getHosts(String.valueOf(i), ImmutableList.of()).getFirst());
+        }
+    }
+
     private static void assertFairDistribution(CachingHostAddressProvider cachingHostAddressProvider, Set<Node> nodeNames)
     {
         int n = 1000;
@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
+import io.trino.filesystem.AbstractTestTrinoFileSystem;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.filesystem.TrinoInput;
+import io.trino.filesystem.TrinoInputFile;
+import io.trino.filesystem.TrinoInputStream;
+import io.trino.filesystem.cache.CacheFileSystem;
+import io.trino.filesystem.cache.DefaultCacheKeyProvider;
+import io.trino.filesystem.memory.MemoryFileSystem;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
+import static io.airlift.slice.Slices.wrappedBuffer;
+import static io.trino.filesystem.cache.disk.DiskPageStore.DATA_FILE;
+import static java.lang.Math.toIntExact;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDiskFileSystemCache
+        extends AbstractTestTrinoFileSystem
+{
+    private static final int PAGE_SIZE = 1000;
+
+    private Path tempDirectory;
+    private MemoryFileSystem delegate;
+    private DiskFileSystemCache cache;
+    private CacheFileSystem fileSystem;
+
+    @BeforeAll
+    void beforeAll()
+            throws IOException
+    {
+        tempDirectory = Files.createTempDirectory("disk-cache");
+        delegate = new MemoryFileSystem();
+        cache = createCache(tempDirectory.resolve("shared"), DataSize.valueOf("100MB"));
+        fileSystem = new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider());
+    }
+
+    @AfterAll
+    void afterAll()
+            throws IOException
+    {
+        cache.shutdown();
+        deleteRecursively(tempDirectory, ALLOW_INSECURE);
+    }
+
+    @Override
+    protected boolean isHierarchical()
+    {
+        return false;
+    }
+
+    @Override
+    protected TrinoFileSystem getFileSystem()
+    {
+        return fileSystem;
+    }
+
+    @Override
+    protected Location getRootLocation()
+    {
+        return Location.of("memory://");
+    }
+
+    @Override
+    protected void verifyFileSystemIsEmpty()
+    {
+        assertThat(delegate.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testCacheHit()
+            throws IOException
+    {
+        Path directory = tempDirectory.resolve(UUID.randomUUID().toString());
+        Slice content = randomContent(3 * PAGE_SIZE + 500);
+        Location location = writeFile(content);
+        DiskFileSystemCache cache = createCache(directory, DataSize.valueOf("1MB"));
+        try {
+            CacheFileSystem fileSystem = new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider());
+            assertThat(readFully(fileSystem, location)).isEqualTo(content);
+            assertThat(cache.getStats().getExternalReadBytes()).isEqualTo(content.length());
+            assertThat(cache.getCachedPages()).isEqualTo(4);
+            assertThat(cache.getCachedBytes()).isEqualTo(content.length());
+
+            long hitCount = cache.getStats().getHitCount();
+            assertThat(readFully(fileSystem, location)).isEqualTo(content);
+            assertThat(cache.getStats().getHitCount()).isEqualTo(hitCount + 4);
+            assertThat(cache.getStats().getExternalReadBytes()).isEqualTo(content.length());
+
+            // ranges within and across pages are served from the cache
+            try (TrinoInput input = fileSystem.newInputFile(location).newInput()) {
+                assertThat(input.readFully(10, 20)).isEqualTo(content.slice(10, 20));
+                assertThat(input.readFully(PAGE_SIZE - 10, PAGE_SIZE + 20)).isEqualTo(content.slice(PAGE_SIZE - 10, PAGE_SIZE + 20));
+                assertThat(input.readTail(700)).isEqualTo(content.slice(content.length() - 700, 700));
+            }
+            try (TrinoInputStream stream = fileSystem.newInputFile(location).newStream()) {
+                stream.seek(2 * PAGE_SIZE + 1);
+                assertThat(stream.read()).isEqualTo(content.getUnsignedByte(2 * PAGE_SIZE + 1));
+                assertThat(wrappedBuffer(stream.readAllBytes())).isEqualTo(content.slice(2 * PAGE_SIZE + 2, content.length() - 2 * PAGE_SIZE - 2));
+            }
+            assertThat(cache.getStats().getExternalReadBytes()).isEqualTo(content.length());
+        }
+        finally {
+            cache.shutdown();
+            delegate.deleteFile(location);
+        }
+    }
+
+    @Test
+    public void testRestart()
+            throws IOException
+    {
+        Path directory = tempDirectory.resolve(UUID.randomUUID().toString());
+        Slice content = randomContent(5 * PAGE_SIZE);
+        Location location = writeFile(content);
+
+        DiskFileSystemCache cache = createCache(directory, DataSize.valueOf("1MB"));
+        assertThat(readFully(new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider()), location)).isEqualTo(content);
+        cache.shutdown();
+
+        // cached pages are recovered from the index
+        cache = createCache(directory, DataSize.valueOf("1MB"));
+        try {
+            assertThat(cache.getCachedPages()).isEqualTo(5);
+            assertThat(readFully(new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider()), location)).isEqualTo(content);
+            assertThat(cache.getStats().getExternalReadBytes()).isEqualTo(0);
+            assertThat(cache.getStats().getCorruptedPageCount()).isEqualTo(0);
+        }
+        finally {
+            cache.shutdown();
+        }
+
+        // pages that do not match their checksum are read from the file system again
+        try (FileChannel channel = FileChannel.open(directory.resolve(DATA_FILE), WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[PAGE_SIZE * 5]), 0);
+        }
+        cache = createCache(directory, DataSize.valueOf("1MB"));
+        try {
+            assertThat(readFully(new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider()), location)).isEqualTo(content);
+            assertThat(cache.getStats().getCorruptedPageCount()).isEqualTo(5);
+            assertThat(cache.getStats().getExternalReadBytes()).isEqualTo(content.length());
+        }
+        finally {
+            cache.shutdown();
+            delegate.deleteFile(location);
+        }
+    }
+
+    @Test
+    public void testSegmentedLruEviction()
+            throws IOException
+    {
+        Path directory = tempDirectory.resolve(UUID.randomUUID().toString());
+        Slice hotContent = randomContent(PAGE_SIZE);
+        Location hotLocation = writeFile(hotContent);
+        Slice scanContent = randomContent(8 * PAGE_SIZE);
+        Location scanLocation = writeFile(scanContent);
+        DiskFileSystemCache cache = createCache(directory, DataSize.ofBytes(4 * PAGE_SIZE));
+        try {
+            CacheFileSystem fileSystem = new CacheFileSystem(delegate, cache, new DefaultCacheKeyProvider());
+
+            // reading the page twice protects it from eviction
+            assertThat(readFully(fileSystem, hotLocation)).isEqualTo(hotContent);
+            assertThat(readFully(fileSystem, hotLocation)).isEqualTo(hotContent);
+
+            assertThat(readFully(fileSystem, scanLocation)).isEqualTo(scanContent);
+            assertThat(cache.getCachedPages()).isEqualTo(4);
+            assertThat(cache.getStats().getEvictionCount()).isEqualTo(5);
+
+            long externalReadBytes = cache.getStats().getExternalReadBytes();
+            assertThat(readFully(fileSystem, hotLocation)).isEqualTo(hotContent);
+            assertThat(cache.getStats().getExternalReadBytes()).isEqualTo(externalReadBytes);
+        }
+        finally {
+            cache.shutdown();
+            delegate.deleteFile(hotLocation);
+            delegate.deleteFile(scanLocation);
+        }
+    }
+
+    private static DiskFileSystemCache createCache(Path directory, DataSize maxSize)
+            throws IOException
+    {
+        DiskFileSystemCacheConfig config = new DiskFileSystemCacheConfig()
+                .setDirectory(directory.toString())
+                .setMaxSize(maxSize)
+                .setPageSize(DataSize.ofBytes(PAGE_SIZE));
+        return new DiskFileSystemCache(directory, config, newDirectExecutorService());
+    }
+
+    private Location writeFile(Slice content)
+            throws IOException
+    {
+        Location location = getRootLocation().appendPath("test-disk-cache-%s".formatted(UUID.randomUUID()));
+        delegate.newOutputFile(location).createOrOverwrite(content.getBytes());
+        return location;
+    }
+
+    private static Slice readFully(TrinoFileSystem fileSystem, Location location)
+            throws IOException
+    {
+        TrinoInputFile inputFile = fileSystem.newInputFile(location);
+        try (TrinoInput input = inputFile.newInput()) {
+            return input.readFully(0, toIntExact(inputFile.length()));
+        }
+    }
+
+    private static Slice randomContent(int length)
+    {
+        byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return wrappedBuffer(bytes);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.filesystem.cache.disk;
+
+import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
+import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
+import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
+import static io.airlift.units.DataSize.Unit.GIGABYTE;
+import static io.airlift.units.DataSize.Unit.KILOBYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+
+public class TestDiskFileSystemCacheConfig
+{
+    @Test
+    void testDefaults()
+    {
+        assertRecordedDefaults(recordDefaults(DiskFileSystemCacheConfig.class)
+                .setDirectory(null)
+                .setMaxSize(null)
+                .setPageSize(DataSize.of(1, MEGABYTE))
+                .setTtl(new Duration(7, DAYS))
+                .setFillThreads(4)
+                .setMaxPendingFillSize(DataSize.of(128, MEGABYTE)));
+    }
+
+    @Test
+    public void testExplicitPropertyMappings()
+    {
+        Map<String, String> properties = ImmutableMap.<String, String>builder()
+                .put("fs.disk-cache.directory", "/tmp/cache")
+                .put("fs.disk-cache.max-size", "100GB")
+                .put("fs.disk-cache.page-size", "256kB")
+                .put("fs.disk-cache.ttl", "8h")
+                .put("fs.disk-cache.fill-threads", "8")
+                .put("fs.disk-cache.max-pending-fill-size", "1GB")
+                .buildOrThrow();
+
+        DiskFileSystemCacheConfig expected = new DiskFileSystemCacheConfig()
+                .setDirectory("/tmp/cache")
+                .setMaxSize(DataSize.of(100, GIGABYTE))
+                .setPageSize(DataSize.of(256, KILOBYTE))
+                .setTtl(new Duration(8, HOURS))
+                .setFillThreads(8)
+                .setMaxPendingFillSize(DataSize.of(1, GIGABYTE));
+
+        assertFullMapping(properties, expected);
+    }
+}
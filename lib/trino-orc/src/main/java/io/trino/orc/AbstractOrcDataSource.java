@@ -13,6 +13,7 @@
  */
 package io.trino.orc;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
@@ -23,6 +24,7 @@ import io.trino.orc.stream.OrcDataReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -62,6 +64,23 @@ public abstract class AbstractOrcDataSource
     protected abstract void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
             throws IOException;
 
+    /**
+     * Reads several disk ranges at once. Data sources backed by remote storage should
+     * override this to fetch the ranges in parallel. This is only used when small ranges
+     * are not read lazily, as lazy reads load each merged range on first use.
+     */
+    protected List<Slice> readInternal(List<DiskRange> diskRanges)
+            throws IOException
+    {
+        ImmutableList.Builder<Slice> slices = ImmutableList.builderWithExpectedSize(diskRanges.size());
+        for (DiskRange diskRange : diskRanges) {
+            byte[] buffer = new byte[diskRange.getLength()];
+            readInternal(diskRange.getOffset(), buffer, 0, buffer.length);
+            slices.add(Slices.wrappedBuffer(buffer));
+        }
+        return slices.build();
+    }
+
     @Override
     public OrcDataSourceId getId()
     {
@@ -126,6 +145,21 @@ public abstract class AbstractOrcDataSource
         readBytes += bufferLength;
     }
 
+    private List<Slice> readFully(List<DiskRange> diskRanges)
+            throws IOException
+    {
+        long start = System.nanoTime();
+
+        List<Slice> slices = readInternal(diskRanges);
+
+        readTimeNanos += System.nanoTime() - start;
+        for (DiskRange diskRange : diskRanges) {
+            readBytes += diskRange.getLength();
+        }
+
+        return slices;
+    }
+
     @Override
     public final <K> Map<K, OrcDataReader> readFully(Map<K, DiskRange> diskRanges)
             throws IOException
@@ -170,7 +204,7 @@ public abstract class AbstractOrcDataSource
             return ImmutableMap.of();
         }
 
-        Iterable<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
+        List<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
 
         ImmutableMap.Builder<K, OrcDataReader> slices = ImmutableMap.builder();
         if (options.isLazyReadSmallRanges()) {
@@ -185,11 +219,11 @@ public abstract class AbstractOrcDataSource
             }
         }
         else {
+            // read all merged ranges at once, so the data source can fetch them in parallel
+            List<Slice> mergedBuffers = readFully(mergedRanges);
             Map<DiskRange, Slice> buffers = new LinkedHashMap<>();
-            for (DiskRange mergedRange : mergedRanges) {
-                // read full range in one request
-                Slice buffer = readFully(mergedRange.getOffset(), mergedRange.getLength());
-                buffers.put(mergedRange, buffer);
+            for (int i = 0; i < mergedRanges.size(); i++) {
+                buffers.put(mergedRanges.get(i), mergedBuffers.get(i));
             }
 
             for (Entry<K, DiskRange> entry : diskRanges.entrySet()) {
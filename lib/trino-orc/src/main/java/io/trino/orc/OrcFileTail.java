@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.SizeOf;
+import io.trino.orc.metadata.CompressionKind;
+import io.trino.orc.metadata.Footer;
+import io.trino.orc.metadata.Metadata;
+import io.trino.orc.metadata.PostScript.HiveWriterVersion;
+
+import java.util.List;
+
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parsed postscript, footer and metadata of an ORC file, independent of the data source it was read from.
+ */
+record OrcFileTail(
+        List<Integer> version,
+        HiveWriterVersion hiveWriterVersion,
+        int bufferSize,
+        CompressionKind compressionKind,
+        Footer footer,
+        Metadata metadata)
+{
+    private static final int INSTANCE_SIZE = instanceSize(OrcFileTail.class);
+
+    OrcFileTail
+    {
+        version = ImmutableList.copyOf(requireNonNull(version, "version is null"));
+        requireNonNull(hiveWriterVersion, "hiveWriterVersion is null");
+        requireNonNull(compressionKind, "compressionKind is null");
+        requireNonNull(footer, "footer is null");
+        requireNonNull(metadata, "metadata is null");
+    }
+
+    long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE + estimatedSizeOf(version, SizeOf::sizeOf) + footer.getRetainedSizeInBytes() + metadata.getRetainedSizeInBytes();
+    }
+}
@@ -34,6 +34,9 @@ import io.trino.orc.metadata.PostScript;
 import io.trino.orc.metadata.PostScript.HiveWriterVersion;
 import io.trino.orc.stream.OrcChunkLoader;
 import io.trino.orc.stream.OrcInputStream;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
+import io.trino.plugin.base.cache.FooterCache.CachedFile;
+import io.trino.plugin.base.cache.FooterCache.LoadedFooter;
 import io.trino.spi.Page;
 import io.trino.spi.type.Type;
 import org.joda.time.DateTimeZone;
@@ -92,13 +95,23 @@ public class OrcReader
     public static Optional<OrcReader> createOrcReader(OrcDataSource orcDataSource, OrcReaderOptions options)
             throws IOException
     {
-        return createOrcReader(orcDataSource, options, Optional.empty());
+        return createOrcReader(orcDataSource, options, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Creates a reader, using the footer cache when present. The cache view must be created for the same file as the data source.
+     */
+    public static Optional<OrcReader> createOrcReader(OrcDataSource orcDataSource, OrcReaderOptions options, Optional<CachedFile> footerCache)
+            throws IOException
+    {
+        return createOrcReader(orcDataSource, options, Optional.empty(), footerCache);
     }
 
     private static Optional<OrcReader> createOrcReader(
             OrcDataSource orcDataSource,
             OrcReaderOptions options,
-            Optional<OrcWriteValidation> writeValidation)
+            Optional<OrcWriteValidation> writeValidation,
+            Optional<CachedFile> footerCache)
             throws IOException
     {
         orcDataSource = wrapWithCacheIfTiny(orcDataSource, options.getTinyStripeThreshold());
@@ -109,28 +122,66 @@ public class OrcReader
             throw new OrcCorruptionException(orcDataSource.getId(), "Invalid file size %s", estimatedFileSize);
         }
 
-        long expectedReadSize = min(estimatedFileSize, EXPECTED_FOOTER_SIZE);
-        Slice fileTail = orcDataSource.readTail(toIntExact(expectedReadSize));
-        if (fileTail.length() == 0) {
-            return Optional.empty();
+        ExceptionWrappingMetadataReader metadataReader = new ExceptionWrappingMetadataReader(orcDataSource.getId(), new OrcMetadataReader(options));
+        OrcFileTail fileTail;
+        if (footerCache.isPresent() && writeValidation.isEmpty() && estimatedFileSize > 0) {
+            OrcDataSource dataSource = orcDataSource;
+            fileTail = footerCache.get().getFooter(OrcFileTail.class, () -> {
+                OrcFileTail tail = readFileTail(dataSource, metadataReader, dataSource.readTail(toIntExact(min(estimatedFileSize, EXPECTED_FOOTER_SIZE))));
+                return new LoadedFooter<>(tail, tail.getRetainedSizeInBytes());
+            });
+        }
+        else {
+            long expectedReadSize = min(estimatedFileSize, EXPECTED_FOOTER_SIZE);
+            Slice tail = orcDataSource.readTail(toIntExact(expectedReadSize));
+            if (tail.length() == 0) {
+                return Optional.empty();
+            }
+            fileTail = readFileTail(orcDataSource, metadataReader, tail);
         }
 
-        return Optional.of(new OrcReader(orcDataSource, options, writeValidation, fileTail));
+        return Optional.of(new OrcReader(orcDataSource, options, metadataReader, writeValidation, fileTail));
     }
 
     private OrcReader(
             OrcDataSource orcDataSource,
             OrcReaderOptions options,
+            ExceptionWrappingMetadataReader metadataReader,
             Optional<OrcWriteValidation> writeValidation,
-            Slice fileTail)
+            OrcFileTail fileTail)
             throws IOException
     {
         this.options = requireNonNull(options, "options is null");
         this.orcDataSource = orcDataSource;
-        this.metadataReader = new ExceptionWrappingMetadataReader(orcDataSource.getId(), new OrcMetadataReader(options));
+        this.metadataReader = requireNonNull(metadataReader, "metadataReader is null");
 
         this.writeValidation = requireNonNull(writeValidation, "writeValidation is null");
 
+        validateWrite(validation -> validation.getVersion().equals(fileTail.version()), "Unexpected version");
+
+        this.bufferSize = fileTail.bufferSize();
+        this.compressionKind = fileTail.compressionKind();
+        this.decompressor = createOrcDecompressor(orcDataSource.getId(), compressionKind, bufferSize);
+        validateWrite(validation -> validation.getCompression() == compressionKind, "Unexpected compression");
+
+        this.hiveWriterVersion = fileTail.hiveWriterVersion();
+        this.metadata = fileTail.metadata();
+        this.footer = fileTail.footer();
+
+        this.rootColumn = createOrcColumn("", "", new OrcColumnId(0), footer.getTypes(), orcDataSource.getId());
+
+        validateWrite(validation -> validation.getColumnNames().equals(getColumnNames()), "Unexpected column names");
+        validateWrite(validation -> validation.getRowGroupMaxRowCount() == footer.getRowsInRowGroup().orElse(0), "Unexpected rows in group");
+        if (writeValidation.isPresent()) {
+            writeValidation.get().validateMetadata(orcDataSource.getId(), footer.getUserMetadata());
+            writeValidation.get().validateFileStatistics(orcDataSource.getId(), footer.getFileStats());
+            writeValidation.get().validateStripeStatistics(orcDataSource.getId(), footer.getStripes(), metadata.getStripeStatsList());
+        }
+    }
+
+    private static OrcFileTail readFileTail(OrcDataSource orcDataSource, ExceptionWrappingMetadataReader metadataReader, Slice fileTail)
+            throws IOException
+    {
         //
         // Read the file tail:
         //
@@ -167,16 +218,14 @@ public class OrcReader
 
         // verify this is a supported version
         checkOrcVersion(orcDataSource, postScript.getVersion());
-        validateWrite(validation -> validation.getVersion().equals(postScript.getVersion()), "Unexpected version");
 
-        this.bufferSize = toIntExact(postScript.getCompressionBlockSize());
+        int bufferSize = toIntExact(postScript.getCompressionBlockSize());
 
         // check compression codec is supported
-        this.compressionKind = postScript.getCompression();
-        this.decompressor = createOrcDecompressor(orcDataSource.getId(), compressionKind, bufferSize);
-        validateWrite(validation -> validation.getCompression() == compressionKind, "Unexpected compression");
+        CompressionKind compressionKind = postScript.getCompression();
+        Optional<OrcDecompressor> decompressor = createOrcDecompressor(orcDataSource.getId(), compressionKind, bufferSize);
 
-        this.hiveWriterVersion = postScript.getHiveWriterVersion();
+        HiveWriterVersion hiveWriterVersion = postScript.getHiveWriterVersion();
 
         int footerSize = toIntExact(postScript.getFooterLength());
         int metadataSize = toIntExact(postScript.getMetadataLength());
@@ -194,29 +243,23 @@ public class OrcReader
         }
 
         // read metadata
+        Metadata metadata;
         Slice metadataSlice = completeFooterSlice.slice(0, metadataSize);
         try (InputStream metadataInputStream = new OrcInputStream(OrcChunkLoader.create(orcDataSource.getId(), metadataSlice, decompressor, newSimpleAggregatedMemoryContext()))) {
-            this.metadata = metadataReader.readMetadata(hiveWriterVersion, metadataInputStream);
+            metadata = metadataReader.readMetadata(hiveWriterVersion, metadataInputStream);
         }
 
         // read footer
+        Footer footer;
         Slice footerSlice = completeFooterSlice.slice(metadataSize, footerSize);
         try (InputStream footerInputStream = new OrcInputStream(OrcChunkLoader.create(orcDataSource.getId(), footerSlice, decompressor, newSimpleAggregatedMemoryContext()))) {
-            this.footer = metadataReader.readFooter(hiveWriterVersion, footerInputStream);
+            footer = metadataReader.readFooter(hiveWriterVersion, footerInputStream);
         }
         if (footer.getTypes().size() == 0) {
             throw new OrcCorruptionException(orcDataSource.getId(), "File has no columns");
         }
 
-        this.rootColumn = createOrcColumn("", "", new OrcColumnId(0), footer.getTypes(), orcDataSource.getId());
-
-        validateWrite(validation -> validation.getColumnNames().equals(getColumnNames()), "Unexpected column names");
-        validateWrite(validation -> validation.getRowGroupMaxRowCount() == footer.getRowsInRowGroup().orElse(0), "Unexpected rows in group");
-        if (writeValidation.isPresent()) {
-            writeValidation.get().validateMetadata(orcDataSource.getId(), footer.getUserMetadata());
-            writeValidation.get().validateFileStatistics(orcDataSource.getId(), footer.getFileStats());
-            writeValidation.get().validateStripeStatistics(orcDataSource.getId(), footer.getStripes(), metadata.getStripeStatsList());
-        }
+        return new OrcFileTail(postScript.getVersion(), hiveWriterVersion, bufferSize, compressionKind, footer, metadata);
     }
 
     public List<String> getColumnNames()
@@ -286,6 +329,39 @@ public class OrcReader
             Function<Exception, RuntimeException> exceptionTransform,
             FieldMapperFactory fieldMapperFactory)
             throws OrcCorruptionException
+    {
+        return createRecordReader(
+                readColumns,
+                readTypes,
+                readLayouts,
+                predicate,
+                offset,
+                length,
+                legacyFileTimeZone,
+                memoryUsage,
+                initialBatchSize,
+                exceptionTransform,
+                fieldMapperFactory,
+                Optional.empty());
+    }
+
+    /**
+     * Creates a record reader, using the decompressed chunk cache when present. The cache view must be created for the same file as the data source.
+     */
+    public OrcRecordReader createRecordReader(
+            List<OrcColumn> readColumns,
+            List<Type> readTypes,
+            List<ProjectedLayout> readLayouts,
+            OrcPredicate predicate,
+            long offset,
+            long length,
+            DateTimeZone legacyFileTimeZone,
+            AggregatedMemoryContext memoryUsage,
+            int initialBatchSize,
+            Function<Exception, RuntimeException> exceptionTransform,
+            FieldMapperFactory fieldMapperFactory,
+            Optional<FileChunkCache> chunkCache)
+            throws OrcCorruptionException
     {
         return new OrcRecordReader(
                 requireNonNull(readColumns, "readColumns is null"),
@@ -311,7 +387,8 @@ public class OrcReader
                 writeValidation,
                 initialBatchSize,
                 exceptionTransform,
-                fieldMapperFactory);
+                fieldMapperFactory,
+                requireNonNull(chunkCache, "chunkCache is null"));
     }
 
     private static OrcDataSource wrapWithCacheIfTiny(OrcDataSource dataSource, DataSize maxCacheSize)
@@ -411,7 +488,7 @@ public class OrcReader
             throws OrcCorruptionException
     {
         try {
-            OrcReader orcReader = createOrcReader(input, new OrcReaderOptions(), Optional.of(writeValidation))
+            OrcReader orcReader = createOrcReader(input, new OrcReaderOptions(), Optional.of(writeValidation), Optional.empty())
                     .orElseThrow(() -> new OrcCorruptionException(input.getId(), "File is empty"));
             try (OrcRecordReader orcRecordReader = orcReader.createRecordReader(
                     orcReader.getRootColumn().getNestedColumns(),
@@ -38,6 +38,7 @@ import io.trino.orc.metadata.statistics.ColumnStatistics;
 import io.trino.orc.metadata.statistics.StripeStatistics;
 import io.trino.orc.reader.ColumnReader;
 import io.trino.orc.stream.InputStreamSources;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
 import io.trino.spi.Page;
 import io.trino.spi.block.Block;
 import io.trino.spi.type.Type;
@@ -97,6 +98,7 @@ public class OrcRecordReader
 
     private final List<StripeInformation> stripes;
     private final StripeReader stripeReader;
+    private final Optional<FileChunkCache> chunkCache;
     private int currentStripe = -1;
     private AggregatedMemoryContext currentStripeMemoryContext;
 
@@ -149,7 +151,8 @@ public class OrcRecordReader
             Optional<OrcWriteValidation> writeValidation,
             int initialBatchSize,
             Function<Exception, RuntimeException> exceptionTransform,
-            FieldMapperFactory fieldMapperFactory)
+            FieldMapperFactory fieldMapperFactory,
+            Optional<FileChunkCache> chunkCache)
             throws OrcCorruptionException
     {
         requireNonNull(readColumns, "readColumns is null");
@@ -228,6 +231,7 @@ public class OrcRecordReader
 
         orcDataSource = wrapWithCacheIfTinyStripes(orcDataSource, this.stripes, options.getMaxMergeDistance(), options.getTinyStripeThreshold());
         this.orcDataSource = orcDataSource;
+        this.chunkCache = requireNonNull(chunkCache, "chunkCache is null");
         this.orcDataSourceMemoryUsage = memoryUsage.newLocalMemoryContext(OrcDataSource.class.getSimpleName());
         this.orcDataSourceMemoryUsage.setBytes(orcDataSource.getRetainedSize());
         this.splitLength = splitLength;
@@ -257,7 +261,8 @@ public class OrcRecordReader
                 predicate,
                 hiveWriterVersion,
                 metadataReader,
-                writeValidation);
+                writeValidation,
+                chunkCache);
 
         columnReaders = createColumnReaders(
                 readColumns,
@@ -353,6 +358,16 @@ public class OrcRecordReader
         return totalDataLength;
     }
 
+    public long getDecompressedChunkCacheHits()
+    {
+        return chunkCache.map(FileChunkCache::getHits).orElse(0L);
+    }
+
+    public long getDecompressedChunkCacheMisses()
+    {
+        return chunkCache.map(FileChunkCache::getMisses).orElse(0L);
+    }
+
     /**
      * Returns the sum of the largest cells in size from each column
      */
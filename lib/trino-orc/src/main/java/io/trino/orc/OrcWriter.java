@@ -42,6 +42,8 @@ import io.trino.orc.stream.OrcDataOutput;
 import io.trino.orc.stream.StreamDataOutput;
 import io.trino.orc.writer.ColumnWriter;
 import io.trino.orc.writer.SliceDictionaryColumnWriter;
+import io.trino.plugin.base.util.ParallelChannelWriter;
+import io.trino.plugin.base.util.ParallelChannelWriter.ChannelTask;
 import io.trino.spi.Page;
 import io.trino.spi.type.Type;
 import jakarta.annotation.Nullable;
@@ -57,6 +59,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -65,6 +68,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.airlift.slice.Slices.utf8Slice;
 import static io.trino.orc.OrcReader.validateFile;
@@ -111,6 +115,7 @@ public final class OrcWriter
     private final ColumnMetadata<OrcType> orcTypes;
 
     private final List<ColumnWriter> columnWriters;
+    private final ParallelChannelWriter parallelWriter;
     private final DictionaryCompressionOptimizer dictionaryCompressionOptimizer;
     private int stripeRowCount;
     private int rowGroupRowCount;
@@ -139,6 +144,22 @@ public final class OrcWriter
             boolean validate,
             OrcWriteValidationMode validationMode,
             OrcWriterStats stats)
+    {
+        this(orcDataSink, columnNames, types, orcTypes, compression, options, userMetadata, validate, validationMode, stats, directExecutor());
+    }
+
+    public OrcWriter(
+            OrcDataSink orcDataSink,
+            List<String> columnNames,
+            List<Type> types,
+            ColumnMetadata<OrcType> orcTypes,
+            CompressionKind compression,
+            OrcWriterOptions options,
+            Map<String, String> userMetadata,
+            boolean validate,
+            OrcWriteValidationMode validationMode,
+            OrcWriterStats stats,
+            Executor writerExecutor)
     {
         this.validationBuilder = validate ? new OrcWriteValidationBuilder(validationMode, types)
                 .setStringStatisticsLimitInBytes(toIntExact(options.getMaxStringStatisticsLimit().toBytes())) : null;
@@ -199,6 +220,7 @@ public final class OrcWriter
             }
         }
         this.columnWriters = columnWriters.build();
+        this.parallelWriter = new ParallelChannelWriter(types.size(), options.getWriterParallelism(), writerExecutor);
         this.dictionaryCompressionOptimizer = new DictionaryCompressionOptimizer(
                 sliceColumnWriters.build(),
                 stripeMinBytes,
@@ -290,10 +312,18 @@ public final class OrcWriter
 
         // write chunks
         bufferedBytes = 0;
-        for (int channel = 0; channel < chunk.getChannelCount(); channel++) {
-            ColumnWriter writer = columnWriters.get(channel);
-            writer.writeBlock(chunk.getBlock(channel));
-            bufferedBytes += writer.getBufferedBytes();
+        if (!parallelWriter.isParallel()) {
+            for (int channel = 0; channel < chunk.getChannelCount(); channel++) {
+                ColumnWriter writer = columnWriters.get(channel);
+                writer.writeBlock(chunk.getBlock(channel));
+                bufferedBytes += writer.getBufferedBytes();
+            }
+        }
+        else {
+            runInParallel(channel -> columnWriters.get(channel).writeBlock(chunk.getBlock(channel)), chunk.getSizeInBytes());
+            for (ColumnWriter writer : columnWriters) {
+                bufferedBytes += writer.getBufferedBytes();
+            }
         }
 
         // update stats
@@ -324,6 +354,34 @@ public final class OrcWriter
         columnWritersRetainedBytes = columnWriters.stream().mapToLong(ColumnWriter::getRetainedBytes).sum();
     }
 
+    private void closeColumnWriters()
+            throws IOException
+    {
+        if (!parallelWriter.isParallel()) {
+            columnWriters.forEach(ColumnWriter::close);
+            return;
+        }
+        // closing a column writer flushes and compresses the remaining buffered data of its streams
+        runInParallel(channel -> columnWriters.get(channel).close(), bufferedBytes);
+    }
+
+    /**
+     * Encodes and compresses the columns on the writer executor. The caller blocks until all
+     * the columns are processed, which bounds the memory used by the parallel write.
+     */
+    private void runInParallel(ChannelTask task, long inFlightBytes)
+            throws IOException
+    {
+        stats.recordParallelWriteStarted(inFlightBytes);
+        long start = System.nanoTime();
+        try {
+            parallelWriter.run(task);
+        }
+        finally {
+            stats.recordParallelWriteFinished(inFlightBytes, System.nanoTime() - start);
+        }
+    }
+
     private void finishRowGroup()
     {
         Map<OrcColumnId, ColumnStatistics> columnStatistics = new HashMap<>();
@@ -381,7 +439,7 @@ public final class OrcWriter
         // convert any dictionary encoded column with a low compression ratio to direct
         dictionaryCompressionOptimizer.finalOptimize(toIntExact(bufferedBytes));
 
-        columnWriters.forEach(ColumnWriter::close);
+        closeColumnWriters();
 
         List<OrcDataOutput> outputData = new ArrayList<>();
         List<Stream> allStreams = new ArrayList<>(columnWriters.size() * 3);
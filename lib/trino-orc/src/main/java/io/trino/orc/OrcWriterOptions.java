@@ -50,6 +50,7 @@ public class OrcWriterOptions
     private static final int DEFAULT_STRIPE_MAX_ROW_COUNT = 10_000_000;
     private static final int DEFAULT_ROW_GROUP_MAX_ROW_COUNT = 10_000;
     private static final DataSize DEFAULT_DICTIONARY_MAX_MEMORY = DataSize.of(16, MEGABYTE);
+    private static final int DEFAULT_WRITER_PARALLELISM = 1;
 
     private final WriterIdentification writerIdentification;
     private final DataSize stripeMinSize;
@@ -62,6 +63,7 @@ public class OrcWriterOptions
     private final Set<String> bloomFilterColumns;
     private final double bloomFilterFpp;
     private final boolean shouldCompactMinMax;
+    private final int writerParallelism;
 
     public OrcWriterOptions()
     {
@@ -76,7 +78,8 @@ public class OrcWriterOptions
                 DEFAULT_MAX_COMPRESSION_BUFFER_SIZE,
                 ImmutableSet.of(),
                 DEFAULT_BLOOM_FILTER_FPP,
-                true);
+                true,
+                DEFAULT_WRITER_PARALLELISM);
     }
 
     private OrcWriterOptions(
@@ -90,7 +93,8 @@ public class OrcWriterOptions
             DataSize maxCompressionBufferSize,
             Set<String> bloomFilterColumns,
             double bloomFilterFpp,
-            boolean shouldCompactMinMax)
+            boolean shouldCompactMinMax,
+            int writerParallelism)
     {
         requireNonNull(stripeMinSize, "stripeMinSize is null");
         requireNonNull(stripeMaxSize, "stripeMaxSize is null");
@@ -101,6 +105,7 @@ public class OrcWriterOptions
         requireNonNull(maxCompressionBufferSize, "maxCompressionBufferSize is null");
         requireNonNull(bloomFilterColumns, "bloomFilterColumns is null");
         checkArgument(bloomFilterFpp > 0.0 && bloomFilterFpp < 1.0, "bloomFilterFpp should be > 0.0 & < 1.0");
+        checkArgument(writerParallelism >= 1, "writerParallelism must be at least 1");
 
         this.writerIdentification = requireNonNull(writerIdentification, "writerIdentification is null");
         this.stripeMinSize = stripeMinSize;
@@ -113,6 +118,7 @@ public class OrcWriterOptions
         this.bloomFilterColumns = ImmutableSet.copyOf(bloomFilterColumns);
         this.bloomFilterFpp = bloomFilterFpp;
         this.shouldCompactMinMax = shouldCompactMinMax;
+        this.writerParallelism = writerParallelism;
     }
 
     public WriterIdentification getWriterIdentification()
@@ -247,6 +253,18 @@ public class OrcWriterOptions
                 .build();
     }
 
+    public int getWriterParallelism()
+    {
+        return writerParallelism;
+    }
+
+    public OrcWriterOptions withWriterParallelism(int writerParallelism)
+    {
+        return builderFrom(this)
+                .setWriterParallelism(writerParallelism)
+                .build();
+    }
+
     @Override
     public String toString()
     {
@@ -260,6 +278,7 @@ public class OrcWriterOptions
                 .add("maxCompressionBufferSize", maxCompressionBufferSize)
                 .add("bloomFilterColumns", bloomFilterColumns)
                 .add("bloomFilterFpp", bloomFilterFpp)
+                .add("writerParallelism", writerParallelism)
                 .toString();
     }
 
@@ -286,6 +305,7 @@ public class OrcWriterOptions
         private Set<String> bloomFilterColumns;
         private double bloomFilterFpp;
         private boolean shouldCompactMinMax;
+        private int writerParallelism;
 
         private Builder(OrcWriterOptions options)
         {
@@ -302,6 +322,7 @@ public class OrcWriterOptions
             this.bloomFilterColumns = ImmutableSet.copyOf(options.bloomFilterColumns);
             this.bloomFilterFpp = options.bloomFilterFpp;
             this.shouldCompactMinMax = options.shouldCompactMinMax;
+            this.writerParallelism = options.writerParallelism;
         }
 
         public Builder setWriterIdentification(WriterIdentification writerIdentification)
@@ -370,6 +391,12 @@ public class OrcWriterOptions
             return this;
         }
 
+        public Builder setWriterParallelism(int writerParallelism)
+        {
+            this.writerParallelism = writerParallelism;
+            return this;
+        }
+
         public OrcWriterOptions build()
         {
             return new OrcWriterOptions(
@@ -383,7 +410,8 @@ public class OrcWriterOptions
                     maxCompressionBufferSize,
                     bloomFilterColumns,
                     bloomFilterFpp,
-                    shouldCompactMinMax);
+                    shouldCompactMinMax,
+                    writerParallelism);
         }
     }
 }
@@ -13,6 +13,7 @@
  */
 package io.trino.orc;
 
+import io.airlift.stats.DistributionStat;
 import org.weakref.jmx.Managed;
 import org.weakref.jmx.Nested;
 
@@ -37,6 +38,8 @@ public class OrcWriterStats
     private final OrcWriterFlushStats dictionaryFullFlush = new OrcWriterFlushStats(DICTIONARY_FULL.name());
     private final OrcWriterFlushStats closedFlush = new OrcWriterFlushStats(CLOSED.name());
     private final AtomicLong writerSizeInBytes = new AtomicLong();
+    private final AtomicLong parallelWriteBufferedBytes = new AtomicLong();
+    private final DistributionStat parallelWriteWaitNanos = new DistributionStat();
 
     public void recordStripeWritten(FlushReason flushReason, long stripeBytes, int stripeRows, int dictionaryBytes)
     {
@@ -49,6 +52,17 @@ public class OrcWriterStats
         writerSizeInBytes.addAndGet(deltaInBytes);
     }
 
+    public void recordParallelWriteStarted(long chunkBytes)
+    {
+        parallelWriteBufferedBytes.addAndGet(chunkBytes);
+    }
+
+    public void recordParallelWriteFinished(long chunkBytes, long waitNanos)
+    {
+        parallelWriteBufferedBytes.addAndGet(-chunkBytes);
+        parallelWriteWaitNanos.add(waitNanos);
+    }
+
     @Managed
     @Nested
     public OrcWriterFlushStats getAllFlush()
@@ -90,6 +104,19 @@ public class OrcWriterStats
         return writerSizeInBytes.get();
     }
 
+    @Managed
+    public long getParallelWriteBufferedBytes()
+    {
+        return parallelWriteBufferedBytes.get();
+    }
+
+    @Managed
+    @Nested
+    public DistributionStat getParallelWriteWaitNanos()
+    {
+        return parallelWriteWaitNanos;
+    }
+
     private OrcWriterFlushStats getFlushStats(FlushReason flushReason)
     {
         return switch (flushReason) {
@@ -110,6 +137,8 @@ public class OrcWriterStats
                 .add("dictionaryFullFlush", dictionaryFullFlush)
                 .add("closedFlush", closedFlush)
                 .add("writerSizeInBytes", writerSizeInBytes.get())
+                .add("parallelWriteBufferedBytes", parallelWriteBufferedBytes.get())
+                .add("parallelWriteWaitNanos", parallelWriteWaitNanos)
                 .toString();
     }
 }
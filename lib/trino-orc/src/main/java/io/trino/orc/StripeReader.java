@@ -44,6 +44,7 @@ import io.trino.orc.stream.OrcInputStream;
 import io.trino.orc.stream.ValueInputStream;
 import io.trino.orc.stream.ValueInputStreamSource;
 import io.trino.orc.stream.ValueStreams;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -88,6 +89,7 @@ public class StripeReader
     private final OrcPredicate predicate;
     private final MetadataReader metadataReader;
     private final Optional<OrcWriteValidation> writeValidation;
+    private final Optional<FileChunkCache> chunkCache;
 
     public StripeReader(
             OrcDataSource orcDataSource,
@@ -99,7 +101,8 @@ public class StripeReader
             OrcPredicate predicate,
             HiveWriterVersion hiveWriterVersion,
             MetadataReader metadataReader,
-            Optional<OrcWriteValidation> writeValidation)
+            Optional<OrcWriteValidation> writeValidation,
+            Optional<FileChunkCache> chunkCache)
     {
         this.orcDataSource = requireNonNull(orcDataSource, "orcDataSource is null");
         this.legacyFileTimeZone = requireNonNull(legacyFileTimeZone, "legacyFileTimeZone is null");
@@ -111,6 +114,7 @@ public class StripeReader
         this.hiveWriterVersion = requireNonNull(hiveWriterVersion, "hiveWriterVersion is null");
         this.metadataReader = requireNonNull(metadataReader, "metadataReader is null");
         this.writeValidation = requireNonNull(writeValidation, "writeValidation is null");
+        this.chunkCache = requireNonNull(chunkCache, "chunkCache is null");
     }
 
     public Stripe readStripe(StripeInformation stripe, AggregatedMemoryContext memoryUsage)
@@ -273,7 +277,8 @@ public class StripeReader
         // transform streams to OrcInputStream
         ImmutableMap.Builder<StreamId, OrcChunkLoader> dataBuilder = ImmutableMap.builder();
         for (Entry<StreamId, OrcDataReader> entry : streamsData.entrySet()) {
-            dataBuilder.put(entry.getKey(), OrcChunkLoader.create(entry.getValue(), decompressor, memoryUsage));
+            long streamOffset = diskRanges.get(entry.getKey()).getOffset();
+            dataBuilder.put(entry.getKey(), OrcChunkLoader.create(entry.getValue(), decompressor, chunkCache, streamOffset, memoryUsage));
         }
         return dataBuilder.buildOrThrow();
     }
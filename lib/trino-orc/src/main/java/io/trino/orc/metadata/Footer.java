@@ -15,6 +15,7 @@ package io.trino.orc.metadata;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import io.airlift.slice.SizeOf;
 import io.airlift.slice.Slice;
 import io.trino.orc.metadata.statistics.ColumnStatistics;
 
@@ -26,10 +27,16 @@ import java.util.OptionalInt;
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Maps.transformValues;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
 import static java.util.Objects.requireNonNull;
 
 public class Footer
 {
+    private static final int INSTANCE_SIZE = instanceSize(Footer.class);
+    private static final int OPTIONAL_INT_INSTANCE_SIZE = instanceSize(OptionalInt.class);
+
     private final long numberOfRows;
     private final OptionalInt rowsInRowGroup;
     private final List<StripeInformation> stripes;
@@ -93,6 +100,17 @@ public class Footer
         return writerId;
     }
 
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE +
+                OPTIONAL_INT_INSTANCE_SIZE +
+                estimatedSizeOf(stripes, StripeInformation::getRetainedSizeInBytes) +
+                types.stream().mapToLong(OrcType::getRetainedSizeInBytes).sum() +
+                sizeOf(fileStats, stats -> stats.stream().mapToLong(ColumnStatistics::getRetainedSizeInBytes).sum()) +
+                estimatedSizeOf(userMetadata, SizeOf::estimatedSizeOf, Slice::getRetainedSize) +
+                sizeOf(writerId, SizeOf::sizeOf);
+    }
+
     @Override
     public String toString()
     {
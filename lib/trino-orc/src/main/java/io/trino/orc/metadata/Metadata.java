@@ -18,8 +18,14 @@ import io.trino.orc.metadata.statistics.StripeStatistics;
 import java.util.List;
 import java.util.Optional;
 
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
+
 public class Metadata
 {
+    private static final int INSTANCE_SIZE = instanceSize(Metadata.class);
+
     private final List<Optional<StripeStatistics>> stripeStatistics;
 
     public Metadata(List<Optional<StripeStatistics>> stripeStatistics)
@@ -31,4 +37,9 @@ public class Metadata
     {
         return stripeStatistics;
     }
+
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE + estimatedSizeOf(stripeStatistics, statistics -> sizeOf(statistics, StripeStatistics::getRetainedSizeInBytes));
+    }
 }
@@ -15,6 +15,7 @@ package io.trino.orc.metadata;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import io.airlift.slice.SizeOf;
 import io.trino.spi.TrinoException;
 import io.trino.spi.type.ArrayType;
 import io.trino.spi.type.CharType;
@@ -33,6 +34,9 @@ import java.util.function.Function;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.BooleanType.BOOLEAN;
@@ -83,6 +87,9 @@ public class OrcType
         UNION,
     }
 
+    private static final int INSTANCE_SIZE = instanceSize(OrcType.class);
+    private static final int COLUMN_ID_INSTANCE_SIZE = instanceSize(OrcColumnId.class);
+
     private final OrcTypeKind orcTypeKind;
     private final List<OrcColumnId> fieldTypeIndexes;
     private final List<String> fieldNames;
@@ -178,6 +185,17 @@ public class OrcType
         return attributes;
     }
 
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE +
+                estimatedSizeOf(fieldTypeIndexes, _ -> COLUMN_ID_INSTANCE_SIZE) +
+                (fieldNames == null ? 0 : estimatedSizeOf(fieldNames, SizeOf::estimatedSizeOf)) +
+                sizeOf(length, SizeOf::sizeOf) +
+                sizeOf(precision, SizeOf::sizeOf) +
+                sizeOf(scale, SizeOf::sizeOf) +
+                estimatedSizeOf(attributes, SizeOf::estimatedSizeOf, SizeOf::estimatedSizeOf);
+    }
+
     @Override
     public String toString()
     {
@@ -15,9 +15,12 @@ package io.trino.orc.metadata;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.instanceSize;
 
 public class StripeInformation
 {
+    private static final int INSTANCE_SIZE = instanceSize(StripeInformation.class);
+
     private final int numberOfRows;
     private final long offset;
     private final long indexLength;
@@ -66,6 +69,11 @@ public class StripeInformation
         return indexLength + dataLength + footerLength;
     }
 
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE;
+    }
+
     @Override
     public String toString()
     {
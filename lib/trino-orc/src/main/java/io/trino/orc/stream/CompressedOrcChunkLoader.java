@@ -22,9 +22,12 @@ import io.trino.orc.OrcCorruptionException;
 import io.trino.orc.OrcDataSourceId;
 import io.trino.orc.OrcDecompressor;
 import io.trino.orc.OrcDecompressor.OutputBuffer;
+import io.trino.plugin.base.cache.DecompressedChunkCache.Chunk;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Optional;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static io.airlift.slice.Slices.EMPTY_SLICE;
@@ -41,6 +44,9 @@ public final class CompressedOrcChunkLoader
     private final LocalMemoryContext dataReaderMemoryUsage;
     private final OrcDecompressor decompressor;
     private final LocalMemoryContext decompressionBufferMemoryUsage;
+    private final Optional<FileChunkCache> chunkCache;
+    // offset of the stream in the file, used as the cache key base
+    private final long streamOffset;
 
     private FixedLengthSliceInput compressedBufferStream = EMPTY_SLICE.getInput();
     private int compressedBufferStart;
@@ -53,9 +59,21 @@ public final class CompressedOrcChunkLoader
             OrcDataReader dataReader,
             OrcDecompressor decompressor,
             AggregatedMemoryContext memoryContext)
+    {
+        this(dataReader, decompressor, Optional.empty(), 0, memoryContext);
+    }
+
+    public CompressedOrcChunkLoader(
+            OrcDataReader dataReader,
+            OrcDecompressor decompressor,
+            Optional<FileChunkCache> chunkCache,
+            long streamOffset,
+            AggregatedMemoryContext memoryContext)
     {
         this.dataReader = requireNonNull(dataReader, "dataReader is null");
         this.decompressor = requireNonNull(decompressor, "decompressor is null");
+        this.chunkCache = requireNonNull(chunkCache, "chunkCache is null");
+        this.streamOffset = streamOffset;
         requireNonNull(memoryContext, "memoryContext is null");
         this.dataReaderMemoryUsage = memoryContext.newLocalMemoryContext(CompressedOrcChunkLoader.class.getSimpleName());
         dataReaderMemoryUsage.setBytes(dataReader.getRetainedSize());
@@ -109,11 +127,54 @@ public final class CompressedOrcChunkLoader
     @Override
     public Slice nextChunk()
             throws IOException
+    {
+        int compressedOffset = getCurrentCompressedOffset();
+        lastCheckpoint = createInputStreamCheckpoint(compressedOffset, nextUncompressedOffset);
+        Slice chunk;
+        if (chunkCache.isPresent()) {
+            chunk = readCachedChunk(chunkCache.get(), compressedOffset);
+        }
+        else {
+            chunk = readChunk();
+        }
+        if (nextUncompressedOffset != 0) {
+            chunk = chunk.slice(nextUncompressedOffset, chunk.length() - nextUncompressedOffset);
+            nextUncompressedOffset = 0;
+            // if we positioned to the end of the chunk, read the next one
+            if (chunk.length() == 0) {
+                chunk = nextChunk();
+            }
+        }
+        return chunk;
+    }
+
+    private Slice readCachedChunk(FileChunkCache chunkCache, int compressedOffset)
+            throws IOException
+    {
+        Chunk chunk = chunkCache.get(streamOffset + compressedOffset, () -> {
+            // the decompression buffer is reused for the next chunk, so the cached data must be a copy
+            Slice data = Slices.copyOf(readChunk());
+            return new Chunk(data, getCurrentCompressedOffset() - compressedOffset);
+        });
+
+        // on a cache hit the compressed data is skipped without being read
+        int nextCompressedOffset = compressedOffset + chunk.storedSize();
+        if (compressedBufferStart <= nextCompressedOffset && nextCompressedOffset <= compressedBufferStart + compressedBufferStream.length()) {
+            compressedBufferStream.setPosition(nextCompressedOffset - compressedBufferStart);
+        }
+        else {
+            compressedBufferStart = nextCompressedOffset;
+            compressedBufferStream = EMPTY_SLICE.getInput();
+        }
+        return chunk.data();
+    }
+
+    private Slice readChunk()
+            throws IOException
     {
         // 3 byte header
         // NOTE: this must match BLOCK_HEADER_SIZE
         ensureCompressedBytesAvailable(3);
-        lastCheckpoint = createInputStreamCheckpoint(getCurrentCompressedOffset(), nextUncompressedOffset);
         int b0 = compressedBufferStream.readUnsignedByte();
         int b1 = compressedBufferStream.readUnsignedByte();
         int b2 = compressedBufferStream.readUnsignedByte();
@@ -132,14 +193,6 @@ public final class CompressedOrcChunkLoader
                     createOutputBuffer());
             chunk = Slices.wrappedBuffer(decompressorOutputBuffer, 0, uncompressedSize);
         }
-        if (nextUncompressedOffset != 0) {
-            chunk = chunk.slice(nextUncompressedOffset, chunk.length() - nextUncompressedOffset);
-            nextUncompressedOffset = 0;
-            // if we positioned to the end of the chunk, read the next one
-            if (chunk.length() == 0) {
-                chunk = nextChunk();
-            }
-        }
         return chunk;
     }
 
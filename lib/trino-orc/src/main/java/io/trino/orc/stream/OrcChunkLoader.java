@@ -17,6 +17,7 @@ import io.airlift.slice.Slice;
 import io.trino.memory.context.AggregatedMemoryContext;
 import io.trino.orc.OrcDataSourceId;
 import io.trino.orc.OrcDecompressor;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -38,13 +39,25 @@ public interface OrcChunkLoader
             OrcDataReader dataReader,
             Optional<OrcDecompressor> decompressor,
             AggregatedMemoryContext memoryContext)
+    {
+        return create(dataReader, decompressor, Optional.empty(), 0, memoryContext);
+    }
+
+    static OrcChunkLoader create(
+            OrcDataReader dataReader,
+            Optional<OrcDecompressor> decompressor,
+            Optional<FileChunkCache> chunkCache,
+            long streamOffset,
+            AggregatedMemoryContext memoryContext)
     {
         requireNonNull(dataReader, "dataReader is null");
         requireNonNull(decompressor, "decompressor is null");
+        requireNonNull(chunkCache, "chunkCache is null");
         requireNonNull(memoryContext, "memoryContext is null");
 
         if (decompressor.isPresent()) {
-            return new CompressedOrcChunkLoader(dataReader, decompressor.get(), memoryContext);
+            // only decompression is worth caching, uncompressed streams are served from the read buffers directly
+            return new CompressedOrcChunkLoader(dataReader, decompressor.get(), chunkCache, streamOffset, memoryContext);
         }
         return new UncompressedOrcChunkLoader(dataReader, memoryContext);
     }
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.units.DataSize;
+import io.trino.plugin.base.cache.DecompressedChunkCache;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.orc.OrcReader.INITIAL_BATCH_SIZE;
+import static io.trino.orc.OrcReader.fullyProjectedLayout;
+import static io.trino.orc.OrcTester.Format.ORC_12;
+import static io.trino.orc.OrcTester.HIVE_STORAGE_TIME_ZONE;
+import static io.trino.orc.OrcTester.READER_OPTIONS;
+import static io.trino.orc.OrcTester.writeOrcColumnHive;
+import static io.trino.orc.metadata.CompressionKind.ZLIB;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestOrcDecompressedChunkCache
+{
+    @Test
+    public void testRepeatedReadIsServedFromCache()
+            throws Exception
+    {
+        List<Long> values = LongStream.range(0, 50_000).map(value -> value % 777).boxed().collect(toImmutableList());
+        DecompressedChunkCache cache = new DecompressedChunkCache(DataSize.of(16, MEGABYTE));
+
+        try (TempFile tempFile = new TempFile()) {
+            writeOrcColumnHive(tempFile.getFile(), ORC_12, ZLIB, BIGINT, values.iterator());
+            String location = tempFile.getFile().getPath();
+            long length = tempFile.getFile().length();
+
+            try (OrcRecordReader recordReader = createRecordReader(tempFile, Optional.of(cache.forFile(location, length, 1)))) {
+                assertThat(readValues(recordReader)).isEqualTo(values);
+                assertThat(recordReader.getDecompressedChunkCacheMisses()).isGreaterThan(0);
+            }
+
+            try (OrcRecordReader recordReader = createRecordReader(tempFile, Optional.of(cache.forFile(location, length, 1)))) {
+                assertThat(readValues(recordReader)).isEqualTo(values);
+                assertThat(recordReader.getDecompressedChunkCacheHits()).isGreaterThan(0);
+                assertThat(recordReader.getDecompressedChunkCacheMisses()).isEqualTo(0);
+            }
+
+            // a file rewritten with the same length has a different modification time
+            try (OrcRecordReader recordReader = createRecordReader(tempFile, Optional.of(cache.forFile(location, length, 2)))) {
+                assertThat(readValues(recordReader)).isEqualTo(values);
+                assertThat(recordReader.getDecompressedChunkCacheHits()).isEqualTo(0);
+                assertThat(recordReader.getDecompressedChunkCacheMisses()).isGreaterThan(0);
+            }
+
+            // without the cache the reader behaves as before
+            try (OrcRecordReader recordReader = createRecordReader(tempFile, Optional.empty())) {
+                assertThat(readValues(recordReader)).isEqualTo(values);
+                assertThat(recordReader.getDecompressedChunkCacheHits()).isEqualTo(0);
+                assertThat(recordReader.getDecompressedChunkCacheMisses()).isEqualTo(0);
+            }
+        }
+    }
+
+    private static OrcRecordReader createRecordReader(TempFile tempFile, Optional<FileChunkCache> chunkCache)
+            throws IOException
+    {
+        OrcDataSource orcDataSource = new FileOrcDataSource(tempFile.getFile(), READER_OPTIONS);
+        OrcReader orcReader = OrcReader.createOrcReader(orcDataSource, READER_OPTIONS)
+                .orElseThrow(() -> new RuntimeException("File is empty"));
+        return orcReader.createRecordReader(
+                orcReader.getRootColumn().getNestedColumns(),
+                ImmutableList.of(BIGINT),
+                ImmutableList.of(fullyProjectedLayout()),
+                OrcPredicate.TRUE,
+                0,
+                orcDataSource.getEstimatedSize(),
+                HIVE_STORAGE_TIME_ZONE,
+                newSimpleAggregatedMemoryContext(),
+                INITIAL_BATCH_SIZE,
+                RuntimeException::new,
+                NameBasedFieldMapper::create,
+                chunkCache);
+    }
+
+    private static List<Long> readValues(OrcRecordReader recordReader)
+            throws IOException
+    {
+        ImmutableList.Builder<Long> values = ImmutableList.builder();
+        for (Page page = recordReader.nextPage(); page != null; page = recordReader.nextPage()) {
+            Block block = page.getBlock(0).getLoadedBlock();
+            for (int position = 0; position < block.getPositionCount(); position++) {
+                values.add(BIGINT.getLong(block, position));
+            }
+        }
+        return values.build();
+    }
+}
@@ -40,6 +40,7 @@ import java.io.InputStream;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
@@ -48,9 +49,11 @@ import static io.trino.orc.StripeReader.isIndexStream;
 import static io.trino.orc.TestingOrcPredicate.ORC_ROW_GROUP_SIZE;
 import static io.trino.orc.TestingOrcPredicate.ORC_STRIPE_SIZE;
 import static io.trino.orc.metadata.CompressionKind.NONE;
+import static io.trino.orc.metadata.CompressionKind.ZSTD;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.Math.toIntExact;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class TestOrcWriter
@@ -78,6 +81,62 @@ public class TestOrcWriter
         testWriteOutput(columnNameBuilder.build(), data);
     }
 
+    @Test
+    public void testParallelWrite()
+            throws IOException
+    {
+        int columnCount = 50;
+        ImmutableList.Builder<String> columnNames = ImmutableList.builder();
+        ImmutableList.Builder<Type> types = ImmutableList.builder();
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add("column_" + i);
+            types.add(VARCHAR);
+        }
+
+        ExecutorService executor = newFixedThreadPool(4);
+        try (TempFile tempFile = new TempFile()) {
+            OrcWriterStats stats = new OrcWriterStats();
+            OrcWriter writer = new OrcWriter(
+                    OutputStreamOrcDataSink.create(new LocalOutputFile(tempFile.getFile())),
+                    columnNames.build(),
+                    types.build(),
+                    OrcType.createRootOrcType(columnNames.build(), types.build()),
+                    ZSTD,
+                    new OrcWriterOptions()
+                            .withStripeMaxRowCount(ORC_STRIPE_SIZE)
+                            .withRowGroupMaxRowCount(ORC_ROW_GROUP_SIZE)
+                            .withWriterParallelism(4),
+                    ImmutableMap.of(),
+                    true,
+                    OrcWriteValidationMode.BOTH,
+                    stats,
+                    executor);
+
+            int entries = 10_000;
+            for (int page = 0; page < 5; page++) {
+                Block[] blocks = new Block[columnCount];
+                for (int column = 0; column < columnCount; column++) {
+                    VariableWidthBlockBuilder blockBuilder = VARCHAR.createBlockBuilder(null, entries);
+                    for (int position = 0; position < entries; position++) {
+                        blockBuilder.writeEntry(Slices.utf8Slice("value_" + column + "_" + (position % (column + 1))));
+                    }
+                    blocks[column] = blockBuilder.build();
+                }
+                writer.write(new Page(blocks));
+            }
+            writer.close();
+
+            // validation re-reads the whole file and compares it with the data written
+            writer.validate(new FileOrcDataSource(tempFile.getFile(), READER_OPTIONS));
+            assertThat(writer.getFileRowCount()).isEqualTo(5L * entries);
+            assertThat(stats.getParallelWriteBufferedBytes()).isEqualTo(0);
+            assertThat(stats.getParallelWriteWaitNanos().getAllTime().getCount()).isGreaterThan(0);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void testWriteOutput(List<String> columnNames, String[] data)
             throws IOException
     {
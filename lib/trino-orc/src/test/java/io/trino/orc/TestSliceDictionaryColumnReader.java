@@ -72,6 +72,7 @@ public class TestSliceDictionaryColumnReader
                 OrcPredicate.TRUE,
                 ORIGINAL,
                 new OrcMetadataReader(new OrcReaderOptions()),
+                Optional.empty(),
                 Optional.empty());
         AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
         SliceDictionaryColumnReader columnReader = new SliceDictionaryColumnReader(columns.get(0), memoryContext.newLocalMemoryContext(TestSliceDictionaryColumnReader.class.getSimpleName()), -1, false);
@@ -35,6 +35,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
@@ -67,6 +68,33 @@ public abstract class AbstractParquetDataSource
     protected abstract void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
             throws IOException;
 
+    /**
+     * When a merged range is first read, the following unread merged ranges of the same
+     * read plan are fetched together with it, up to this total size. Zero, the default,
+     * reads each merged range only when it is needed. Data sources backed by remote storage
+     * should return {@link ParquetReaderOptions#getMaxReadAheadSize()}.
+     */
+    protected DataSize getMaxReadAheadSize()
+    {
+        return DataSize.ofBytes(0);
+    }
+
+    /**
+     * Reads several disk ranges at once. Data sources backed by remote storage should
+     * override this to fetch the ranges in parallel.
+     */
+    protected List<Slice> readInternal(List<DiskRange> diskRanges)
+            throws IOException
+    {
+        ImmutableList.Builder<Slice> slices = ImmutableList.builderWithExpectedSize(diskRanges.size());
+        for (DiskRange diskRange : diskRanges) {
+            byte[] buffer = new byte[toIntExact(diskRange.getLength())];
+            readInternal(diskRange.getOffset(), buffer, 0, buffer.length);
+            slices.add(Slices.wrappedBuffer(buffer));
+        }
+        return slices.build();
+    }
+
     @Override
     public ParquetDataSourceId getId()
     {
@@ -125,6 +153,21 @@ public abstract class AbstractParquetDataSource
         readBytes += bufferLength;
     }
 
+    private List<Slice> readFully(List<DiskRange> diskRanges)
+            throws IOException
+    {
+        long start = System.nanoTime();
+
+        List<Slice> slices = readInternal(diskRanges);
+
+        readTimeNanos += System.nanoTime() - start;
+        for (DiskRange diskRange : diskRanges) {
+            readBytes += diskRange.getLength();
+        }
+
+        return slices;
+    }
+
     @Override
     public final <K> Map<K, ChunkedInputStream> planRead(ListMultimap<K, DiskRange> diskRanges, AggregatedMemoryContext memoryContext)
     {
@@ -199,11 +242,17 @@ public abstract class AbstractParquetDataSource
             return ImmutableListMultimap.of();
         }
 
-        Iterable<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
+        List<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
 
         ImmutableListMultimap.Builder<K, ChunkReader> slices = ImmutableListMultimap.builder();
+        List<ReferenceCountedReader> mergedRangeLoaders = new ArrayList<>(mergedRanges.size());
+        long maxReadAheadSize = getMaxReadAheadSize().toBytes();
         for (DiskRange mergedRange : mergedRanges) {
             ReferenceCountedReader mergedRangeLoader = new ReferenceCountedReader(mergedRange, memoryContext);
+            if (maxReadAheadSize > 0) {
+                mergedRangeLoader.setReadAhead(mergedRangeLoaders, mergedRangeLoaders.size(), maxReadAheadSize);
+                mergedRangeLoaders.add(mergedRangeLoader);
+            }
 
             for (Map.Entry<K, DiskRange> diskRangeEntry : diskRanges.entries()) {
                 DiskRange diskRange = diskRangeEntry.getValue();
@@ -300,6 +349,10 @@ public abstract class AbstractParquetDataSource
         private final LocalMemoryContext readerMemoryUsage;
         private Slice data;
         private int referenceCount = 1;
+        // merged ranges of the same plan in offset order, for reading ahead
+        private List<ReferenceCountedReader> readAheadReaders = ImmutableList.of();
+        private int readAheadPosition;
+        private long maxReadAheadSize;
 
         public ReferenceCountedReader(DiskRange range, AggregatedMemoryContext memoryContext)
         {
@@ -308,6 +361,13 @@ public abstract class AbstractParquetDataSource
             this.readerMemoryUsage = memoryContext.newLocalMemoryContext(ReferenceCountedReader.class.getSimpleName());
         }
 
+        public void setReadAhead(List<ReferenceCountedReader> readers, int position, long maxReadAheadSize)
+        {
+            this.readAheadReaders = requireNonNull(readers, "readers is null");
+            this.readAheadPosition = position;
+            this.maxReadAheadSize = maxReadAheadSize;
+        }
+
         public void addReference()
         {
             checkState(referenceCount > 0, "Chunk reader is already closed");
@@ -327,15 +387,46 @@ public abstract class AbstractParquetDataSource
             checkState(referenceCount > 0, "Chunk reader is already closed");
 
             if (data == null) {
-                byte[] buffer = new byte[toIntExact(range.getLength())];
-                readerMemoryUsage.setBytes(buffer.length);
-                readFully(range.getOffset(), buffer, 0, buffer.length);
-                data = Slices.wrappedBuffer(buffer);
+                List<ReferenceCountedReader> readers = getReadAheadReaders();
+                if (readers.size() == 1) {
+                    byte[] buffer = new byte[toIntExact(range.getLength())];
+                    readerMemoryUsage.setBytes(buffer.length);
+                    readFully(range.getOffset(), buffer, 0, buffer.length);
+                    data = Slices.wrappedBuffer(buffer);
+                }
+                else {
+                    readers.forEach(reader -> reader.readerMemoryUsage.setBytes(reader.range.getLength()));
+                    List<Slice> slices = readFully(readers.stream()
+                            .map(reader -> reader.range)
+                            .collect(toImmutableList()));
+                    for (int i = 0; i < readers.size(); i++) {
+                        readers.get(i).data = slices.get(i);
+                    }
+                }
             }
 
             return data;
         }
 
+        private List<ReferenceCountedReader> getReadAheadReaders()
+        {
+            ImmutableList.Builder<ReferenceCountedReader> readers = ImmutableList.builder();
+            readers.add(this);
+            long readSize = range.getLength();
+            for (int i = readAheadPosition + 1; i < readAheadReaders.size(); i++) {
+                ReferenceCountedReader reader = readAheadReaders.get(i);
+                if (reader.referenceCount == 0 || reader.data != null) {
+                    continue;
+                }
+                readSize += reader.range.getLength();
+                if (readSize > maxReadAheadSize) {
+                    break;
+                }
+                readers.add(reader);
+            }
+            return readers.build();
+        }
+
         @Override
         public void free()
         {
@@ -26,6 +26,7 @@ public class ParquetReaderOptions
     private static final DataSize DEFAULT_MAX_MERGE_DISTANCE = DataSize.of(1, MEGABYTE);
     private static final DataSize DEFAULT_MAX_BUFFER_SIZE = DataSize.of(8, MEGABYTE);
     private static final DataSize DEFAULT_SMALL_FILE_THRESHOLD = DataSize.of(3, MEGABYTE);
+    private static final DataSize DEFAULT_MAX_READ_AHEAD_SIZE = DataSize.ofBytes(0);
 
     private final boolean ignoreStatistics;
     private final DataSize maxReadBlockSize;
@@ -36,6 +37,7 @@ public class ParquetReaderOptions
     private final boolean useBloomFilter;
     private final DataSize smallFileThreshold;
     private final boolean vectorizedDecodingEnabled;
+    private final DataSize maxReadAheadSize;
 
     public ParquetReaderOptions()
     {
@@ -48,6 +50,7 @@ public class ParquetReaderOptions
         useBloomFilter = true;
         smallFileThreshold = DEFAULT_SMALL_FILE_THRESHOLD;
         vectorizedDecodingEnabled = true;
+        maxReadAheadSize = DEFAULT_MAX_READ_AHEAD_SIZE;
     }
 
     private ParquetReaderOptions(
@@ -59,7 +62,8 @@ public class ParquetReaderOptions
             boolean useColumnIndex,
             boolean useBloomFilter,
             DataSize smallFileThreshold,
-            boolean vectorizedDecodingEnabled)
+            boolean vectorizedDecodingEnabled,
+            DataSize maxReadAheadSize)
     {
         this.ignoreStatistics = ignoreStatistics;
         this.maxReadBlockSize = requireNonNull(maxReadBlockSize, "maxReadBlockSize is null");
@@ -71,6 +75,7 @@ public class ParquetReaderOptions
         this.useBloomFilter = useBloomFilter;
         this.smallFileThreshold = requireNonNull(smallFileThreshold, "smallFileThreshold is null");
         this.vectorizedDecodingEnabled = vectorizedDecodingEnabled;
+        this.maxReadAheadSize = requireNonNull(maxReadAheadSize, "maxReadAheadSize is null");
     }
 
     public boolean isIgnoreStatistics()
@@ -118,6 +123,15 @@ public class ParquetReaderOptions
         return smallFileThreshold;
     }
 
+    /**
+     * Maximum size of the following merged ranges fetched together with a merged range of
+     * column chunks, by data sources reading from remote storage. Zero disables read-ahead.
+     */
+    public DataSize getMaxReadAheadSize()
+    {
+        return maxReadAheadSize;
+    }
+
     public ParquetReaderOptions withIgnoreStatistics(boolean ignoreStatistics)
     {
         return new ParquetReaderOptions(
@@ -129,7 +143,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withMaxReadBlockSize(DataSize maxReadBlockSize)
@@ -143,7 +158,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withMaxReadBlockRowCount(int maxReadBlockRowCount)
@@ -157,7 +173,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withMaxMergeDistance(DataSize maxMergeDistance)
@@ -171,7 +188,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withMaxBufferSize(DataSize maxBufferSize)
@@ -185,7 +203,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withUseColumnIndex(boolean useColumnIndex)
@@ -199,7 +218,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withBloomFilter(boolean useBloomFilter)
@@ -213,7 +233,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withSmallFileThreshold(DataSize smallFileThreshold)
@@ -227,7 +248,8 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 
     public ParquetReaderOptions withVectorizedDecodingEnabled(boolean vectorizedDecodingEnabled)
@@ -241,6 +263,22 @@ public class ParquetReaderOptions
                 useColumnIndex,
                 useBloomFilter,
                 smallFileThreshold,
-                vectorizedDecodingEnabled);
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
+    }
+
+    public ParquetReaderOptions withMaxReadAheadSize(DataSize maxReadAheadSize)
+    {
+        return new ParquetReaderOptions(
+                ignoreStatistics,
+                maxReadBlockSize,
+                maxReadBlockRowCount,
+                maxMergeDistance,
+                maxBufferSize,
+                useColumnIndex,
+                useBloomFilter,
+                smallFileThreshold,
+                vectorizedDecodingEnabled,
+                maxReadAheadSize);
     }
 }
@@ -15,10 +15,20 @@ package io.trino.parquet.metadata;
 
 import java.util.List;
 
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+
 public record BlockMetadata(long rowCount, List<ColumnChunkMetadata> columns)
 {
+    private static final int INSTANCE_SIZE = instanceSize(BlockMetadata.class);
+
     public long getStartingPos()
     {
         return columns().getFirst().getStartingPos();
     }
+
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE + estimatedSizeOf(columns, ColumnChunkMetadata::getRetainedSizeInBytes);
+    }
 }
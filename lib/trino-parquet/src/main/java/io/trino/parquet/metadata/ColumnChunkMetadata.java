@@ -15,6 +15,7 @@ package io.trino.parquet.metadata;
 
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
+import org.apache.parquet.column.statistics.BinaryStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
@@ -23,8 +24,18 @@ import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 
 import java.util.Set;
 
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
+import static io.airlift.slice.SizeOf.sizeOfObjectArray;
+
 public abstract class ColumnChunkMetadata
 {
+    private static final int PROPERTIES_INSTANCE_SIZE = instanceSize(ColumnChunkProperties.class);
+    private static final int ENCODING_STATS_INSTANCE_SIZE = instanceSize(EncodingStats.class);
+    private static final int INDEX_REFERENCE_INSTANCE_SIZE = instanceSize(IndexReference.class);
+    // the largest of the statistics classes
+    private static final int STATISTICS_INSTANCE_SIZE = instanceSize(BinaryStatistics.class);
+
     protected int rowGroupOrdinal = -1;
 
     public static ColumnChunkMetadata get(
@@ -149,6 +160,35 @@ public abstract class ColumnChunkMetadata
 
     public abstract Statistics<?> getStatistics();
 
+    protected abstract long getInstanceSize();
+
+    /**
+     * Returns the memory retained by this metadata. The path and the type are shared with
+     * the file schema, so they are not included.
+     */
+    public long getRetainedSizeInBytes()
+    {
+        decryptIfNeeded();
+        long retainedSize = getInstanceSize() + PROPERTIES_INSTANCE_SIZE + sizeOfObjectArray(properties.encodings().size());
+        if (encodingStats != null) {
+            retainedSize += ENCODING_STATS_INSTANCE_SIZE;
+        }
+        if (columnIndexReference != null) {
+            retainedSize += INDEX_REFERENCE_INSTANCE_SIZE;
+        }
+        if (offsetIndexReference != null) {
+            retainedSize += INDEX_REFERENCE_INSTANCE_SIZE;
+        }
+        Statistics<?> statistics = getStatistics();
+        if (statistics != null) {
+            retainedSize += STATISTICS_INSTANCE_SIZE;
+            if (statistics.hasNonNullValue()) {
+                retainedSize += sizeOf(statistics.getMinBytes()) + sizeOf(statistics.getMaxBytes());
+            }
+        }
+        return retainedSize;
+    }
+
     public IndexReference getColumnIndexReference()
     {
         decryptIfNeeded();
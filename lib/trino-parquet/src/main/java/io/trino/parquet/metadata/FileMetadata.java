@@ -13,15 +13,25 @@
  */
 package io.trino.parquet.metadata;
 
+import io.airlift.slice.SizeOf;
+import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
 
 import java.util.Map;
 
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 public final class FileMetadata
 {
+    private static final int INSTANCE_SIZE = instanceSize(FileMetadata.class);
+    private static final int PRIMITIVE_TYPE_INSTANCE_SIZE = instanceSize(PrimitiveType.class);
+    private static final int GROUP_TYPE_INSTANCE_SIZE = instanceSize(GroupType.class);
+
     private final MessageType schema;
     private final Map<String, String> keyValueMetaData;
     private final String createdBy;
@@ -53,4 +63,20 @@ public final class FileMetadata
     {
         return createdBy;
     }
+
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE +
+                getTypeRetainedSizeInBytes(schema) +
+                estimatedSizeOf(keyValueMetaData, SizeOf::estimatedSizeOf, SizeOf::estimatedSizeOf) +
+                estimatedSizeOf(createdBy);
+    }
+
+    private static long getTypeRetainedSizeInBytes(Type type)
+    {
+        if (type.isPrimitive()) {
+            return PRIMITIVE_TYPE_INSTANCE_SIZE + estimatedSizeOf(type.getName());
+        }
+        return GROUP_TYPE_INSTANCE_SIZE + estimatedSizeOf(type.getName()) + estimatedSizeOf(type.asGroupType().getFields(), FileMetadata::getTypeRetainedSizeInBytes);
+    }
 }
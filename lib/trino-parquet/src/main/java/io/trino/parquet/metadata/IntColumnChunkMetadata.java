@@ -22,9 +22,13 @@ import org.apache.parquet.schema.PrimitiveType;
 
 import java.util.Set;
 
+import static io.airlift.slice.SizeOf.instanceSize;
+
 class IntColumnChunkMetadata
         extends ColumnChunkMetadata
 {
+    private static final int INSTANCE_SIZE = instanceSize(IntColumnChunkMetadata.class);
+
     private final int firstDataPage;
     private final int dictionaryPageOffset;
     private final int valueCount;
@@ -102,4 +106,10 @@ class IntColumnChunkMetadata
     {
         return statistics;
     }
+
+    @Override
+    protected long getInstanceSize()
+    {
+        return INSTANCE_SIZE;
+    }
 }
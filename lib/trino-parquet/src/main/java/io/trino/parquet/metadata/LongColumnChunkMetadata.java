@@ -22,9 +22,13 @@ import org.apache.parquet.schema.PrimitiveType;
 
 import java.util.Set;
 
+import static io.airlift.slice.SizeOf.instanceSize;
+
 class LongColumnChunkMetadata
         extends ColumnChunkMetadata
 {
+    private static final int INSTANCE_SIZE = instanceSize(LongColumnChunkMetadata.class);
+
     private final long firstDataPageOffset;
     private final long dictionaryPageOffset;
     private final long valueCount;
@@ -89,4 +93,10 @@ class LongColumnChunkMetadata
     {
         return statistics;
     }
+
+    @Override
+    protected long getInstanceSize()
+    {
+        return INSTANCE_SIZE;
+    }
 }
@@ -15,8 +15,13 @@ package io.trino.parquet.metadata;
 
 import java.util.List;
 
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+
 public class ParquetMetadata
 {
+    private static final int INSTANCE_SIZE = instanceSize(ParquetMetadata.class);
+
     private final FileMetadata fileMetaData;
     private final List<BlockMetadata> blocks;
 
@@ -36,6 +41,11 @@ public class ParquetMetadata
         return fileMetaData;
     }
 
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE + fileMetaData.getRetainedSizeInBytes() + estimatedSizeOf(blocks, BlockMetadata::getRetainedSizeInBytes);
+    }
+
     @Override
     public String toString()
     {
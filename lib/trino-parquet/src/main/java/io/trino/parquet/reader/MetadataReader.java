@@ -25,6 +25,8 @@ import io.trino.parquet.metadata.BlockMetadata;
 import io.trino.parquet.metadata.ColumnChunkMetadata;
 import io.trino.parquet.metadata.FileMetadata;
 import io.trino.parquet.metadata.ParquetMetadata;
+import io.trino.plugin.base.cache.FooterCache.CachedFile;
+import io.trino.plugin.base.cache.FooterCache.LoadedFooter;
 import org.apache.parquet.CorruptStatistics;
 import org.apache.parquet.column.statistics.BinaryStatistics;
 import org.apache.parquet.format.ColumnChunk;
@@ -84,6 +86,27 @@ public final class MetadataReader
 
     public static ParquetMetadata readFooter(ParquetDataSource dataSource, Optional<ParquetWriteValidation> parquetWriteValidation)
             throws IOException
+    {
+        return readFooter(dataSource, parquetWriteValidation, Optional.empty());
+    }
+
+    /**
+     * Reads the footer, using the footer cache when present. The cache view must be created for the same file as the data source.
+     */
+    public static ParquetMetadata readFooter(ParquetDataSource dataSource, Optional<ParquetWriteValidation> parquetWriteValidation, Optional<CachedFile> footerCache)
+            throws IOException
+    {
+        if (footerCache.isEmpty() || parquetWriteValidation.isPresent()) {
+            return parseFooter(dataSource, parquetWriteValidation);
+        }
+        return footerCache.get().getFooter(ParquetMetadata.class, () -> {
+            ParquetMetadata metadata = parseFooter(dataSource, Optional.empty());
+            return new LoadedFooter<>(metadata, metadata.getRetainedSizeInBytes());
+        });
+    }
+
+    private static ParquetMetadata parseFooter(ParquetDataSource dataSource, Optional<ParquetWriteValidation> parquetWriteValidation)
+            throws IOException
     {
         // Parquet File Layout:
         //
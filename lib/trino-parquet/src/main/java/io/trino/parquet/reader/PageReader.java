@@ -16,6 +16,7 @@ package io.trino.parquet.reader;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import io.airlift.slice.Slice;
 import io.trino.parquet.DataPage;
 import io.trino.parquet.DataPageV1;
 import io.trino.parquet.DataPageV2;
@@ -23,6 +24,8 @@ import io.trino.parquet.DictionaryPage;
 import io.trino.parquet.Page;
 import io.trino.parquet.ParquetDataSourceId;
 import io.trino.parquet.metadata.ColumnChunkMetadata;
+import io.trino.plugin.base.cache.DecompressedChunkCache.Chunk;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
 import jakarta.annotation.Nullable;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.statistics.Statistics;
@@ -41,14 +44,20 @@ import static java.util.Objects.requireNonNull;
 
 public final class PageReader
 {
+    private static final long DICTIONARY_PAGE_INDEX = -1;
+
     private final ParquetDataSourceId dataSourceId;
     private final CompressionCodec codec;
     private final boolean hasOnlyDictionaryEncodedPages;
     private final boolean hasNoNulls;
     private final PeekingIterator<Page> compressedPages;
+    private final Optional<FileChunkCache> chunkCache;
+    private final long columnChunkOffset;
 
     private boolean dictionaryAlreadyRead;
     private int dataPageReadCount;
+    // number of data pages read or skipped, used to address pages without a row index in the cache
+    private int dataPageOrdinal;
 
     public static PageReader createPageReader(
             ParquetDataSourceId dataSourceId,
@@ -57,6 +66,18 @@ public final class PageReader
             ColumnDescriptor columnDescriptor,
             @Nullable OffsetIndex offsetIndex,
             Optional<String> fileCreatedBy)
+    {
+        return createPageReader(dataSourceId, columnChunk, metadata, columnDescriptor, offsetIndex, fileCreatedBy, Optional.empty());
+    }
+
+    public static PageReader createPageReader(
+            ParquetDataSourceId dataSourceId,
+            ChunkedInputStream columnChunk,
+            ColumnChunkMetadata metadata,
+            ColumnDescriptor columnDescriptor,
+            @Nullable OffsetIndex offsetIndex,
+            Optional<String> fileCreatedBy,
+            Optional<FileChunkCache> chunkCache)
     {
         // Parquet schema may specify a column definition as OPTIONAL even though there are no nulls in the actual data.
         // Row-group column statistics can be used to identify such cases and switch to faster non-nullable read
@@ -77,7 +98,9 @@ public final class PageReader
                 metadata.getCodec().getParquetCompressionCodec(),
                 compressedPages,
                 hasOnlyDictionaryEncodedPages,
-                hasNoNulls);
+                hasNoNulls,
+                chunkCache,
+                metadata.getStartingPos());
     }
 
     @VisibleForTesting
@@ -87,12 +110,26 @@ public final class PageReader
             Iterator<? extends Page> compressedPages,
             boolean hasOnlyDictionaryEncodedPages,
             boolean hasNoNulls)
+    {
+        this(dataSourceId, codec, compressedPages, hasOnlyDictionaryEncodedPages, hasNoNulls, Optional.empty(), 0);
+    }
+
+    private PageReader(
+            ParquetDataSourceId dataSourceId,
+            CompressionCodec codec,
+            Iterator<? extends Page> compressedPages,
+            boolean hasOnlyDictionaryEncodedPages,
+            boolean hasNoNulls,
+            Optional<FileChunkCache> chunkCache,
+            long columnChunkOffset)
     {
         this.dataSourceId = requireNonNull(dataSourceId, "dataSourceId is null");
         this.codec = codec;
         this.compressedPages = Iterators.peekingIterator(compressedPages);
         this.hasOnlyDictionaryEncodedPages = hasOnlyDictionaryEncodedPages;
         this.hasNoNulls = hasNoNulls;
+        this.chunkCache = requireNonNull(chunkCache, "chunkCache is null");
+        this.columnChunkOffset = columnChunkOffset;
     }
 
     public boolean hasNoNulls()
@@ -113,13 +150,16 @@ public final class PageReader
         Page compressedPage = compressedPages.next();
         checkState(compressedPage instanceof DataPage, "Found page %s instead of a DataPage", compressedPage);
         dataPageReadCount++;
+        // The row index of a page does not depend on which pages are filtered out, unlike the ordinal
+        long pageIndex = ((DataPage) compressedPage).getFirstRowIndex().orElse(-2L - dataPageOrdinal);
+        dataPageOrdinal++;
         try {
             if (compressedPage instanceof DataPageV1 dataPageV1) {
                 if (!arePagesCompressed()) {
                     return dataPageV1;
                 }
                 return new DataPageV1(
-                        decompress(dataSourceId, codec, dataPageV1.getSlice(), dataPageV1.getUncompressedSize()),
+                        decompressPage(pageIndex, dataPageV1.getSlice(), dataPageV1.getUncompressedSize()),
                         dataPageV1.getValueCount(),
                         dataPageV1.getUncompressedSize(),
                         dataPageV1.getFirstRowIndex(),
@@ -141,7 +181,7 @@ public final class PageReader
                     dataPageV2.getRepetitionLevels(),
                     dataPageV2.getDefinitionLevels(),
                     dataPageV2.getDataEncoding(),
-                    decompress(dataSourceId, codec, dataPageV2.getSlice(), uncompressedSize),
+                    decompressPage(pageIndex, dataPageV2.getSlice(), uncompressedSize),
                     dataPageV2.getUncompressedSize(),
                     dataPageV2.getFirstRowIndex(),
                     dataPageV2.getStatistics(),
@@ -163,7 +203,7 @@ public final class PageReader
         try {
             DictionaryPage compressedDictionaryPage = (DictionaryPage) compressedPages.next();
             return new DictionaryPage(
-                    decompress(dataSourceId, codec, compressedDictionaryPage.getSlice(), compressedDictionaryPage.getUncompressedSize()),
+                    decompressPage(DICTIONARY_PAGE_INDEX, compressedDictionaryPage.getSlice(), compressedDictionaryPage.getUncompressedSize()),
                     compressedDictionaryPage.getDictionarySize(),
                     compressedDictionaryPage.getEncoding());
         }
@@ -188,6 +228,7 @@ public final class PageReader
     {
         verifyDictionaryPageRead();
         compressedPages.next();
+        dataPageOrdinal++;
     }
 
     public boolean arePagesCompressed()
@@ -195,6 +236,19 @@ public final class PageReader
         return codec != CompressionCodec.UNCOMPRESSED;
     }
 
+    private Slice decompressPage(long pageIndex, Slice compressed, int uncompressedSize)
+            throws IOException
+    {
+        if (chunkCache.isEmpty() || !arePagesCompressed()) {
+            return decompress(dataSourceId, codec, compressed, uncompressedSize);
+        }
+        return chunkCache.get().get(
+                columnChunkOffset,
+                pageIndex,
+                () -> new Chunk(decompress(dataSourceId, codec, compressed, uncompressedSize), compressed.length()))
+                .data();
+    }
+
     private void verifyDictionaryPageRead()
     {
         checkArgument(dictionaryAlreadyRead, "Dictionary has to be read first");
@@ -34,6 +34,7 @@ import io.trino.parquet.metadata.ColumnChunkMetadata;
 import io.trino.parquet.metadata.PrunedBlockMetadata;
 import io.trino.parquet.predicate.TupleDomainParquetPredicate;
 import io.trino.parquet.reader.FilteredOffsetIndex.OffsetRange;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
 import io.trino.plugin.base.metrics.LongCount;
 import io.trino.spi.Page;
 import io.trino.spi.block.ArrayBlock;
@@ -91,6 +92,8 @@ public class ParquetReader
     private static final int BATCH_SIZE_GROWTH_FACTOR = 2;
     public static final String PARQUET_CODEC_METRIC_PREFIX = "ParquetReaderCompressionFormat_";
     public static final String COLUMN_INDEX_ROWS_FILTERED = "ParquetColumnIndexRowsFiltered";
+    public static final String DECOMPRESSED_PAGE_CACHE_HITS = "ParquetDecompressedPageCacheHits";
+    public static final String DECOMPRESSED_PAGE_CACHE_MISSES = "ParquetDecompressedPageCacheMisses";
 
     private final Optional<String> fileCreatedBy;
     private final List<RowGroupInfo> rowGroups;
@@ -117,6 +120,7 @@ public class ParquetReader
     private final Map<Integer, Double> maxBytesPerCell;
     private double maxCombinedBytesPerRow;
     private final ParquetReaderOptions options;
+    private final Optional<FileChunkCache> chunkCache;
     private int maxBatchSize;
 
     private AggregatedMemoryContext currentRowGroupMemoryContext;
@@ -142,6 +146,26 @@ public class ParquetReader
             Optional<TupleDomainParquetPredicate> parquetPredicate,
             Optional<ParquetWriteValidation> writeValidation)
             throws IOException
+    {
+        this(fileCreatedBy, columnFields, rowGroups, dataSource, timeZone, memoryContext, options, exceptionTransform, parquetPredicate, writeValidation, Optional.empty());
+    }
+
+    /**
+     * Uses the decompressed chunk cache when present. The cache view must be created for the same file as the data source.
+     */
+    public ParquetReader(
+            Optional<String> fileCreatedBy,
+            List<Column> columnFields,
+            List<RowGroupInfo> rowGroups,
+            ParquetDataSource dataSource,
+            DateTimeZone timeZone,
+            AggregatedMemoryContext memoryContext,
+            ParquetReaderOptions options,
+            Function<Exception, RuntimeException> exceptionTransform,
+            Optional<TupleDomainParquetPredicate> parquetPredicate,
+            Optional<ParquetWriteValidation> writeValidation,
+            Optional<FileChunkCache> chunkCache)
+            throws IOException
     {
         this.fileCreatedBy = requireNonNull(fileCreatedBy, "fileCreatedBy is null");
         requireNonNull(columnFields, "columnFields is null");
@@ -153,6 +177,7 @@ public class ParquetReader
         this.memoryContext = requireNonNull(memoryContext, "memoryContext is null");
         this.currentRowGroupMemoryContext = memoryContext.newAggregatedMemoryContext();
         this.options = requireNonNull(options, "options is null");
+        this.chunkCache = requireNonNull(chunkCache, "chunkCache is null");
         this.maxBatchSize = options.getMaxReadBlockRowCount();
         this.columnReaders = new HashMap<>();
         this.maxBytesPerCell = new HashMap<>();
@@ -463,7 +488,7 @@ public class ParquetReader
             }
             ChunkedInputStream columnChunkInputStream = chunkReaders.get(new ChunkKey(fieldId, currentRowGroup));
             columnReader.setPageReader(
-                    createPageReader(dataSource.getId(), columnChunkInputStream, metadata, columnDescriptor, offsetIndex, fileCreatedBy),
+                    createPageReader(dataSource.getId(), columnChunkInputStream, metadata, columnDescriptor, offsetIndex, fileCreatedBy, chunkCache),
                     Optional.ofNullable(rowRanges));
         }
         ColumnChunk columnChunk = columnReader.readPrimitive();
@@ -492,6 +517,10 @@ public class ParquetReader
         if (columnIndexRowsFiltered >= 0) {
             metrics.put(COLUMN_INDEX_ROWS_FILTERED, new LongCount(columnIndexRowsFiltered));
         }
+        chunkCache.ifPresent(cache -> {
+            metrics.put(DECOMPRESSED_PAGE_CACHE_HITS, new LongCount(cache.getHits()));
+            metrics.put(DECOMPRESSED_PAGE_CACHE_MISSES, new LongCount(cache.getMisses()));
+        });
 
         return new Metrics(metrics.buildOrThrow());
     }
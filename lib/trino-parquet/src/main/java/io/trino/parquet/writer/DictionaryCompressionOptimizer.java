@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import io.airlift.units.DataSize;
+import io.trino.parquet.writer.valuewriter.DictionaryFallbackValuesWriter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.units.DataSize.Unit.KILOBYTE;
+import static java.lang.Math.max;
+import static java.util.Comparator.comparingDouble;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decides across all columns of a row group which ones keep dictionary encoding.
+ * Parquet counterpart of {@code io.trino.orc.DictionaryCompressionOptimizer}.
+ */
+public class DictionaryCompressionOptimizer
+{
+    static final double DICTIONARY_MIN_COMPRESSION_RATIO = 1.25;
+
+    // The estimates are noisy for the first few values of a column chunk, so only
+    // judge a dictionary once it has seen a reasonable amount of data
+    static final long DICTIONARY_MIN_RAW_BYTES = DataSize.of(64, KILOBYTE).toBytes();
+
+    private final List<DictionaryFallbackValuesWriter> dictionaryWriters;
+    private final long dictionaryMemoryMaxBytes;
+
+    private long dictionaryMemoryBytes;
+
+    public DictionaryCompressionOptimizer(List<DictionaryFallbackValuesWriter> dictionaryWriters, long dictionaryMemoryMaxBytes)
+    {
+        this.dictionaryWriters = new ArrayList<>(requireNonNull(dictionaryWriters, "dictionaryWriters is null"));
+        checkArgument(dictionaryMemoryMaxBytes >= 0, "dictionaryMemoryMaxBytes is negative");
+        this.dictionaryMemoryMaxBytes = dictionaryMemoryMaxBytes;
+    }
+
+    public long getDictionaryMemoryBytes()
+    {
+        return dictionaryMemoryBytes;
+    }
+
+    public void optimize()
+    {
+        // columns fall back on their own when the dictionary page is full or the first page does not compress
+        dictionaryWriters.removeIf(writer -> !writer.isDictionaryEncoded());
+
+        // convert the columns where the dictionary does not pay off
+        Iterator<DictionaryFallbackValuesWriter> iterator = dictionaryWriters.iterator();
+        while (iterator.hasNext()) {
+            DictionaryFallbackValuesWriter writer = iterator.next();
+            if (writer.getTotalRawDataByteSize() >= DICTIONARY_MIN_RAW_BYTES && getCompressionRatio(writer) < DICTIONARY_MIN_COMPRESSION_RATIO) {
+                writer.fallBackToPlainEncoding();
+                iterator.remove();
+            }
+        }
+
+        dictionaryMemoryBytes = dictionaryWriters.stream()
+                .mapToLong(DictionaryFallbackValuesWriter::getDictionaryByteSize)
+                .sum();
+
+        // convert the least effective dictionaries until the remaining ones fit in memory
+        while (dictionaryMemoryBytes > dictionaryMemoryMaxBytes) {
+            DictionaryFallbackValuesWriter writer = dictionaryWriters.stream()
+                    .min(comparingDouble(DictionaryCompressionOptimizer::getCompressionRatio))
+                    .orElseThrow();
+            dictionaryMemoryBytes -= writer.getDictionaryByteSize();
+            writer.fallBackToPlainEncoding();
+            dictionaryWriters.remove(writer);
+        }
+    }
+
+    private static double getCompressionRatio(DictionaryFallbackValuesWriter writer)
+    {
+        return (double) writer.getTotalRawDataByteSize() / max(writer.getEstimatedDictionaryEncodedByteSize(), 1);
+    }
+}
@@ -31,6 +31,8 @@ import io.trino.parquet.reader.MetadataReader;
 import io.trino.parquet.reader.ParquetReader;
 import io.trino.parquet.reader.RowGroupInfo;
 import io.trino.parquet.writer.ColumnWriter.BufferData;
+import io.trino.parquet.writer.valuewriter.TrinoValuesWriterFactory;
+import io.trino.plugin.base.util.ParallelChannelWriter;
 import io.trino.spi.Page;
 import io.trino.spi.type.Type;
 import jakarta.annotation.Nullable;
@@ -61,6 +63,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -68,6 +71,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.airlift.slice.SizeOf.SIZE_OF_INT;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.airlift.slice.Slices.wrappedBuffer;
@@ -79,6 +83,7 @@ import static io.trino.parquet.ParquetTypeUtils.lookupColumnByName;
 import static io.trino.parquet.ParquetWriteValidation.ParquetWriteValidationBuilder;
 import static io.trino.parquet.metadata.PrunedBlockMetadata.createPrunedColumnsMetadata;
 import static io.trino.parquet.writer.ParquetDataOutput.createDataOutput;
+import static io.trino.parquet.writer.ParquetWriters.createValuesWriterFactory;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.DoubleType.DOUBLE;
 import static io.trino.spi.type.IntegerType.INTEGER;
@@ -107,8 +112,10 @@ public class ParquetWriter
     private final FileFooter fileFooter;
     private final ImmutableList.Builder<List<Optional<BloomFilter>>> bloomFilterGroups = ImmutableList.builder();
     private final Optional<ParquetWriteValidationBuilder> validationBuilder;
+    private final ParallelChannelWriter parallelWriter;
 
     private List<ColumnWriter> columnWriters;
+    private DictionaryCompressionOptimizer dictionaryCompressionOptimizer;
     private int rows;
     private long bufferedBytes;
     private boolean closed;
@@ -127,6 +134,20 @@ public class ParquetWriter
             String trinoVersion,
             Optional<DateTimeZone> parquetTimeZone,
             Optional<ParquetWriteValidationBuilder> validationBuilder)
+    {
+        this(outputStream, messageType, primitiveTypes, writerOption, compressionCodec, trinoVersion, parquetTimeZone, validationBuilder, directExecutor());
+    }
+
+    public ParquetWriter(
+            OutputStream outputStream,
+            MessageType messageType,
+            Map<List<String>, Type> primitiveTypes,
+            ParquetWriterOptions writerOption,
+            CompressionCodec compressionCodec,
+            String trinoVersion,
+            Optional<DateTimeZone> parquetTimeZone,
+            Optional<ParquetWriteValidationBuilder> validationBuilder,
+            Executor writerExecutor)
     {
         this.validationBuilder = requireNonNull(validationBuilder, "validationBuilder is null");
         this.outputStream = new OutputStreamSliceOutput(requireNonNull(outputStream, "outputstream is null"));
@@ -142,6 +163,7 @@ public class ParquetWriter
         recordValidation(validation -> validation.setColumns(messageType.getColumns()));
         recordValidation(validation -> validation.setCreatedBy(createdBy));
         initColumnWriters();
+        this.parallelWriter = new ParallelChannelWriter(columnWriters.size(), writerOption.getWriterParallelism(), writerExecutor);
         this.chunkMaxBytes = max(1, writerOption.getMaxRowGroupSize() / 2);
     }
 
@@ -198,15 +220,25 @@ public class ParquetWriter
             throws IOException
     {
         bufferedBytes = 0;
-        for (int channel = 0; channel < page.getChannelCount(); channel++) {
-            ColumnWriter writer = columnWriters.get(channel);
-            writer.writeBlock(new ColumnChunk(page.getBlock(channel)));
-            bufferedBytes += writer.getBufferedBytes();
+        if (!parallelWriter.isParallel()) {
+            for (int channel = 0; channel < page.getChannelCount(); channel++) {
+                ColumnWriter writer = columnWriters.get(channel);
+                writer.writeBlock(new ColumnChunk(page.getBlock(channel)));
+                bufferedBytes += writer.getBufferedBytes();
+            }
         }
+        else {
+            List<ColumnWriter> writers = columnWriters;
+            parallelWriter.run(channel -> writers.get(channel).writeBlock(new ColumnChunk(page.getBlock(channel))));
+            for (ColumnWriter writer : columnWriters) {
+                bufferedBytes += writer.getBufferedBytes();
+            }
+        }
+        dictionaryCompressionOptimizer.optimize();
         rows += page.getPositionCount();
 
         if (bufferedBytes >= writerOption.getMaxRowGroupSize()) {
-            columnWriters.forEach(ColumnWriter::close);
+            closeColumnWriters();
             flush();
             initColumnWriters();
             rows = 0;
@@ -224,7 +256,7 @@ public class ParquetWriter
         closed = true;
 
         try (outputStream) {
-            columnWriters.forEach(ColumnWriter::close);
+            closeColumnWriters();
             flush();
             columnWriters = ImmutableList.of();
             fileMetaData = fileFooter.createFileMetadata();
@@ -299,6 +331,18 @@ public class ParquetWriter
                 Optional.of(writeValidation));
     }
 
+    private void closeColumnWriters()
+            throws IOException
+    {
+        if (!parallelWriter.isParallel()) {
+            columnWriters.forEach(ColumnWriter::close);
+            return;
+        }
+        // closing a column writer encodes and compresses the last page of the column chunk
+        List<ColumnWriter> writers = columnWriters;
+        parallelWriter.run(channel -> writers.get(channel).close());
+    }
+
     private void recordValidation(Consumer<ParquetWriteValidationBuilder> task)
     {
         validationBuilder.ifPresent(task);
@@ -444,12 +488,17 @@ public class ParquetWriter
 
     private void initColumnWriters()
     {
+        TrinoValuesWriterFactory valuesWriterFactory = createValuesWriterFactory(writerOption);
         this.columnWriters = ParquetWriters.getColumnWriters(
                 messageType,
                 primitiveTypes,
                 compressionCodec,
                 writerOption,
-                parquetTimeZone);
+                parquetTimeZone,
+                valuesWriterFactory);
+        this.dictionaryCompressionOptimizer = new DictionaryCompressionOptimizer(
+                valuesWriterFactory.getDictionaryWriters(),
+                writerOption.getMaxDictionaryMemory());
     }
 
     private static class FileFooter
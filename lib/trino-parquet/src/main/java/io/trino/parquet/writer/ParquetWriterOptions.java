@@ -33,6 +33,8 @@ public class ParquetWriterOptions
     public static final int DEFAULT_BATCH_SIZE = 10_000;
     public static final DataSize DEFAULT_MAX_BLOOM_FILTER_SIZE = DataSize.of(1, MEGABYTE);
     public static final double DEFAULT_BLOOM_FILTER_FPP = 0.05;
+    public static final int DEFAULT_WRITER_PARALLELISM = 1;
+    public static final DataSize DEFAULT_MAX_DICTIONARY_MEMORY = DataSize.of(16, MEGABYTE);
 
     public static ParquetWriterOptions.Builder builder()
     {
@@ -47,6 +49,8 @@ public class ParquetWriterOptions
     private final double bloomFilterFpp;
     // Set of column dot paths to columns with bloom filters
     private final Set<String> bloomFilterColumns;
+    private final int writerParallelism;
+    private final long maxDictionaryMemory;
 
     private ParquetWriterOptions(
             DataSize maxBlockSize,
@@ -55,7 +59,9 @@ public class ParquetWriterOptions
             int batchSize,
             DataSize maxBloomFilterSize,
             double bloomFilterFpp,
-            Set<String> bloomFilterColumns)
+            Set<String> bloomFilterColumns,
+            int writerParallelism,
+            DataSize maxDictionaryMemory)
     {
         this.maxRowGroupSize = Ints.saturatedCast(maxBlockSize.toBytes());
         this.maxPageSize = Ints.saturatedCast(maxPageSize.toBytes());
@@ -65,6 +71,9 @@ public class ParquetWriterOptions
         this.bloomFilterFpp = bloomFilterFpp;
         this.bloomFilterColumns = ImmutableSet.copyOf(bloomFilterColumns);
         checkArgument(this.bloomFilterFpp > 0.0 && this.bloomFilterFpp < 1.0, "bloomFilterFpp should be > 0.0 & < 1.0");
+        checkArgument(writerParallelism >= 1, "writerParallelism must be at least 1");
+        this.writerParallelism = writerParallelism;
+        this.maxDictionaryMemory = maxDictionaryMemory.toBytes();
     }
 
     public int getMaxRowGroupSize()
@@ -102,6 +111,16 @@ public class ParquetWriterOptions
         return bloomFilterFpp;
     }
 
+    public int getWriterParallelism()
+    {
+        return writerParallelism;
+    }
+
+    public long getMaxDictionaryMemory()
+    {
+        return maxDictionaryMemory;
+    }
+
     public static class Builder
     {
         private DataSize maxBlockSize = DEFAULT_MAX_ROW_GROUP_SIZE;
@@ -111,6 +130,8 @@ public class ParquetWriterOptions
         private DataSize maxBloomFilterSize = DEFAULT_MAX_BLOOM_FILTER_SIZE;
         private Set<String> bloomFilterColumns = ImmutableSet.of();
         private double bloomFilterFpp = DEFAULT_BLOOM_FILTER_FPP;
+        private int writerParallelism = DEFAULT_WRITER_PARALLELISM;
+        private DataSize maxDictionaryMemory = DEFAULT_MAX_DICTIONARY_MEMORY;
 
         public Builder setMaxBlockSize(DataSize maxBlockSize)
         {
@@ -154,6 +175,18 @@ public class ParquetWriterOptions
             return this;
         }
 
+        public Builder setWriterParallelism(int writerParallelism)
+        {
+            this.writerParallelism = writerParallelism;
+            return this;
+        }
+
+        public Builder setMaxDictionaryMemory(DataSize maxDictionaryMemory)
+        {
+            this.maxDictionaryMemory = maxDictionaryMemory;
+            return this;
+        }
+
         public ParquetWriterOptions build()
         {
             return new ParquetWriterOptions(
@@ -163,7 +196,9 @@ public class ParquetWriterOptions
                     batchSize,
                     maxBloomFilterSize,
                     bloomFilterFpp,
-                    bloomFilterColumns);
+                    bloomFilterColumns,
+                    writerParallelism,
+                    maxDictionaryMemory);
         }
     }
 }
@@ -165,14 +165,19 @@ final class ParquetWriters
         throw new TrinoException(NOT_SUPPORTED, format("Unsupported type for Parquet writer: %s", type));
     }
 
+    static TrinoValuesWriterFactory createValuesWriterFactory(ParquetWriterOptions writerOptions)
+    {
+        return new TrinoValuesWriterFactory(writerOptions.getMaxPageSize(), DEFAULT_DICTIONARY_PAGE_SIZE);
+    }
+
     static List<ColumnWriter> getColumnWriters(
             MessageType messageType,
             Map<List<String>, Type> trinoTypes,
             CompressionCodec compressionCodec,
             ParquetWriterOptions writerOptions,
-            Optional<DateTimeZone> parquetTimeZone)
+            Optional<DateTimeZone> parquetTimeZone,
+            TrinoValuesWriterFactory valuesWriterFactory)
     {
-        TrinoValuesWriterFactory valuesWriterFactory = new TrinoValuesWriterFactory(writerOptions.getMaxPageSize(), DEFAULT_DICTIONARY_PAGE_SIZE);
         WriteBuilder writeBuilder = new WriteBuilder(
                 messageType,
                 trinoTypes,
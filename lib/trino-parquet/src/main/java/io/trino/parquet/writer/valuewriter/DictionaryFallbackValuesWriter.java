@@ -22,6 +22,9 @@ import org.apache.parquet.column.values.ValuesWriter;
 import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter;
 import org.apache.parquet.io.api.Binary;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
@@ -37,12 +40,19 @@ public class DictionaryFallbackValuesWriter
     private ValuesWriter currentWriter;
     @Nullable
     private DictionaryValuesWriter initialWriter;
+    // dictionary of the pages written before falling back to plain encoding
+    @Nullable
+    private DictionaryPage fallBackDictionaryPage;
     private boolean initialUsedAndHadDictionary;
     /* size of raw data, even if dictionary is used, it will not have effect on raw data size, it is used to decide
      * if fall back to plain encoding is better by comparing rawDataByteSize with Encoded data size
      * It's also used in getBufferedSize, so the page will be written based on raw data size
      */
     private long rawDataByteSize;
+    // raw data size and number of values of the pages already written since the dictionary was reset
+    private long flushedRawDataByteSize;
+    private long flushedValueCount;
+    private long valueCount;
     // indicates if this is the first page being processed
     private boolean firstPage = true;
 
@@ -70,11 +80,8 @@ public class DictionaryFallbackValuesWriter
             // we use the first page to decide if we're going to use this encoding
             BytesInput bytes = initialWriter.getBytes();
             if (!initialWriter.isCompressionSatisfying(rawDataByteSize, bytes.size())) {
-                fallBack();
-                // Since fallback happened on first page itself, we can drop the contents of initialWriter
-                initialWriter.close();
-                initialWriter = null;
                 verify(!initialUsedAndHadDictionary, "initialUsedAndHadDictionary should be false when falling back to PLAIN in first page");
+                fallBack();
             }
             else {
                 return bytes;
@@ -96,7 +103,10 @@ public class DictionaryFallbackValuesWriter
     @Override
     public void reset()
     {
+        flushedRawDataByteSize += rawDataByteSize;
+        flushedValueCount += valueCount;
         rawDataByteSize = 0;
+        valueCount = 0;
         firstPage = false;
         currentWriter.reset();
     }
@@ -113,6 +123,11 @@ public class DictionaryFallbackValuesWriter
     @Override
     public DictionaryPage toDictPageAndClose()
     {
+        if (fallBackDictionaryPage != null) {
+            DictionaryPage dictionaryPage = fallBackDictionaryPage;
+            fallBackDictionaryPage = null;
+            return dictionaryPage;
+        }
         if (initialUsedAndHadDictionary) {
             return initialWriter.toDictPageAndClose();
         }
@@ -124,6 +139,14 @@ public class DictionaryFallbackValuesWriter
     @Override
     public void resetDictionary()
     {
+        if (initialWriter == null) {
+            // the dictionary writer was released when falling back to plain encoding
+            fallBackWriter.resetDictionary();
+            initialUsedAndHadDictionary = false;
+            flushedRawDataByteSize = 0;
+            flushedValueCount = 0;
+            return;
+        }
         if (initialUsedAndHadDictionary) {
             initialWriter.resetDictionary();
         }
@@ -134,12 +157,16 @@ public class DictionaryFallbackValuesWriter
         fellBackAlready = false;
         initialUsedAndHadDictionary = false;
         firstPage = true;
+        flushedRawDataByteSize = 0;
+        flushedValueCount = 0;
     }
 
     @Override
     public long getAllocatedSize()
     {
-        return fallBackWriter.getAllocatedSize() + (initialWriter != null ? initialWriter.getAllocatedSize() : 0);
+        return fallBackWriter.getAllocatedSize() +
+                (initialWriter != null ? initialWriter.getAllocatedSize() : 0) +
+                (fallBackDictionaryPage != null ? fallBackDictionaryPage.getBytes().size() : 0);
     }
 
     @Override
@@ -161,6 +188,7 @@ public class DictionaryFallbackValuesWriter
     public void writeByte(int value)
     {
         rawDataByteSize += Byte.BYTES;
+        valueCount++;
         currentWriter.writeByte(value);
         checkFallback();
     }
@@ -170,6 +198,7 @@ public class DictionaryFallbackValuesWriter
     {
         // For raw data, length(4 bytes int) is stored, followed by the binary content itself
         rawDataByteSize += value.length() + Integer.BYTES;
+        valueCount++;
         currentWriter.writeBytes(value);
         checkFallback();
     }
@@ -178,6 +207,7 @@ public class DictionaryFallbackValuesWriter
     public void writeInteger(int value)
     {
         rawDataByteSize += Integer.BYTES;
+        valueCount++;
         currentWriter.writeInteger(value);
         checkFallback();
     }
@@ -186,6 +216,7 @@ public class DictionaryFallbackValuesWriter
     public void writeLong(long value)
     {
         rawDataByteSize += Long.BYTES;
+        valueCount++;
         currentWriter.writeLong(value);
         checkFallback();
     }
@@ -194,6 +225,7 @@ public class DictionaryFallbackValuesWriter
     public void writeFloat(float value)
     {
         rawDataByteSize += Float.BYTES;
+        valueCount++;
         currentWriter.writeFloat(value);
         checkFallback();
     }
@@ -202,10 +234,65 @@ public class DictionaryFallbackValuesWriter
     public void writeDouble(double value)
     {
         rawDataByteSize += Double.BYTES;
+        valueCount++;
         currentWriter.writeDouble(value);
         checkFallback();
     }
 
+    public boolean isDictionaryEncoded()
+    {
+        return !fellBackAlready;
+    }
+
+    /**
+     * Returns the size of the dictionary held in memory, or zero if the writer has fallen back to plain encoding.
+     */
+    public long getDictionaryByteSize()
+    {
+        if (fellBackAlready) {
+            return 0;
+        }
+        // DictionaryValuesWriter reports the dictionary content on top of the buffered dictionary ids
+        return initialWriter.getAllocatedSize() - initialWriter.getBufferedSize();
+    }
+
+    /**
+     * Returns the plain encoded size of all values written since the dictionary was reset.
+     */
+    public long getTotalRawDataByteSize()
+    {
+        return flushedRawDataByteSize + rawDataByteSize;
+    }
+
+    /**
+     * Returns the estimated size of all values written since the dictionary was reset when
+     * they are dictionary encoded, including the dictionary page itself.
+     */
+    public long getEstimatedDictionaryEncodedByteSize()
+    {
+        long dictionaryByteSize = getDictionaryByteSize();
+        long totalValueCount = flushedValueCount + valueCount;
+        long totalRawDataByteSize = getTotalRawDataByteSize();
+        if (totalValueCount == 0 || totalRawDataByteSize == 0) {
+            return dictionaryByteSize;
+        }
+        // dictionary entries are stored like the raw values, so the average raw value size is a good estimate of the entry size
+        long dictionaryEntries = Math.max(dictionaryByteSize * totalValueCount / totalRawDataByteSize, 1);
+        int bitsPerIndex = Long.SIZE - Long.numberOfLeadingZeros(dictionaryEntries - 1);
+        return dictionaryByteSize + (totalValueCount * bitsPerIndex + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * Switches to plain encoding for the remaining values of the column chunk. Values buffered
+     * for the current page are re-encoded, pages already written keep using the dictionary.
+     */
+    public void fallBackToPlainEncoding()
+    {
+        if (!fellBackAlready) {
+            fallBack();
+        }
+    }
+
     @VisibleForTesting
     public DictionaryValuesWriter getInitialWriter()
     {
@@ -230,5 +317,20 @@ public class DictionaryFallbackValuesWriter
         fellBackAlready = true;
         initialWriter.fallBackAllValuesTo(fallBackWriter);
         currentWriter = fallBackWriter;
+        // The pages written before the fall back still need the dictionary page, but not the
+        // dictionary lookup table and the buffers of the dictionary writer, so they are released
+        if (initialUsedAndHadDictionary) {
+            DictionaryPage dictionaryPage = initialWriter.toDictPageAndClose();
+            if (dictionaryPage != null) {
+                try {
+                    fallBackDictionaryPage = dictionaryPage.copy();
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        initialWriter.close();
+        initialWriter = null;
     }
 }
@@ -13,6 +13,7 @@
  */
 package io.trino.parquet.writer.valuewriter;
 
+import com.google.common.collect.ImmutableList;
 import org.apache.parquet.bytes.HeapByteBufferAllocator;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
@@ -23,6 +24,8 @@ import org.apache.parquet.column.values.plain.BooleanPlainValuesWriter;
 import org.apache.parquet.column.values.plain.FixedLenByteArrayPlainValuesWriter;
 import org.apache.parquet.column.values.plain.PlainValuesWriter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static io.trino.parquet.writer.valuewriter.BloomFilterValuesWriter.createBloomFilterValuesWriter;
@@ -37,6 +40,7 @@ public class TrinoValuesWriterFactory
 
     private final int maxPageSize;
     private final int maxDictionaryPageSize;
+    private final List<DictionaryFallbackValuesWriter> dictionaryWriters = new ArrayList<>();
 
     public TrinoValuesWriterFactory(int maxPageSize, int maxDictionaryPageSize)
     {
@@ -58,6 +62,14 @@ public class TrinoValuesWriterFactory
         };
     }
 
+    /**
+     * Returns the dictionary encoding writers created by this factory so far.
+     */
+    public List<DictionaryFallbackValuesWriter> getDictionaryWriters()
+    {
+        return ImmutableList.copyOf(dictionaryWriters);
+    }
+
     private ValuesWriter getFixedLenByteArrayValuesWriter(ColumnDescriptor path, Optional<BloomFilter> bloomFilter)
     {
         // dictionary encoding was not enabled in PARQUET 1.0
@@ -135,6 +147,8 @@ public class TrinoValuesWriterFactory
 
     private ValuesWriter dictWriterWithFallBack(ColumnDescriptor path, Encoding dictPageEncoding, Encoding dataPageEncoding, ValuesWriter writerToFallBackTo)
     {
-        return new DictionaryFallbackValuesWriter(dictionaryWriter(path, dictPageEncoding, dataPageEncoding), writerToFallBackTo);
+        DictionaryFallbackValuesWriter writer = new DictionaryFallbackValuesWriter(dictionaryWriter(path, dictPageEncoding, dataPageEncoding), writerToFallBackTo);
+        dictionaryWriters.add(writer);
+        return writer;
     }
 }
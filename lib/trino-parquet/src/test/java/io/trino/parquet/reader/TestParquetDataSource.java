@@ -29,6 +29,8 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 
@@ -179,6 +181,55 @@ public class TestParquetDataSource
         assertThat(memoryContext.getBytes()).isEqualTo(50);
     }
 
+    @Test
+    public void testReadAhead()
+            throws IOException
+    {
+        Slice testingInput = createTestingInput();
+        List<List<DiskRange>> vectoredReads = new ArrayList<>();
+        TestingParquetDataSource dataSource = new TestingParquetDataSource(
+                testingInput,
+                new ParquetReaderOptions()
+                        .withMaxBufferSize(DataSize.ofBytes(500))
+                        .withMaxMergeDistance(DataSize.ofBytes(0)))
+        {
+            @Override
+            protected DataSize getMaxReadAheadSize()
+            {
+                return DataSize.ofBytes(600);
+            }
+
+            @Override
+            protected List<Slice> readInternal(List<DiskRange> diskRanges)
+                    throws IOException
+            {
+                vectoredReads.add(diskRanges);
+                return super.readInternal(diskRanges);
+            }
+        };
+        AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
+        ListMultimap<String, ChunkReader> chunkReaders = dataSource.planChunksRead(ImmutableListMultimap.<String, DiskRange>builder()
+                        .put("1", new DiskRange(0, 200))
+                        .put("2", new DiskRange(400, 100))
+                        .put("3", new DiskRange(700, 200))
+                        .put("4", new DiskRange(1000, 400))
+                        .build(),
+                memoryContext);
+
+        assertThat(Iterables.getOnlyElement(chunkReaders.get("1")).read()).isEqualTo(testingInput.slice(0, 200));
+        // the following ranges are read together with the first one, up to the read ahead size
+        assertThat(vectoredReads).containsExactly(ImmutableList.of(new DiskRange(0, 200), new DiskRange(400, 100), new DiskRange(700, 200)));
+        assertThat(memoryContext.getBytes()).isEqualTo(500);
+
+        assertThat(Iterables.getOnlyElement(chunkReaders.get("3")).read()).isEqualTo(testingInput.slice(700, 200));
+        assertThat(Iterables.getOnlyElement(chunkReaders.get("4")).read()).isEqualTo(testingInput.slice(1000, 400));
+        assertThat(Iterables.getOnlyElement(chunkReaders.get("2")).read()).isEqualTo(testingInput.slice(400, 100));
+        // the last range does not fit in the read ahead size and is read on its own
+        assertThat(vectoredReads).hasSize(1);
+        assertThat(dataSource.getReadBytes()).isEqualTo(900);
+        assertThat(memoryContext.getBytes()).isEqualTo(900);
+    }
+
     private static Slice createTestingInput()
     {
         Slice testingInput = Slices.allocate(4000);
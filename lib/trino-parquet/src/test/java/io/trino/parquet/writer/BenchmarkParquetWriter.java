@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Page;
+import io.trino.spi.type.Type;
+import org.apache.parquet.format.CompressionCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.parquet.ParquetTestUtils.createParquetWriter;
+import static io.trino.parquet.ParquetTestUtils.generateInputPages;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@State(Scope.Thread)
+@OutputTimeUnit(SECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+public class BenchmarkParquetWriter
+{
+    private static final int POSITIONS_PER_PAGE = 4096;
+
+    @Param({"5", "300"})
+    public int columnCount;
+
+    @Param({"1", "4"})
+    public int writerParallelism;
+
+    @Param({"SNAPPY", "ZSTD"})
+    public CompressionCodec compressionCodec;
+
+    private List<Type> types;
+    private List<String> columnNames;
+    private List<Page> pages;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup()
+    {
+        ImmutableList.Builder<Type> types = ImmutableList.builder();
+        ImmutableList.Builder<String> columnNames = ImmutableList.builder();
+        for (int column = 0; column < columnCount; column++) {
+            types.add(column % 2 == 0 ? BIGINT : INTEGER);
+            columnNames.add("column_" + column);
+        }
+        this.types = types.build();
+        this.columnNames = columnNames.build();
+        // keep the amount of data per iteration independent of the schema width
+        this.pages = generateInputPages(this.types, POSITIONS_PER_PAGE, Math.max(1, 3000 / columnCount));
+        this.executor = newFixedThreadPool(writerParallelism);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long write()
+            throws IOException
+    {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        ParquetWriter writer = createParquetWriter(
+                outputStream,
+                ParquetWriterOptions.builder()
+                        .setWriterParallelism(writerParallelism)
+                        .build(),
+                types,
+                columnNames,
+                compressionCodec,
+                executor);
+        for (Page page : pages) {
+            writer.write(page);
+        }
+        writer.close();
+        return outputStream.size;
+    }
+
+    private static class CountingOutputStream
+            extends OutputStream
+    {
+        private long size;
+
+        @Override
+        public void write(int value)
+        {
+            size++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length)
+        {
+            size += length;
+        }
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        benchmark(BenchmarkParquetWriter.class)
+                .withOptions(optionsBuilder -> optionsBuilder.jvmArgsAppend("-Xmx4g", "-Xms4g"))
+                .run();
+    }
+}
@@ -14,6 +14,7 @@
 package io.trino.parquet.writer;
 
 import com.google.common.collect.ImmutableList;
+import org.apache.parquet.format.CompressionCodec;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -58,4 +59,25 @@ final class TestColumnWriterBenchmark
             }
         }
     }
+
+    @Test
+    void testParquetWriterBenchmark()
+            throws IOException
+    {
+        for (int columnCount : ImmutableList.of(5, 300)) {
+            for (int writerParallelism : ImmutableList.of(1, 4)) {
+                BenchmarkParquetWriter benchmark = new BenchmarkParquetWriter();
+                benchmark.columnCount = columnCount;
+                benchmark.writerParallelism = writerParallelism;
+                benchmark.compressionCodec = CompressionCodec.ZSTD;
+                benchmark.setup();
+                try {
+                    benchmark.write();
+                }
+                finally {
+                    benchmark.tearDown();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import io.trino.parquet.writer.valuewriter.DictionaryFallbackValuesWriter;
+import io.trino.parquet.writer.valuewriter.TrinoValuesWriterFactory;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+import static org.apache.parquet.schema.Types.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDictionaryCompressionOptimizer
+{
+    private static final int MAX_PAGE_SIZE = 1024 * 1024;
+    private static final int MAX_DICTIONARY_PAGE_SIZE = 1024 * 1024;
+
+    @Test
+    public void testLowCompressionColumnFallsBack()
+    {
+        TrinoValuesWriterFactory factory = new TrinoValuesWriterFactory(MAX_PAGE_SIZE, MAX_DICTIONARY_PAGE_SIZE);
+        ValuesWriter uniqueColumn = factory.newValuesWriter(createColumnDescriptor("unique"), Optional.empty());
+        ValuesWriter repeatedColumn = factory.newValuesWriter(createColumnDescriptor("repeated"), Optional.empty());
+        List<DictionaryFallbackValuesWriter> dictionaryWriters = factory.getDictionaryWriters();
+        assertThat(dictionaryWriters).hasSize(2);
+
+        DictionaryCompressionOptimizer optimizer = new DictionaryCompressionOptimizer(dictionaryWriters, Long.MAX_VALUE);
+        for (int i = 0; i < 20_000; i++) {
+            uniqueColumn.writeLong(i);
+            repeatedColumn.writeLong(i % 10);
+        }
+        optimizer.optimize();
+
+        assertThat(dictionaryWriters.get(0).isDictionaryEncoded()).isFalse();
+        assertThat(dictionaryWriters.get(1).isDictionaryEncoded()).isTrue();
+        assertThat(optimizer.getDictionaryMemoryBytes()).isEqualTo(dictionaryWriters.get(1).getDictionaryByteSize());
+    }
+
+    @Test
+    public void testSmallColumnIsNotConverted()
+    {
+        TrinoValuesWriterFactory factory = new TrinoValuesWriterFactory(MAX_PAGE_SIZE, MAX_DICTIONARY_PAGE_SIZE);
+        ValuesWriter uniqueColumn = factory.newValuesWriter(createColumnDescriptor("unique"), Optional.empty());
+        DictionaryFallbackValuesWriter dictionaryWriter = factory.getDictionaryWriters().getFirst();
+
+        DictionaryCompressionOptimizer optimizer = new DictionaryCompressionOptimizer(factory.getDictionaryWriters(), Long.MAX_VALUE);
+        for (int i = 0; i < 1000; i++) {
+            uniqueColumn.writeLong(i);
+        }
+        optimizer.optimize();
+
+        // not enough data to judge the dictionary yet
+        assertThat(dictionaryWriter.getTotalRawDataByteSize()).isLessThan(DictionaryCompressionOptimizer.DICTIONARY_MIN_RAW_BYTES);
+        assertThat(dictionaryWriter.isDictionaryEncoded()).isTrue();
+    }
+
+    @Test
+    public void testDictionaryMemoryLimit()
+    {
+        TrinoValuesWriterFactory factory = new TrinoValuesWriterFactory(MAX_PAGE_SIZE, MAX_DICTIONARY_PAGE_SIZE);
+        ValuesWriter smallDictionaryColumn = factory.newValuesWriter(createColumnDescriptor("small_dictionary"), Optional.empty());
+        ValuesWriter largeDictionaryColumn = factory.newValuesWriter(createColumnDescriptor("large_dictionary"), Optional.empty());
+        List<DictionaryFallbackValuesWriter> dictionaryWriters = factory.getDictionaryWriters();
+
+        DictionaryCompressionOptimizer optimizer = new DictionaryCompressionOptimizer(dictionaryWriters, 20 * 1024);
+        for (int i = 0; i < 20_000; i++) {
+            smallDictionaryColumn.writeLong(i % 1000);
+            largeDictionaryColumn.writeLong(i % 4000);
+        }
+        assertThat(dictionaryWriters.get(0).getDictionaryByteSize() + dictionaryWriters.get(1).getDictionaryByteSize()).isGreaterThan(20 * 1024);
+        optimizer.optimize();
+
+        // both dictionaries pay off, but only the more effective one fits in memory
+        assertThat(dictionaryWriters.get(0).isDictionaryEncoded()).isTrue();
+        assertThat(dictionaryWriters.get(1).isDictionaryEncoded()).isFalse();
+        assertThat(optimizer.getDictionaryMemoryBytes())
+                .isEqualTo(dictionaryWriters.get(0).getDictionaryByteSize())
+                .isLessThanOrEqualTo(20 * 1024);
+    }
+
+    private static ColumnDescriptor createColumnDescriptor(String name)
+    {
+        return new ColumnDescriptor(new String[] {name}, required(INT64).named(name), 0, 0);
+    }
+}
@@ -61,6 +61,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -87,6 +88,7 @@ import static io.trino.spi.type.VarbinaryType.VARBINARY;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.Float.floatToRawIntBits;
 import static java.lang.Math.toIntExact;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toList;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
@@ -111,6 +113,46 @@ public class TestParquetWriter
         assertThat(version.appBuildHash).isEqualTo("n/a");
     }
 
+    @Test
+    public void testParallelWriteMatchesSequentialWrite()
+            throws IOException
+    {
+        List<String> columnNames = ImmutableList.of("columnA", "columnB", "columnC", "columnD", "columnE");
+        List<Type> types = ImmutableList.of(INTEGER, BIGINT, TINYINT, BIGINT, INTEGER);
+        List<Page> inputPages = generateInputPages(types, 1000, 100);
+        ParquetWriterOptions writerOptions = ParquetWriterOptions.builder()
+                // produce several row groups
+                .setMaxBlockSize(DataSize.ofBytes(200 * 1024))
+                .build();
+        Slice sequentialFile = writeParquetFile(writerOptions, types, columnNames, inputPages);
+
+        ExecutorService executor = newFixedThreadPool(3);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ParquetWriter writer = createParquetWriter(
+                    outputStream,
+                    ParquetWriterOptions.builder()
+                            .setMaxBlockSize(DataSize.ofBytes(200 * 1024))
+                            .setWriterParallelism(3)
+                            .build(),
+                    types,
+                    columnNames,
+                    CompressionCodec.SNAPPY,
+                    executor);
+            for (Page inputPage : inputPages) {
+                writer.write(inputPage);
+            }
+            writer.close();
+
+            // column chunks are written in schema order regardless of which thread encoded them
+            assertThat(Slices.wrappedBuffer(outputStream.toByteArray())).isEqualTo(sequentialFile);
+            assertThat(writer.getFileMetaData().getRow_groups().size()).isGreaterThan(1);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testWrittenPageSize()
             throws IOException
@@ -220,6 +220,28 @@ public class TestDictionaryWriter
         checkRepeated(count, bytes3, decoder, "a");
     }
 
+    @Test
+    public void testFallBackReleasesDictionary()
+            throws IOException
+    {
+        int count = 1000;
+        DictionaryFallbackValuesWriter fallbackValuesWriter = newPlainBinaryDictionaryValuesWriter(1000, 10000);
+        writeRepeated(count, fallbackValuesWriter, "a");
+        BytesInput bytes1 = getBytesAndCheckEncoding(fallbackValuesWriter, getDictionaryEncoding());
+        writeDistinct(count, fallbackValuesWriter, "b");
+        BytesInput bytes2 = getBytesAndCheckEncoding(fallbackValuesWriter, PLAIN);
+
+        // only the dictionary page of the first page is retained on top of the plain values
+        assertThat(fallbackValuesWriter.getDictionaryByteSize()).isZero();
+        assertThat(fallbackValuesWriter.getAllocatedSize()).isLessThan(fallbackValuesWriter.getFallBackWriter().getAllocatedSize() + 1000);
+
+        ValueDecoder<BinaryBuffer> decoder = getDictionaryDecoder(fallbackValuesWriter, BINARY_ADAPTER, new PlainByteArrayDecoders.BinaryPlainValueDecoder());
+        checkRepeated(count, bytes1, decoder, "a");
+        assertThat(fallbackValuesWriter.getAllocatedSize()).isEqualTo(fallbackValuesWriter.getFallBackWriter().getAllocatedSize());
+        decoder = new PlainByteArrayDecoders.BinaryPlainValueDecoder();
+        checkDistinct(count, bytes2, decoder, "b");
+    }
+
     @Test
     public void testLongDictionary()
             throws IOException
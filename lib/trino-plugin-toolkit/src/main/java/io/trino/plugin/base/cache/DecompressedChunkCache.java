@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.base.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
+import io.trino.cache.CacheStatsMBean;
+import io.trino.cache.EvictableCacheBuilder;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Worker wide cache of decompressed column data, shared by all readers of a connector.
+ * Entries are keyed by file location, length, modification time and the position of the
+ * compressed data in the file, so a file that is replaced is read again instead of being
+ * served stale chunks. The position is an offset in the file, optionally refined by an
+ * index for formats that address several units from one offset.
+ */
+public class DecompressedChunkCache
+{
+    private final boolean enabled;
+    private final Cache<ChunkKey, Chunk> cache;
+    private final CacheStatsMBean cacheStats;
+
+    public DecompressedChunkCache(DataSize maxSize)
+    {
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = EvictableCacheBuilder.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Weigher<ChunkKey, Chunk>) (key, value) -> toIntExact(key.getRetainedSizeInBytes() + value.getRetainedSizeInBytes()))
+                .recordStats()
+                .build();
+        this.cacheStats = new CacheStatsMBean(cache);
+    }
+
+    /**
+     * Returns {@code false} when the maximum size is zero, in which case readers
+     * decompress every chunk into their own buffers.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Returns a view of the cache for a single file. The view counts the hits and misses
+     * of the reader using it, and is not thread safe.
+     */
+    public FileChunkCache forFile(String location, long length, long modificationTime)
+    {
+        return new FileChunkCache(location, length, modificationTime);
+    }
+
+    @Managed
+    @Nested
+    public CacheStatsMBean getCacheStats()
+    {
+        return cacheStats;
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    private Chunk get(ChunkKey key, ChunkLoader loader)
+            throws IOException
+    {
+        try {
+            return cache.get(key, loader::load);
+        }
+        catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfInstanceOf(e.getCause(), IOException.class);
+            throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public final class FileChunkCache
+    {
+        private final String location;
+        private final long length;
+        private final long modificationTime;
+
+        private long hits;
+        private long misses;
+
+        private FileChunkCache(String location, long length, long modificationTime)
+        {
+            this.location = requireNonNull(location, "location is null");
+            this.length = length;
+            this.modificationTime = modificationTime;
+        }
+
+        public Chunk get(long offset, ChunkLoader loader)
+                throws IOException
+        {
+            return get(offset, 0, loader);
+        }
+
+        public Chunk get(long offset, long index, ChunkLoader loader)
+                throws IOException
+        {
+            boolean[] loaded = new boolean[1];
+            Chunk chunk = DecompressedChunkCache.this.get(new ChunkKey(location, length, modificationTime, offset, index), () -> {
+                loaded[0] = true;
+                return loader.load();
+            });
+            if (loaded[0]) {
+                misses++;
+            }
+            else {
+                hits++;
+            }
+            return chunk;
+        }
+
+        public long getHits()
+        {
+            return hits;
+        }
+
+        public long getMisses()
+        {
+            return misses;
+        }
+    }
+
+    public interface ChunkLoader
+    {
+        Chunk load()
+                throws IOException;
+    }
+
+    /**
+     * @param data decompressed data, must not be modified once cached
+     * @param storedSize size of the data as stored in the file, including any framing
+     */
+    public record Chunk(Slice data, int storedSize)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(Chunk.class);
+
+        public Chunk
+        {
+            requireNonNull(data, "data is null");
+        }
+
+        public long getRetainedSizeInBytes()
+        {
+            return INSTANCE_SIZE + data.getRetainedSize();
+        }
+    }
+
+    private record ChunkKey(String location, long length, long modificationTime, long offset, long index)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(ChunkKey.class);
+
+        public long getRetainedSizeInBytes()
+        {
+            return INSTANCE_SIZE + estimatedSizeOf(location);
+        }
+    }
+}
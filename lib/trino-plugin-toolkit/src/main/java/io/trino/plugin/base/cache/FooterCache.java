@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.base.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import io.airlift.units.DataSize;
+import io.trino.cache.CacheStatsMBean;
+import io.trino.cache.EvictableCacheBuilder;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cache of parsed file footers, shared by all readers of a connector.
+ * Entries are keyed by file location, length and modification time, so a file
+ * that is replaced is read again instead of being served a stale footer.
+ */
+public class FooterCache
+{
+    private final boolean enabled;
+    private final Cache<FooterKey, LoadedFooter<?>> cache;
+    private final CacheStatsMBean cacheStats;
+
+    @Inject
+    public FooterCache(FooterCacheConfig config)
+    {
+        this(config.getMaxSize());
+    }
+
+    public FooterCache(DataSize maxSize)
+    {
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = EvictableCacheBuilder.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Weigher<FooterKey, LoadedFooter<?>>) (key, value) -> toIntExact(min(key.getRetainedSizeInBytes() + value.sizeInBytes(), Integer.MAX_VALUE)))
+                .recordStats()
+                .build();
+        this.cacheStats = new CacheStatsMBean(cache);
+    }
+
+    /**
+     * Returns {@code false} when the maximum size is zero, in which case the footer is
+     * read and parsed for every split.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Returns a view of the cache for a single file. Use {@code 0} as the
+     * modification time for file formats where files are never overwritten.
+     */
+    public CachedFile forFile(String location, long length, long modificationTime)
+    {
+        return new CachedFile(location, length, modificationTime);
+    }
+
+    @Managed
+    @Nested
+    public CacheStatsMBean getCacheStats()
+    {
+        return cacheStats;
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    public final class CachedFile
+    {
+        private final String location;
+        private final long length;
+        private final long modificationTime;
+
+        private CachedFile(String location, long length, long modificationTime)
+        {
+            this.location = requireNonNull(location, "location is null");
+            this.length = length;
+            this.modificationTime = modificationTime;
+        }
+
+        public <T> T getFooter(Class<T> footerType, FooterLoader<T> loader)
+                throws IOException
+        {
+            FooterKey key = new FooterKey(location, length, modificationTime, footerType);
+            try {
+                return footerType.cast(cache.get(key, loader::load).footer());
+            }
+            catch (ExecutionException | UncheckedExecutionException e) {
+                throwIfInstanceOf(e.getCause(), IOException.class);
+                throwIfUnchecked(e.getCause());
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    public interface FooterLoader<T>
+    {
+        LoadedFooter<T> load()
+                throws IOException;
+    }
+
+    /**
+     * @param footer parsed footer, must be immutable
+     * @param sizeInBytes estimated memory used by the parsed footer
+     */
+    public record LoadedFooter<T>(T footer, long sizeInBytes)
+    {
+        public LoadedFooter
+        {
+            requireNonNull(footer, "footer is null");
+        }
+    }
+
+    private record FooterKey(String location, long length, long modificationTime, Class<?> footerType)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(FooterKey.class);
+
+        public long getRetainedSizeInBytes()
+        {
+            return INSTANCE_SIZE + estimatedSizeOf(location);
+        }
+    }
+}
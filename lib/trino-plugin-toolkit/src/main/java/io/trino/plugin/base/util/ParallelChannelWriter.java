@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.base.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Futures.getDone;
+import static com.google.common.util.concurrent.Futures.submit;
+import static com.google.common.util.concurrent.Futures.successfulAsList;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs the per-column work of a file writer on an executor, with the channels split into
+ * round-robin groups and one task per group. Every call blocks until all the channels
+ * are processed, so a writer has at most one chunk in flight.
+ */
+public final class ParallelChannelWriter
+{
+    private final Executor executor;
+    // empty when the channels are processed sequentially
+    private final List<int[]> channelGroups;
+
+    public ParallelChannelWriter(int channelCount, int parallelism, Executor executor)
+    {
+        this.executor = requireNonNull(executor, "executor is null");
+        this.channelGroups = createChannelGroups(channelCount, parallelism);
+    }
+
+    public boolean isParallel()
+    {
+        return !channelGroups.isEmpty();
+    }
+
+    public void run(ChannelTask task)
+            throws IOException
+    {
+        if (!isParallel()) {
+            throw new IllegalStateException("Channels are processed sequentially");
+        }
+
+        List<ListenableFuture<Void>> futures = new ArrayList<>(channelGroups.size());
+        try {
+            for (int[] channels : channelGroups) {
+                futures.add(submit(() -> {
+                    for (int channel : channels) {
+                        try {
+                            task.run(channel);
+                        }
+                        catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                }, executor));
+            }
+            // wait for all the tasks, so no column writer is still in use when a failure is propagated
+            successfulAsList(futures).get();
+            for (ListenableFuture<Void> future : futures) {
+                getDone(future);
+            }
+        }
+        catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing columns");
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static List<int[]> createChannelGroups(int channelCount, int parallelism)
+    {
+        int groupCount = min(channelCount, parallelism);
+        if (groupCount <= 1) {
+            return ImmutableList.of();
+        }
+
+        // assign channels round-robin, so that groups get a similar mix of column types
+        List<List<Integer>> groups = new ArrayList<>(groupCount);
+        for (int group = 0; group < groupCount; group++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int channel = 0; channel < channelCount; channel++) {
+            groups.get(channel % groupCount).add(channel);
+        }
+        return groups.stream()
+                .map(channels -> channels.stream().mapToInt(Integer::intValue).toArray())
+                .collect(toImmutableList());
+    }
+
+    public interface ChannelTask
+    {
+        void run(int channel)
+                throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.base.cache;
+
+import io.airlift.units.DataSize;
+import io.trino.plugin.base.cache.FooterCache.LoadedFooter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.airlift.units.DataSize.Unit.KILOBYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestFooterCache
+{
+    @Test
+    public void testFooterIsLoadedOnce()
+            throws IOException
+    {
+        FooterCache cache = new FooterCache(DataSize.of(1, MEGABYTE));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            String footer = cache.forFile("memory:///file", 100, 1).getFooter(String.class, () -> {
+                loads.incrementAndGet();
+                return new LoadedFooter<>("footer", 10);
+            });
+            assertThat(footer).isEqualTo("footer");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getCacheStats().getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testChangedFileIsLoadedAgain()
+            throws IOException
+    {
+        FooterCache cache = new FooterCache(DataSize.of(1, MEGABYTE));
+
+        assertThat(cache.forFile("memory:///file", 100, 1).getFooter(String.class, () -> new LoadedFooter<>("first", 10))).isEqualTo("first");
+        assertThat(cache.forFile("memory:///file", 100, 2).getFooter(String.class, () -> new LoadedFooter<>("modified", 10))).isEqualTo("modified");
+        assertThat(cache.forFile("memory:///file", 200, 2).getFooter(String.class, () -> new LoadedFooter<>("resized", 10))).isEqualTo("resized");
+        assertThat(cache.forFile("memory:///file", 100, 1).getFooter(String.class, () -> new LoadedFooter<>("reloaded", 10))).isEqualTo("first");
+    }
+
+    @Test
+    public void testOversizedFooterIsNotRetained()
+            throws IOException
+    {
+        FooterCache cache = new FooterCache(DataSize.of(1, KILOBYTE));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.forFile("memory:///file", 100, 1).getFooter(String.class, () -> {
+                loads.incrementAndGet();
+                return new LoadedFooter<>("footer", DataSize.of(1, MEGABYTE).toBytes());
+            });
+        }
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLoadFailure()
+    {
+        FooterCache cache = new FooterCache(DataSize.of(1, MEGABYTE));
+
+        assertThatThrownBy(() -> cache.forFile("memory:///file", 100, 1).getFooter(String.class, () -> {
+            throw new IOException("corrupted footer");
+        }))
+                .isInstanceOf(IOException.class)
+                .hasMessage("corrupted footer");
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        assertThat(new FooterCache(new FooterCacheConfig()).isEnabled()).isFalse();
+        assertThat(new FooterCache(DataSize.of(1, MEGABYTE)).isEnabled()).isTrue();
+    }
+}
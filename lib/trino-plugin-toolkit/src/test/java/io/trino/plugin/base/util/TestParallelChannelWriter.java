@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.base.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+public class TestParallelChannelWriter
+{
+    private final ExecutorService executor = newFixedThreadPool(4);
+
+    @AfterAll
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSequential()
+    {
+        assertThat(new ParallelChannelWriter(10, 1, executor).isParallel()).isFalse();
+        assertThat(new ParallelChannelWriter(1, 4, executor).isParallel()).isFalse();
+        assertThat(new ParallelChannelWriter(0, 4, executor).isParallel()).isFalse();
+        assertThat(new ParallelChannelWriter(2, 2, directExecutor()).isParallel()).isTrue();
+    }
+
+    @Test
+    public void testRunsEveryChannelOnce()
+            throws IOException
+    {
+        Set<Integer> channels = ConcurrentHashMap.newKeySet();
+        new ParallelChannelWriter(11, 3, executor).run(channel -> assertThat(channels.add(channel)).isTrue());
+        assertThat(channels).hasSize(11).allMatch(channel -> channel >= 0 && channel < 11);
+    }
+
+    @Test
+    public void testPropagatesFailure()
+    {
+        ParallelChannelWriter writer = new ParallelChannelWriter(8, 4, executor);
+        assertThatThrownBy(() -> writer.run(channel -> {
+            if (channel == 5) {
+                throw new IOException("test failure");
+            }
+        }))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("test failure");
+        assertThatThrownBy(() -> writer.run(channel -> {
+            throw new IllegalArgumentException("test argument");
+        }))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("test argument");
+    }
+}
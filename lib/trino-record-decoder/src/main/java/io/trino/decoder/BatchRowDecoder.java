@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.decoder;
+
+import io.trino.spi.block.BlockBuilder;
+
+import java.util.List;
+
+/**
+ * Implementations decode batches of rows directly into block builders, without creating field value providers for every value.
+ */
+public interface BatchRowDecoder
+{
+    /**
+     * Decodes the given rows and appends one position per row to each block builder. The block builders are in
+     * the order of the columns the decoder was created for. Columns missing in a row are appended as null,
+     * and so are all columns of a row which cannot be decoded.
+     *
+     * @param rows The rows to decode. A null row is not decoded.
+     * @param output The block builders of the decoded columns.
+     * @return Returns for each row whether it was decoded.
+     */
+    boolean[] decodeRows(List<byte[]> rows, BlockBuilder[] output);
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.decoder;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.block.BlockBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.decoder.FieldValueProviders.appendValue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Batch decoder for row decoders which only decode rows into field value providers.
+ */
+class FieldValueProviderBatchRowDecoder
+        implements BatchRowDecoder
+{
+    private final RowDecoder rowDecoder;
+    private final List<DecoderColumnHandle> columns;
+
+    FieldValueProviderBatchRowDecoder(RowDecoder rowDecoder, List<DecoderColumnHandle> columns)
+    {
+        this.rowDecoder = requireNonNull(rowDecoder, "rowDecoder is null");
+        this.columns = ImmutableList.copyOf(requireNonNull(columns, "columns is null"));
+    }
+
+    @Override
+    public boolean[] decodeRows(List<byte[]> rows, BlockBuilder[] output)
+    {
+        checkArgument(output.length == columns.size(), "expected %s block builders, but got %s", columns.size(), output.length);
+        boolean[] decoded = new boolean[rows.size()];
+        for (int row = 0; row < rows.size(); row++) {
+            byte[] data = rows.get(row);
+            Optional<Map<DecoderColumnHandle, FieldValueProvider>> values = data == null ? Optional.empty() : rowDecoder.decodeRow(data);
+            decoded[row] = values.isPresent();
+            for (int column = 0; column < columns.size(); column++) {
+                DecoderColumnHandle columnHandle = columns.get(column);
+                FieldValueProvider value = values.isPresent() ? values.get().get(columnHandle) : null;
+                appendValue(value, columnHandle.getType(), output[column]);
+            }
+        }
+        return decoded;
+    }
+}
@@ -14,6 +14,8 @@
 package io.trino.decoder;
 
 import io.airlift.slice.Slice;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.Type;
 
 import static io.airlift.slice.Slices.wrappedBuffer;
 
@@ -91,4 +93,32 @@ public final class FieldValueProviders
     {
         return NULL_VALUE_PROVIDER;
     }
+
+    /**
+     * Appends the value of the provider to the block builder, or null if the provider is null or provides a null value.
+     */
+    public static void appendValue(FieldValueProvider provider, Type type, BlockBuilder output)
+    {
+        if (provider == null || provider.isNull()) {
+            output.appendNull();
+            return;
+        }
+        Class<?> javaType = type.getJavaType();
+        if (javaType == boolean.class) {
+            type.writeBoolean(output, provider.getBoolean());
+        }
+        else if (javaType == long.class) {
+            type.writeLong(output, provider.getLong());
+        }
+        else if (javaType == double.class) {
+            type.writeDouble(output, provider.getDouble());
+        }
+        else if (javaType == Slice.class) {
+            Slice slice = provider.getSlice();
+            type.writeSlice(output, slice, 0, slice.length());
+        }
+        else {
+            type.writeObject(output, provider.getObject());
+        }
+    }
 }
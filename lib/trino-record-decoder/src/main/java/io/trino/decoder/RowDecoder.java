@@ -13,6 +13,7 @@
  */
 package io.trino.decoder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,4 +29,15 @@ public interface RowDecoder
      * @return Returns mapping from column handle to decoded value. Unmapped columns will be reported as null. Optional.empty() signals decoding error.
      */
     Optional<Map<DecoderColumnHandle, FieldValueProvider>> decodeRow(byte[] data);
+
+    /**
+     * Creates a decoder which decodes batches of rows directly into block builders.
+     * The default implementation writes the field values returned by {@link #decodeRow(byte[])}.
+     *
+     * @param columns The columns to decode, a subset of the columns this decoder was created for.
+     */
+    default BatchRowDecoder createBatchRowDecoder(List<DecoderColumnHandle> columns)
+    {
+        return new FieldValueProviderBatchRowDecoder(this, columns);
+    }
 }
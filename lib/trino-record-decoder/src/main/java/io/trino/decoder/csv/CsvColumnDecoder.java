@@ -18,6 +18,7 @@ import io.airlift.slice.Slice;
 import io.trino.decoder.DecoderColumnHandle;
 import io.trino.decoder.FieldValueProvider;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.BlockBuilder;
 import io.trino.spi.type.Type;
 import io.trino.spi.type.VarcharType;
 
@@ -79,6 +80,41 @@ public class CsvColumnDecoder
         return false;
     }
 
+    /**
+     * Appends the value of the column directly to the block builder, equivalent to writing the value of {@link #decodeField(String[])}.
+     */
+    public void decodeValue(String[] tokens, BlockBuilder output)
+    {
+        if (columnIndex >= tokens.length || tokens[columnIndex].isEmpty()) {
+            output.appendNull();
+            return;
+        }
+        String token = tokens[columnIndex];
+        Class<?> javaType = columnType.getJavaType();
+        if (javaType == Slice.class) {
+            Slice slice = truncateToLength(utf8Slice(token), columnType);
+            columnType.writeSlice(output, slice, 0, slice.length());
+            return;
+        }
+        try {
+            if (javaType == boolean.class) {
+                columnType.writeBoolean(output, Boolean.parseBoolean(token.trim()));
+            }
+            else if (javaType == long.class) {
+                columnType.writeLong(output, Long.parseLong(token.trim()));
+            }
+            else if (javaType == double.class) {
+                columnType.writeDouble(output, Double.parseDouble(token.trim()));
+            }
+            else {
+                throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format("conversion to %s not supported", columnType));
+            }
+        }
+        catch (NumberFormatException e) {
+            throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format("could not parse value '%s' as '%s' for column '%s'", token.trim(), columnType, columnName));
+        }
+    }
+
     public FieldValueProvider decodeField(String[] tokens)
     {
         if (columnIndex >= tokens.length) {
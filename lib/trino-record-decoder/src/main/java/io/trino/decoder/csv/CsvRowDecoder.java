@@ -14,15 +14,19 @@
 package io.trino.decoder.csv;
 
 import com.opencsv.CSVParser;
+import io.trino.decoder.BatchRowDecoder;
 import io.trino.decoder.DecoderColumnHandle;
 import io.trino.decoder.FieldValueProvider;
 import io.trino.decoder.RowDecoder;
+import jakarta.annotation.Nullable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
@@ -69,4 +73,43 @@ public class CsvRowDecoder
                         Map.Entry::getKey,
                         entry -> entry.getValue().decodeField(tokens))));
     }
+
+    @Override
+    public BatchRowDecoder createBatchRowDecoder(List<DecoderColumnHandle> columns)
+    {
+        CsvColumnDecoder[] decoders = columns.stream()
+                .map(column -> requireNonNull(columnDecoders.get(column), () -> "Unknown column: " + column))
+                .toArray(CsvColumnDecoder[]::new);
+        return (rows, output) -> {
+            checkArgument(output.length == decoders.length, "expected %s block builders, but got %s", decoders.length, output.length);
+            boolean[] decoded = new boolean[rows.size()];
+            for (int row = 0; row < rows.size(); row++) {
+                String[] tokens = parseLine(rows.get(row));
+                decoded[row] = tokens != null;
+                for (int column = 0; column < decoders.length; column++) {
+                    if (tokens == null) {
+                        output[column].appendNull();
+                    }
+                    else {
+                        decoders[column].decodeValue(tokens, output[column]);
+                    }
+                }
+            }
+            return decoded;
+        };
+    }
+
+    @Nullable
+    private String[] parseLine(byte[] data)
+    {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return parser.parseLine(new String(data, StandardCharsets.UTF_8));
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
 }
@@ -18,15 +18,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
+import io.trino.decoder.BatchRowDecoder;
 import io.trino.decoder.DecoderColumnHandle;
 import io.trino.decoder.FieldValueProvider;
 import io.trino.decoder.RowDecoder;
+import jakarta.annotation.Nullable;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.decoder.FieldValueProviders.appendValue;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -69,13 +75,65 @@ public class JsonRowDecoder
         return Optional.of(decodedRow);
     }
 
+    @Override
+    public BatchRowDecoder createBatchRowDecoder(List<DecoderColumnHandle> columns)
+    {
+        JsonFieldDecoder[] decoders = columns.stream()
+                .map(column -> requireNonNull(fieldDecoders.get(column), () -> "Unknown column: " + column))
+                .toArray(JsonFieldDecoder[]::new);
+        // split the mappings once rather than for every row
+        List<List<String>> paths = columns.stream()
+                .map(JsonRowDecoder::getPath)
+                .collect(toImmutableList());
+        return (rows, output) -> {
+            checkArgument(output.length == decoders.length, "expected %s block builders, but got %s", decoders.length, output.length);
+            boolean[] decoded = new boolean[rows.size()];
+            for (int row = 0; row < rows.size(); row++) {
+                JsonNode tree = readTree(rows.get(row));
+                decoded[row] = tree != null;
+                for (int column = 0; column < decoders.length; column++) {
+                    if (tree == null) {
+                        output[column].appendNull();
+                    }
+                    else {
+                        appendValue(decoders[column].decode(locateNode(tree, paths.get(column))), columns.get(column).getType(), output[column]);
+                    }
+                }
+            }
+            return decoded;
+        };
+    }
+
+    @Nullable
+    private JsonNode readTree(byte[] data)
+    {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(data);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+
     private static JsonNode locateNode(JsonNode tree, DecoderColumnHandle columnHandle)
+    {
+        return locateNode(tree, getPath(columnHandle));
+    }
+
+    private static List<String> getPath(DecoderColumnHandle columnHandle)
     {
         String mapping = columnHandle.getMapping();
         checkState(mapping != null, "No mapping for %s", columnHandle.getName());
+        return Splitter.on('/').omitEmptyStrings().splitToList(mapping);
+    }
 
+    private static JsonNode locateNode(JsonNode tree, List<String> path)
+    {
         JsonNode currentNode = tree;
-        for (String pathElement : Splitter.on('/').omitEmptyStrings().split(mapping)) {
+        for (String pathElement : path) {
             if (!currentNode.has(pathElement)) {
                 return MissingNode.getInstance();
             }
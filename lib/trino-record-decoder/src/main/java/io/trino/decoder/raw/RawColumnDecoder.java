@@ -21,10 +21,12 @@ import io.trino.decoder.DecoderColumnHandle;
 import io.trino.decoder.FieldValueProvider;
 import io.trino.spi.StandardErrorCode;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.BlockBuilder;
 import io.trino.spi.type.Type;
 import io.trino.spi.type.VarcharType;
 import io.trino.spi.type.Varchars;
 
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Locale;
@@ -44,6 +46,8 @@ import static io.trino.spi.type.SmallintType.SMALLINT;
 import static io.trino.spi.type.TinyintType.TINYINT;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
+import static java.lang.invoke.MethodHandles.byteArrayViewVarHandle;
+import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.util.Objects.requireNonNull;
 
 public class RawColumnDecoder
@@ -70,6 +74,13 @@ public class RawColumnDecoder
         }
     }
 
+    // ByteBuffer, which is used by the field value providers, is big endian by default
+    private static final VarHandle SHORT_HANDLE = byteArrayViewVarHandle(short[].class, BIG_ENDIAN);
+    private static final VarHandle INT_HANDLE = byteArrayViewVarHandle(int[].class, BIG_ENDIAN);
+    private static final VarHandle LONG_HANDLE = byteArrayViewVarHandle(long[].class, BIG_ENDIAN);
+    private static final VarHandle FLOAT_HANDLE = byteArrayViewVarHandle(float[].class, BIG_ENDIAN);
+    private static final VarHandle DOUBLE_HANDLE = byteArrayViewVarHandle(double[].class, BIG_ENDIAN);
+
     private static final Pattern MAPPING_PATTERN = Pattern.compile("(\\d+)(?::(\\d+))?");
 
     private final String columnName;
@@ -187,23 +198,82 @@ public class RawColumnDecoder
         requireNonNull(value, "value is null");
 
         int actualEnd = end.orElse(value.length);
+        checkBounds(actualEnd, value.length);
+        return new RawValueProvider(ByteBuffer.wrap(value, start, actualEnd - start), fieldType, columnName, columnType);
+    }
+
+    /**
+     * Appends the value of the column directly to the block builder, equivalent to writing the value of {@link #decodeField(byte[])}.
+     */
+    public void decodeValue(byte[] value, BlockBuilder output)
+    {
+        requireNonNull(value, "value is null");
+
+        int actualEnd = end.orElse(value.length);
+        checkBounds(actualEnd, value.length);
+        int size = actualEnd - start;
+        if (size == 0) {
+            output.appendNull();
+            return;
+        }
+
+        Class<?> javaType = columnType.getJavaType();
+        if (javaType == Slice.class) {
+            Slice slice = Varchars.truncateToLength(Slices.wrappedBuffer(value, start, size), columnType);
+            columnType.writeSlice(output, slice, 0, slice.length());
+            return;
+        }
+        checkState(size >= fieldType.getSize(), "minimum byte size for column '%s' is %s, found %s,", columnName, fieldType.getSize(), size);
+        if (javaType == boolean.class) {
+            boolean booleanValue = switch (fieldType) {
+                case BYTE -> value[start] != 0;
+                case SHORT -> (short) SHORT_HANDLE.get(value, start) != 0;
+                case INT -> (int) INT_HANDLE.get(value, start) != 0;
+                case LONG -> (long) LONG_HANDLE.get(value, start) != 0;
+                default -> throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format("conversion '%s' to boolean not supported", fieldType));
+            };
+            columnType.writeBoolean(output, booleanValue);
+        }
+        else if (javaType == long.class) {
+            long longValue = switch (fieldType) {
+                case BYTE -> value[start];
+                case SHORT -> (short) SHORT_HANDLE.get(value, start);
+                case INT -> (int) INT_HANDLE.get(value, start);
+                case LONG -> (long) LONG_HANDLE.get(value, start);
+                default -> throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format("conversion '%s' to long not supported", fieldType));
+            };
+            columnType.writeLong(output, longValue);
+        }
+        else if (javaType == double.class) {
+            double doubleValue = switch (fieldType) {
+                case FLOAT -> (float) FLOAT_HANDLE.get(value, start);
+                case DOUBLE -> (double) DOUBLE_HANDLE.get(value, start);
+                default -> throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format("conversion '%s' to double not supported", fieldType));
+            };
+            columnType.writeDouble(output, doubleValue);
+        }
+        else {
+            throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format("conversion to %s not supported", columnType));
+        }
+    }
 
-        if (start > value.length) {
+    private void checkBounds(int actualEnd, int length)
+    {
+        if (start > length) {
             throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format(
                     "start offset %s for column '%s' must be less that or equal to value length %s",
                     start,
                     columnName,
-                    value.length));
+                    length));
         }
 
-        if (actualEnd > value.length) {
+        if (actualEnd > length) {
             throw new TrinoException(DECODER_CONVERSION_NOT_SUPPORTED, format(
                     "end offset %s for column '%s' must be less that or equal to value length %s",
                     actualEnd,
                     columnName,
-                    value.length));
+                    length));
         }
-        return new RawValueProvider(ByteBuffer.wrap(value, start, actualEnd - start), fieldType, columnName, columnType);
     }
 
     private static class RawValueProvider
@@ -13,14 +13,17 @@
  */
 package io.trino.decoder.raw;
 
+import io.trino.decoder.BatchRowDecoder;
 import io.trino.decoder.DecoderColumnHandle;
 import io.trino.decoder.FieldValueProvider;
 import io.trino.decoder.RowDecoder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
@@ -55,4 +58,29 @@ public class RawRowDecoder
                         Map.Entry::getKey,
                         entry -> entry.getValue().decodeField(data))));
     }
+
+    @Override
+    public BatchRowDecoder createBatchRowDecoder(List<DecoderColumnHandle> columns)
+    {
+        RawColumnDecoder[] decoders = columns.stream()
+                .map(column -> requireNonNull(columnDecoders.get(column), () -> "Unknown column: " + column))
+                .toArray(RawColumnDecoder[]::new);
+        return (rows, output) -> {
+            checkArgument(output.length == decoders.length, "expected %s block builders, but got %s", decoders.length, output.length);
+            boolean[] decoded = new boolean[rows.size()];
+            for (int row = 0; row < rows.size(); row++) {
+                byte[] data = rows.get(row);
+                decoded[row] = data != null;
+                for (int column = 0; column < decoders.length; column++) {
+                    if (data == null) {
+                        output[column].appendNull();
+                    }
+                    else {
+                        decoders[column].decodeValue(data, output[column]);
+                    }
+                }
+            }
+            return decoded;
+        };
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.decoder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.json.ObjectMapperProvider;
+import io.trino.decoder.avro.AvroFileDeserializer;
+import io.trino.decoder.avro.AvroRowDecoderFactory;
+import io.trino.decoder.avro.FixedSchemaAvroReaderSupplier;
+import io.trino.decoder.csv.CsvRowDecoder;
+import io.trino.decoder.csv.CsvRowDecoderFactory;
+import io.trino.decoder.json.JsonRowDecoder;
+import io.trino.decoder.json.JsonRowDecoderFactory;
+import io.trino.decoder.raw.RawRowDecoder;
+import io.trino.decoder.raw.RawRowDecoderFactory;
+import io.trino.spi.block.BlockBuilder;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static io.trino.decoder.avro.AvroRowDecoderFactory.DATA_SCHEMA;
+import static io.trino.decoder.util.DecoderTestUtil.TESTING_SESSION;
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Measures the number of messages decoded per second on a single thread, decoding rows one by one
+ * into field value providers, and decoding batches of rows directly into block builders.
+ */
+@SuppressWarnings("MethodMayBeStatic")
+@State(Thread)
+@OutputTimeUnit(SECONDS)
+@Fork(2)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OperationsPerInvocation(BenchmarkBatchRowDecoder.ROWS)
+public class BenchmarkBatchRowDecoder
+{
+    static final int ROWS = 1_000;
+
+    @Param({"raw", "csv", "json", "avro"})
+    private String format = "raw";
+
+    private List<DecoderColumnHandle> columns;
+    private List<byte[]> rows;
+    private RowDecoder rowDecoder;
+    private BatchRowDecoder batchRowDecoder;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(42);
+        rows = new ArrayList<>(ROWS);
+        switch (format) {
+            case "raw" -> {
+                columns = ImmutableList.of(
+                        new DecoderTestColumnHandle(0, "id", BIGINT, "0", "LONG", null, false, false, false),
+                        new DecoderTestColumnHandle(1, "value", DOUBLE, "8", "DOUBLE", null, false, false, false),
+                        new DecoderTestColumnHandle(2, "flag", BOOLEAN, "16", "BYTE", null, false, false, false),
+                        new DecoderTestColumnHandle(3, "name", VARCHAR, "17", "BYTE", null, false, false, false));
+                for (int i = 0; i < ROWS; i++) {
+                    byte[] name = randomName(random).getBytes(UTF_8);
+                    rows.add(ByteBuffer.allocate(17 + name.length)
+                            .putLong(random.nextLong())
+                            .putDouble(random.nextDouble())
+                            .put((byte) (random.nextBoolean() ? 1 : 0))
+                            .put(name)
+                            .array());
+                }
+                rowDecoder = new RawRowDecoderFactory().create(TESTING_SESSION, new RowDecoderSpec(RawRowDecoder.NAME, ImmutableMap.of(), ImmutableSet.copyOf(columns)));
+            }
+            case "csv" -> {
+                columns = ImmutableList.of(
+                        new DecoderTestColumnHandle(0, "id", BIGINT, "0", null, null, false, false, false),
+                        new DecoderTestColumnHandle(1, "value", DOUBLE, "1", null, null, false, false, false),
+                        new DecoderTestColumnHandle(2, "flag", BOOLEAN, "2", null, null, false, false, false),
+                        new DecoderTestColumnHandle(3, "name", VARCHAR, "3", null, null, false, false, false));
+                for (int i = 0; i < ROWS; i++) {
+                    rows.add("%s,%s,%s,\"%s\"".formatted(random.nextLong(), random.nextDouble(), random.nextBoolean(), randomName(random)).getBytes(UTF_8));
+                }
+                rowDecoder = new CsvRowDecoderFactory().create(TESTING_SESSION, new RowDecoderSpec(CsvRowDecoder.NAME, ImmutableMap.of(), ImmutableSet.copyOf(columns)));
+            }
+            case "json" -> {
+                columns = ImmutableList.of(
+                        new DecoderTestColumnHandle(0, "id", BIGINT, "id", null, null, false, false, false),
+                        new DecoderTestColumnHandle(1, "value", DOUBLE, "nested/value", null, null, false, false, false),
+                        new DecoderTestColumnHandle(2, "flag", BOOLEAN, "flag", null, null, false, false, false),
+                        new DecoderTestColumnHandle(3, "name", VARCHAR, "name", null, null, false, false, false));
+                for (int i = 0; i < ROWS; i++) {
+                    rows.add("{\"id\": %s, \"nested\": {\"value\": %s}, \"flag\": %s, \"name\": \"%s\"}"
+                            .formatted(random.nextLong(), random.nextDouble(), random.nextBoolean(), randomName(random))
+                            .getBytes(UTF_8));
+                }
+                rowDecoder = new JsonRowDecoderFactory(new ObjectMapperProvider().get())
+                        .create(TESTING_SESSION, new RowDecoderSpec(JsonRowDecoder.NAME, ImmutableMap.of(), ImmutableSet.copyOf(columns)));
+            }
+            case "avro" -> {
+                columns = ImmutableList.of(
+                        new DecoderTestColumnHandle(0, "id", BIGINT, "id", null, null, false, false, false),
+                        new DecoderTestColumnHandle(1, "value", DOUBLE, "value", null, null, false, false, false),
+                        new DecoderTestColumnHandle(2, "flag", BOOLEAN, "flag", null, null, false, false, false),
+                        new DecoderTestColumnHandle(3, "name", VARCHAR, "name", null, null, false, false, false));
+                Schema schema = SchemaBuilder.record("row").fields()
+                        .requiredLong("id")
+                        .requiredDouble("value")
+                        .requiredBoolean("flag")
+                        .requiredString("name")
+                        .endRecord();
+                for (int i = 0; i < ROWS; i++) {
+                    rows.add(toAvro(schema, new GenericRecordBuilder(schema)
+                            .set("id", random.nextLong())
+                            .set("value", random.nextDouble())
+                            .set("flag", random.nextBoolean())
+                            .set("name", randomName(random))
+                            .build()));
+                }
+                Map<String, String> parameters = ImmutableMap.of(DATA_SCHEMA, schema.toString());
+                rowDecoder = new AvroRowDecoderFactory(new FixedSchemaAvroReaderSupplier.Factory(), new AvroFileDeserializer.Factory())
+                        .create(TESTING_SESSION, new RowDecoderSpec(AvroRowDecoderFactory.NAME, parameters, ImmutableSet.copyOf(columns)));
+            }
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        batchRowDecoder = rowDecoder.createBatchRowDecoder(columns);
+    }
+
+    @Benchmark
+    public Object decodeRowByRow()
+    {
+        BlockBuilder[] output = createBlockBuilders();
+        for (byte[] row : rows) {
+            Map<DecoderColumnHandle, FieldValueProvider> values = rowDecoder.decodeRow(row).orElseThrow();
+            for (int column = 0; column < columns.size(); column++) {
+                DecoderColumnHandle columnHandle = columns.get(column);
+                FieldValueProviders.appendValue(values.get(columnHandle), columnHandle.getType(), output[column]);
+            }
+        }
+        return build(output);
+    }
+
+    @Benchmark
+    public Object decodeBatch()
+    {
+        BlockBuilder[] output = createBlockBuilders();
+        batchRowDecoder.decodeRows(rows, output);
+        return build(output);
+    }
+
+    private BlockBuilder[] createBlockBuilders()
+    {
+        return columns.stream()
+                .map(column -> column.getType().createBlockBuilder(null, ROWS))
+                .toArray(BlockBuilder[]::new);
+    }
+
+    private static Object build(BlockBuilder[] output)
+    {
+        List<Object> blocks = new ArrayList<>(output.length);
+        for (BlockBuilder blockBuilder : output) {
+            blocks.add(blockBuilder.build());
+        }
+        return blocks;
+    }
+
+    private static String randomName(Random random)
+    {
+        return "name_" + random.nextInt(100_000);
+    }
+
+    private static byte[] toAvro(Schema schema, GenericRecord record)
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<>(schema))) {
+            writer.create(schema, output);
+            writer.append(record);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        BenchmarkBatchRowDecoder benchmark = new BenchmarkBatchRowDecoder();
+        benchmark.setup();
+        benchmark.decodeRowByRow();
+        benchmark.decodeBatch();
+
+        benchmark(BenchmarkBatchRowDecoder.class).run();
+    }
+}
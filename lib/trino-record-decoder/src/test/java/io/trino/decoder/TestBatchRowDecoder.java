@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.decoder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.json.ObjectMapperProvider;
+import io.trino.decoder.csv.CsvRowDecoder;
+import io.trino.decoder.csv.CsvRowDecoderFactory;
+import io.trino.decoder.json.JsonRowDecoder;
+import io.trino.decoder.json.JsonRowDecoderFactory;
+import io.trino.decoder.raw.RawRowDecoder;
+import io.trino.decoder.raw.RawRowDecoderFactory;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.Type;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.trino.decoder.util.DecoderTestUtil.TESTING_SESSION;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.spi.type.VarcharType.createVarcharType;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBatchRowDecoder
+{
+    @Test
+    public void testRaw()
+    {
+        List<DecoderColumnHandle> columns = ImmutableList.of(
+                new DecoderTestColumnHandle(0, "id", BIGINT, "0", "LONG", null, false, false, false),
+                new DecoderTestColumnHandle(1, "flag", BOOLEAN, "8", "BYTE", null, false, false, false),
+                new DecoderTestColumnHandle(2, "value", DOUBLE, "9", "DOUBLE", null, false, false, false),
+                new DecoderTestColumnHandle(3, "small", INTEGER, "17", "SHORT", null, false, false, false),
+                new DecoderTestColumnHandle(4, "name", createVarcharType(3), "19", "BYTE", null, false, false, false));
+        List<byte[]> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ByteBuffer buffer = ByteBuffer.allocate(19 + i);
+            buffer.putLong(i * 1000L);
+            buffer.put((byte) (i % 2));
+            buffer.putDouble(i / 3.0);
+            buffer.putShort((short) -i);
+            buffer.put("name".getBytes(UTF_8), 0, min(i, 4));
+            rows.add(buffer.array());
+        }
+        rows.add(null);
+
+        RowDecoder rowDecoder = new RawRowDecoderFactory().create(TESTING_SESSION, new RowDecoderSpec(RawRowDecoder.NAME, emptyMap(), ImmutableSet.copyOf(columns)));
+        assertBatchDecoding(rowDecoder, columns, rows);
+    }
+
+    @Test
+    public void testCsv()
+    {
+        List<DecoderColumnHandle> columns = ImmutableList.of(
+                new DecoderTestColumnHandle(0, "name", createVarcharType(3), "0", null, null, false, false, false),
+                new DecoderTestColumnHandle(1, "id", BIGINT, "1", null, null, false, false, false),
+                new DecoderTestColumnHandle(2, "value", DOUBLE, "2", null, null, false, false, false),
+                new DecoderTestColumnHandle(3, "flag", BOOLEAN, "3", null, null, false, false, false),
+                new DecoderTestColumnHandle(4, "missing", BIGINT, "10", null, null, false, false, false));
+        List<byte[]> rows = Arrays.asList(
+                "\"row 1\",1,1.5,true".getBytes(UTF_8),
+                "row2,,2.5,false".getBytes(UTF_8),
+                ",3".getBytes(UTF_8),
+                "\"unterminated,4".getBytes(UTF_8),
+                null);
+
+        RowDecoder rowDecoder = new CsvRowDecoderFactory().create(TESTING_SESSION, new RowDecoderSpec(CsvRowDecoder.NAME, emptyMap(), ImmutableSet.copyOf(columns)));
+        assertBatchDecoding(rowDecoder, columns, rows);
+    }
+
+    @Test
+    public void testJson()
+    {
+        List<DecoderColumnHandle> columns = ImmutableList.of(
+                new DecoderTestColumnHandle(0, "name", VARCHAR, "name", null, null, false, false, false),
+                new DecoderTestColumnHandle(1, "id", BIGINT, "nested/id", null, null, false, false, false),
+                new DecoderTestColumnHandle(2, "value", DOUBLE, "value", null, null, false, false, false),
+                new DecoderTestColumnHandle(3, "flag", BOOLEAN, "flag", null, null, false, false, false));
+        List<byte[]> rows = Arrays.asList(
+                "{\"name\": \"row1\", \"nested\": {\"id\": 1}, \"value\": 1.5, \"flag\": true}".getBytes(UTF_8),
+                "{\"name\": null, \"nested\": {}, \"flag\": false}".getBytes(UTF_8),
+                "{}".getBytes(UTF_8),
+                "not json".getBytes(UTF_8),
+                null);
+
+        RowDecoder rowDecoder = new JsonRowDecoderFactory(new ObjectMapperProvider().get())
+                .create(TESTING_SESSION, new RowDecoderSpec(JsonRowDecoder.NAME, emptyMap(), ImmutableSet.copyOf(columns)));
+        assertBatchDecoding(rowDecoder, columns, rows);
+    }
+
+    private static void assertBatchDecoding(RowDecoder rowDecoder, List<DecoderColumnHandle> columns, List<byte[]> rows)
+    {
+        BlockBuilder[] expected = createBlockBuilders(columns, rows.size());
+        boolean[] expectedDecoded = new FieldValueProviderBatchRowDecoder(rowDecoder, columns).decodeRows(rows, expected);
+
+        BlockBuilder[] actual = createBlockBuilders(columns, rows.size());
+        BatchRowDecoder batchRowDecoder = rowDecoder.createBatchRowDecoder(columns);
+        assertThat(batchRowDecoder).isNotInstanceOf(FieldValueProviderBatchRowDecoder.class);
+        boolean[] actualDecoded = batchRowDecoder.decodeRows(rows, actual);
+
+        assertThat(actualDecoded).isEqualTo(expectedDecoded);
+        assertThat(actualDecoded).contains(true, false);
+        for (int column = 0; column < columns.size(); column++) {
+            Type type = columns.get(column).getType();
+            Block expectedBlock = expected[column].build();
+            Block actualBlock = actual[column].build();
+            assertThat(actualBlock.getPositionCount()).isEqualTo(rows.size());
+            for (int position = 0; position < rows.size(); position++) {
+                assertThat(type.getObjectValue(TESTING_SESSION, actualBlock, position))
+                        .describedAs("column %s, row %s", columns.get(column).getName(), position)
+                        .isEqualTo(type.getObjectValue(TESTING_SESSION, expectedBlock, position));
+            }
+        }
+    }
+
+    private static BlockBuilder[] createBlockBuilders(List<DecoderColumnHandle> columns, int positionCount)
+    {
+        return columns.stream()
+                .map(column -> column.getType().createBlockBuilder(null, positionCount))
+                .toArray(BlockBuilder[]::new);
+    }
+}
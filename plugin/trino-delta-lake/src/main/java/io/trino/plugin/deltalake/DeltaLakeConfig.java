@@ -91,6 +91,8 @@ public class DeltaLakeConfig
     private boolean deletionVectorsEnabled;
     private boolean deltaLogFileSystemCacheDisabled;
     private int metadataParallelism = 8;
+    private int checkpointProcessingParallelism = 4;
+    private DataSize deletionVectorCacheMaxSize = DataSize.of(0, MEGABYTE);
 
     public Duration getMetadataCacheTtl()
     {
@@ -581,4 +583,32 @@ public class DeltaLakeConfig
         this.metadataParallelism = metadataParallelism;
         return this;
     }
+
+    @Min(1)
+    public int getCheckpointProcessingParallelism()
+    {
+        return checkpointProcessingParallelism;
+    }
+
+    @ConfigDescription("Maximum number of checkpoint parts and sidecar files read in parallel")
+    @Config("delta.checkpoint-processing.parallelism")
+    public DeltaLakeConfig setCheckpointProcessingParallelism(int checkpointProcessingParallelism)
+    {
+        this.checkpointProcessingParallelism = checkpointProcessingParallelism;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getDeletionVectorCacheMaxSize()
+    {
+        return deletionVectorCacheMaxSize;
+    }
+
+    @Config("delta.deletion-vector-cache.max-size")
+    @ConfigDescription("Maximum size of the worker cache of loaded deletion vectors, 0 disables the cache")
+    public DeltaLakeConfig setDeletionVectorCacheMaxSize(DataSize deletionVectorCacheMaxSize)
+    {
+        this.deletionVectorCacheMaxSize = deletionVectorCacheMaxSize;
+        return this;
+    }
 }
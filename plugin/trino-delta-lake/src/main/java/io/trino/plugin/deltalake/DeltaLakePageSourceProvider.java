@@ -28,7 +28,11 @@ import io.trino.parquet.ParquetReaderOptions;
 import io.trino.parquet.metadata.FileMetadata;
 import io.trino.parquet.metadata.ParquetMetadata;
 import io.trino.parquet.reader.MetadataReader;
+import io.trino.parquet.reader.RowGroupInfo;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCache.CachedFile;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
+import io.trino.plugin.deltalake.delete.DeletionVectorCache;
 import io.trino.plugin.deltalake.delete.PageFilter;
 import io.trino.plugin.deltalake.delete.PositionDeleteFilter;
 import io.trino.plugin.deltalake.delete.RoaringBitmapArray;
@@ -40,6 +44,7 @@ import io.trino.plugin.hive.HivePageSourceProvider;
 import io.trino.plugin.hive.ReaderPageSource;
 import io.trino.plugin.hive.ReaderProjectionsAdapter;
 import io.trino.plugin.hive.parquet.ParquetPageSourceFactory;
+import io.trino.plugin.hive.parquet.ParquetPageSourceFactory.ReadParameters;
 import io.trino.plugin.hive.parquet.ParquetReaderConfig;
 import io.trino.plugin.hive.parquet.TrinoParquetDataSource;
 import io.trino.spi.Page;
@@ -72,6 +77,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -85,6 +91,7 @@ import static io.trino.plugin.deltalake.DeltaLakeColumnHandle.ROW_ID_COLUMN_NAME
 import static io.trino.plugin.deltalake.DeltaLakeColumnHandle.rowPositionColumnHandle;
 import static io.trino.plugin.deltalake.DeltaLakeColumnType.REGULAR;
 import static io.trino.plugin.deltalake.DeltaLakeErrorCode.DELTA_LAKE_INVALID_SCHEMA;
+import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.getParquetMaxReadAheadSize;
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.getParquetMaxReadBlockRowCount;
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.getParquetMaxReadBlockSize;
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.getParquetSmallFileThreshold;
@@ -92,7 +99,6 @@ import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.isParquetIgno
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.isParquetUseColumnIndex;
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.isParquetVectorizedDecodingEnabled;
 import static io.trino.plugin.deltalake.DeltaLakeSplitManager.partitionMatchesPredicate;
-import static io.trino.plugin.deltalake.delete.DeletionVectors.readDeletionVectors;
 import static io.trino.plugin.deltalake.transactionlog.DeltaLakeSchemaSupport.extractSchema;
 import static io.trino.plugin.deltalake.transactionlog.DeltaLakeSchemaSupport.getColumnMappingMode;
 import static io.trino.plugin.hive.parquet.ParquetPageSourceFactory.PARQUET_ROW_INDEX_COLUMN;
@@ -117,6 +123,8 @@ public class DeltaLakePageSourceProvider
     private final int domainCompactionThreshold;
     private final DateTimeZone parquetDateTimeZone;
     private final TypeManager typeManager;
+    private final Optional<FooterCache> footerCache;
+    private final DeletionVectorCache deletionVectorCache;
 
     @Inject
     public DeltaLakePageSourceProvider(
@@ -124,7 +132,9 @@ public class DeltaLakePageSourceProvider
             FileFormatDataSourceStats fileFormatDataSourceStats,
             ParquetReaderConfig parquetReaderConfig,
             DeltaLakeConfig deltaLakeConfig,
-            TypeManager typeManager)
+            TypeManager typeManager,
+            FooterCache footerCache,
+            DeletionVectorCache deletionVectorCache)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.fileFormatDataSourceStats = requireNonNull(fileFormatDataSourceStats, "fileFormatDataSourceStats is null");
@@ -132,6 +142,8 @@ public class DeltaLakePageSourceProvider
         this.domainCompactionThreshold = deltaLakeConfig.getDomainCompactionThreshold();
         this.parquetDateTimeZone = deltaLakeConfig.getParquetDateTimeZone();
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
+        this.footerCache = Optional.of(footerCache).filter(FooterCache::isEnabled);
+        this.deletionVectorCache = requireNonNull(deletionVectorCache, "deletionVectorCache is null");
     }
 
     @Override
@@ -213,14 +225,16 @@ public class DeltaLakePageSourceProvider
         Location location = Location.of(split.getPath());
         TrinoFileSystem fileSystem = fileSystemFactory.create(session);
         TrinoInputFile inputFile = fileSystem.newInputFile(location, split.getFileSize());
+        Optional<CachedFile> cachedFile = footerCache.map(cache -> cache.forFile(split.getPath(), split.getFileSize(), split.getFileModifiedTime()));
         ParquetReaderOptions options = parquetReaderOptions.withMaxReadBlockSize(getParquetMaxReadBlockSize(session))
                 .withMaxReadBlockRowCount(getParquetMaxReadBlockRowCount(session))
                 .withSmallFileThreshold(getParquetSmallFileThreshold(session))
+                .withMaxReadAheadSize(getParquetMaxReadAheadSize(session))
                 .withUseColumnIndex(isParquetUseColumnIndex(session))
                 .withIgnoreStatistics(isParquetIgnoreStatistics(session))
                 .withVectorizedDecodingEnabled(isParquetVectorizedDecodingEnabled(session));
 
-        Map<Integer, String> parquetFieldIdToName = columnMappingMode == ColumnMappingMode.ID ? loadParquetIdAndNameMapping(inputFile, options) : ImmutableMap.of();
+        Map<Integer, String> parquetFieldIdToName = columnMappingMode == ColumnMappingMode.ID ? loadParquetIdAndNameMapping(inputFile, options, cachedFile) : ImmutableMap.of();
 
         ImmutableSet.Builder<String> missingColumnNames = ImmutableSet.builder();
         ImmutableList.Builder<HiveColumnHandle> hiveColumnHandles = ImmutableList.builder();
@@ -239,6 +253,13 @@ public class DeltaLakePageSourceProvider
 
         TupleDomain<HiveColumnHandle> parquetPredicate = getParquetTupleDomain(filteredSplitPredicate.simplify(domainCompactionThreshold), columnMappingMode, parquetFieldIdToName);
 
+        Optional<PositionDeleteFilter> deleteFilter = split.getDeletionVector()
+                .map(deletionVector -> readDeletes(fileSystem, Location.of(table.location()), deletionVector));
+        // row groups in which all rows are deleted are not read at all
+        Predicate<RowGroupInfo> rowGroupFilter = deleteFilter
+                .<Predicate<RowGroupInfo>>map(filter -> filter::hasRetainedRows)
+                .orElse(_ -> true);
+
         ReaderPageSource pageSource = ParquetPageSourceFactory.createPageSource(
                 inputFile,
                 split.getStart(),
@@ -251,7 +272,8 @@ public class DeltaLakePageSourceProvider
                 options,
                 Optional.empty(),
                 domainCompactionThreshold,
-                OptionalLong.of(split.getFileSize()));
+                OptionalLong.of(split.getFileSize()),
+                new ReadParameters(cachedFile, rowGroupFilter, Optional.empty()));
 
         Optional<ReaderProjectionsAdapter> projectionsAdapter = pageSource.getReaderColumns().map(readerColumns ->
                 new ReaderProjectionsAdapter(
@@ -261,7 +283,7 @@ public class DeltaLakePageSourceProvider
                         HivePageSourceProvider::getProjection));
 
         Supplier<Optional<PageFilter>> deletePredicate = Suppliers.memoize(() -> {
-            if (split.getDeletionVector().isEmpty()) {
+            if (deleteFilter.isEmpty()) {
                 return Optional.empty();
             }
 
@@ -269,8 +291,7 @@ public class DeltaLakePageSourceProvider
                     .addAll(regularColumns)
                     .add(rowPositionColumnHandle())
                     .build();
-            PositionDeleteFilter deleteFilter = readDeletes(fileSystem, Location.of(table.location()), split.getDeletionVector().get());
-            return Optional.of(deleteFilter.createPredicate(requiredColumns));
+            return Optional.of(deleteFilter.get().createPredicate(requiredColumns));
         });
 
         return new DeltaLakePageSource(
@@ -292,7 +313,7 @@ public class DeltaLakePageSourceProvider
             DeletionVectorEntry deletionVector)
     {
         try {
-            RoaringBitmapArray deletedRows = readDeletionVectors(fileSystem, tableLocation, deletionVector);
+            RoaringBitmapArray deletedRows = deletionVectorCache.getDeletedRows(fileSystem, tableLocation, deletionVector);
             return new PositionDeleteFilter(deletedRows);
         }
         catch (IOException e) {
@@ -300,10 +321,10 @@ public class DeltaLakePageSourceProvider
         }
     }
 
-    public Map<Integer, String> loadParquetIdAndNameMapping(TrinoInputFile inputFile, ParquetReaderOptions options)
+    public Map<Integer, String> loadParquetIdAndNameMapping(TrinoInputFile inputFile, ParquetReaderOptions options, Optional<CachedFile> footerCache)
     {
         try (ParquetDataSource dataSource = new TrinoParquetDataSource(inputFile, options, fileFormatDataSourceStats)) {
-            ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource, Optional.empty());
+            ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource, Optional.empty(), footerCache);
             FileMetadata fileMetaData = parquetMetadata.getFileMetaData();
             MessageType fileSchema = fileMetaData.getSchema();
 
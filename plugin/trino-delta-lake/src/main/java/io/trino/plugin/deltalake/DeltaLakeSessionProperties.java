@@ -56,6 +56,7 @@ public final class DeltaLakeSessionProperties
     private static final String PARQUET_MAX_READ_BLOCK_SIZE = "parquet_max_read_block_size";
     private static final String PARQUET_MAX_READ_BLOCK_ROW_COUNT = "parquet_max_read_block_row_count";
     private static final String PARQUET_SMALL_FILE_THRESHOLD = "parquet_small_file_threshold";
+    private static final String PARQUET_MAX_READ_AHEAD_SIZE = "parquet_max_read_ahead_size";
     private static final String PARQUET_USE_COLUMN_INDEX = "parquet_use_column_index";
     private static final String PARQUET_IGNORE_STATISTICS = "parquet_ignore_statistics";
     private static final String PARQUET_VECTORIZED_DECODING_ENABLED = "parquet_vectorized_decoding_enabled";
@@ -126,6 +127,11 @@ public final class DeltaLakeSessionProperties
                         parquetReaderConfig.getSmallFileThreshold(),
                         value -> validateMaxDataSize(PARQUET_SMALL_FILE_THRESHOLD, value, DataSize.valueOf(PARQUET_READER_MAX_SMALL_FILE_THRESHOLD)),
                         false),
+                dataSizeProperty(
+                        PARQUET_MAX_READ_AHEAD_SIZE,
+                        "Parquet: Maximum size of the column chunks fetched ahead of the reader, 0 disables read-ahead",
+                        parquetReaderConfig.getMaxReadAheadSize(),
+                        false),
                 booleanProperty(
                         PARQUET_USE_COLUMN_INDEX,
                         "Use Parquet column index",
@@ -275,6 +281,11 @@ public final class DeltaLakeSessionProperties
         return session.getProperty(PARQUET_SMALL_FILE_THRESHOLD, DataSize.class);
     }
 
+    public static DataSize getParquetMaxReadAheadSize(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_MAX_READ_AHEAD_SIZE, DataSize.class);
+    }
+
     public static boolean isParquetUseColumnIndex(ConnectorSession session)
     {
         return session.getProperty(PARQUET_USE_COLUMN_INDEX, Boolean.class);
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import io.airlift.units.DataSize;
+import io.trino.cache.CacheStatsMBean;
+import io.trino.cache.EvictableCacheBuilder;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.plugin.deltalake.DeltaLakeConfig;
+import io.trino.plugin.deltalake.transactionlog.DeletionVectorEntry;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.trino.plugin.deltalake.delete.DeletionVectors.readDeletionVectors;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cache of loaded deletion vectors, shared by all splits of a data file and by all queries running on a worker.
+ * Deletion vector files are never modified once written, so entries do not need to be invalidated.
+ */
+public class DeletionVectorCache
+{
+    private final boolean enabled;
+    private final Cache<DeletionVectorKey, RoaringBitmapArray> cache;
+    private final CacheStatsMBean cacheStats;
+
+    @Inject
+    public DeletionVectorCache(DeltaLakeConfig config)
+    {
+        this(config.getDeletionVectorCacheMaxSize());
+    }
+
+    public DeletionVectorCache(DataSize maxSize)
+    {
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = EvictableCacheBuilder.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Weigher<DeletionVectorKey, RoaringBitmapArray>) (key, value) -> toIntExact(min(key.getRetainedSizeInBytes() + value.getRetainedSizeInBytes(), Integer.MAX_VALUE)))
+                .recordStats()
+                .build();
+        this.cacheStats = new CacheStatsMBean(cache);
+    }
+
+    /**
+     * Returns the rows deleted by the deletion vector. The returned bitmaps are shared and must not be modified.
+     */
+    public RoaringBitmapArray getDeletedRows(TrinoFileSystem fileSystem, Location tableLocation, DeletionVectorEntry deletionVector)
+            throws IOException
+    {
+        if (!enabled) {
+            return readDeletionVectors(fileSystem, tableLocation, deletionVector);
+        }
+        try {
+            return cache.get(new DeletionVectorKey(tableLocation.toString(), deletionVector), () -> readDeletionVectors(fileSystem, tableLocation, deletionVector));
+        }
+        catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfInstanceOf(e.getCause(), IOException.class);
+            throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @Managed
+    @Nested
+    public CacheStatsMBean getCacheStats()
+    {
+        return cacheStats;
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    private record DeletionVectorKey(String tableLocation, DeletionVectorEntry deletionVector)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(DeletionVectorKey.class);
+        private static final int ENTRY_INSTANCE_SIZE = instanceSize(DeletionVectorEntry.class);
+
+        private DeletionVectorKey
+        {
+            requireNonNull(tableLocation, "tableLocation is null");
+            requireNonNull(deletionVector, "deletionVector is null");
+        }
+
+        public long getRetainedSizeInBytes()
+        {
+            // the storage type is one of a few interned markers
+            return INSTANCE_SIZE + estimatedSizeOf(tableLocation) + ENTRY_INSTANCE_SIZE + estimatedSizeOf(deletionVector.pathOrInlineDv());
+        }
+    }
+}
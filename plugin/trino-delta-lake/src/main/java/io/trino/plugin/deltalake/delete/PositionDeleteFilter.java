@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.deltalake.delete;
 
+import io.trino.parquet.reader.RowGroupInfo;
 import io.trino.plugin.deltalake.DeltaLakeColumnHandle;
 import io.trino.spi.block.Block;
 
@@ -20,6 +21,8 @@ import java.util.List;
 
 import static io.trino.plugin.deltalake.DeltaLakeColumnHandle.ROW_POSITION_COLUMN_NAME;
 import static io.trino.spi.type.BigintType.BIGINT;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
 
 public final class PositionDeleteFilter
@@ -37,9 +40,28 @@ public final class PositionDeleteFilter
 
         return page -> {
             int positionCount = page.getPositionCount();
+            if (positionCount == 0) {
+                return page;
+            }
+            Block block = page.getBlock(filePositionChannel);
+            long minFilePosition = Long.MAX_VALUE;
+            long maxFilePosition = Long.MIN_VALUE;
+            for (int position = 0; position < positionCount; position++) {
+                long filePosition = BIGINT.getLong(block, position);
+                minFilePosition = min(minFilePosition, filePosition);
+                maxFilePosition = max(maxFilePosition, filePosition);
+            }
+            // check the whole range of rows in the page at once before looking up the rows one by one
+            long deletedCount = deletedRows.cardinality(minFilePosition, maxFilePosition + 1);
+            if (deletedCount == 0) {
+                return page;
+            }
+            if (deletedCount == maxFilePosition - minFilePosition + 1) {
+                return page.getPositions(new int[0], 0, 0);
+            }
+
             int[] retained = new int[positionCount];
             int retainedCount = 0;
-            Block block = page.getBlock(filePositionChannel);
             for (int position = 0; position < positionCount; position++) {
                 long filePosition = BIGINT.getLong(block, position);
                 if (!deletedRows.contains(filePosition)) {
@@ -54,6 +76,24 @@ public final class PositionDeleteFilter
         };
     }
 
+    /**
+     * @param rowStart inclusive position of the first row in the file
+     * @param rowCount number of rows
+     * @return whether all the rows in the range are deleted
+     */
+    public boolean isDeleted(long rowStart, long rowCount)
+    {
+        return rowCount > 0 && deletedRows.cardinality(rowStart, rowStart + rowCount) == rowCount;
+    }
+
+    /**
+     * @return whether the row group has rows which are not deleted, so it has to be read
+     */
+    public boolean hasRetainedRows(RowGroupInfo rowGroup)
+    {
+        return !isDeleted(rowGroup.fileRowOffset(), rowGroup.prunedBlockMetadata().getRowCount());
+    }
+
     private static int rowPositionChannel(List<DeltaLakeColumnHandle> columns)
     {
         for (int i = 0; i < columns.size(); i++) {
@@ -17,6 +17,9 @@ import com.google.common.primitives.UnsignedInts;
 import org.roaringbitmap.RoaringBitmap;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOfObjectArray;
+import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 
 /**
@@ -27,6 +30,7 @@ public final class RoaringBitmapArray
     // Must bitmask to avoid sign extension
     private static final long MAX_REPRESENTABLE_VALUE = (((long) Integer.MAX_VALUE - 1) << 32) | (((long) Integer.MIN_VALUE) & 0xFFFFFFFFL);
     private static final int INDIVIDUAL_BITMAP_KEY_SIZE = 4;
+    private static final int INSTANCE_SIZE = instanceSize(RoaringBitmapArray.class);
 
     private RoaringBitmap[] bitmaps = new RoaringBitmap[0];
 
@@ -71,6 +75,39 @@ public final class RoaringBitmapArray
         return sum;
     }
 
+    /**
+     * @param rangeStart inclusive beginning of range
+     * @param rangeEnd exclusive ending of range
+     * @return the number of values in the range
+     */
+    public long cardinality(long rangeStart, long rangeEnd)
+    {
+        checkArgument(rangeStart >= 0 && rangeStart <= rangeEnd, "Unsupported range: [%s, %s)", rangeStart, rangeEnd);
+        if (rangeStart == rangeEnd) {
+            return 0;
+        }
+        long last = rangeEnd - 1;
+        int startHigh = highBytes(rangeStart);
+        int lastHigh = min(highBytes(last), bitmaps.length - 1);
+        long sum = 0;
+        for (int currentHigh = startHigh; currentHigh <= lastHigh; currentHigh++) {
+            long start = currentHigh == startHigh ? UnsignedInts.toLong(lowBytes(rangeStart)) : 0L;
+            // RoaringBitmap.rangeCardinality is exclusive the end boundary.
+            long end = currentHigh == highBytes(last) ? UnsignedInts.toLong(lowBytes(last)) + 1L : 0xFFFFFFFFL + 1L;
+            sum += bitmaps[currentHigh].rangeCardinality(start, end);
+        }
+        return sum;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        long size = INSTANCE_SIZE + sizeOfObjectArray(bitmaps.length);
+        for (RoaringBitmap bitmap : bitmaps) {
+            size += bitmap.getLongSizeInBytes();
+        }
+        return size;
+    }
+
     public int serializedSizeInBytes()
     {
         long size = 0;
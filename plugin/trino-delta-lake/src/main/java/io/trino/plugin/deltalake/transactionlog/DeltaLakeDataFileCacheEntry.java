@@ -20,9 +20,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
-import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static java.util.Objects.requireNonNull;
 
@@ -36,9 +34,15 @@ public final class DeltaLakeDataFileCacheEntry
     private volatile long retainedSize = -1;
 
     public DeltaLakeDataFileCacheEntry(long version, List<AddFileEntry> activeFiles)
+    {
+        this(version, activeFiles, -1);
+    }
+
+    private DeltaLakeDataFileCacheEntry(long version, List<AddFileEntry> activeFiles, long retainedSize)
     {
         this.version = version;
         this.activeFiles = ImmutableList.copyOf(requireNonNull(activeFiles, "activeFiles is null"));
+        this.retainedSize = retainedSize;
     }
 
     public DeltaLakeDataFileCacheEntry withUpdatesApplied(List<DeltaLakeTransactionLogEntry> newEntries, long newVersion)
@@ -62,13 +66,28 @@ public final class DeltaLakeDataFileCacheEntry
             }
         });
 
-        Stream<AddFileEntry> filteredExistingEntries = activeFiles.stream()
-                .filter(addEntry -> !removedFiles.contains(addEntry.getPath()) && !activeJsonEntries.containsKey(addEntry.getPath()));
-        List<AddFileEntry> updatedActiveFileList =
-                Stream.concat(filteredExistingEntries, activeJsonEntries.values().stream())
-                        .collect(toImmutableList());
+        // The retained size is updated with the differences only, so that applying a few commits
+        // does not require visiting the statistics of every active file
+        long updatedRetainedSize = getRetainedSizeInBytes();
+        if (activeJsonEntries.isEmpty() && removedFiles.isEmpty()) {
+            return new DeltaLakeDataFileCacheEntry(newVersion, activeFiles, updatedRetainedSize);
+        }
+
+        ImmutableList.Builder<AddFileEntry> updatedActiveFiles = ImmutableList.builderWithExpectedSize(activeFiles.size() + activeJsonEntries.size());
+        for (AddFileEntry addEntry : activeFiles) {
+            if (removedFiles.contains(addEntry.getPath()) || activeJsonEntries.containsKey(addEntry.getPath())) {
+                updatedRetainedSize -= addEntry.getRetainedSizeInBytes();
+            }
+            else {
+                updatedActiveFiles.add(addEntry);
+            }
+        }
+        for (AddFileEntry addEntry : activeJsonEntries.values()) {
+            updatedActiveFiles.add(addEntry);
+            updatedRetainedSize += addEntry.getRetainedSizeInBytes();
+        }
 
-        return new DeltaLakeDataFileCacheEntry(newVersion, updatedActiveFileList);
+        return new DeltaLakeDataFileCacheEntry(newVersion, updatedActiveFiles.build(), updatedRetainedSize);
     }
 
     public long getVersion()
@@ -25,6 +25,7 @@ import io.trino.plugin.deltalake.DeltaLakeColumnHandle;
 import io.trino.plugin.deltalake.transactionlog.checkpoint.CheckpointEntryIterator;
 import io.trino.plugin.deltalake.transactionlog.checkpoint.CheckpointSchemaManager;
 import io.trino.plugin.deltalake.transactionlog.checkpoint.LastCheckpoint;
+import io.trino.plugin.deltalake.transactionlog.checkpoint.ParallelCheckpointReader;
 import io.trino.plugin.deltalake.transactionlog.checkpoint.TransactionLogTail;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
@@ -37,7 +38,9 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -193,6 +196,62 @@ public class TableSnapshot
             TupleDomain<DeltaLakeColumnHandle> partitionConstraint,
             Optional<Predicate<String>> addStatsMinMaxColumnFilter)
             throws IOException
+    {
+        return getCheckpointTransactionLogEntries(
+                session,
+                entryTypes,
+                checkpointSchemaManager,
+                typeManager,
+                fileSystem,
+                stats,
+                metadataAndProtocol,
+                partitionConstraint,
+                addStatsMinMaxColumnFilter,
+                Optional.empty());
+    }
+
+    /**
+     * Returns the checkpoint entries, reading the checkpoint parts and V2 checkpoint sidecars in parallel
+     * using the given executor. The entries are not returned in the order they appear in the checkpoint.
+     */
+    public Stream<DeltaLakeTransactionLogEntry> getCheckpointTransactionLogEntries(
+            ConnectorSession session,
+            Set<CheckpointEntryIterator.EntryType> entryTypes,
+            CheckpointSchemaManager checkpointSchemaManager,
+            TypeManager typeManager,
+            TrinoFileSystem fileSystem,
+            FileFormatDataSourceStats stats,
+            Optional<MetadataAndProtocolEntry> metadataAndProtocol,
+            TupleDomain<DeltaLakeColumnHandle> partitionConstraint,
+            Optional<Predicate<String>> addStatsMinMaxColumnFilter,
+            Executor executor,
+            int parallelism)
+            throws IOException
+    {
+        return getCheckpointTransactionLogEntries(
+                session,
+                entryTypes,
+                checkpointSchemaManager,
+                typeManager,
+                fileSystem,
+                stats,
+                metadataAndProtocol,
+                partitionConstraint,
+                addStatsMinMaxColumnFilter,
+                Optional.of(new ParallelCheckpointReader<>(executor, parallelism)));
+    }
+
+    private Stream<DeltaLakeTransactionLogEntry> getCheckpointTransactionLogEntries(
+            ConnectorSession session,
+            Set<CheckpointEntryIterator.EntryType> entryTypes,
+            CheckpointSchemaManager checkpointSchemaManager,
+            TypeManager typeManager,
+            TrinoFileSystem fileSystem,
+            FileFormatDataSourceStats stats,
+            Optional<MetadataAndProtocolEntry> metadataAndProtocol,
+            TupleDomain<DeltaLakeColumnHandle> partitionConstraint,
+            Optional<Predicate<String>> addStatsMinMaxColumnFilter,
+            Optional<ParallelCheckpointReader<DeltaLakeTransactionLogEntry>> parallelReader)
     {
         if (lastCheckpoint.isEmpty()) {
             return Stream.empty();
@@ -205,21 +264,45 @@ public class TableSnapshot
             checkState(metadataAndProtocol.isPresent(), "metadata and protocol information is needed to process the add log entries");
         }
 
-        return getCheckpointPartPaths(checkpoint).stream()
-                .map(fileSystem::newInputFile)
-                .flatMap(checkpointFile -> getCheckpointTransactionLogEntries(
-                        session,
-                        fileSystem,
-                        entryTypes,
-                        metadataAndProtocol.map(MetadataAndProtocolEntry::metadataEntry),
-                        metadataAndProtocol.map(MetadataAndProtocolEntry::protocolEntry),
-                        checkpointSchemaManager,
-                        typeManager,
-                        stats,
-                        checkpoint,
-                        checkpointFile,
-                        partitionConstraint,
-                        addStatsMinMaxColumnFilter));
+        List<Location> checkpointPartPaths = getCheckpointPartPaths(checkpoint);
+        // a single file checkpoint without sidecars is read in the calling thread
+        if (parallelReader.isEmpty() || (checkpointPartPaths.size() == 1 && checkpoint.v2Checkpoint().isEmpty())) {
+            return checkpointPartPaths.stream()
+                    .map(fileSystem::newInputFile)
+                    .flatMap(checkpointFile -> getCheckpointTransactionLogEntries(
+                            session,
+                            fileSystem,
+                            entryTypes,
+                            metadataAndProtocol.map(MetadataAndProtocolEntry::metadataEntry),
+                            metadataAndProtocol.map(MetadataAndProtocolEntry::protocolEntry),
+                            checkpointSchemaManager,
+                            typeManager,
+                            stats,
+                            checkpoint,
+                            checkpointFile,
+                            partitionConstraint,
+                            addStatsMinMaxColumnFilter,
+                            Optional.empty()));
+        }
+
+        ParallelCheckpointReader<DeltaLakeTransactionLogEntry> reader = parallelReader.get();
+        for (Location checkpointPartPath : checkpointPartPaths) {
+            reader.addFile(() -> getCheckpointTransactionLogEntries(
+                    session,
+                    fileSystem,
+                    entryTypes,
+                    metadataAndProtocol.map(MetadataAndProtocolEntry::metadataEntry),
+                    metadataAndProtocol.map(MetadataAndProtocolEntry::protocolEntry),
+                    checkpointSchemaManager,
+                    typeManager,
+                    stats,
+                    checkpoint,
+                    fileSystem.newInputFile(checkpointPartPath),
+                    partitionConstraint,
+                    addStatsMinMaxColumnFilter,
+                    Optional.of(reader)));
+        }
+        return reader.stream();
     }
 
     public Optional<Long> getLastCheckpointVersion()
@@ -239,7 +322,8 @@ public class TableSnapshot
             LastCheckpoint checkpoint,
             TrinoInputFile checkpointFile,
             TupleDomain<DeltaLakeColumnHandle> partitionConstraint,
-            Optional<Predicate<String>> addStatsMinMaxColumnFilter)
+            Optional<Predicate<String>> addStatsMinMaxColumnFilter,
+            Optional<ParallelCheckpointReader<DeltaLakeTransactionLogEntry>> sidecarReader)
     {
         long fileSize;
         try {
@@ -265,7 +349,8 @@ public class TableSnapshot
                     partitionConstraint,
                     addStatsMinMaxColumnFilter,
                     fileSystem,
-                    fileSize);
+                    fileSize,
+                    sidecarReader);
         }
         CheckpointEntryIterator checkpointEntryIterator = new CheckpointEntryIterator(
                 checkpointFile,
@@ -298,33 +383,44 @@ public class TableSnapshot
             TupleDomain<DeltaLakeColumnHandle> partitionConstraint,
             Optional<Predicate<String>> addStatsMinMaxColumnFilter,
             TrinoFileSystem fileSystem,
-            long fileSize)
+            long fileSize,
+            Optional<ParallelCheckpointReader<DeltaLakeTransactionLogEntry>> sidecarReader)
     {
+        // Sidecar files contain only ADD and REMOVE entry types. https://github.com/delta-io/delta/blob/master/PROTOCOL.md#v2-spec
+        Set<CheckpointEntryIterator.EntryType> dataEntryTypes = Sets.intersection(entryTypes, Set.of(ADD, REMOVE));
         return getV2CheckpointEntries(session, entryTypes, metadataEntry, protocolEntry, checkpointSchemaManager, typeManager, stats, checkpoint, checkpointFile, partitionConstraint, addStatsMinMaxColumnFilter, fileSystem, fileSize)
                 .mapMulti((entry, builder) -> {
-                    // Sidecar files contain only ADD and REMOVE entry types. https://github.com/delta-io/delta/blob/master/PROTOCOL.md#v2-spec
-                    Set<CheckpointEntryIterator.EntryType> dataEntryTypes = Sets.intersection(entryTypes, Set.of(ADD, REMOVE));
                     if (entry.getSidecar() == null || dataEntryTypes.isEmpty()) {
                         builder.accept(entry);
                         return;
                     }
                     Location sidecar = checkpointFile.location().sibling("_sidecars").appendPath(entry.getSidecar().path());
-                    CheckpointEntryIterator iterator = new CheckpointEntryIterator(
-                            fileSystem.newInputFile(sidecar),
-                            session,
-                            fileSize,
-                            checkpointSchemaManager,
-                            typeManager,
-                            dataEntryTypes,
-                            metadataEntry,
-                            protocolEntry,
-                            stats,
-                            parquetReaderOptions,
-                            checkpointRowStatisticsWritingEnabled,
-                            domainCompactionThreshold,
-                            partitionConstraint,
-                            addStatsMinMaxColumnFilter);
-                    stream(iterator).onClose(iterator::close).forEach(builder);
+                    long sidecarSize = entry.getSidecar().sizeInBytes();
+                    Supplier<Stream<DeltaLakeTransactionLogEntry>> sidecarEntries = () -> {
+                        CheckpointEntryIterator iterator = new CheckpointEntryIterator(
+                                fileSystem.newInputFile(sidecar, sidecarSize),
+                                session,
+                                sidecarSize,
+                                checkpointSchemaManager,
+                                typeManager,
+                                dataEntryTypes,
+                                metadataEntry,
+                                protocolEntry,
+                                stats,
+                                parquetReaderOptions,
+                                checkpointRowStatisticsWritingEnabled,
+                                domainCompactionThreshold,
+                                partitionConstraint,
+                                addStatsMinMaxColumnFilter);
+                        return stream(iterator).onClose(iterator::close);
+                    };
+                    if (sidecarReader.isPresent()) {
+                        sidecarReader.get().addFile(sidecarEntries);
+                        return;
+                    }
+                    try (Stream<DeltaLakeTransactionLogEntry> entries = sidecarEntries.get()) {
+                        entries.forEach(builder);
+                    }
                 });
     }
 
@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.deltalake.transactionlog;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.Cache;
 import com.google.common.cache.Weigher;
 import com.google.common.collect.ImmutableList;
@@ -20,6 +21,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
+import io.airlift.stats.CounterStat;
 import io.trino.cache.CacheStatsMBean;
 import io.trino.cache.EvictableCacheBuilder;
 import io.trino.filesystem.FileEntry;
@@ -67,6 +69,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -110,11 +114,29 @@ public class TransactionLogAccess
     private final ParquetReaderOptions parquetReaderOptions;
     private final boolean checkpointRowStatisticsWritingEnabled;
     private final int domainCompactionThreshold;
+    private final Optional<Executor> checkpointProcessingExecutor;
+    private final int checkpointProcessingParallelism;
 
     private final Cache<TableLocation, TableSnapshot> tableSnapshots;
     private final Cache<TableVersion, DeltaLakeDataFileCacheEntry> activeDataFileCache;
+    private final CounterStat activeDataFileCacheFullLoads = new CounterStat();
+    private final CounterStat activeDataFileCacheIncrementalUpdates = new CounterStat();
+    private final CounterStat activeDataFileCacheIncrementalUpdateFailures = new CounterStat();
 
     @Inject
+    public TransactionLogAccess(
+            TypeManager typeManager,
+            CheckpointSchemaManager checkpointSchemaManager,
+            DeltaLakeConfig deltaLakeConfig,
+            FileFormatDataSourceStats fileFormatDataSourceStats,
+            TrinoFileSystemFactory fileSystemFactory,
+            ParquetReaderConfig parquetReaderConfig,
+            ExecutorService executorService)
+    {
+        this(typeManager, checkpointSchemaManager, deltaLakeConfig, fileFormatDataSourceStats, fileSystemFactory, parquetReaderConfig, Optional.of(executorService));
+    }
+
+    @VisibleForTesting
     public TransactionLogAccess(
             TypeManager typeManager,
             CheckpointSchemaManager checkpointSchemaManager,
@@ -122,6 +144,18 @@ public class TransactionLogAccess
             FileFormatDataSourceStats fileFormatDataSourceStats,
             TrinoFileSystemFactory fileSystemFactory,
             ParquetReaderConfig parquetReaderConfig)
+    {
+        this(typeManager, checkpointSchemaManager, deltaLakeConfig, fileFormatDataSourceStats, fileSystemFactory, parquetReaderConfig, Optional.empty());
+    }
+
+    private TransactionLogAccess(
+            TypeManager typeManager,
+            CheckpointSchemaManager checkpointSchemaManager,
+            DeltaLakeConfig deltaLakeConfig,
+            FileFormatDataSourceStats fileFormatDataSourceStats,
+            TrinoFileSystemFactory fileSystemFactory,
+            ParquetReaderConfig parquetReaderConfig,
+            Optional<Executor> checkpointProcessingExecutor)
     {
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.checkpointSchemaManager = requireNonNull(checkpointSchemaManager, "checkpointSchemaManager is null");
@@ -130,6 +164,8 @@ public class TransactionLogAccess
         this.parquetReaderOptions = parquetReaderConfig.toParquetReaderOptions().withBloomFilter(false);
         this.checkpointRowStatisticsWritingEnabled = deltaLakeConfig.isCheckpointRowStatisticsWritingEnabled();
         this.domainCompactionThreshold = deltaLakeConfig.getDomainCompactionThreshold();
+        this.checkpointProcessingExecutor = requireNonNull(checkpointProcessingExecutor, "checkpointProcessingExecutor is null");
+        this.checkpointProcessingParallelism = deltaLakeConfig.getCheckpointProcessingParallelism();
 
         tableSnapshots = EvictableCacheBuilder.newBuilder()
                 .expireAfterWrite(deltaLakeConfig.getMetadataCacheTtl().toMillis(), TimeUnit.MILLISECONDS)
@@ -160,6 +196,27 @@ public class TransactionLogAccess
         return new CacheStatsMBean(tableSnapshots);
     }
 
+    @Managed
+    @Nested
+    public CounterStat getActiveDataFileCacheFullLoads()
+    {
+        return activeDataFileCacheFullLoads;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getActiveDataFileCacheIncrementalUpdates()
+    {
+        return activeDataFileCacheIncrementalUpdates;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getActiveDataFileCacheIncrementalUpdateFailures()
+    {
+        return activeDataFileCacheIncrementalUpdateFailures;
+    }
+
     public TableSnapshot loadSnapshot(ConnectorSession session, SchemaTableName table, String tableLocation, Optional<Long> endVersion)
             throws IOException
     {
@@ -360,14 +417,19 @@ public class TransactionLogAccess
                                 tableSnapshot.getVersion(),
                                 tableSnapshot,
                                 fileSystemFactory.create(session));
-                        return oldCached.withUpdatesApplied(newEntries, tableSnapshot.getVersion());
+                        DeltaLakeDataFileCacheEntry updated = oldCached.withUpdatesApplied(newEntries, tableSnapshot.getVersion());
+                        activeDataFileCacheIncrementalUpdates.update(1);
+                        return updated;
                     }
                     catch (MissingTransactionLogException e) {
                         // The cached state cannot be used to calculate current state, as some
                         // intermediate transaction files are expired.
+                        activeDataFileCacheIncrementalUpdateFailures.update(1);
                     }
                 }
 
+                activeDataFileCacheFullLoads.update(1);
+
                 List<AddFileEntry> activeFiles;
                 try (Stream<AddFileEntry> addFileEntryStream = loadActiveFiles(session, tableSnapshot, metadataEntry, protocolEntry, TupleDomain.all(), alwaysTrue())) {
                     activeFiles = addFileEntryStream.collect(toImmutableList());
@@ -390,24 +452,43 @@ public class TransactionLogAccess
             Predicate<String> addStatsMinMaxColumnFilter)
     {
         List<Transaction> transactions = tableSnapshot.getTransactions();
-        try (Stream<DeltaLakeTransactionLogEntry> checkpointEntries = tableSnapshot.getCheckpointTransactionLogEntries(
-                session,
-                ImmutableSet.of(ADD),
-                checkpointSchemaManager,
-                typeManager,
-                fileSystemFactory.create(session),
-                fileFormatDataSourceStats,
-                Optional.of(new MetadataAndProtocolEntry(metadataEntry, protocolEntry)),
-                partitionConstraint,
-                Optional.of(addStatsMinMaxColumnFilter))) {
-            return activeAddEntries(checkpointEntries, transactions)
-                    .filter(partitionConstraint.isAll()
-                            ? addAction -> true
-                            : addAction -> partitionMatchesPredicate(addAction.getCanonicalPartitionValues(), partitionConstraint.getDomains().orElseThrow()));
+        Stream<DeltaLakeTransactionLogEntry> checkpointEntries;
+        try {
+            if (checkpointProcessingExecutor.isPresent()) {
+                checkpointEntries = tableSnapshot.getCheckpointTransactionLogEntries(
+                        session,
+                        ImmutableSet.of(ADD),
+                        checkpointSchemaManager,
+                        typeManager,
+                        fileSystemFactory.create(session),
+                        fileFormatDataSourceStats,
+                        Optional.of(new MetadataAndProtocolEntry(metadataEntry, protocolEntry)),
+                        partitionConstraint,
+                        Optional.of(addStatsMinMaxColumnFilter),
+                        checkpointProcessingExecutor.get(),
+                        checkpointProcessingParallelism);
+            }
+            else {
+                checkpointEntries = tableSnapshot.getCheckpointTransactionLogEntries(
+                        session,
+                        ImmutableSet.of(ADD),
+                        checkpointSchemaManager,
+                        typeManager,
+                        fileSystemFactory.create(session),
+                        fileFormatDataSourceStats,
+                        Optional.of(new MetadataAndProtocolEntry(metadataEntry, protocolEntry)),
+                        partitionConstraint,
+                        Optional.of(addStatsMinMaxColumnFilter));
+            }
         }
         catch (IOException e) {
             throw new TrinoException(DELTA_LAKE_INVALID_SCHEMA, "Error reading transaction log for " + tableSnapshot.getTable(), e);
         }
+        // The checkpoint entries are read lazily, and closing the returned stream closes them
+        return activeAddEntries(checkpointEntries, transactions)
+                .filter(partitionConstraint.isAll()
+                        ? addAction -> true
+                        : addAction -> partitionMatchesPredicate(addAction.getCanonicalPartitionValues(), partitionConstraint.getDomains().orElseThrow()));
     }
 
     public static List<DeltaLakeColumnMetadata> columnsWithStats(MetadataEntry metadataEntry, ProtocolEntry protocolEntry, TypeManager typeManager)
@@ -609,14 +690,18 @@ public class TransactionLogAccess
     private static List<DeltaLakeTransactionLogEntry> getJsonEntries(long startVersion, long endVersion, TableSnapshot tableSnapshot, TrinoFileSystem fileSystem)
             throws IOException
     {
-        Optional<Long> lastCheckpointVersion = tableSnapshot.getLastCheckpointVersion();
-        if (lastCheckpointVersion.isPresent() && startVersion < lastCheckpointVersion.get()) {
-            return ImmutableList.<DeltaLakeTransactionLogEntry>builder()
-                    .addAll(TransactionLogTail.loadNewTail(fileSystem, tableSnapshot.getTableLocation(), Optional.of(startVersion), lastCheckpointVersion).getFileEntries())
-                    .addAll(tableSnapshot.getJsonTransactionLogEntries())
-                    .build();
+        // The snapshot already holds the commits following its checkpoint, so only the older commits need to be read
+        List<Transaction> snapshotTransactions = tableSnapshot.getTransactions().stream()
+                .filter(transaction -> transaction.transactionId() > startVersion && transaction.transactionId() <= endVersion)
+                .collect(toImmutableList());
+        long lastVersionToLoad = snapshotTransactions.isEmpty() ? endVersion : snapshotTransactions.getFirst().transactionId() - 1;
+
+        ImmutableList.Builder<DeltaLakeTransactionLogEntry> entries = ImmutableList.builder();
+        if (startVersion < lastVersionToLoad) {
+            entries.addAll(TransactionLogTail.loadNewTail(fileSystem, tableSnapshot.getTableLocation(), Optional.of(startVersion), Optional.of(lastVersionToLoad)).getFileEntries());
         }
-        return TransactionLogTail.loadNewTail(fileSystem, tableSnapshot.getTableLocation(), Optional.of(startVersion), Optional.of(endVersion)).getFileEntries();
+        snapshotTransactions.forEach(transaction -> entries.addAll(transaction.transactionEntries()));
+        return entries.build();
     }
 
     public static String canonicalizeColumnName(String columnName)
@@ -43,6 +43,7 @@ import io.trino.plugin.hive.HiveColumnProjectionInfo;
 import io.trino.plugin.hive.ReaderPageSource;
 import io.trino.plugin.hive.parquet.ParquetPageSource;
 import io.trino.plugin.hive.parquet.ParquetPageSourceFactory;
+import io.trino.plugin.hive.parquet.ParquetPageSourceFactory.ReadParameters;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
 import io.trino.spi.block.Block;
@@ -231,7 +232,8 @@ public class CheckpointEntryIterator
                 parquetReaderOptions,
                 Optional.empty(),
                 domainCompactionThreshold,
-                OptionalLong.of(fileSize));
+                OptionalLong.of(fileSize),
+                ReadParameters.DEFAULT);
 
         this.pageSource = (ParquetPageSource) pageSource.get();
         try {
@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.transactionlog.checkpoint;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import io.airlift.concurrent.BoundedExecutor;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.Streams.stream;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Reads the entries of several checkpoint files (checkpoint parts or V2 checkpoint sidecars) concurrently
+ * and returns them as a single stream. Entries are buffered in a bounded queue, so the files are
+ * streamed rather than materialized. The entries are returned in no particular order.
+ * <p>
+ * Reading starts when the first entry is requested from the stream. More files can be added while
+ * the entries are read, e.g. when a V2 checkpoint lists its sidecars.
+ */
+public final class ParallelCheckpointReader<T>
+        implements Closeable
+{
+    private static final Object END_OF_DATA = new Object();
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Executor executor;
+    private final BlockingQueue<Object> buffer;
+    // starts at one for the reader itself, so the end of data is not signalled before all initial files are scheduled
+    private final AtomicInteger pendingFiles = new AtomicInteger(1);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    @GuardedBy("this")
+    private final List<Supplier<Stream<T>>> initialFiles = new ArrayList<>();
+    @GuardedBy("this")
+    private boolean scheduled;
+    private volatile boolean closed;
+
+    public ParallelCheckpointReader(Executor executor, int parallelism)
+    {
+        this(executor, parallelism, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ParallelCheckpointReader(Executor executor, int parallelism, int bufferSize)
+    {
+        checkArgument(parallelism > 0, "parallelism must be greater than zero");
+        this.executor = new BoundedExecutor(requireNonNull(executor, "executor is null"), parallelism);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Schedules reading of the entries returned by the given stream. The stream is opened and closed
+     * by one of the executor threads.
+     */
+    public synchronized void addFile(Supplier<Stream<T>> entries)
+    {
+        requireNonNull(entries, "entries is null");
+        checkState(!closed, "reader is closed");
+        pendingFiles.incrementAndGet();
+        if (!scheduled) {
+            initialFiles.add(entries);
+            return;
+        }
+        executor.execute(() -> readFile(entries));
+    }
+
+    /**
+     * Returns the entries of all added files. Closing the stream stops reading the remaining entries.
+     */
+    public Stream<T> stream()
+    {
+        checkState(started.compareAndSet(false, true), "stream already created");
+        Iterator<T> iterator = new AbstractIterator<>()
+        {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected T computeNext()
+            {
+                scheduleInitialFiles();
+                Object entry = take();
+                if (entry == END_OF_DATA) {
+                    return endOfData();
+                }
+                return (T) entry;
+            }
+        };
+        return stream(iterator).onClose(this::close);
+    }
+
+    private synchronized void scheduleInitialFiles()
+    {
+        if (scheduled) {
+            return;
+        }
+        scheduled = true;
+        for (Supplier<Stream<T>> entries : initialFiles) {
+            executor.execute(() -> readFile(entries));
+        }
+        initialFiles.clear();
+        // all initial files are scheduled, so the end of data can be signalled once they are read
+        fileDone();
+    }
+
+    @Override
+    public void close()
+    {
+        closed = true;
+        buffer.clear();
+    }
+
+    private void readFile(Supplier<Stream<T>> entries)
+    {
+        try (Stream<T> stream = entries.get()) {
+            Iterator<T> iterator = stream.iterator();
+            while (!closed && failure.get() == null && iterator.hasNext()) {
+                put(iterator.next());
+            }
+        }
+        catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+        finally {
+            fileDone();
+        }
+    }
+
+    private void fileDone()
+    {
+        if (pendingFiles.decrementAndGet() == 0) {
+            put(END_OF_DATA);
+        }
+    }
+
+    private void put(Object entry)
+    {
+        try {
+            while (!closed) {
+                if (buffer.offer(entry, POLL_INTERVAL_MILLIS, MILLISECONDS)) {
+                    return;
+                }
+                if (failure.get() != null && entry != END_OF_DATA) {
+                    return;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private Object take()
+    {
+        try {
+            while (true) {
+                checkFailure();
+                checkState(!closed, "reader is closed");
+                Object entry = buffer.poll(POLL_INTERVAL_MILLIS, MILLISECONDS);
+                if (entry == END_OF_DATA) {
+                    // the failure is recorded before the reading thread signals the end of data
+                    checkFailure();
+                }
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void checkFailure()
+    {
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            close();
+            throwIfUnchecked(throwable);
+            throw new RuntimeException(throwable);
+        }
+    }
+}
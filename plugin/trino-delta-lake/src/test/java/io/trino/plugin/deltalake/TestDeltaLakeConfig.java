@@ -75,7 +75,9 @@ public class TestDeltaLakeConfig
                 .setQueryPartitionFilterRequired(false)
                 .setDeletionVectorsEnabled(false)
                 .setDeltaLogFileSystemCacheDisabled(false)
-                .setMetadataParallelism(8));
+                .setMetadataParallelism(8)
+                .setCheckpointProcessingParallelism(4)
+                .setDeletionVectorCacheMaxSize(DataSize.of(0, MEGABYTE)));
     }
 
     @Test
@@ -118,6 +120,8 @@ public class TestDeltaLakeConfig
                 .put("delta.deletion-vectors-enabled", "true")
                 .put("delta.fs.cache.disable-transaction-log-caching", "true")
                 .put("delta.metadata.parallelism", "10")
+                .put("delta.checkpoint-processing.parallelism", "2")
+                .put("delta.deletion-vector-cache.max-size", "64MB")
                 .buildOrThrow();
 
         DeltaLakeConfig expected = new DeltaLakeConfig()
@@ -156,7 +160,9 @@ public class TestDeltaLakeConfig
                 .setQueryPartitionFilterRequired(true)
                 .setDeletionVectorsEnabled(true)
                 .setDeltaLogFileSystemCacheDisabled(true)
-                .setMetadataParallelism(10);
+                .setMetadataParallelism(10)
+                .setCheckpointProcessingParallelism(2)
+                .setDeletionVectorCacheMaxSize(DataSize.of(64, MEGABYTE));
 
         assertFullMapping(properties, expected);
     }
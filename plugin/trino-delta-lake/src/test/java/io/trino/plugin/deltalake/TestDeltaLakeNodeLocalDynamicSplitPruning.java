@@ -26,7 +26,10 @@ import io.trino.metadata.TableHandle;
 import io.trino.parquet.writer.ParquetSchemaConverter;
 import io.trino.parquet.writer.ParquetWriter;
 import io.trino.parquet.writer.ParquetWriterOptions;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCacheConfig;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
+import io.trino.plugin.deltalake.delete.DeletionVectorCache;
 import io.trino.plugin.deltalake.transactionlog.MetadataEntry;
 import io.trino.plugin.deltalake.transactionlog.ProtocolEntry;
 import io.trino.plugin.hive.HiveTransactionHandle;
@@ -329,7 +332,9 @@ public class TestDeltaLakeNodeLocalDynamicSplitPruning
                 stats,
                 PARQUET_READER_CONFIG,
                 deltaLakeConfig,
-                TESTING_TYPE_MANAGER);
+                TESTING_TYPE_MANAGER,
+                new FooterCache(new FooterCacheConfig()),
+                new DeletionVectorCache(deltaLakeConfig));
 
         return provider.createPageSource(
                 transaction,
@@ -613,10 +613,13 @@ public class TestTransactionLogAccess
                 },
                 ImmutableMultiset.<FileOperation>builder()
                         .add(new FileOperation("_last_checkpoint", "InputFile.newStream"))
-                        .addCopies(new FileOperation("00000000000000000012.json", "InputFile.newStream"), 2)
-                        .addCopies(new FileOperation("00000000000000000013.json", "InputFile.newStream"), 2)
+                        .add(new FileOperation("00000000000000000012.json", "InputFile.newStream"))
+                        .add(new FileOperation("00000000000000000013.json", "InputFile.newStream"))
                         .add(new FileOperation("00000000000000000014.json", "InputFile.newStream"))
                         .build());
+        assertThat(transactionLogAccess.getActiveDataFileCacheFullLoads().getTotalCount()).isEqualTo(1);
+        assertThat(transactionLogAccess.getActiveDataFileCacheIncrementalUpdates().getTotalCount()).isEqualTo(1);
+        assertThat(transactionLogAccess.getActiveDataFileCacheIncrementalUpdateFailures().getTotalCount()).isEqualTo(0);
     }
 
     @Test
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.io.Resources;
+import io.airlift.units.DataSize;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.plugin.deltalake.transactionlog.DeletionVectorEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.OptionalInt;
+
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.plugin.deltalake.DeltaTestingConnectorSession.SESSION;
+import static io.trino.plugin.hive.HiveTestUtils.HDFS_FILE_SYSTEM_FACTORY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TestDeletionVectorCache
+{
+    // The deletion vector has a deleted row at position 1
+    private static final DeletionVectorEntry DELETION_VECTOR = new DeletionVectorEntry("u", "R7QFX3rGXPFLhHGq&7g<", OptionalInt.of(1), 34, 1);
+
+    @Test
+    void testCachedDeletionVector()
+            throws Exception
+    {
+        Location tableLocation = Location.of(new File(Resources.getResource("databricks122/deletion_vectors").toURI()).toPath().toString());
+        TrinoFileSystem fileSystem = HDFS_FILE_SYSTEM_FACTORY.create(SESSION);
+        DeletionVectorCache cache = new DeletionVectorCache(DataSize.of(1, MEGABYTE));
+
+        RoaringBitmapArray first = cache.getDeletedRows(fileSystem, tableLocation, DELETION_VECTOR);
+        RoaringBitmapArray second = cache.getDeletedRows(fileSystem, tableLocation, DELETION_VECTOR);
+        assertThat(second).isSameAs(first);
+        assertThat(second.contains(1)).isTrue();
+        assertThat(second.cardinality()).isEqualTo(1);
+        assertThat(cache.getCacheStats().getLoadCount()).isEqualTo(1);
+        assertThat(cache.getCacheStats().getRequestCount()).isEqualTo(2);
+
+        cache.flushCache();
+        assertThat(cache.getDeletedRows(fileSystem, tableLocation, DELETION_VECTOR)).isNotSameAs(first);
+    }
+
+    @Test
+    void testDisabledCache()
+            throws Exception
+    {
+        Location tableLocation = Location.of(new File(Resources.getResource("databricks122/deletion_vectors").toURI()).toPath().toString());
+        TrinoFileSystem fileSystem = HDFS_FILE_SYSTEM_FACTORY.create(SESSION);
+        DeletionVectorCache cache = new DeletionVectorCache(DataSize.of(0, MEGABYTE));
+
+        RoaringBitmapArray first = cache.getDeletedRows(fileSystem, tableLocation, DELETION_VECTOR);
+        assertThat(cache.getDeletedRows(fileSystem, tableLocation, DELETION_VECTOR)).isNotSameAs(first);
+        assertThat(cache.getCacheStats().getRequestCount()).isZero();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.parquet.ParquetCorruptionException;
+import io.trino.parquet.ParquetDataSourceId;
+import io.trino.parquet.metadata.BlockMetadata;
+import io.trino.parquet.reader.RowGroupInfo;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static io.trino.parquet.metadata.PrunedBlockMetadata.createPrunedColumnsMetadata;
+import static io.trino.plugin.deltalake.DeltaLakeColumnHandle.rowPositionColumnHandle;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static java.lang.Math.toIntExact;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TestPositionDeleteFilter
+{
+    @Test
+    void testNoDeletedRows()
+    {
+        PageFilter filter = new PositionDeleteFilter(new RoaringBitmapArray()).createPredicate(List.of(rowPositionColumnHandle()));
+
+        Page page = positionsPage(0, 10);
+        assertThat(filter.apply(page)).isSameAs(page);
+    }
+
+    @Test
+    void testNoDeletedRowsInPage()
+    {
+        RoaringBitmapArray deletedRows = new RoaringBitmapArray();
+        addPositions(deletedRows, 0, 10);
+        deletedRows.add(30);
+        PageFilter filter = new PositionDeleteFilter(deletedRows).createPredicate(List.of(rowPositionColumnHandle()));
+
+        Page page = positionsPage(10, 30);
+        assertThat(filter.apply(page)).isSameAs(page);
+    }
+
+    @Test
+    void testAllRowsInPageDeleted()
+    {
+        RoaringBitmapArray deletedRows = new RoaringBitmapArray();
+        addPositions(deletedRows, 5, 25);
+        PageFilter filter = new PositionDeleteFilter(deletedRows).createPredicate(List.of(rowPositionColumnHandle()));
+
+        assertThat(filter.apply(positionsPage(10, 20)).getPositionCount()).isZero();
+    }
+
+    @Test
+    void testSomeRowsDeleted()
+    {
+        RoaringBitmapArray deletedRows = new RoaringBitmapArray();
+        deletedRows.add(1);
+        addPositions(deletedRows, 4, 7);
+        PageFilter filter = new PositionDeleteFilter(deletedRows).createPredicate(List.of(rowPositionColumnHandle()));
+
+        assertThat(positions(filter.apply(positionsPage(0, 8)))).containsExactly(0L, 2L, 3L, 7L);
+    }
+
+    @Test
+    void testIsDeleted()
+    {
+        RoaringBitmapArray deletedRows = new RoaringBitmapArray();
+        addPositions(deletedRows, 100, 200);
+        PositionDeleteFilter filter = new PositionDeleteFilter(deletedRows);
+
+        assertThat(filter.isDeleted(100, 100)).isTrue();
+        assertThat(filter.isDeleted(120, 10)).isTrue();
+        assertThat(filter.isDeleted(50, 100)).isFalse();
+        assertThat(filter.isDeleted(150, 100)).isFalse();
+        assertThat(filter.isDeleted(0, 100)).isFalse();
+        assertThat(filter.isDeleted(100, 0)).isFalse();
+    }
+
+    @Test
+    void testRowGroupFilter()
+            throws ParquetCorruptionException
+    {
+        RoaringBitmapArray deletedRows = new RoaringBitmapArray();
+        addPositions(deletedRows, 100, 200);
+        deletedRows.add(250);
+        PositionDeleteFilter filter = new PositionDeleteFilter(deletedRows);
+
+        // row groups of 100 rows
+        assertThat(filter.hasRetainedRows(rowGroup(0, 100))).isTrue();
+        assertThat(filter.hasRetainedRows(rowGroup(100, 100))).isFalse();
+        assertThat(filter.hasRetainedRows(rowGroup(200, 100))).isTrue();
+        // a row group which is not fully covered by the deleted range
+        assertThat(filter.hasRetainedRows(rowGroup(150, 100))).isTrue();
+    }
+
+    private static void addPositions(RoaringBitmapArray deletedRows, long start, long end)
+    {
+        LongStream.range(start, end).forEach(deletedRows::add);
+    }
+
+    private static RowGroupInfo rowGroup(long fileRowOffset, long rowCount)
+            throws ParquetCorruptionException
+    {
+        BlockMetadata block = new BlockMetadata(rowCount, ImmutableList.of());
+        return new RowGroupInfo(createPrunedColumnsMetadata(block, new ParquetDataSourceId("test"), ImmutableMap.of()), fileRowOffset, Optional.empty());
+    }
+
+    private static Page positionsPage(long start, long end)
+    {
+        BlockBuilder blockBuilder = BIGINT.createFixedSizeBlockBuilder(toIntExact(end - start));
+        LongStream.range(start, end).forEach(position -> BIGINT.writeLong(blockBuilder, position));
+        return new Page(blockBuilder.build());
+    }
+
+    private static List<Long> positions(Page page)
+    {
+        Block block = page.getBlock(0);
+        ImmutableList.Builder<Long> positions = ImmutableList.builder();
+        for (int position = 0; position < page.getPositionCount(); position++) {
+            positions.add(BIGINT.getLong(block, position));
+        }
+        return positions.build();
+    }
+}
@@ -55,6 +55,29 @@ final class TestRoaringBitmapArray
         assertThat(bitmaps.cardinality()).isEqualTo(2);
     }
 
+    @Test
+    void testCardinalityInRange()
+    {
+        RoaringBitmapArray bitmaps = new RoaringBitmapArray();
+        assertThat(bitmaps.cardinality(0, 10)).isZero();
+
+        bitmaps.addRange(5, 9);
+        assertThat(bitmaps.cardinality(0, 10)).isEqualTo(5);
+        assertThat(bitmaps.cardinality(5, 10)).isEqualTo(5);
+        assertThat(bitmaps.cardinality(6, 9)).isEqualTo(3);
+        assertThat(bitmaps.cardinality(5, 5)).isZero();
+        assertThat(bitmaps.cardinality(10, 20)).isZero();
+
+        long high = (long) Integer.MAX_VALUE * 2 + 2;
+        bitmaps.add(high - 1);
+        bitmaps.add(high);
+        bitmaps.add(high + 1);
+        assertThat(bitmaps.cardinality(high - 1, high + 2)).isEqualTo(3);
+        assertThat(bitmaps.cardinality(high, high + 1)).isEqualTo(1);
+        assertThat(bitmaps.cardinality(0, high + 100)).isEqualTo(8);
+        assertThat(bitmaps.cardinality(high + 100, high * 4)).isZero();
+    }
+
     @Test
     void testSerializedSizeInBytes()
     {
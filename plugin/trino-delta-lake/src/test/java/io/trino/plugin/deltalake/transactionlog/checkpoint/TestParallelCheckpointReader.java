@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.transactionlog.checkpoint;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+@Timeout(60)
+public class TestParallelCheckpointReader
+{
+    private final ExecutorService executor = newCachedThreadPool(daemonThreadsNamed("test-checkpoint-reader-%s"));
+
+    @AfterAll
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReadsAllFiles()
+    {
+        ParallelCheckpointReader<Integer> reader = new ParallelCheckpointReader<>(executor, 2, 10);
+        for (int file = 0; file < 5; file++) {
+            int start = file * 1000;
+            reader.addFile(() -> IntStream.range(start, start + 1000).boxed());
+        }
+        try (Stream<Integer> entries = reader.stream()) {
+            assertThat(entries.toList())
+                    .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 5000).boxed().toList());
+        }
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        ParallelCheckpointReader<Integer> reader = new ParallelCheckpointReader<>(executor, 2);
+        try (Stream<Integer> entries = reader.stream()) {
+            assertThat(entries.toList()).isEmpty();
+        }
+    }
+
+    @Test
+    public void testFilesAddedWhileReading()
+    {
+        ParallelCheckpointReader<Integer> reader = new ParallelCheckpointReader<>(executor, 1, 10);
+        reader.addFile(() -> IntStream.range(0, 3).boxed()
+                .peek(sidecar -> reader.addFile(() -> IntStream.range(0, 100).map(value -> (sidecar + 1) * 1000 + value).boxed()))
+                .filter(_ -> false));
+        try (Stream<Integer> entries = reader.stream()) {
+            List<Integer> values = entries.toList();
+            assertThat(values).hasSize(300);
+            assertThat(values).contains(1000, 2099, 3050);
+        }
+    }
+
+    @Test
+    public void testFailure()
+    {
+        ParallelCheckpointReader<Integer> reader = new ParallelCheckpointReader<>(executor, 2, 10);
+        reader.addFile(() -> IntStream.range(0, 1000).boxed());
+        reader.addFile(() -> Stream.of(1, 2).map(value -> {
+            if (value == 2) {
+                throw new IllegalStateException("test failure");
+            }
+            return value;
+        }));
+        try (Stream<Integer> entries = reader.stream()) {
+            assertThatThrownBy(entries::toList)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("test failure");
+        }
+    }
+
+    @Test
+    public void testCloseStopsReading()
+    {
+        AtomicInteger closedFiles = new AtomicInteger();
+        ParallelCheckpointReader<Integer> reader = new ParallelCheckpointReader<>(executor, 2, 10);
+        for (int file = 0; file < 2; file++) {
+            reader.addFile(() -> IntStream.iterate(0, value -> value + 1).boxed().onClose(closedFiles::incrementAndGet));
+        }
+        try (Stream<Integer> entries = reader.stream()) {
+            assertThat(entries.limit(100).toList()).hasSize(100);
+        }
+        while (closedFiles.get() < 2) {
+            Thread.onSpinWait();
+        }
+    }
+}
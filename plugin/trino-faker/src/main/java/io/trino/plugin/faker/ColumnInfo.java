@@ -23,6 +23,8 @@ public record ColumnInfo(FakerColumnHandle handle, ColumnMetadata metadata)
 {
     public static final String NULL_PROBABILITY_PROPERTY = "null_probability";
     public static final String GENERATOR_PROPERTY = "generator";
+    public static final String ALLOWED_VALUES_PROPERTY = "allowed_values";
+    public static final String BULK_GENERATION_PROPERTY = "bulk_generation";
 
     public ColumnInfo
     {
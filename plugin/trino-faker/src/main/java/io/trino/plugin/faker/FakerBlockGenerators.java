@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.faker;
+
+import io.trino.plugin.faker.FakerPageSource.DoubleRange;
+import io.trino.plugin.faker.FakerPageSource.FloatRange;
+import io.trino.spi.TrinoException;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.ByteArrayBlock;
+import io.trino.spi.block.DictionaryBlock;
+import io.trino.spi.block.IntArrayBlock;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.block.RunLengthEncodedBlock;
+import io.trino.spi.block.ShortArrayBlock;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.Type;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import static io.trino.plugin.faker.FakerPageSource.POWERS_OF_TEN;
+import static io.trino.spi.StandardErrorCode.INVALID_ROW_FILTER;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.RealType.REAL;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static io.trino.spi.type.TypeUtils.writeNativeValue;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Float.floatToRawIntBits;
+
+/**
+ * Generators producing whole blocks of random values, writing them to arrays of the native type of the column,
+ * instead of appending values one by one to a block builder. Used for columns with bulk generation enabled.
+ */
+final class FakerBlockGenerators
+{
+    private FakerBlockGenerators() {}
+
+    @FunctionalInterface
+    interface BlockGenerator
+    {
+        Block generate(int positionCount);
+    }
+
+    /**
+     * Returns a generator for values in the domain, or empty if the type or the domain is not supported,
+     * and values have to be generated one by one.
+     */
+    static Optional<BlockGenerator> createBlockGenerator(Type type, Domain domain, double nullProbability, RandomGenerator random)
+    {
+        if (domain.getValues().isDiscreteSet()) {
+            if (domain.getValues().isNone()) {
+                return Optional.empty();
+            }
+            return Optional.of(dictionaryGenerator(type, domain.getValues().getDiscreteSet(), domain.isNullAllowed() ? nullProbability : 0, random));
+        }
+        if (domain.getValues().getRanges().getRangeCount() != 1) {
+            return Optional.empty();
+        }
+        Range range = domain.getValues().getRanges().getSpan();
+        // check every type in order defined in StandardTypes
+        if (BIGINT.equals(type)) {
+            LongRange values = LongRange.of(range, Long.MIN_VALUE, Long.MAX_VALUE);
+            return Optional.of(positionCount -> {
+                long[] longs = new long[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    longs[position] = values.next(random);
+                }
+                return new LongArrayBlock(positionCount, nulls(positionCount, nullProbability, random), longs);
+            });
+        }
+        if (INTEGER.equals(type) || DATE.equals(type)) {
+            LongRange values = LongRange.of(range, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            return Optional.of(positionCount -> {
+                int[] ints = new int[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    ints[position] = (int) values.next(random);
+                }
+                return new IntArrayBlock(positionCount, nulls(positionCount, nullProbability, random), ints);
+            });
+        }
+        if (SMALLINT.equals(type)) {
+            LongRange values = LongRange.of(range, Short.MIN_VALUE, Short.MAX_VALUE);
+            return Optional.of(positionCount -> {
+                short[] shorts = new short[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    shorts[position] = (short) values.next(random);
+                }
+                return new ShortArrayBlock(positionCount, nulls(positionCount, nullProbability, random), shorts);
+            });
+        }
+        if (TINYINT.equals(type)) {
+            LongRange values = LongRange.of(range, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            return Optional.of(positionCount -> {
+                byte[] bytes = new byte[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    bytes[position] = (byte) values.next(random);
+                }
+                return new ByteArrayBlock(positionCount, nulls(positionCount, nullProbability, random), bytes);
+            });
+        }
+        if (BOOLEAN.equals(type)) {
+            if (!range.isAll()) {
+                return Optional.empty();
+            }
+            return Optional.of(positionCount -> {
+                byte[] bytes = new byte[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    bytes[position] = (byte) (random.nextBoolean() ? 1 : 0);
+                }
+                return new ByteArrayBlock(positionCount, nulls(positionCount, nullProbability, random), bytes);
+            });
+        }
+        if (type instanceof DecimalType decimalType && decimalType.isShort()) {
+            long max = 999999999999999999L / POWERS_OF_TEN[18 - decimalType.getPrecision()];
+            LongRange values = LongRange.of(range, -max, max);
+            return Optional.of(positionCount -> {
+                long[] longs = new long[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    longs[position] = values.next(random);
+                }
+                return new LongArrayBlock(positionCount, nulls(positionCount, nullProbability, random), longs);
+            });
+        }
+        if (REAL.equals(type)) {
+            FloatRange values = FloatRange.of(range);
+            return Optional.of(positionCount -> {
+                int[] ints = new int[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    ints[position] = floatToRawIntBits(values.next(random));
+                }
+                return new IntArrayBlock(positionCount, nulls(positionCount, nullProbability, random), ints);
+            });
+        }
+        if (DOUBLE.equals(type)) {
+            DoubleRange values = DoubleRange.of(range);
+            return Optional.of(positionCount -> {
+                long[] longs = new long[positionCount];
+                for (int position = 0; position < positionCount; position++) {
+                    longs[position] = doubleToRawLongBits(values.next(random));
+                }
+                return new LongArrayBlock(positionCount, nulls(positionCount, nullProbability, random), longs);
+            });
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Chooses values from the list, producing dictionary blocks sharing a single dictionary.
+     * The last dictionary entry is a null, if nulls are generated.
+     */
+    private static BlockGenerator dictionaryGenerator(Type type, List<Object> values, double nullProbability, RandomGenerator random)
+    {
+        BlockBuilder blockBuilder = type.createBlockBuilder(null, values.size() + 1);
+        for (Object value : values) {
+            writeNativeValue(type, blockBuilder, value);
+        }
+        if (nullProbability == 0 && values.size() == 1) {
+            Block value = blockBuilder.build();
+            return positionCount -> RunLengthEncodedBlock.create(value, positionCount);
+        }
+        if (nullProbability > 0) {
+            blockBuilder.appendNull();
+        }
+        Block dictionary = blockBuilder.build();
+        int valueCount = values.size();
+        return positionCount -> {
+            int[] ids = new int[positionCount];
+            for (int position = 0; position < positionCount; position++) {
+                ids[position] = nullProbability > 0 && random.nextDouble() <= nullProbability ? valueCount : random.nextInt(valueCount);
+            }
+            return DictionaryBlock.create(positionCount, dictionary, ids);
+        };
+    }
+
+    private static Optional<boolean[]> nulls(int positionCount, double nullProbability, RandomGenerator random)
+    {
+        if (nullProbability == 0) {
+            return Optional.empty();
+        }
+        boolean[] valueIsNull = new boolean[positionCount];
+        for (int position = 0; position < positionCount; position++) {
+            valueIsNull[position] = random.nextDouble() <= nullProbability;
+        }
+        return Optional.of(valueIsNull);
+    }
+
+    /**
+     * Range of integer values, with both bounds inclusive.
+     */
+    private record LongRange(long low, long high)
+    {
+        static LongRange of(Range range, long min, long max)
+        {
+            long low = (long) range.getLowValue().orElse(min);
+            if (!range.isLowUnbounded() && !range.isLowInclusive()) {
+                low++;
+            }
+            long high = (long) range.getHighValue().orElse(max);
+            if (!range.isHighUnbounded() && !range.isHighInclusive()) {
+                high--;
+            }
+            return new LongRange(low, high);
+        }
+
+        LongRange
+        {
+            if (low > high) {
+                throw new TrinoException(INVALID_ROW_FILTER, "Range of values to generate is empty");
+            }
+        }
+
+        long next(RandomGenerator random)
+        {
+            if (high == Long.MAX_VALUE) {
+                if (low == Long.MIN_VALUE) {
+                    return random.nextLong();
+                }
+                return random.nextLong(low - 1, high) + 1;
+            }
+            return random.nextLong(low, high + 1);
+        }
+    }
+}
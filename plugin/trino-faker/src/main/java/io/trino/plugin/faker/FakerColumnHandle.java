@@ -14,9 +14,12 @@
 
 package io.trino.plugin.faker;
 
+import com.google.common.collect.ImmutableList;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.type.Type;
 
+import java.util.List;
+
 import static java.util.Objects.requireNonNull;
 
 public record FakerColumnHandle(
@@ -24,12 +27,15 @@ public record FakerColumnHandle(
         String name,
         Type type,
         double nullProbability,
-        String generator)
+        String generator,
+        List<String> allowedValues,
+        boolean bulkGeneration)
         implements ColumnHandle
 {
     public FakerColumnHandle
     {
         requireNonNull(name, "name is null");
         requireNonNull(type, "type is null");
+        allowedValues = ImmutableList.copyOf(requireNonNull(allowedValues, "allowedValues is null"));
     }
 }
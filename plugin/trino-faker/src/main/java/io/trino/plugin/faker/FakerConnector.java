@@ -28,6 +28,7 @@ import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.function.FunctionProvider;
 import io.trino.spi.session.PropertyMetadata;
 import io.trino.spi.transaction.IsolationLevel;
+import io.trino.spi.type.ArrayType;
 import jakarta.inject.Inject;
 
 import java.util.List;
@@ -38,9 +39,11 @@ import static io.trino.spi.StandardErrorCode.INVALID_COLUMN_PROPERTY;
 import static io.trino.spi.StandardErrorCode.INVALID_SCHEMA_PROPERTY;
 import static io.trino.spi.StandardErrorCode.INVALID_TABLE_PROPERTY;
 import static io.trino.spi.connector.ConnectorCapabilities.NOT_NULL_COLUMN_CONSTRAINT;
+import static io.trino.spi.session.PropertyMetadata.booleanProperty;
 import static io.trino.spi.session.PropertyMetadata.doubleProperty;
 import static io.trino.spi.session.PropertyMetadata.longProperty;
 import static io.trino.spi.session.PropertyMetadata.stringProperty;
+import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.util.Objects.requireNonNull;
 
 public class FakerConnector
@@ -136,6 +139,11 @@ public class FakerConnector
                         "Default limit of rows returned from this table if not specified in the query",
                         null,
                         defaultLimit -> checkProperty(1 <= defaultLimit, INVALID_TABLE_PROPERTY, "default_limit value must be equal or greater than 1"),
+                        false),
+                booleanProperty(
+                        TableInfo.BULK_GENERATION_PROPERTY,
+                        "Generate whole blocks of values at once for the columns of this table that support it",
+                        null,
                         false));
     }
 
@@ -161,6 +169,20 @@ public class FakerConnector
                                 throw new TrinoException(INVALID_COLUMN_PROPERTY, "generator must be a valid Faker expression", e);
                             }
                         },
+                        false),
+                new PropertyMetadata<>(
+                        ColumnInfo.ALLOWED_VALUES_PROPERTY,
+                        "List of values from which the values of this column are randomly chosen",
+                        new ArrayType(VARCHAR),
+                        List.class,
+                        null,
+                        false,
+                        value -> (List<?>) value,
+                        value -> value),
+                booleanProperty(
+                        ColumnInfo.BULK_GENERATION_PROPERTY,
+                        "Generate whole blocks of values at once for this column, if its type supports it",
+                        null,
                         false));
     }
 
@@ -296,6 +296,7 @@ public class FakerMetadata
 
         double schemaNullProbability = (double) schema.properties().getOrDefault(SchemaInfo.NULL_PROBABILITY_PROPERTY, nullProbability);
         double tableNullProbability = (double) tableMetadata.getProperties().getOrDefault(TableInfo.NULL_PROBABILITY_PROPERTY, schemaNullProbability);
+        boolean tableBulkGeneration = (boolean) tableMetadata.getProperties().getOrDefault(TableInfo.BULK_GENERATION_PROPERTY, false);
 
         ImmutableList.Builder<ColumnInfo> columns = ImmutableList.builder();
         int columnId = 0;
@@ -309,13 +310,20 @@ public class FakerMetadata
             if (generator != null && !isCharacterColumn(column)) {
                 throw new TrinoException(INVALID_COLUMN_PROPERTY, "The `generator` property can only be set for CHAR, VARCHAR or VARBINARY columns");
             }
+            List<String> allowedValues = getAllowedValues(column);
+            if (!allowedValues.isEmpty() && generator != null) {
+                throw new TrinoException(INVALID_COLUMN_PROPERTY, "The `generator` and `allowed_values` properties cannot be both set");
+            }
+            boolean bulkGeneration = (boolean) column.getProperties().getOrDefault(ColumnInfo.BULK_GENERATION_PROPERTY, tableBulkGeneration);
             columns.add(new ColumnInfo(
                     new FakerColumnHandle(
                             columnId,
                             column.getName(),
                             column.getType(),
                             nullProbability,
-                            generator),
+                            generator,
+                            allowedValues,
+                            bulkGeneration),
                     column));
         }
 
@@ -325,7 +333,9 @@ public class FakerMetadata
                         ROW_ID_COLUMN_NAME,
                         BigintType.BIGINT,
                         0,
-                        ""),
+                        "",
+                        ImmutableList.of(),
+                        true),
                 ColumnMetadata.builder()
                         .setName(ROW_ID_COLUMN_NAME)
                         .setType(BigintType.BIGINT)
@@ -341,6 +351,35 @@ public class FakerMetadata
         return new FakerOutputTableHandle(tableName);
     }
 
+    private static List<String> getAllowedValues(ColumnMetadata column)
+    {
+        List<?> values = (List<?>) column.getProperties().get(ColumnInfo.ALLOWED_VALUES_PROPERTY);
+        if (values == null || values.isEmpty()) {
+            return ImmutableList.of();
+        }
+        if (!(column.getType() instanceof CharType) && !(column.getType() instanceof VarcharType)) {
+            throw new TrinoException(INVALID_COLUMN_PROPERTY, "The `allowed_values` property can only be set for CHAR or VARCHAR columns");
+        }
+        ImmutableList.Builder<String> allowedValues = ImmutableList.builder();
+        for (Object value : values) {
+            if (value == null) {
+                throw new TrinoException(INVALID_COLUMN_PROPERTY, "The `allowed_values` property cannot contain nulls");
+            }
+            String allowedValue = (String) value;
+            int length = allowedValue.codePointCount(0, allowedValue.length());
+            int maxLength = switch (column.getType()) {
+                case CharType charType -> charType.getLength();
+                case VarcharType varcharType -> varcharType.getLength().orElse(Integer.MAX_VALUE);
+                default -> throw new IllegalArgumentException("Unexpected type: " + column.getType());
+            };
+            if (length > maxLength) {
+                throw new TrinoException(INVALID_COLUMN_PROPERTY, format("Value '%s' of the `allowed_values` property is longer than the column type %s", allowedValue, column.getType()));
+            }
+            allowedValues.add(allowedValue);
+        }
+        return allowedValues.build();
+    }
+
     private boolean isCharacterColumn(ColumnMetadata column)
     {
         return column.getType() instanceof CharType || column.getType() instanceof VarcharType || column.getType() instanceof VarbinaryType;
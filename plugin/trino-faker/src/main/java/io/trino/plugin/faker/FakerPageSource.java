@@ -13,17 +13,21 @@
  */
 package io.trino.plugin.faker;
 
+import com.google.common.collect.ImmutableList;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
+import io.trino.plugin.faker.FakerBlockGenerators.BlockGenerator;
 import io.trino.spi.Page;
-import io.trino.spi.PageBuilder;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.Block;
 import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.LongArrayBlock;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorPageSource;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.Range;
 import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
 import io.trino.spi.type.CharType;
 import io.trino.spi.type.DecimalType;
 import io.trino.spi.type.Decimals;
@@ -49,13 +53,17 @@ import java.net.Inet4Address;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.plugin.faker.FakerBlockGenerators.createBlockGenerator;
 import static io.trino.plugin.faker.FakerMetadata.ROW_ID_COLUMN_NAME;
 import static io.trino.spi.StandardErrorCode.INVALID_ROW_FILTER;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.Chars.trimTrailingSpaces;
 import static io.trino.spi.type.DateTimeEncoding.packDateTimeWithZone;
 import static io.trino.spi.type.DateTimeEncoding.packTimeWithTimeZone;
 import static io.trino.spi.type.DateTimeEncoding.unpackMillisUtc;
@@ -115,11 +123,9 @@ class FakerPageSource
     private final Random random;
     private final Faker faker;
     private final long limit;
-    private final List<Generator> generators;
+    private final List<BlockGenerator> generators;
     private long completedRows;
 
-    private final PageBuilder pageBuilder;
-
     private boolean closed;
 
     FakerPageSource(
@@ -132,39 +138,82 @@ class FakerPageSource
     {
         this.faker = requireNonNull(faker, "faker is null");
         this.random = requireNonNull(random, "random is null");
-        List<Type> types = requireNonNull(columns, "columns is null")
-                .stream()
-                .map(FakerColumnHandle::type)
-                .collect(toImmutableList());
+        requireNonNull(columns, "columns is null");
         requireNonNull(constraint, "constraint is null");
         this.limit = limit;
 
-        this.generators = columns
-                .stream()
-                .map(column -> getGenerator(column, constraint, offset))
+        List<Domain> domains = columns.stream()
+                .map(column -> getDomain(column, constraint))
                 .collect(toImmutableList());
-        this.pageBuilder = new PageBuilder(types);
+        if (domains.stream().anyMatch(Domain::isNone)) {
+            // no values of some column match the predicate, so no rows match it
+            this.generators = ImmutableList.of();
+            this.closed = true;
+            return;
+        }
+        ImmutableList.Builder<BlockGenerator> generators = ImmutableList.builder();
+        for (int i = 0; i < columns.size(); i++) {
+            generators.add(getGenerator(columns.get(i), domains.get(i), offset));
+        }
+        this.generators = generators.build();
+    }
+
+    private static Domain getDomain(FakerColumnHandle column, TupleDomain<ColumnHandle> constraint)
+    {
+        Domain domain = constraint.getDomains().get().getOrDefault(column, Domain.all(column.type()));
+        if (!column.allowedValues().isEmpty()) {
+            domain = domain.intersect(allowedValuesDomain(column));
+        }
+        return domain;
     }
 
-    private Generator getGenerator(
+    private BlockGenerator getGenerator(
             FakerColumnHandle column,
-            TupleDomain<ColumnHandle> constraint,
+            Domain domain,
             long offset)
     {
         if (ROW_ID_COLUMN_NAME.equals(column.name())) {
-            return new Generator() {
+            return new BlockGenerator() {
                 long currentRowId = offset;
                 @Override
-                public void accept(BlockBuilder blockBuilder)
+                public Block generate(int positionCount)
                 {
-                    BIGINT.writeLong(blockBuilder, currentRowId++);
+                    long[] rowIds = new long[positionCount];
+                    for (int position = 0; position < positionCount; position++) {
+                        rowIds[position] = currentRowId++;
+                    }
+                    return new LongArrayBlock(positionCount, Optional.empty(), rowIds);
                 }
             };
         }
 
-        return constraintedValueGenerator(
-                column,
-                constraint.getDomains().get().getOrDefault(column, Domain.all(column.type())));
+        if (column.bulkGeneration() && column.generator() == null) {
+            Optional<BlockGenerator> blockGenerator = createBlockGenerator(column.type(), domain, column.nullProbability(), random);
+            if (blockGenerator.isPresent()) {
+                return blockGenerator.get();
+            }
+        }
+
+        Generator generator = constraintedValueGenerator(column, domain);
+        return positionCount -> {
+            BlockBuilder blockBuilder = column.type().createBlockBuilder(null, positionCount);
+            for (int position = 0; position < positionCount; position++) {
+                generator.accept(blockBuilder);
+            }
+            return blockBuilder.build();
+        };
+    }
+
+    private static Domain allowedValuesDomain(FakerColumnHandle column)
+    {
+        List<Object> values = column.allowedValues().stream()
+                .map(value -> {
+                    Slice slice = Slices.utf8Slice(value);
+                    return column.type() instanceof CharType ? (Object) trimTrailingSpaces(slice) : slice;
+                })
+                .collect(toImmutableList());
+        // nulls are generated according to the null probability of the column
+        return Domain.create(ValueSet.copyOf(column.type(), values), true);
     }
 
     @Override
@@ -182,44 +231,33 @@ class FakerPageSource
     @Override
     public boolean isFinished()
     {
-        return closed && pageBuilder.isEmpty();
+        return closed;
     }
 
     @Override
     public Page getNextPage()
     {
-        if (!closed) {
-            int positions = (int) Math.min(limit - completedRows, ROWS_PER_PAGE);
-            if (positions <= 0) {
-                closed = true;
-            }
-            else {
-                pageBuilder.declarePositions(positions);
-                for (int column = 0; column < generators.size(); column++) {
-                    BlockBuilder blockBuilder = pageBuilder.getBlockBuilder(column);
-                    Generator generator = generators.get(column);
-                    for (int i = 0; i < positions; i++) {
-                        generator.accept(blockBuilder);
-                    }
-                }
-                completedRows += positions;
-            }
+        if (closed) {
+            return null;
         }
-
-        // only return a page if the buffer is full, or we are finishing
-        if ((closed && !pageBuilder.isEmpty()) || pageBuilder.isFull()) {
-            Page page = pageBuilder.build();
-            pageBuilder.reset();
-            return page;
+        int positions = (int) Math.min(limit - completedRows, ROWS_PER_PAGE);
+        if (positions <= 0) {
+            closed = true;
+            return null;
         }
 
-        return null;
+        Block[] blocks = new Block[generators.size()];
+        for (int column = 0; column < blocks.length; column++) {
+            blocks[column] = generators.get(column).generate(positions);
+        }
+        completedRows += positions;
+        return new Page(positions, blocks);
     }
 
     @Override
     public long getMemoryUsage()
     {
-        return pageBuilder.getRetainedSizeInBytes();
+        return 0;
     }
 
     @Override
@@ -230,21 +268,32 @@ class FakerPageSource
 
     private Generator constraintedValueGenerator(FakerColumnHandle handle, Domain domain)
     {
+        if (domain.getValues().isNone()) {
+            // domains without any values are skipped in the constructor, unless they allow nulls
+            return BlockBuilder::appendNull;
+        }
+        Generator generator;
+        boolean nullAllowed = true;
         if (domain.isSingleValue()) {
             ObjectWriter singleValueWriter = objectWriter(handle.type());
-            return (blockBuilder) -> singleValueWriter.accept(blockBuilder, domain.getSingleValue());
+            generator = (blockBuilder) -> singleValueWriter.accept(blockBuilder, domain.getSingleValue());
+            nullAllowed = false;
         }
-        if (domain.getValues().isDiscreteSet()) {
+        else if (domain.getValues().isDiscreteSet()) {
             List<Object> values = domain.getValues().getDiscreteSet();
             ObjectWriter singleValueWriter = objectWriter(handle.type());
-            return (blockBuilder) -> singleValueWriter.accept(blockBuilder, values.get(random.nextInt(values.size())));
+            generator = (blockBuilder) -> singleValueWriter.accept(blockBuilder, values.get(random.nextInt(values.size())));
+            // allowed values of the column, unless restricted by a predicate
+            nullAllowed = domain.isNullAllowed();
         }
-        if (domain.getValues().getRanges().getRangeCount() > 1) {
-            // this would require calculating weights for each range to retain uniform distribution
-            throw new TrinoException(INVALID_ROW_FILTER, "Generating random values from more than one range is not supported");
+        else {
+            if (domain.getValues().getRanges().getRangeCount() > 1) {
+                // this would require calculating weights for each range to retain uniform distribution
+                throw new TrinoException(INVALID_ROW_FILTER, "Generating random values from more than one range is not supported");
+            }
+            generator = randomValueGenerator(handle, domain.getValues().getRanges().getSpan());
         }
-        Generator generator = randomValueGenerator(handle, domain.getValues().getRanges().getSpan());
-        if (handle.nullProbability() == 0) {
+        if (!nullAllowed || handle.nullProbability() == 0) {
             return generator;
         }
         return (blockBuilder) -> {
@@ -292,10 +341,12 @@ class FakerPageSource
             return decimalGenerator(range, decimalType);
         }
         if (REAL.equals(type)) {
-            return (blockBuilder) -> REAL.writeLong(blockBuilder, floatToRawIntBits(generateFloat(range)));
+            FloatRange values = FloatRange.of(range);
+            return (blockBuilder) -> REAL.writeLong(blockBuilder, floatToRawIntBits(values.next(random)));
         }
         if (DOUBLE.equals(type)) {
-            return (blockBuilder) -> DOUBLE.writeDouble(blockBuilder, generateDouble(range));
+            DoubleRange values = DoubleRange.of(range);
+            return (blockBuilder) -> DOUBLE.writeDouble(blockBuilder, values.next(random));
         }
         // not supported: HYPER_LOG_LOG, QDIGEST, TDIGEST, P4_HYPER_LOG_LOG
         if (INTERVAL_DAY_TIME.equals(type)) {
@@ -475,33 +526,6 @@ class FakerPageSource
                 (long) range.getHighValue().orElse((long) Byte.MAX_VALUE) + (!range.isHighUnbounded() && range.isHighInclusive() ? 1 : 0));
     }
 
-    private float generateFloat(Range range)
-    {
-        // TODO normalize ranges in applyFilter, so they always have bounds
-        float minValue = range.getLowValue().map(v -> intBitsToFloat(toIntExact((long) v))).orElse(Float.MIN_VALUE);
-        if (!range.isLowUnbounded() && !range.isLowInclusive()) {
-            minValue = Math.nextUp(minValue);
-        }
-        float maxValue = range.getHighValue().map(v -> intBitsToFloat(toIntExact((long) v))).orElse(Float.MAX_VALUE);
-        if (!range.isHighUnbounded() && !range.isHighInclusive()) {
-            maxValue = Math.nextDown(maxValue);
-        }
-        return minValue + (maxValue - minValue) * random.nextFloat();
-    }
-
-    private double generateDouble(Range range)
-    {
-        double minValue = (double) range.getLowValue().orElse(Double.MIN_VALUE);
-        if (!range.isLowUnbounded() && !range.isLowInclusive()) {
-            minValue = Math.nextUp(minValue);
-        }
-        double maxValue = (double) range.getHighValue().orElse(Double.MAX_VALUE);
-        if (!range.isHighUnbounded() && !range.isHighInclusive()) {
-            maxValue = Math.nextDown(maxValue);
-        }
-        return minValue + (maxValue - minValue) * random.nextDouble();
-    }
-
     private Generator decimalGenerator(Range range, DecimalType decimalType)
     {
         if (decimalType.isShort()) {
@@ -728,6 +752,55 @@ class FakerPageSource
         };
     }
 
+    /**
+     * Bounds of the random real values generated for a range.
+     */
+    record FloatRange(float min, float max)
+    {
+        static FloatRange of(Range range)
+        {
+            // TODO normalize ranges in applyFilter, so they always have bounds
+            float min = range.getLowValue().map(v -> intBitsToFloat(toIntExact((long) v))).orElse(Float.MIN_VALUE);
+            if (!range.isLowUnbounded() && !range.isLowInclusive()) {
+                min = Math.nextUp(min);
+            }
+            float max = range.getHighValue().map(v -> intBitsToFloat(toIntExact((long) v))).orElse(Float.MAX_VALUE);
+            if (!range.isHighUnbounded() && !range.isHighInclusive()) {
+                max = Math.nextDown(max);
+            }
+            return new FloatRange(min, max);
+        }
+
+        float next(RandomGenerator random)
+        {
+            return min + (max - min) * random.nextFloat();
+        }
+    }
+
+    /**
+     * Bounds of the random double values generated for a range.
+     */
+    record DoubleRange(double min, double max)
+    {
+        static DoubleRange of(Range range)
+        {
+            double min = (double) range.getLowValue().orElse(Double.MIN_VALUE);
+            if (!range.isLowUnbounded() && !range.isLowInclusive()) {
+                min = Math.nextUp(min);
+            }
+            double max = (double) range.getHighValue().orElse(Double.MAX_VALUE);
+            if (!range.isHighUnbounded() && !range.isHighInclusive()) {
+                max = Math.nextDown(max);
+            }
+            return new DoubleRange(min, max);
+        }
+
+        double next(RandomGenerator random)
+        {
+            return min + (max - min) * random.nextDouble();
+        }
+    }
+
     @FunctionalInterface
     private interface ObjectWriter
     {
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static io.trino.plugin.faker.FakerSplitManager.MAX_ROWS_PER_SPLIT;
+import static io.trino.spi.StandardErrorCode.INVALID_COLUMN_PROPERTY;
 import static io.trino.spi.StandardErrorCode.INVALID_COLUMN_REFERENCE;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -263,6 +264,100 @@ final class TestFakerQueries
         }
     }
 
+    @Test
+    void testSelectBulkGeneration()
+    {
+        try (TestTable table = new TestTable(getQueryRunner()::execute, "bulk_generation",
+                """
+                (
+                    rnd_bigint BIGINT NOT NULL,
+                    rnd_integer INTEGER,
+                    rnd_smallint SMALLINT NOT NULL,
+                    rnd_tinyint TINYINT NOT NULL,
+                    rnd_boolean BOOLEAN NOT NULL,
+                    rnd_date DATE NOT NULL,
+                    rnd_decimal DECIMAL(5,2) NOT NULL,
+                    rnd_real REAL NOT NULL,
+                    rnd_double DOUBLE NOT NULL,
+                    rnd_varchar VARCHAR NOT NULL WITH (allowed_values = ARRAY['a', 'b', 'c']),
+                    rnd_timestamp TIMESTAMP NOT NULL
+                )
+                WITH (bulk_generation = true, null_probability = 0.5, default_limit = 10000)
+                """)) {
+            assertQuery(
+                    """
+                    SELECT
+                        count(distinct rnd_bigint) > 9000,
+                        count(rnd_integer) BETWEEN 4000 AND 6000,
+                        count(distinct rnd_boolean),
+                        count(distinct rnd_varchar),
+                        count(distinct rnd_timestamp) > 9000
+                    FROM %s
+                    """.formatted(table.getName()),
+                    "VALUES (true, true, 2, 3, true)");
+
+            assertQuery(
+                    """
+                    SELECT
+                        min(rnd_bigint), max(rnd_bigint),
+                        min(rnd_smallint), max(rnd_smallint),
+                        min(rnd_tinyint), max(rnd_tinyint),
+                        min(rnd_date), max(rnd_date),
+                        min(rnd_decimal), max(rnd_decimal)
+                    FROM %s
+                    WHERE rnd_bigint BETWEEN 10 AND 12
+                    AND rnd_smallint > 10 AND rnd_smallint < 13
+                    AND rnd_tinyint >= 10 AND rnd_tinyint < 13
+                    AND rnd_date BETWEEN DATE '2022-03-01' AND DATE '2022-03-03'
+                    AND rnd_decimal BETWEEN 1.00 AND 1.02
+                    """.formatted(table.getName()),
+                    "VALUES (10, 12, 11, 12, 10, 12, DATE '2022-03-01', DATE '2022-03-03', 1.00, 1.02)");
+
+            assertQuery(
+                    "SELECT count(distinct rnd_varchar) FROM %s WHERE rnd_varchar IN ('b', 'c', 'd')".formatted(table.getName()),
+                    "VALUES (2)");
+            assertQuery(
+                    "SELECT count(*) FROM %s WHERE rnd_varchar = 'zzz'".formatted(table.getName()),
+                    "VALUES (0)");
+
+            // generating data should be deterministic
+            String testQuery = "SELECT to_hex(checksum(rnd_bigint)) FROM " + table.getName();
+            assertThat(computeScalar(testQuery)).isEqualTo(computeScalar(testQuery));
+        }
+    }
+
+    @Test
+    void testSelectAllowedValues()
+    {
+        try (TestTable table = new TestTable(getQueryRunner()::execute, "allowed_values",
+                """
+                (
+                    status VARCHAR(10) WITH (allowed_values = ARRAY['new', 'shipped', 'returned'], null_probability = 0.0),
+                    code CHAR(3) NOT NULL WITH (allowed_values = ARRAY['a', 'bb'])
+                )
+                """)) {
+            assertQuery("SELECT DISTINCT status FROM " + table.getName(), "VALUES ('new'), ('shipped'), ('returned')");
+            assertQuery("SELECT DISTINCT trim(code) FROM " + table.getName(), "VALUES ('a'), ('bb')");
+            assertQuery("SELECT DISTINCT status FROM %s WHERE status <> 'new'".formatted(table.getName()), "VALUES ('shipped'), ('returned')");
+            // no allowed values match the predicate
+            assertQuery("SELECT count(*) FROM %s WHERE status = 'zzz'".formatted(table.getName()), "VALUES (0)");
+            assertQuery("SELECT count(*) FROM %s WHERE code IN ('x', 'y')".formatted(table.getName()), "VALUES (0)");
+        }
+
+        assertThat(query("CREATE TABLE faker.default.invalid_allowed_values (id INTEGER WITH (allowed_values = ARRAY['1']))"))
+                .failure()
+                .hasErrorCode(INVALID_COLUMN_PROPERTY)
+                .hasMessage("The `allowed_values` property can only be set for CHAR or VARCHAR columns");
+        assertThat(query("CREATE TABLE faker.default.invalid_allowed_values (name VARCHAR(2) WITH (allowed_values = ARRAY['abc']))"))
+                .failure()
+                .hasErrorCode(INVALID_COLUMN_PROPERTY)
+                .hasMessage("Value 'abc' of the `allowed_values` property is longer than the column type varchar(2)");
+        assertThat(query("CREATE TABLE faker.default.invalid_allowed_values (name VARCHAR WITH (allowed_values = ARRAY['a'], generator = '#{Name.first_name}'))"))
+                .failure()
+                .hasErrorCode(INVALID_COLUMN_PROPERTY)
+                .hasMessage("The `generator` and `allowed_values` properties cannot be both set");
+    }
+
     @Test
     void testSelectGenerator()
     {
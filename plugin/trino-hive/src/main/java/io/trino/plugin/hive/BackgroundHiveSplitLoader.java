@@ -490,19 +490,19 @@ public class BackgroundHiveSplitLoader
         TrinoFileSystem trinoFileSystem = fileSystemFactory.create(session);
         // Bucketed partitions are fully loaded immediately since all files must be loaded to determine the file to bucket mapping
         if (tableBucketInfo.isPresent()) {
-            List<TrinoFileStatus> files = listBucketFiles(trinoFileSystem, location, splitFactory.getPartitionName());
+            List<TrinoFileStatus> files = listBucketFiles(trinoFileSystem, partition.getPartition(), location, splitFactory.getPartitionName());
             return hiveSplitSource.addToQueue(getBucketedSplits(files, splitFactory, tableBucketInfo.get(), bucketConversion, splittable, Optional.empty()));
         }
 
-        fileIterators.addLast(createInternalHiveSplitIterator(trinoFileSystem, location, splitFactory, splittable, Optional.empty()));
+        fileIterators.addLast(createInternalHiveSplitIterator(trinoFileSystem, partition.getPartition(), location, splitFactory, splittable, Optional.empty()));
 
         return COMPLETED_FUTURE;
     }
 
-    private List<TrinoFileStatus> listBucketFiles(TrinoFileSystem fs, Location location, String partitionName)
+    private List<TrinoFileStatus> listBucketFiles(TrinoFileSystem fs, Optional<Partition> partition, Location location, String partitionName)
     {
         try {
-            HiveFileIterator fileIterator = new HiveFileIterator(table, location, fs, directoryLister, FAIL);
+            HiveFileIterator fileIterator = new HiveFileIterator(table, partition, location, fs, directoryLister, FAIL);
             if (!fileIterator.hasNext() && !ignoreAbsentPartitions) {
                 checkPartitionLocationExists(fs, location);
             }
@@ -659,9 +659,9 @@ public class BackgroundHiveSplitLoader
         return fullAcid ? Optional.of(builder.buildWithRequiredOriginalFiles(getRequiredBucketNumber(location))) : Optional.empty();
     }
 
-    private Iterator<InternalHiveSplit> createInternalHiveSplitIterator(TrinoFileSystem fileSystem, Location location, InternalHiveSplitFactory splitFactory, boolean splittable, Optional<AcidInfo> acidInfo)
+    private Iterator<InternalHiveSplit> createInternalHiveSplitIterator(TrinoFileSystem fileSystem, Optional<Partition> partition, Location location, InternalHiveSplitFactory splitFactory, boolean splittable, Optional<AcidInfo> acidInfo)
     {
-        Iterator<TrinoFileStatus> iterator = new HiveFileIterator(table, location, fileSystem, directoryLister, recursiveDirWalkerEnabled ? RECURSE : IGNORED);
+        Iterator<TrinoFileStatus> iterator = new HiveFileIterator(table, partition, location, fileSystem, directoryLister, recursiveDirWalkerEnabled ? RECURSE : IGNORED);
         if (!iterator.hasNext() && !ignoreAbsentPartitions) {
             checkPartitionLocationExists(fileSystem, location);
         }
@@ -23,6 +23,7 @@ import io.airlift.units.DataSize;
 import io.airlift.units.Duration;
 import io.airlift.units.MaxDataSize;
 import io.airlift.units.MinDataSize;
+import io.airlift.units.MinDuration;
 import io.trino.plugin.hive.HiveSessionProperties.InsertExistingPartitionsBehavior;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.AssertTrue;
@@ -142,6 +143,8 @@ public class HiveConfig
     private Duration fileStatusCacheExpireAfterWrite = new Duration(1, MINUTES);
     private DataSize fileStatusCacheMaxRetainedSize = DataSize.of(1, GIGABYTE);
     private List<String> fileStatusCacheTables = ImmutableList.of();
+    private Optional<String> fileStatusCachePersistenceDirectory = Optional.empty();
+    private Duration fileStatusCachePersistenceInterval = new Duration(5, MINUTES);
     private DataSize perTransactionFileStatusCacheMaxRetainedSize = DataSize.of(100, MEGABYTE);
 
     private boolean translateHiveViews;
@@ -178,6 +181,8 @@ public class HiveConfig
 
     private int metadataParallelism = 8;
 
+    private DataSize decompressedChunkCacheMaxSize = DataSize.of(0, MEGABYTE);
+
     public boolean isSingleStatementWritesOnly()
     {
         return singleStatementWritesOnly;
@@ -874,6 +879,34 @@ public class HiveConfig
         return this;
     }
 
+    public Optional<String> getFileStatusCachePersistenceDirectory()
+    {
+        return fileStatusCachePersistenceDirectory;
+    }
+
+    @Config("hive.file-status-cache.persistence-directory")
+    @ConfigDescription("Local directory where the file status cache is saved periodically and on shutdown, and restored from on startup")
+    public HiveConfig setFileStatusCachePersistenceDirectory(String fileStatusCachePersistenceDirectory)
+    {
+        this.fileStatusCachePersistenceDirectory = Optional.ofNullable(fileStatusCachePersistenceDirectory);
+        return this;
+    }
+
+    @NotNull
+    @MinDuration("1s")
+    public Duration getFileStatusCachePersistenceInterval()
+    {
+        return fileStatusCachePersistenceInterval;
+    }
+
+    @Config("hive.file-status-cache.persistence-interval")
+    @ConfigDescription("Interval at which the file status cache is saved to the persistence directory")
+    public HiveConfig setFileStatusCachePersistenceInterval(Duration fileStatusCachePersistenceInterval)
+    {
+        this.fileStatusCachePersistenceInterval = fileStatusCachePersistenceInterval;
+        return this;
+    }
+
     public boolean isSkipDeletionForAlter()
     {
         return skipDeletionForAlter;
@@ -1283,4 +1316,18 @@ public class HiveConfig
         this.metadataParallelism = metadataParallelism;
         return this;
     }
+
+    @NotNull
+    public DataSize getDecompressedChunkCacheMaxSize()
+    {
+        return decompressedChunkCacheMaxSize;
+    }
+
+    @Config("hive.decompressed-chunk-cache.max-size")
+    @ConfigDescription("Maximum size of the worker wide cache of decompressed ORC and Parquet data, 0 disables the cache")
+    public HiveConfig setDecompressedChunkCacheMaxSize(DataSize decompressedChunkCacheMaxSize)
+    {
+        this.decompressedChunkCacheMaxSize = decompressedChunkCacheMaxSize;
+        return this;
+    }
 }
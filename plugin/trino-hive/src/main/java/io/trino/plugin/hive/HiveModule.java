@@ -21,6 +21,9 @@ import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
+import io.trino.plugin.base.cache.DecompressedChunkCache;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCacheConfig;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.avro.AvroFileWriterFactory;
 import io.trino.plugin.hive.avro.AvroPageSourceFactory;
@@ -68,6 +71,7 @@ import static io.airlift.configuration.ConfigBinder.configBinder;
 import static io.airlift.json.JsonCodecBinder.jsonCodecBinder;
 import static io.trino.plugin.base.ClosingBinder.closingBinder;
 import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
 import static org.weakref.jmx.guice.ExportBinder.newExporter;
 
@@ -116,6 +120,10 @@ public class HiveModule
 
         binder.bind(FileFormatDataSourceStats.class).in(Scopes.SINGLETON);
         newExporter(binder).export(FileFormatDataSourceStats.class).withGeneratedName();
+        newExporter(binder).export(DecompressedChunkCache.class).withGeneratedName();
+        configBinder(binder).bindConfig(FooterCacheConfig.class, "hive");
+        binder.bind(FooterCache.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(FooterCache.class).withGeneratedName();
 
         Multibinder<HivePageSourceFactory> pageSourceFactoryBinder = newSetBinder(binder, HivePageSourceFactory.class);
         pageSourceFactoryBinder.addBinding().to(CsvPageSourceFactory.class).in(Scopes.SINGLETON);
@@ -153,6 +161,7 @@ public class HiveModule
 
         closingBinder(binder).registerExecutor(ExecutorService.class);
         closingBinder(binder).registerExecutor(Key.get(ScheduledExecutorService.class, ForHiveTransactionHeartbeats.class));
+        closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForHiveFileWriters.class));
     }
 
     @Singleton
@@ -162,6 +171,24 @@ public class HiveModule
         return newCachedThreadPool(daemonThreadsNamed("hive-" + catalogName + "-%s"));
     }
 
+    @Singleton
+    @Provides
+    public DecompressedChunkCache createDecompressedChunkCache(HiveConfig hiveConfig)
+    {
+        return new DecompressedChunkCache(hiveConfig.getDecompressedChunkCacheMaxSize());
+    }
+
+    @ForHiveFileWriters
+    @Singleton
+    @Provides
+    public ExecutorService createHiveFileWriterExecutor(CatalogName catalogName)
+    {
+        // shared by the ORC and Parquet writers, threads are only started for writers with parallelism greater than one
+        return newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                daemonThreadsNamed("hive-file-writer-" + catalogName + "-%s"));
+    }
+
     @ForHiveTransactionHeartbeats
     @Singleton
     @Provides
@@ -97,11 +97,14 @@ public final class HiveSessionProperties
     private static final String PARQUET_MAX_READ_BLOCK_SIZE = "parquet_max_read_block_size";
     private static final String PARQUET_MAX_READ_BLOCK_ROW_COUNT = "parquet_max_read_block_row_count";
     private static final String PARQUET_SMALL_FILE_THRESHOLD = "parquet_small_file_threshold";
+    private static final String PARQUET_MAX_READ_AHEAD_SIZE = "parquet_max_read_ahead_size";
     private static final String PARQUET_VECTORIZED_DECODING_ENABLED = "parquet_vectorized_decoding_enabled";
     private static final String PARQUET_WRITER_BLOCK_SIZE = "parquet_writer_block_size";
     private static final String PARQUET_WRITER_PAGE_SIZE = "parquet_writer_page_size";
     private static final String PARQUET_WRITER_PAGE_VALUE_COUNT = "parquet_writer_page_value_count";
     private static final String PARQUET_WRITER_BATCH_SIZE = "parquet_writer_batch_size";
+    private static final String PARQUET_WRITER_PARALLELISM = "parquet_writer_parallelism";
+    private static final String PARQUET_WRITER_DICTIONARY_MAX_MEMORY = "parquet_writer_dictionary_max_memory";
     private static final String PARQUET_OPTIMIZED_WRITER_VALIDATION_PERCENTAGE = "parquet_optimized_writer_validation_percentage";
     private static final String MAX_SPLIT_SIZE = "max_split_size";
     private static final String MAX_INITIAL_SPLIT_SIZE = "max_initial_split_size";
@@ -361,6 +364,11 @@ public final class HiveSessionProperties
                         parquetReaderConfig.getSmallFileThreshold(),
                         value -> validateMaxDataSize(PARQUET_SMALL_FILE_THRESHOLD, value, DataSize.valueOf(PARQUET_READER_MAX_SMALL_FILE_THRESHOLD)),
                         false),
+                dataSizeProperty(
+                        PARQUET_MAX_READ_AHEAD_SIZE,
+                        "Parquet: Maximum size of the column chunks fetched ahead of the reader, 0 disables read-ahead",
+                        parquetReaderConfig.getMaxReadAheadSize(),
+                        false),
                 booleanProperty(
                         PARQUET_VECTORIZED_DECODING_ENABLED,
                         "Enable using Java Vector API for faster decoding of parquet files",
@@ -398,6 +406,21 @@ public final class HiveSessionProperties
                         "Parquet: Maximum number of rows passed to the writer in each batch",
                         parquetWriterConfig.getBatchSize(),
                         false),
+                integerProperty(
+                        PARQUET_WRITER_PARALLELISM,
+                        "Parquet: Maximum number of threads encoding and compressing the column chunks of a writer",
+                        parquetWriterConfig.getWriterParallelism(),
+                        value -> {
+                            if (value < 1) {
+                                throw new TrinoException(INVALID_SESSION_PROPERTY, format("%s must be greater than 0: %s", PARQUET_WRITER_PARALLELISM, value));
+                            }
+                        },
+                        false),
+                dataSizeProperty(
+                        PARQUET_WRITER_DICTIONARY_MAX_MEMORY,
+                        "Parquet: Maximum memory used by the dictionaries of a writer",
+                        parquetWriterConfig.getDictionaryMaxMemory(),
+                        false),
                 new PropertyMetadata<>(
                         PARQUET_OPTIMIZED_WRITER_VALIDATION_PERCENTAGE,
                         "Parquet: sample percentage for validation of written files",
@@ -749,6 +772,11 @@ public final class HiveSessionProperties
         return session.getProperty(PARQUET_SMALL_FILE_THRESHOLD, DataSize.class);
     }
 
+    public static DataSize getParquetMaxReadAheadSize(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_MAX_READ_AHEAD_SIZE, DataSize.class);
+    }
+
     public static boolean isParquetVectorizedDecodingEnabled(ConnectorSession session)
     {
         return session.getProperty(PARQUET_VECTORIZED_DECODING_ENABLED, Boolean.class);
@@ -774,6 +802,16 @@ public final class HiveSessionProperties
         return session.getProperty(PARQUET_WRITER_BATCH_SIZE, Integer.class);
     }
 
+    public static int getParquetWriterParallelism(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_WRITER_PARALLELISM, Integer.class);
+    }
+
+    public static DataSize getParquetWriterDictionaryMaxMemory(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_WRITER_DICTIONARY_MAX_MEMORY, DataSize.class);
+    }
+
     public static boolean isParquetOptimizedWriterValidate(ConnectorSession session)
     {
         double percentage = session.getProperty(PARQUET_OPTIMIZED_WRITER_VALIDATION_PERCENTAGE, Double.class);
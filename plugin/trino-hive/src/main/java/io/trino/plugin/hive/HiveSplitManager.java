@@ -22,6 +22,7 @@ import com.google.common.collect.Streams;
 import com.google.inject.Inject;
 import io.airlift.concurrent.BoundedExecutor;
 import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
 import io.airlift.units.DataSize;
 import io.trino.filesystem.TrinoFileSystemFactory;
 import io.trino.filesystem.cache.CachingHostAddressProvider;
@@ -36,6 +37,7 @@ import io.trino.metastore.Table;
 import io.trino.plugin.hive.metastore.SemiTransactionalHiveMetastore;
 import io.trino.plugin.hive.util.HiveBucketing.HiveBucketFilter;
 import io.trino.plugin.hive.util.HiveUtil;
+import io.trino.plugin.hive.util.PrefetchingIterator;
 import io.trino.spi.TrinoException;
 import io.trino.spi.VersionEmbedder;
 import io.trino.spi.connector.ColumnHandle;
@@ -101,6 +103,7 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyIterator;
 import static java.util.Locale.ENGLISH;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class HiveSplitManager
         implements ConnectorSplitManager
@@ -121,6 +124,7 @@ public class HiveSplitManager
     private final int maxSplitsPerSecond;
     private final boolean recursiveDfsWalkerEnabled;
     private final CounterStat highMemorySplitSourceCounter;
+    private final TimeStat timeToFirstSplit = new TimeStat(MILLISECONDS);
     private final TypeManager typeManager;
     private final CachingHostAddressProvider cachingHostAddressProvider;
     private final int maxPartitionsPerScan;
@@ -290,6 +294,7 @@ public class HiveSplitManager
                 hiveSplitLoader,
                 executor,
                 highMemorySplitSourceCounter,
+                timeToFirstSplit,
                 cachingHostAddressProvider,
                 hiveTable.isRecordScannedFiles());
         hiveSplitLoader.start(splitSource);
@@ -304,6 +309,13 @@ public class HiveSplitManager
         return highMemorySplitSourceCounter;
     }
 
+    @Managed
+    @Nested
+    public TimeStat getTimeToFirstSplit()
+    {
+        return timeToFirstSplit;
+    }
+
     private Iterator<HivePartitionMetadata> getPartitionMetadata(
             ConnectorSession session,
             SemiTransactionalHiveMetastore metastore,
@@ -373,6 +385,8 @@ public class HiveSplitManager
 
             return results.build();
         });
+        // Load the next batch from the metastore while the split loader lists the partitions of the current batch
+        partitionBatches = new PrefetchingIterator<>(partitionBatches, executor);
         return stream(partitionBatches)
                 .flatMap(Collection::stream)
                 .iterator();
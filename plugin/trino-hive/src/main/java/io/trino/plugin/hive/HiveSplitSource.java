@@ -18,7 +18,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.log.Logger;
 import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
 import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
 import io.trino.filesystem.cache.CachingHostAddressProvider;
 import io.trino.plugin.hive.InternalHiveSplit.InternalHiveBlock;
 import io.trino.plugin.hive.util.AsyncQueue;
@@ -84,6 +86,9 @@ class HiveSplitSource
 
     private final CounterStat highMemorySplitSourceCounter;
     private final AtomicBoolean loggedHighMemoryWarning = new AtomicBoolean();
+    private final TimeStat timeToFirstSplit;
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean firstSplitQueued = new AtomicBoolean();
     private final HiveSplitWeightProvider splitWeightProvider;
     private final CachingHostAddressProvider cachingHostAddressProvider;
 
@@ -100,6 +105,7 @@ class HiveSplitSource
             HiveSplitLoader splitLoader,
             AtomicReference<State> stateReference,
             CounterStat highMemorySplitSourceCounter,
+            TimeStat timeToFirstSplit,
             CachingHostAddressProvider cachingHostAddressProvider,
             boolean recordScannedFiles)
     {
@@ -112,6 +118,7 @@ class HiveSplitSource
         this.splitLoader = requireNonNull(splitLoader, "splitLoader is null");
         this.stateReference = requireNonNull(stateReference, "stateReference is null");
         this.highMemorySplitSourceCounter = requireNonNull(highMemorySplitSourceCounter, "highMemorySplitSourceCounter is null");
+        this.timeToFirstSplit = requireNonNull(timeToFirstSplit, "timeToFirstSplit is null");
 
         this.maxSplitSize = getMaxSplitSize(session);
         this.maxInitialSplitSize = getMaxInitialSplitSize(session);
@@ -132,6 +139,7 @@ class HiveSplitSource
             HiveSplitLoader splitLoader,
             Executor executor,
             CounterStat highMemorySplitSourceCounter,
+            TimeStat timeToFirstSplit,
             CachingHostAddressProvider cachingHostAddressProvider,
             boolean recordScannedFiles)
     {
@@ -173,6 +181,7 @@ class HiveSplitSource
                 splitLoader,
                 stateReference,
                 highMemorySplitSourceCounter,
+                timeToFirstSplit,
                 cachingHostAddressProvider,
                 recordScannedFiles);
     }
@@ -214,6 +223,9 @@ class HiveSplitSource
                     "Split buffering for %s.%s exceeded memory limit (%s). %s splits are buffered.",
                     databaseName, tableName, succinctBytes(maxOutstandingSplitsBytes), getBufferedInternalSplitCount()));
         }
+        if (firstSplitQueued.compareAndSet(false, true)) {
+            timeToFirstSplit.add(Duration.nanosSince(startNanos));
+        }
         bufferedInternalSplitCount.incrementAndGet();
         return queues.offer(split);
     }
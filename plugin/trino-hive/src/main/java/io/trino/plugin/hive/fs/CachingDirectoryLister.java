@@ -17,6 +17,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.Weigher;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
+import io.airlift.log.Logger;
 import io.airlift.units.DataSize;
 import io.airlift.units.Duration;
 import io.trino.cache.EvictableCacheBuilder;
@@ -27,42 +28,74 @@ import io.trino.metastore.Partition;
 import io.trino.metastore.Storage;
 import io.trino.metastore.Table;
 import io.trino.plugin.hive.HiveConfig;
+import io.trino.spi.catalog.CatalogName;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SchemaTablePrefix;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.weakref.jmx.Managed;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static io.airlift.slice.SizeOf.estimatedSizeOf;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.airlift.slice.SizeOf.sizeOf;
 import static io.trino.cache.CacheUtils.uncheckedCacheGet;
 import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 
 public class CachingDirectoryLister
         implements DirectoryLister
 {
+    private static final Logger log = Logger.get(CachingDirectoryLister.class);
+
+    // Set by the metastore whenever a table or partition is created or altered
+    private static final String LAST_DDL_TIME = "transient_lastDdlTime";
+    private static final String PERSISTED_CACHE_FILE_NAME = "file-status-cache.bin";
+    private static final int PERSISTED_CACHE_VERSION = 2;
+
     //TODO use a cache key based on Path & SchemaTableName and iterate over the cache keys
     // to deal more efficiently with cache invalidation scenarios for partitioned tables.
     private final Cache<Location, ValueHolder> cache;
     private final Predicate<SchemaTableName> tablePredicate;
     private final Predicate<FileEntry> filterPredicate;
+    private final long expireAfterWriteMillis;
+    private final Optional<Path> persistenceDirectory;
+    private final Duration persistenceInterval;
+    private ScheduledExecutorService persistenceExecutor;
 
     @Inject
-    public CachingDirectoryLister(HiveConfig hiveClientConfig)
+    public CachingDirectoryLister(CatalogName catalogName, HiveConfig hiveClientConfig)
     {
         this(
                 hiveClientConfig.getFileStatusCacheExpireAfterWrite(),
                 hiveClientConfig.getFileStatusCacheMaxRetainedSize(),
                 hiveClientConfig.getFileStatusCacheTables(),
-                hiveClientConfig.getS3StorageClassFilter().toFileEntryPredicate());
+                hiveClientConfig.getS3StorageClassFilter().toFileEntryPredicate(),
+                // catalogs sharing the directory must not overwrite each other's listings
+                hiveClientConfig.getFileStatusCachePersistenceDirectory().map(directory -> Path.of(directory).resolve(catalogName.toString())),
+                hiveClientConfig.getFileStatusCachePersistenceInterval());
     }
 
     public CachingDirectoryLister(
@@ -70,11 +103,25 @@ public class CachingDirectoryLister
             DataSize maxSize,
             List<String> tables,
             Predicate<FileEntry> filterPredicate)
+    {
+        this(expireAfterWrite, maxSize, tables, filterPredicate, Optional.empty(), new Duration(5, TimeUnit.MINUTES));
+    }
+
+    public CachingDirectoryLister(
+            Duration expireAfterWrite,
+            DataSize maxSize,
+            List<String> tables,
+            Predicate<FileEntry> filterPredicate,
+            Optional<Path> persistenceDirectory,
+            Duration persistenceInterval)
     {
         requireNonNull(expireAfterWrite, "expireAfterWrite is null");
         requireNonNull(maxSize, "maxSize is null");
         requireNonNull(tables, "tables is null");
         requireNonNull(filterPredicate, "filterPredicate is null");
+        this.expireAfterWriteMillis = expireAfterWrite.toMillis();
+        this.persistenceDirectory = requireNonNull(persistenceDirectory, "persistenceDirectory is null");
+        this.persistenceInterval = requireNonNull(persistenceInterval, "persistenceInterval is null");
         this.cache = EvictableCacheBuilder.newBuilder()
                 .maximumWeight(maxSize.toBytes())
                 .weigher((Weigher<Location, ValueHolder>) (key, value) -> toIntExact(estimatedSizeOf(key.toString()) + value.getRetainedSizeInBytes()))
@@ -113,23 +160,48 @@ public class CachingDirectoryLister
     @Override
     public RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Location location)
             throws IOException
+    {
+        return listFilesRecursively(fs, table, Optional.empty(), location);
+    }
+
+    @Override
+    public RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Optional<Partition> partition, Location location)
+            throws IOException
     {
         if (!isCacheEnabledFor(table.getSchemaTableName())) {
             return new TrinoFileStatusRemoteIterator(fs.listFiles(location), filterPredicate);
         }
 
-        return listInternal(fs, location);
+        return listInternal(fs, location, getValidityToken(table, partition));
     }
 
-    private RemoteIterator<TrinoFileStatus> listInternal(TrinoFileSystem fs, Location location)
+    private static Optional<String> getValidityToken(Table table, Optional<Partition> partition)
+    {
+        if (partition.isPresent()) {
+            return Optional.ofNullable(partition.get().getParameters().get(LAST_DDL_TIME));
+        }
+        if (table.getPartitionColumns().isEmpty()) {
+            return Optional.ofNullable(table.getParameters().get(LAST_DDL_TIME));
+        }
+        // the partition of the listed location is unknown
+        return Optional.empty();
+    }
+
+    private RemoteIterator<TrinoFileStatus> listInternal(TrinoFileSystem fs, Location location, Optional<String> validityToken)
             throws IOException
     {
         ValueHolder cachedValueHolder = uncheckedCacheGet(cache, location, ValueHolder::new);
         if (cachedValueHolder.getFiles().isPresent()) {
-            return new SimpleRemoteIterator(cachedValueHolder.getFiles().get().iterator());
+            if (cachedValueHolder.isValid(validityToken, System.currentTimeMillis() - expireAfterWriteMillis)) {
+                return new SimpleRemoteIterator(cachedValueHolder.getFiles().get().iterator());
+            }
+            // The table or partition was altered since the listing was cached, or the listing was restored
+            // from a previous run and is too old or cannot be validated. Concurrent callers replacing the same entry race benignly.
+            ValueHolder emptyValueHolder = new ValueHolder();
+            cachedValueHolder = cache.asMap().replace(location, cachedValueHolder, emptyValueHolder) ? emptyValueHolder : new ValueHolder();
         }
 
-        return cachingRemoteIterator(cachedValueHolder, createListingRemoteIterator(fs, location, filterPredicate), location);
+        return cachingRemoteIterator(cachedValueHolder, createListingRemoteIterator(fs, location, filterPredicate), location, validityToken);
     }
 
     private static RemoteIterator<TrinoFileStatus> createListingRemoteIterator(TrinoFileSystem fs, Location location, Predicate<FileEntry> filterPredicate)
@@ -172,7 +244,7 @@ public class CachingDirectoryLister
         cache.invalidateAll();
     }
 
-    private RemoteIterator<TrinoFileStatus> cachingRemoteIterator(ValueHolder cachedValueHolder, RemoteIterator<TrinoFileStatus> iterator, Location location)
+    private RemoteIterator<TrinoFileStatus> cachingRemoteIterator(ValueHolder cachedValueHolder, RemoteIterator<TrinoFileStatus> iterator, Location location, Optional<String> validityToken)
     {
         return new RemoteIterator<>()
         {
@@ -186,7 +258,7 @@ public class CachingDirectoryLister
                 if (!hasNext) {
                     // The cachedValueHolder acts as an invalidation guard. If a cache invalidation happens while this iterator goes over
                     // the files from the specified path, the eventually outdated file listing will not be added anymore to the cache.
-                    cache.asMap().replace(location, cachedValueHolder, new ValueHolder(files));
+                    cache.asMap().replace(location, cachedValueHolder, new ValueHolder(files, validityToken, System.currentTimeMillis()));
                 }
                 return hasNext;
             }
@@ -208,6 +280,183 @@ public class CachingDirectoryLister
         cache.invalidateAll();
     }
 
+    @PostConstruct
+    public void start()
+    {
+        if (persistenceDirectory.isEmpty()) {
+            return;
+        }
+        restore();
+        // listings are also saved periodically, so that they are not all lost when the server does not shut down cleanly
+        persistenceExecutor = newSingleThreadScheduledExecutor(daemonThreadsNamed("file-status-cache-persistence-%s"));
+        persistenceExecutor.scheduleWithFixedDelay(this::persist, persistenceInterval.toMillis(), persistenceInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop()
+    {
+        if (persistenceExecutor != null) {
+            persistenceExecutor.shutdownNow();
+        }
+        persist();
+    }
+
+    public void restore()
+    {
+        persistenceDirectory.ifPresent(directory -> {
+            Path file = directory.resolve(PERSISTED_CACHE_FILE_NAME);
+            if (!Files.exists(file)) {
+                return;
+            }
+            try {
+                int restored = readCache(file);
+                log.info("Restored %s directory listings from %s", restored, file);
+            }
+            catch (IOException | RuntimeException e) {
+                // the cache is only an optimization, so a corrupted or outdated file must not prevent startup
+                log.warn(e, "Failed to restore directory listings from %s", file);
+            }
+        });
+    }
+
+    @Managed
+    public synchronized void persist()
+    {
+        persistenceDirectory.ifPresent(directory -> {
+            Path file = directory.resolve(PERSISTED_CACHE_FILE_NAME);
+            try {
+                Files.createDirectories(directory);
+                Path temporaryFile = directory.resolve(PERSISTED_CACHE_FILE_NAME + ".tmp");
+                int persisted = writeCache(temporaryFile);
+                Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+                log.info("Persisted %s directory listings to %s", persisted, file);
+            }
+            catch (IOException | RuntimeException e) {
+                log.warn(e, "Failed to persist directory listings to %s", file);
+            }
+        });
+    }
+
+    private int writeCache(Path file)
+            throws IOException
+    {
+        long minListingTime = System.currentTimeMillis() - expireAfterWriteMillis;
+        // Only listings with a validity token are persisted, as they are the only ones which can be validated after restart
+        List<Map.Entry<Location, ValueHolder>> entries = cache.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().getFiles().isPresent())
+                .filter(entry -> entry.getValue().getValidityToken().isPresent())
+                .filter(entry -> entry.getValue().getListingTime() >= minListingTime)
+                .collect(toImmutableList());
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(PERSISTED_CACHE_VERSION);
+            output.writeInt(entries.size());
+            for (Map.Entry<Location, ValueHolder> entry : entries) {
+                ValueHolder valueHolder = entry.getValue();
+                writeString(output, entry.getKey().toString());
+                writeString(output, valueHolder.getValidityToken().orElseThrow());
+                output.writeLong(valueHolder.getListingTime());
+                List<TrinoFileStatus> files = valueHolder.getFiles().orElseThrow();
+                output.writeInt(files.size());
+                for (TrinoFileStatus file : files) {
+                    writeFileStatus(output, file);
+                }
+            }
+        }
+        return entries.size();
+    }
+
+    private int readCache(Path file)
+            throws IOException
+    {
+        long minListingTime = System.currentTimeMillis() - expireAfterWriteMillis;
+        int restored = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int version = input.readInt();
+            if (version != PERSISTED_CACHE_VERSION) {
+                throw new IOException("Unsupported file status cache version: " + version);
+            }
+            int entries = input.readInt();
+            for (int entry = 0; entry < entries; entry++) {
+                Location location = Location.of(readString(input));
+                String validityToken = readString(input);
+                long listingTime = input.readLong();
+                int fileCount = input.readInt();
+                ImmutableList.Builder<TrinoFileStatus> files = ImmutableList.builderWithExpectedSize(fileCount);
+                for (int i = 0; i < fileCount; i++) {
+                    files.add(readFileStatus(input));
+                }
+                if (listingTime >= minListingTime) {
+                    // do not replace listings loaded since startup
+                    cache.asMap().putIfAbsent(location, new ValueHolder(files.build(), Optional.of(validityToken), listingTime, true));
+                    restored++;
+                }
+            }
+        }
+        return restored;
+    }
+
+    private static void writeFileStatus(DataOutputStream output, TrinoFileStatus file)
+            throws IOException
+    {
+        writeString(output, file.getPath());
+        output.writeBoolean(file.isDirectory());
+        output.writeLong(file.getLength());
+        output.writeLong(file.getModificationTime());
+        output.writeInt(file.getBlockLocations().size());
+        for (BlockLocation block : file.getBlockLocations()) {
+            output.writeLong(block.getOffset());
+            output.writeLong(block.getLength());
+            output.writeInt(block.getHosts().size());
+            for (String host : block.getHosts()) {
+                writeString(output, host);
+            }
+        }
+    }
+
+    private static TrinoFileStatus readFileStatus(DataInputStream input)
+            throws IOException
+    {
+        String path = readString(input);
+        boolean isDirectory = input.readBoolean();
+        long length = input.readLong();
+        long modificationTime = input.readLong();
+        int blockCount = input.readInt();
+        ImmutableList.Builder<BlockLocation> blocks = ImmutableList.builderWithExpectedSize(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            long offset = input.readLong();
+            long blockLength = input.readLong();
+            int hostCount = input.readInt();
+            ImmutableList.Builder<String> hosts = ImmutableList.builderWithExpectedSize(hostCount);
+            for (int host = 0; host < hostCount; host++) {
+                hosts.add(readString(input));
+            }
+            blocks.add(new BlockLocation(new FileEntry.Block(hosts.build(), offset, blockLength)));
+        }
+        return new TrinoFileStatus(blocks.build(), path, isDirectory, length, modificationTime);
+    }
+
+    // DataOutput.writeUTF is limited to strings of 64kB, which is not enough for all paths
+    private static void writeString(DataOutputStream output, String value)
+            throws IOException
+    {
+        byte[] bytes = value.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input)
+            throws IOException
+    {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
     @Managed
     public Double getHitRate()
     {
@@ -266,15 +515,29 @@ public class CachingDirectoryLister
         private static final long INSTANCE_SIZE = instanceSize(ValueHolder.class);
 
         private final Optional<List<TrinoFileStatus>> files;
+        private final Optional<String> validityToken;
+        private final long listingTime;
+        private final boolean restored;
 
         public ValueHolder()
         {
             files = Optional.empty();
+            validityToken = Optional.empty();
+            listingTime = 0;
+            restored = false;
+        }
+
+        public ValueHolder(List<TrinoFileStatus> files, Optional<String> validityToken, long listingTime)
+        {
+            this(files, validityToken, listingTime, false);
         }
 
-        public ValueHolder(List<TrinoFileStatus> files)
+        public ValueHolder(List<TrinoFileStatus> files, Optional<String> validityToken, long listingTime, boolean restored)
         {
             this.files = Optional.of(ImmutableList.copyOf(requireNonNull(files, "files is null")));
+            this.validityToken = requireNonNull(validityToken, "validityToken is null");
+            this.listingTime = listingTime;
+            this.restored = restored;
         }
 
         public Optional<List<TrinoFileStatus>> getFiles()
@@ -282,9 +545,34 @@ public class CachingDirectoryLister
             return files;
         }
 
+        public Optional<String> getValidityToken()
+        {
+            return validityToken;
+        }
+
+        public long getListingTime()
+        {
+            return listingTime;
+        }
+
+        public boolean isValid(Optional<String> expectedValidityToken, long minListingTime)
+        {
+            if (listingTime < minListingTime) {
+                return false;
+            }
+            if (restored) {
+                // a listing restored from a previous run is only used when the table or partition is known to be unchanged
+                return expectedValidityToken.isPresent() && validityToken.equals(expectedValidityToken);
+            }
+            // listings made since startup are only invalidated when both tokens are known, as callers do not always provide the partition
+            return validityToken.isEmpty() || expectedValidityToken.isEmpty() || Objects.equals(validityToken, expectedValidityToken);
+        }
+
         public long getRetainedSizeInBytes()
         {
-            return INSTANCE_SIZE + sizeOf(files, value -> estimatedSizeOf(value, TrinoFileStatus::getRetainedSizeInBytes));
+            return INSTANCE_SIZE
+                    + sizeOf(files, value -> estimatedSizeOf(value, TrinoFileStatus::getRetainedSizeInBytes))
+                    + sizeOf(validityToken, value -> estimatedSizeOf(value));
         }
     }
 }
@@ -15,14 +15,26 @@ package io.trino.plugin.hive.fs;
 
 import io.trino.filesystem.Location;
 import io.trino.filesystem.TrinoFileSystem;
+import io.trino.metastore.Partition;
 import io.trino.metastore.Table;
 import io.trino.plugin.hive.TableInvalidationCallback;
 
 import java.io.IOException;
+import java.util.Optional;
 
 public interface DirectoryLister
         extends TableInvalidationCallback
 {
     RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Location location)
             throws IOException;
+
+    /**
+     * Lists the files of a table or partition location. The metastore partition, when known,
+     * allows implementations to validate cached listings against the partition metadata.
+     */
+    default RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Optional<Partition> partition, Location location)
+            throws IOException
+    {
+        return listFilesRecursively(fs, table, location);
+    }
 }
@@ -17,12 +17,14 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.AbstractIterator;
 import io.trino.filesystem.Location;
 import io.trino.filesystem.TrinoFileSystem;
+import io.trino.metastore.Partition;
 import io.trino.metastore.Table;
 import io.trino.spi.TrinoException;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILESYSTEM_ERROR;
@@ -51,10 +53,21 @@ public class HiveFileIterator
             TrinoFileSystem fileSystem,
             DirectoryLister directoryLister,
             NestedDirectoryPolicy nestedDirectoryPolicy)
+    {
+        this(table, Optional.empty(), location, fileSystem, directoryLister, nestedDirectoryPolicy);
+    }
+
+    public HiveFileIterator(
+            Table table,
+            Optional<Partition> partition,
+            Location location,
+            TrinoFileSystem fileSystem,
+            DirectoryLister directoryLister,
+            NestedDirectoryPolicy nestedDirectoryPolicy)
     {
         this.location = requireNonNull(location, "location is null");
         this.nestedDirectoryPolicy = requireNonNull(nestedDirectoryPolicy, "nestedDirectoryPolicy is null");
-        this.remoteIterator = new FileStatusIterator(table, location, fileSystem, directoryLister, nestedDirectoryPolicy);
+        this.remoteIterator = new FileStatusIterator(table, partition, location, fileSystem, directoryLister, nestedDirectoryPolicy);
     }
 
     @Override
@@ -124,6 +137,7 @@ public class HiveFileIterator
 
         private FileStatusIterator(
                 Table table,
+                Optional<Partition> partition,
                 Location location,
                 TrinoFileSystem fileSystem,
                 DirectoryLister directoryLister,
@@ -132,12 +146,12 @@ public class HiveFileIterator
             this.location = requireNonNull(location, "location is null");
             try {
                 if (nestedDirectoryPolicy == RECURSE) {
-                    this.fileStatusIterator = directoryLister.listFilesRecursively(fileSystem, table, location);
+                    this.fileStatusIterator = directoryLister.listFilesRecursively(fileSystem, table, partition, location);
                 }
                 else {
                     this.fileStatusIterator = new DirectoryListingFilter(
                             location,
-                            directoryLister.listFilesRecursively(fileSystem, table, location),
+                            directoryLister.listFilesRecursively(fileSystem, table, partition, location),
                             nestedDirectoryPolicy == FAIL);
                 }
             }
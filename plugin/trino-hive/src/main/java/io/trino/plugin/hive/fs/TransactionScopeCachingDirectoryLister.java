@@ -67,15 +67,22 @@ public class TransactionScopeCachingDirectoryLister
     public RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Location location)
             throws IOException
     {
-        return listInternal(fs, table, new TransactionDirectoryListingCacheKey(transactionId, location));
+        return listFilesRecursively(fs, table, Optional.empty(), location);
     }
 
-    private RemoteIterator<TrinoFileStatus> listInternal(TrinoFileSystem fs, Table table, TransactionDirectoryListingCacheKey cacheKey)
+    @Override
+    public RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Optional<Partition> partition, Location location)
+            throws IOException
+    {
+        return listInternal(fs, table, partition, new TransactionDirectoryListingCacheKey(transactionId, location));
+    }
+
+    private RemoteIterator<TrinoFileStatus> listInternal(TrinoFileSystem fs, Table table, Optional<Partition> partition, TransactionDirectoryListingCacheKey cacheKey)
             throws IOException
     {
         FetchingValueHolder cachedValueHolder;
         try {
-            cachedValueHolder = cache.get(cacheKey, () -> new FetchingValueHolder(createListingRemoteIterator(fs, table, cacheKey)));
+            cachedValueHolder = cache.get(cacheKey, () -> new FetchingValueHolder(createListingRemoteIterator(fs, table, partition, cacheKey)));
         }
         catch (ExecutionException | UncheckedExecutionException e) {
             Throwable throwable = e.getCause();
@@ -91,10 +98,10 @@ public class TransactionScopeCachingDirectoryLister
         return cachingRemoteIterator(cachedValueHolder, cacheKey);
     }
 
-    private RemoteIterator<TrinoFileStatus> createListingRemoteIterator(TrinoFileSystem fs, Table table, TransactionDirectoryListingCacheKey cacheKey)
+    private RemoteIterator<TrinoFileStatus> createListingRemoteIterator(TrinoFileSystem fs, Table table, Optional<Partition> partition, TransactionDirectoryListingCacheKey cacheKey)
             throws IOException
     {
-        return delegate.listFilesRecursively(fs, table, cacheKey.getPath());
+        return delegate.listFilesRecursively(fs, table, partition, cacheKey.getPath());
     }
 
     @Override
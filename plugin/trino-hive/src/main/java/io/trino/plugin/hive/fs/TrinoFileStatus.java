@@ -69,6 +69,11 @@ public class TrinoFileStatus
         return path;
     }
 
+    public boolean isDirectory()
+    {
+        return isDirectory;
+    }
+
     public long getLength()
     {
         return length;
@@ -92,7 +92,6 @@ import static io.trino.plugin.hive.metastore.cache.CachingHiveMetastore.ObjectTy
 import static io.trino.plugin.hive.metastore.cache.CachingHiveMetastore.ObjectType.PARTITION;
 import static io.trino.plugin.hive.metastore.cache.CachingHiveMetastore.ObjectType.STATS;
 import static io.trino.plugin.hive.util.HiveUtil.makePartName;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -130,6 +129,8 @@ public final class CachingHiveMetastore
     private final LoadingCache<String, Set<String>> rolesCache;
     private final LoadingCache<HivePrincipal, Set<RoleGrant>> roleGrantsCache;
     private final LoadingCache<String, Optional<String>> configValuesCache;
+    private final CoalescingBulkLoader<HivePartitionName, Optional<Partition>> partitionLoader;
+    private final CoalescingBulkLoader<HivePartitionName, Map<String, HiveColumnStatistics>> partitionStatisticsLoader;
 
     public static CachingHiveMetastore createPerTransactionCache(HiveMetastore delegate, long maximumSize)
     {
@@ -139,7 +140,9 @@ public final class CachingHiveMetastore
                 new CacheFactory(maximumSize),
                 new CacheFactory(maximumSize),
                 new CacheFactory(maximumSize),
-                new CacheFactory(maximumSize));
+                new CacheFactory(maximumSize),
+                Optional.empty(),
+                Integer.MAX_VALUE);
     }
 
     public static CachingHiveMetastore createCachingHiveMetastore(
@@ -151,7 +154,8 @@ public final class CachingHiveMetastore
             long maximumSize,
             StatsRecording statsRecording,
             boolean partitionCacheEnabled,
-            Set<ObjectType> cacheMissing)
+            Set<ObjectType> cacheMissing,
+            int partitionLoadBatchSize)
     {
         // refresh executor is only required when the refresh interval is set, but the executor is
         // always set, so it is simpler to just enforce that
@@ -187,7 +191,9 @@ public final class CachingHiveMetastore
                 cacheFactory,
                 partitionCacheFactory,
                 statsCacheFactory,
-                partitionStatsCacheFactory);
+                partitionStatsCacheFactory,
+                Optional.of(refreshExecutor),
+                partitionLoadBatchSize);
     }
 
     private CachingHiveMetastore(
@@ -196,7 +202,9 @@ public final class CachingHiveMetastore
             CacheFactory cacheFactory,
             CacheFactory partitionCacheFactory,
             CacheFactory statsCacheFactory,
-            CacheFactory partitionStatsCacheFactory)
+            CacheFactory partitionStatsCacheFactory,
+            Optional<Executor> partitionLoadExecutor,
+            int partitionLoadBatchSize)
     {
         this.delegate = requireNonNull(delegate, "delegate is null");
         this.cacheMissing = cacheMissing;
@@ -214,6 +222,8 @@ public final class CachingHiveMetastore
         partitionStatisticsCache = partitionStatsCacheFactory.buildBulkCache();
         partitionFilterCache = partitionCacheFactory.buildCache(this::loadPartitionNamesByFilter);
         partitionCache = partitionCacheFactory.buildBulkCache();
+        partitionLoader = new CoalescingBulkLoader<>(partitionLoadExecutor, partitionLoadBatchSize);
+        partitionStatisticsLoader = new CoalescingBulkLoader<>(partitionLoadExecutor, partitionLoadBatchSize);
     }
 
     @Managed
@@ -331,7 +341,11 @@ public final class CachingHiveMetastore
         return merged;
     }
 
-    private static <K, V> Map<K, V> getAll(Cache<K, AtomicReference<V>> cache, Iterable<K> keys, Function<Set<K>, Map<K, V>> bulkLoader)
+    private static <K, V> Map<K, V> getAll(
+            Cache<K, AtomicReference<V>> cache,
+            CoalescingBulkLoader<K, V> loader,
+            Iterable<K> keys,
+            Function<Set<K>, Map<K, V>> bulkLoader)
     {
         ImmutableMap.Builder<K, V> result = ImmutableMap.builder();
         ImmutableMap.Builder<K, AtomicReference<V>> toLoadBuilder = ImmutableMap.builder();
@@ -352,7 +366,7 @@ public final class CachingHiveMetastore
             return result.buildOrThrow();
         }
 
-        Map<K, V> newEntries = bulkLoader.apply(unmodifiableSet(toLoad.keySet()));
+        Map<K, V> newEntries = loader.load(toLoad, null, bulkLoader);
         toLoad.forEach((key, valueHolder) -> {
             V value = newEntries.get(key);
             if (value == null) {
@@ -367,7 +381,9 @@ public final class CachingHiveMetastore
 
     private static <K, V> Map<K, V> getAll(
             Cache<K, AtomicReference<V>> cache,
+            CoalescingBulkLoader<K, V> loader,
             Iterable<K> keys,
+            Object loadContext,
             Function<Collection<K>, Map<K, V>> bulkLoader,
             Predicate<V> isSufficient,
             BinaryOperator<V> merger)
@@ -392,7 +408,7 @@ public final class CachingHiveMetastore
             return result.buildOrThrow();
         }
 
-        Map<K, V> newEntries = bulkLoader.apply(toLoad.keySet());
+        Map<K, V> newEntries = loader.load(toLoad, loadContext, bulkLoader::apply);
         toLoad.forEach((key, valueHolder) -> {
             V newValue = newEntries.get(key);
             verifyNotNull(newValue, "loader returned null for %s", key);
@@ -462,7 +478,9 @@ public final class CachingHiveMetastore
         List<HivePartitionName> hivePartitionNames = partitionNames.stream().map(partitionName -> hivePartitionName(hiveTableName, partitionName)).toList();
         Map<HivePartitionName, Map<String, HiveColumnStatistics>> statistics = getAll(
                 partitionStatisticsCache,
+                partitionStatisticsLoader,
                 hivePartitionNames,
+                columnNames,
                 missingPartitions -> loadPartitionsColumnStatistics(databaseName, tableName, columnNames, missingPartitions),
                 currentStats -> currentStats.keySet().containsAll(columnNames),
                 (currentStats, newStats) -> mergeColumnStatistics(currentStats, newStats, columnNames));
@@ -772,6 +790,7 @@ public final class CachingHiveMetastore
 
         Map<HivePartitionName, Optional<Partition>> all = getAll(
                 partitionCache,
+                partitionLoader,
                 names,
                 namesToLoad -> loadPartitionsByNames(table, namesToLoad));
         ImmutableMap.Builder<String, Optional<Partition>> partitionsByName = ImmutableMap.builder();
@@ -1222,6 +1241,20 @@ public final class CachingHiveMetastore
         return new CacheStatsMBean(partitionCache);
     }
 
+    @Managed
+    @Nested
+    public CoalescingBulkLoader<HivePartitionName, Optional<Partition>> getPartitionLoads()
+    {
+        return partitionLoader;
+    }
+
+    @Managed
+    @Nested
+    public CoalescingBulkLoader<HivePartitionName, Map<String, HiveColumnStatistics>> getPartitionStatisticsLoads()
+    {
+        return partitionStatisticsLoader;
+    }
+
     @Managed
     @Nested
     public CacheStatsMBean getPartitionFilterStats()
@@ -43,6 +43,7 @@ public class CachingHiveMetastoreConfig
     private boolean cacheMissing = true;
     private Boolean cacheMissingPartitions;
     private Boolean cacheMissingStats;
+    private int partitionLoadBatchSize = 100;
 
     @NotNull
     public Duration getMetastoreCacheTtl()
@@ -156,4 +157,17 @@ public class CachingHiveMetastoreConfig
         this.cacheMissingStats = cacheMissingStats;
         return this;
     }
+
+    @Min(1)
+    public int getPartitionLoadBatchSize()
+    {
+        return partitionLoadBatchSize;
+    }
+
+    @Config("hive.metastore-cache.partition-load-batch-size")
+    public CachingHiveMetastoreConfig setPartitionLoadBatchSize(int partitionLoadBatchSize)
+    {
+        this.partitionLoadBatchSize = partitionLoadBatchSize;
+        return this;
+    }
 }
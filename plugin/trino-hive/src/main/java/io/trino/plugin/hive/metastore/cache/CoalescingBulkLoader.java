@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.metastore.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.errorprone.annotations.ThreadSafe;
+import io.airlift.stats.CounterStat;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Loads missing entries of a bulk cache. Keys that are already being loaded by a concurrent
+ * caller for the same cache entry are not loaded again, and the caller waits for the
+ * in-flight load instead. The remaining keys are split into batches, which are loaded in
+ * parallel when an executor is provided.
+ */
+@ThreadSafe
+public final class CoalescingBulkLoader<K, V>
+{
+    private final ConcurrentMap<K, InFlightLoad<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Optional<Executor> executor;
+    private final int batchSize;
+
+    private final CounterStat issuedLoads = new CounterStat();
+    private final CounterStat loadedKeys = new CounterStat();
+    private final CounterStat coalescedKeys = new CounterStat();
+
+    public CoalescingBulkLoader(Optional<Executor> executor, int batchSize)
+    {
+        this.executor = requireNonNull(executor, "executor is null");
+        checkArgument(batchSize > 0, "batchSize must be positive");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Loads the values for the given keys.
+     *
+     * @param toLoad value holders of the cache entries to load, a concurrent load is only
+     * shared when it is loading the same value holder, so that values loaded before the
+     * cache was invalidated are not shared with callers that observed the invalidation
+     * @param loadContext additional parameters of the load which must be equal for loads
+     * to be shared, for example the requested columns
+     * @return loaded values, which do not contain entries for keys the bulk loader did not return
+     */
+    public Map<K, V> load(Map<K, AtomicReference<V>> toLoad, Object loadContext, Function<Set<K>, Map<K, V>> bulkLoader)
+    {
+        Map<K, SettableFuture<V>> owned = new HashMap<>();
+        Map<K, InFlightLoad<V>> registered = new HashMap<>();
+        Map<K, ListenableFuture<V>> joined = new HashMap<>();
+        toLoad.forEach((key, valueHolder) -> {
+            InFlightLoad<V> load = new InFlightLoad<>(valueHolder, loadContext, SettableFuture.create());
+            InFlightLoad<V> existing = inFlightLoads.putIfAbsent(key, load);
+            if (existing == null) {
+                registered.put(key, load);
+                owned.put(key, load.future());
+            }
+            else if (existing.valueHolder() == valueHolder && Objects.equals(existing.loadContext(), loadContext)) {
+                joined.put(key, existing.future());
+            }
+            else {
+                // the in-flight load is for a stale entry or different parameters, so it cannot be shared
+                owned.put(key, load.future());
+            }
+        });
+        coalescedKeys.update(joined.size());
+
+        try {
+            loadOwned(owned, bulkLoader);
+        }
+        finally {
+            registered.forEach(inFlightLoads::remove);
+        }
+
+        Map<K, V> result = new HashMap<>();
+        owned.forEach((key, future) -> putIfNotNull(result, key, getFutureValue(future)));
+        joined.forEach((key, future) -> putIfNotNull(result, key, getFutureValue(future)));
+        return result;
+    }
+
+    private void loadOwned(Map<K, SettableFuture<V>> owned, Function<Set<K>, Map<K, V>> bulkLoader)
+    {
+        if (owned.isEmpty()) {
+            return;
+        }
+        List<List<K>> batches = Lists.partition(ImmutableList.copyOf(owned.keySet()), batchSize);
+        try {
+            if (batches.size() == 1 || executor.isEmpty()) {
+                for (List<K> batch : batches) {
+                    complete(owned, batch, loadBatch(batch, bulkLoader));
+                }
+                return;
+            }
+
+            List<ListenableFutureTask<Map<K, V>>> tasks = new ArrayList<>();
+            for (List<K> batch : batches.subList(1, batches.size())) {
+                ListenableFutureTask<Map<K, V>> task = ListenableFutureTask.create(() -> loadBatch(batch, bulkLoader));
+                try {
+                    executor.get().execute(task);
+                }
+                catch (RejectedExecutionException _) {
+                    // the task is run by this thread below
+                }
+                tasks.add(task);
+            }
+            complete(owned, batches.get(0), loadBatch(batches.get(0), bulkLoader));
+            for (int i = 0; i < tasks.size(); i++) {
+                ListenableFutureTask<Map<K, V>> task = tasks.get(i);
+                // no-op if the executor has already started the task
+                task.run();
+                complete(owned, batches.get(i + 1), getFutureValue(task));
+            }
+        }
+        catch (Throwable t) {
+            owned.values().forEach(future -> future.setException(t));
+            throw t;
+        }
+    }
+
+    private Map<K, V> loadBatch(List<K> batch, Function<Set<K>, Map<K, V>> bulkLoader)
+    {
+        issuedLoads.update(1);
+        loadedKeys.update(batch.size());
+        return bulkLoader.apply(ImmutableSet.copyOf(batch));
+    }
+
+    private static <K, V> void complete(Map<K, SettableFuture<V>> owned, List<K> batch, Map<K, V> values)
+    {
+        for (K key : batch) {
+            owned.get(key).set(values.get(key));
+        }
+    }
+
+    private static <K, V> void putIfNotNull(Map<K, V> map, K key, V value)
+    {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getIssuedLoads()
+    {
+        return issuedLoads;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getLoadedKeys()
+    {
+        return loadedKeys;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getCoalescedKeys()
+    {
+        return coalescedKeys;
+    }
+
+    private record InFlightLoad<V>(AtomicReference<V> valueHolder, Object loadContext, SettableFuture<V> future) {}
+}
@@ -65,6 +65,7 @@ public class SharedHiveMetastoreCache
     private final long userMetastoreCacheMaximumSize;
     private final boolean metastorePartitionCacheEnabled;
     private final Set<ObjectType> cacheMissing;
+    private final int partitionLoadBatchSize;
 
     private ExecutorService executorService;
 
@@ -97,6 +98,7 @@ public class SharedHiveMetastoreCache
             cacheMissing.add(ObjectType.STATS);
         }
         this.cacheMissing = cacheMissing.build();
+        partitionLoadBatchSize = config.getPartitionLoadBatchSize();
 
         userMetastoreCacheTtl = impersonationCachingConfig.getUserMetastoreCacheTtl();
         userMetastoreCacheMaximumSize = impersonationCachingConfig.getUserMetastoreCacheMaximumSize();
@@ -161,7 +163,8 @@ public class SharedHiveMetastoreCache
                 metastoreCacheMaximumSize,
                 CachingHiveMetastore.StatsRecording.ENABLED,
                 metastorePartitionCacheEnabled,
-                cacheMissing);
+                cacheMissing,
+                partitionLoadBatchSize);
     }
 
     public static class CachingHiveMetastoreFactory
@@ -14,16 +14,20 @@
 package io.trino.plugin.hive.orc;
 
 import io.airlift.slice.Slice;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.TrinoInput;
 import io.trino.filesystem.TrinoInputFile;
 import io.trino.orc.AbstractOrcDataSource;
+import io.trino.orc.DiskRange;
 import io.trino.orc.OrcDataSourceId;
 import io.trino.orc.OrcReaderOptions;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.spi.TrinoException;
 
 import java.io.IOException;
+import java.util.List;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILESYSTEM_ERROR;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_UNKNOWN_ERROR;
 import static java.lang.String.format;
@@ -86,4 +90,28 @@ public class HdfsOrcDataSource
             throw new TrinoException(HIVE_UNKNOWN_ERROR, message, e);
         }
     }
+
+    @Override
+    protected List<Slice> readInternal(List<DiskRange> diskRanges)
+    {
+        try {
+            long readStart = System.nanoTime();
+            List<Slice> slices = input.readFully(diskRanges.stream()
+                    .map(diskRange -> new FileRange(diskRange.getOffset(), diskRange.getLength()))
+                    .collect(toImmutableList()));
+            stats.readDataBytesPerSecond(slices.stream().mapToLong(Slice::length).sum(), System.nanoTime() - readStart);
+            return slices;
+        }
+        catch (TrinoException e) {
+            // just in case there is a Trino wrapper or hook
+            throw e;
+        }
+        catch (Exception e) {
+            String message = format("Error reading from %s at positions %s", this, diskRanges);
+            if (e instanceof IOException) {
+                throw new TrinoException(HIVE_FILESYSTEM_ERROR, message, e);
+            }
+            throw new TrinoException(HIVE_UNKNOWN_ERROR, message, e);
+        }
+    }
 }
@@ -47,6 +47,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
@@ -98,7 +99,8 @@ public final class OrcFileWriter
             Map<String, String> metadata,
             Optional<Supplier<OrcDataSource>> validationInputFactory,
             OrcWriteValidationMode validationMode,
-            OrcWriterStats stats)
+            OrcWriterStats stats,
+            Executor writerExecutor)
     {
         requireNonNull(orcDataSink, "orcDataSink is null");
         this.writerKind = requireNonNull(writerKind, "writerKind is null");
@@ -126,7 +128,8 @@ public final class OrcFileWriter
                 metadata,
                 validationInputFactory.isPresent(),
                 validationMode,
-                stats);
+                stats,
+                writerExecutor);
         if (transaction.isTransactional()) {
             this.setMaxWriteId(transaction.getWriteId());
         }
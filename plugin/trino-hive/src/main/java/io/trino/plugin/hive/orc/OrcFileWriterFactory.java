@@ -29,6 +29,7 @@ import io.trino.orc.OrcWriterStats;
 import io.trino.orc.OutputStreamOrcDataSink;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.FileWriter;
+import io.trino.plugin.hive.ForHiveFileWriters;
 import io.trino.plugin.hive.HiveCompressionCodec;
 import io.trino.plugin.hive.HiveFileWriterFactory;
 import io.trino.plugin.hive.NodeVersion;
@@ -47,8 +48,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.trino.hive.formats.HiveClassNames.ORC_OUTPUT_FORMAT_CLASS;
 import static io.trino.orc.metadata.OrcType.createRootOrcType;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_WRITER_OPEN_ERROR;
@@ -82,6 +86,7 @@ public class OrcFileWriterFactory
     private final FileFormatDataSourceStats readStats;
     private final OrcWriterStats stats = new OrcWriterStats();
     private final OrcWriterOptions orcWriterOptions;
+    private final Executor writerExecutor;
 
     @Inject
     public OrcFileWriterFactory(
@@ -89,14 +94,16 @@ public class OrcFileWriterFactory
             TypeManager typeManager,
             NodeVersion nodeVersion,
             FileFormatDataSourceStats readStats,
-            OrcWriterConfig config)
+            OrcWriterConfig config,
+            @ForHiveFileWriters ExecutorService writerExecutor)
     {
         this(
                 typeManager,
                 nodeVersion,
                 readStats,
                 config.toOrcWriterOptions(),
-                fileSystemFactory);
+                fileSystemFactory,
+                writerExecutor);
     }
 
     public OrcFileWriterFactory(
@@ -105,12 +112,24 @@ public class OrcFileWriterFactory
             FileFormatDataSourceStats readStats,
             OrcWriterOptions orcWriterOptions,
             TrinoFileSystemFactory fileSystemFactory)
+    {
+        this(typeManager, nodeVersion, readStats, orcWriterOptions, fileSystemFactory, directExecutor());
+    }
+
+    public OrcFileWriterFactory(
+            TypeManager typeManager,
+            NodeVersion nodeVersion,
+            FileFormatDataSourceStats readStats,
+            OrcWriterOptions orcWriterOptions,
+            TrinoFileSystemFactory fileSystemFactory,
+            Executor writerExecutor)
     {
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.nodeVersion = requireNonNull(nodeVersion, "nodeVersion is null");
         this.readStats = requireNonNull(readStats, "readStats is null");
         this.orcWriterOptions = requireNonNull(orcWriterOptions, "orcWriterOptions is null");
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
+        this.writerExecutor = requireNonNull(writerExecutor, "writerExecutor is null");
     }
 
     @Managed
@@ -205,7 +224,8 @@ public class OrcFileWriterFactory
                             .buildOrThrow(),
                     validationInputFactory,
                     getOrcOptimizedWriterValidateMode(session),
-                    stats));
+                    stats,
+                    writerExecutor));
         }
         catch (IOException e) {
             throw new TrinoException(HIVE_WRITER_OPEN_ERROR, "Error creating ORC file", e);
@@ -35,6 +35,7 @@ import io.trino.spi.block.LazyBlockLoader;
 import io.trino.spi.block.LongArrayBlock;
 import io.trino.spi.block.RunLengthEncodedBlock;
 import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.metrics.Metric;
 import io.trino.spi.metrics.Metrics;
 import io.trino.spi.type.Type;
 
@@ -66,6 +67,8 @@ public class OrcPageSource
 {
     private static final Block ORIGINAL_FILE_TRANSACTION_ID_BLOCK = nativeValueToBlock(BIGINT, 0L);
     public static final String ORC_CODEC_METRIC_PREFIX = "OrcReaderCompressionFormat_";
+    public static final String ORC_DECOMPRESSED_CHUNK_CACHE_HITS = "OrcDecompressedChunkCacheHits";
+    public static final String ORC_DECOMPRESSED_CHUNK_CACHE_MISSES = "OrcDecompressedChunkCacheMisses";
 
     private final OrcRecordReader recordReader;
     private final List<ColumnAdaptation> columnAdaptations;
@@ -249,7 +252,15 @@ public class OrcPageSource
     @Override
     public Metrics getMetrics()
     {
-        return new Metrics(ImmutableMap.of(ORC_CODEC_METRIC_PREFIX + compressionKind.name(), new LongCount(recordReader.getTotalDataLength())));
+        ImmutableMap.Builder<String, Metric<?>> metrics = ImmutableMap.<String, Metric<?>>builder()
+                .put(ORC_CODEC_METRIC_PREFIX + compressionKind.name(), new LongCount(recordReader.getTotalDataLength()));
+        long cacheHits = recordReader.getDecompressedChunkCacheHits();
+        long cacheMisses = recordReader.getDecompressedChunkCacheMisses();
+        if (cacheHits + cacheMisses > 0) {
+            metrics.put(ORC_DECOMPRESSED_CHUNK_CACHE_HITS, new LongCount(cacheHits));
+            metrics.put(ORC_DECOMPRESSED_CHUNK_CACHE_MISSES, new LongCount(cacheMisses));
+        }
+        return new Metrics(metrics.buildOrThrow());
     }
 
     public interface ColumnAdaptation
@@ -33,6 +33,8 @@ import io.trino.orc.OrcRecordReader;
 import io.trino.orc.TupleDomainOrcPredicate;
 import io.trino.orc.TupleDomainOrcPredicate.TupleDomainOrcPredicateBuilder;
 import io.trino.orc.metadata.OrcType.OrcTypeKind;
+import io.trino.plugin.base.cache.DecompressedChunkCache;
+import io.trino.plugin.base.cache.FooterCache;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.AcidInfo;
 import io.trino.plugin.hive.HiveColumnHandle;
@@ -118,8 +120,28 @@ public class OrcPageSourceFactory
     private final FileFormatDataSourceStats stats;
     private final DateTimeZone legacyTimeZone;
     private final int domainCompactionThreshold;
+    private final Optional<DecompressedChunkCache> decompressedChunkCache;
+    private final Optional<FooterCache> footerCache;
 
     @Inject
+    public OrcPageSourceFactory(
+            OrcReaderConfig config,
+            TrinoFileSystemFactory fileSystemFactory,
+            FileFormatDataSourceStats stats,
+            HiveConfig hiveConfig,
+            DecompressedChunkCache decompressedChunkCache,
+            FooterCache footerCache)
+    {
+        this(
+                config.toOrcReaderOptions(),
+                fileSystemFactory,
+                stats,
+                hiveConfig.getOrcLegacyDateTimeZone(),
+                hiveConfig.getDomainCompactionThreshold(),
+                Optional.of(decompressedChunkCache).filter(DecompressedChunkCache::isEnabled),
+                Optional.of(footerCache).filter(FooterCache::isEnabled));
+    }
+
     public OrcPageSourceFactory(
             OrcReaderConfig config,
             TrinoFileSystemFactory fileSystemFactory,
@@ -149,12 +171,26 @@ public class OrcPageSourceFactory
             FileFormatDataSourceStats stats,
             DateTimeZone legacyTimeZone,
             int domainCompactionThreshold)
+    {
+        this(orcReaderOptions, fileSystemFactory, stats, legacyTimeZone, domainCompactionThreshold, Optional.empty(), Optional.empty());
+    }
+
+    private OrcPageSourceFactory(
+            OrcReaderOptions orcReaderOptions,
+            TrinoFileSystemFactory fileSystemFactory,
+            FileFormatDataSourceStats stats,
+            DateTimeZone legacyTimeZone,
+            int domainCompactionThreshold,
+            Optional<DecompressedChunkCache> decompressedChunkCache,
+            Optional<FooterCache> footerCache)
     {
         this.orcReaderOptions = requireNonNull(orcReaderOptions, "orcReaderOptions is null");
         this.stats = requireNonNull(stats, "stats is null");
         this.legacyTimeZone = legacyTimeZone;
         this.domainCompactionThreshold = domainCompactionThreshold;
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
+        this.decompressedChunkCache = requireNonNull(decompressedChunkCache, "decompressedChunkCache is null");
+        this.footerCache = requireNonNull(footerCache, "footerCache is null");
     }
 
     public static boolean stripUnnecessaryProperties(String serializationLibraryName)
@@ -266,7 +302,10 @@ public class OrcPageSourceFactory
 
         AggregatedMemoryContext memoryUsage = newSimpleAggregatedMemoryContext();
         try {
-            Optional<OrcReader> optionalOrcReader = OrcReader.createOrcReader(orcDataSource, options);
+            Optional<OrcReader> optionalOrcReader = OrcReader.createOrcReader(
+                    orcDataSource,
+                    options,
+                    footerCache.map(cache -> cache.forFile(path.toString(), estimatedFileSize, fileModifiedTime)));
             if (optionalOrcReader.isEmpty()) {
                 return new EmptyPageSource();
             }
@@ -394,7 +433,8 @@ public class OrcPageSourceFactory
                     memoryUsage,
                     INITIAL_BATCH_SIZE,
                     exception -> handleException(orcDataSource.getId(), exception),
-                    NameBasedFieldMapper::create);
+                    NameBasedFieldMapper::create,
+                    decompressedChunkCache.map(cache -> cache.forFile(path.toString(), estimatedFileSize, fileModifiedTime)));
 
             Optional<OrcDeletedRows> deletedRows = acidInfo.map(info ->
                     new OrcDeletedRows(
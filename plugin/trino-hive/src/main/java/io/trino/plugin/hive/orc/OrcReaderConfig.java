@@ -129,7 +129,7 @@ public class OrcReaderConfig
     // TODO remove config option once efficacy is proven
     @Deprecated
     @Config("hive.orc.lazy-read-small-ranges")
-    @ConfigDescription("ORC read small disk ranges lazily")
+    @ConfigDescription("ORC read small disk ranges lazily. When disabled, the small disk ranges of a stripe are fetched in parallel with one vectored read")
     public OrcReaderConfig setLazyReadSmallRanges(boolean lazyReadSmallRanges)
     {
         options = options.withLazyReadSmallRanges(lazyReadSmallRanges);
@@ -23,6 +23,7 @@ import io.trino.orc.OrcWriterOptions;
 import io.trino.orc.OrcWriterOptions.WriterIdentification;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 @DefunctConfig("hive.orc.optimized-writer.enabled")
@@ -135,6 +136,20 @@ public class OrcWriterConfig
         return this;
     }
 
+    @Min(1)
+    public int getWriterParallelism()
+    {
+        return options.getWriterParallelism();
+    }
+
+    @Config("hive.orc.writer.parallelism")
+    @ConfigDescription("Maximum number of threads encoding and compressing the columns of a single ORC writer")
+    public OrcWriterConfig setWriterParallelism(int writerParallelism)
+    {
+        options = options.withWriterParallelism(writerParallelism);
+        return this;
+    }
+
     @Deprecated
     public boolean isUseLegacyVersion()
     {
@@ -39,9 +39,11 @@ import java.lang.management.ThreadMXBean;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.parquet.ParquetWriteValidation.ParquetWriteValidationBuilder;
@@ -78,6 +80,38 @@ public final class ParquetFileWriter
             Optional<DateTimeZone> parquetTimeZone,
             Optional<Supplier<ParquetDataSource>> validationInputFactory)
             throws IOException
+    {
+        this(
+                outputFile,
+                rollbackAction,
+                fileColumnTypes,
+                fileColumnNames,
+                messageType,
+                primitiveTypes,
+                parquetWriterOptions,
+                fileInputColumnIndexes,
+                compressionCodec,
+                trinoVersion,
+                parquetTimeZone,
+                validationInputFactory,
+                directExecutor());
+    }
+
+    public ParquetFileWriter(
+            TrinoOutputFile outputFile,
+            Closeable rollbackAction,
+            List<Type> fileColumnTypes,
+            List<String> fileColumnNames,
+            MessageType messageType,
+            Map<List<String>, Type> primitiveTypes,
+            ParquetWriterOptions parquetWriterOptions,
+            int[] fileInputColumnIndexes,
+            CompressionCodec compressionCodec,
+            String trinoVersion,
+            Optional<DateTimeZone> parquetTimeZone,
+            Optional<Supplier<ParquetDataSource>> validationInputFactory,
+            Executor writerExecutor)
+            throws IOException
     {
         this.memoryContext = newSimpleAggregatedMemoryContext();
         OutputStream outputStream = outputFile.create(memoryContext);
@@ -94,7 +128,8 @@ public final class ParquetFileWriter
                 parquetTimeZone,
                 validationInputFactory.isPresent()
                         ? Optional.of(new ParquetWriteValidationBuilder(fileColumnTypes, fileColumnNames))
-                        : Optional.empty());
+                        : Optional.empty(),
+                writerExecutor);
 
         this.rollbackAction = requireNonNull(rollbackAction, "rollbackAction is null");
         this.fileInputColumnIndexes = requireNonNull(fileInputColumnIndexes, "fileInputColumnIndexes is null");
@@ -25,6 +25,7 @@ import io.trino.parquet.writer.ParquetSchemaConverter;
 import io.trino.parquet.writer.ParquetWriterOptions;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.FileWriter;
+import io.trino.plugin.hive.ForHiveFileWriters;
 import io.trino.plugin.hive.HiveCompressionCodec;
 import io.trino.plugin.hive.HiveConfig;
 import io.trino.plugin.hive.HiveFileWriterFactory;
@@ -46,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import static io.trino.hive.formats.HiveClassNames.MAPRED_PARQUET_OUTPUT_FORMAT_CLASS;
@@ -70,6 +72,7 @@ public class ParquetFileWriterFactory
     private final TypeManager typeManager;
     private final DateTimeZone parquetTimeZone;
     private final FileFormatDataSourceStats readStats;
+    private final ExecutorService writerExecutor;
 
     @Inject
     public ParquetFileWriterFactory(
@@ -77,13 +80,15 @@ public class ParquetFileWriterFactory
             NodeVersion nodeVersion,
             TypeManager typeManager,
             HiveConfig hiveConfig,
-            FileFormatDataSourceStats readStats)
+            FileFormatDataSourceStats readStats,
+            @ForHiveFileWriters ExecutorService writerExecutor)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.nodeVersion = requireNonNull(nodeVersion, "nodeVersion is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.parquetTimeZone = hiveConfig.getParquetDateTimeZone();
         this.readStats = requireNonNull(readStats, "readStats is null");
+        this.writerExecutor = requireNonNull(writerExecutor, "writerExecutor is null");
     }
 
     @Override
@@ -109,6 +114,8 @@ public class ParquetFileWriterFactory
                 .setMaxBlockSize(HiveSessionProperties.getParquetWriterBlockSize(session))
                 .setBatchSize(HiveSessionProperties.getParquetBatchSize(session))
                 .setBloomFilterColumns(getParquetBloomFilterColumns(schema))
+                .setWriterParallelism(HiveSessionProperties.getParquetWriterParallelism(session))
+                .setMaxDictionaryMemory(HiveSessionProperties.getParquetWriterDictionaryMaxMemory(session))
                 .build();
 
         List<String> fileColumnNames = getColumnNames(schema);
@@ -158,7 +165,8 @@ public class ParquetFileWriterFactory
                             .orElseThrow(() -> new IllegalArgumentException("Unsupported compression codec for Parquet: " + compressionCodec)),
                     nodeVersion.toString(),
                     Optional.of(parquetTimeZone),
-                    validationInputFactory));
+                    validationInputFactory,
+                    writerExecutor));
         }
         catch (IOException e) {
             throw new TrinoException(HIVE_WRITER_OPEN_ERROR, "Error creating Parquet file", e);
@@ -36,6 +36,10 @@ import io.trino.parquet.predicate.TupleDomainParquetPredicate;
 import io.trino.parquet.reader.MetadataReader;
 import io.trino.parquet.reader.ParquetReader;
 import io.trino.parquet.reader.RowGroupInfo;
+import io.trino.plugin.base.cache.DecompressedChunkCache;
+import io.trino.plugin.base.cache.DecompressedChunkCache.FileChunkCache;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCache.CachedFile;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.AcidInfo;
 import io.trino.plugin.hive.HiveColumnHandle;
@@ -70,6 +74,7 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
@@ -88,6 +93,7 @@ import static io.trino.plugin.hive.HiveErrorCode.HIVE_BAD_DATA;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_CANNOT_OPEN_SPLIT;
 import static io.trino.plugin.hive.HivePageSourceProvider.projectBaseColumns;
 import static io.trino.plugin.hive.HivePageSourceProvider.projectSufficientColumns;
+import static io.trino.plugin.hive.HiveSessionProperties.getParquetMaxReadAheadSize;
 import static io.trino.plugin.hive.HiveSessionProperties.getParquetMaxReadBlockRowCount;
 import static io.trino.plugin.hive.HiveSessionProperties.getParquetMaxReadBlockSize;
 import static io.trino.plugin.hive.HiveSessionProperties.getParquetSmallFileThreshold;
@@ -130,19 +136,51 @@ public class ParquetPageSourceFactory
     private final ParquetReaderOptions options;
     private final DateTimeZone timeZone;
     private final int domainCompactionThreshold;
+    private final Optional<DecompressedChunkCache> decompressedChunkCache;
+    private final Optional<FooterCache> footerCache;
 
     @Inject
+    public ParquetPageSourceFactory(
+            TrinoFileSystemFactory fileSystemFactory,
+            FileFormatDataSourceStats stats,
+            ParquetReaderConfig config,
+            HiveConfig hiveConfig,
+            DecompressedChunkCache decompressedChunkCache,
+            FooterCache footerCache)
+    {
+        this(
+                fileSystemFactory,
+                stats,
+                config,
+                hiveConfig,
+                Optional.of(decompressedChunkCache).filter(DecompressedChunkCache::isEnabled),
+                Optional.of(footerCache).filter(FooterCache::isEnabled));
+    }
+
     public ParquetPageSourceFactory(
             TrinoFileSystemFactory fileSystemFactory,
             FileFormatDataSourceStats stats,
             ParquetReaderConfig config,
             HiveConfig hiveConfig)
+    {
+        this(fileSystemFactory, stats, config, hiveConfig, Optional.empty(), Optional.empty());
+    }
+
+    private ParquetPageSourceFactory(
+            TrinoFileSystemFactory fileSystemFactory,
+            FileFormatDataSourceStats stats,
+            ParquetReaderConfig config,
+            HiveConfig hiveConfig,
+            Optional<DecompressedChunkCache> decompressedChunkCache,
+            Optional<FooterCache> footerCache)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.stats = requireNonNull(stats, "stats is null");
         options = config.toParquetReaderOptions();
         timeZone = hiveConfig.getParquetDateTimeZone();
         domainCompactionThreshold = hiveConfig.getDomainCompactionThreshold();
+        this.decompressedChunkCache = requireNonNull(decompressedChunkCache, "decompressedChunkCache is null");
+        this.footerCache = requireNonNull(footerCache, "footerCache is null");
     }
 
     public static boolean stripUnnecessaryProperties(String serializationLibraryName)
@@ -188,17 +226,19 @@ public class ParquetPageSourceFactory
                         .withMaxReadBlockSize(getParquetMaxReadBlockSize(session))
                         .withMaxReadBlockRowCount(getParquetMaxReadBlockRowCount(session))
                         .withSmallFileThreshold(getParquetSmallFileThreshold(session))
+                        .withMaxReadAheadSize(getParquetMaxReadAheadSize(session))
                         .withUseColumnIndex(isParquetUseColumnIndex(session))
                         .withBloomFilter(useParquetBloomFilter(session))
                         .withVectorizedDecodingEnabled(isParquetVectorizedDecodingEnabled(session)),
                 Optional.empty(),
                 domainCompactionThreshold,
-                OptionalLong.of(estimatedFileSize)));
+                OptionalLong.of(estimatedFileSize),
+                new ReadParameters(
+                        footerCache.map(cache -> cache.forFile(path.toString(), estimatedFileSize, fileModifiedTime)),
+                        _ -> true,
+                        decompressedChunkCache.map(cache -> cache.forFile(path.toString(), estimatedFileSize, fileModifiedTime)))));
     }
 
-    /**
-     * This method is available for other callers to use directly.
-     */
     public static ReaderPageSource createPageSource(
             TrinoInputFile inputFile,
             long start,
@@ -211,7 +251,8 @@ public class ParquetPageSourceFactory
             ParquetReaderOptions options,
             Optional<ParquetWriteValidation> parquetWriteValidation,
             int domainCompactionThreshold,
-            OptionalLong estimatedFileSize)
+            OptionalLong estimatedFileSize,
+            ReadParameters readParameters)
     {
         MessageType fileSchema;
         MessageType requestedSchema;
@@ -221,7 +262,7 @@ public class ParquetPageSourceFactory
             AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
             dataSource = createDataSource(inputFile, estimatedFileSize, options, memoryContext, stats);
 
-            ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource, parquetWriteValidation);
+            ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource, parquetWriteValidation, readParameters.footerCache());
             FileMetadata fileMetaData = parquetMetadata.getFileMetaData();
             fileSchema = fileMetaData.getSchema();
 
@@ -259,7 +300,9 @@ public class ParquetPageSourceFactory
                     descriptorsByPath,
                     timeZone,
                     domainCompactionThreshold,
-                    options);
+                    options).stream()
+                    .filter(readParameters.rowGroupFilter())
+                    .collect(toImmutableList());
 
             Optional<ReaderColumns> readerProjections = projectBaseColumns(columns, useColumnNames);
             List<HiveColumnHandle> baseColumns = readerProjections.map(projection ->
@@ -282,7 +325,8 @@ public class ParquetPageSourceFactory
                     // We avoid using disjuncts of parquetPredicate for page pruning in ParquetReader as currently column indexes
                     // are not present in the Parquet files which are read with disjunct predicates.
                     parquetPredicates.size() == 1 ? Optional.of(parquetPredicates.get(0)) : Optional.empty(),
-                    parquetWriteValidation);
+                    parquetWriteValidation,
+                    readParameters.chunkCache());
             ConnectorPageSource parquetPageSource = createParquetPageSource(baseColumns, fileSchema, messageColumn, useColumnNames, parquetReaderProvider);
             return new ReaderPageSource(parquetPageSource, readerProjections);
         }
@@ -416,6 +460,24 @@ public class ParquetPageSourceFactory
                 throws IOException;
     }
 
+    /**
+     * @param footerCache view of the footer cache, created for the same file as the input file
+     * @param rowGroupFilter selects the row groups to read, in addition to the row groups selected by the predicate,
+     * e.g. to skip the row groups in which all rows are deleted
+     * @param chunkCache view of the decompressed chunk cache, created for the same file as the input file
+     */
+    public record ReadParameters(Optional<CachedFile> footerCache, Predicate<RowGroupInfo> rowGroupFilter, Optional<FileChunkCache> chunkCache)
+    {
+        public static final ReadParameters DEFAULT = new ReadParameters(Optional.empty(), _ -> true, Optional.empty());
+
+        public ReadParameters
+        {
+            requireNonNull(footerCache, "footerCache is null");
+            requireNonNull(rowGroupFilter, "rowGroupFilter is null");
+            requireNonNull(chunkCache, "chunkCache is null");
+        }
+    }
+
     public static ConnectorPageSource createParquetPageSource(
             List<HiveColumnHandle> baseColumns,
             MessageType fileSchema,
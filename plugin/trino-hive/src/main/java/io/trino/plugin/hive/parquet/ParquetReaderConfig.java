@@ -160,6 +160,20 @@ public class ParquetReaderConfig
         return options.isVectorizedDecodingEnabled();
     }
 
+    @NotNull
+    public DataSize getMaxReadAheadSize()
+    {
+        return options.getMaxReadAheadSize();
+    }
+
+    @Config("parquet.max-read-ahead-size")
+    @ConfigDescription("Maximum size of the column chunks fetched ahead of the reader from remote storage, 0 disables read-ahead")
+    public ParquetReaderConfig setMaxReadAheadSize(DataSize maxReadAheadSize)
+    {
+        options = options.withMaxReadAheadSize(maxReadAheadSize);
+        return this;
+    }
+
     public ParquetReaderOptions toParquetReaderOptions()
     {
         return options;
@@ -25,6 +25,7 @@ import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import org.apache.parquet.column.ParquetProperties;
 
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
@@ -46,6 +47,8 @@ public class ParquetWriterConfig
     private DataSize pageSize = DataSize.ofBytes(ParquetProperties.DEFAULT_PAGE_SIZE);
     private int pageValueCount = ParquetWriterOptions.DEFAULT_MAX_PAGE_VALUE_COUNT;
     private int batchSize = ParquetWriterOptions.DEFAULT_BATCH_SIZE;
+    private int writerParallelism = ParquetWriterOptions.DEFAULT_WRITER_PARALLELISM;
+    private DataSize dictionaryMaxMemory = ParquetWriterOptions.DEFAULT_MAX_DICTIONARY_MEMORY;
     private double validationPercentage = 5;
 
     @MaxDataSize(PARQUET_WRITER_MAX_BLOCK_SIZE)
@@ -104,6 +107,34 @@ public class ParquetWriterConfig
         return batchSize;
     }
 
+    @Min(1)
+    public int getWriterParallelism()
+    {
+        return writerParallelism;
+    }
+
+    @Config("parquet.writer.parallelism")
+    @ConfigDescription("Maximum number of threads encoding and compressing the column chunks of a single Parquet writer")
+    public ParquetWriterConfig setWriterParallelism(int writerParallelism)
+    {
+        this.writerParallelism = writerParallelism;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getDictionaryMaxMemory()
+    {
+        return dictionaryMaxMemory;
+    }
+
+    @Config("parquet.writer.dictionary-max-memory")
+    @ConfigDescription("Maximum memory used by the dictionaries of a single Parquet writer before columns are switched to plain encoding")
+    public ParquetWriterConfig setDictionaryMaxMemory(DataSize dictionaryMaxMemory)
+    {
+        this.dictionaryMaxMemory = dictionaryMaxMemory;
+        return this;
+    }
+
     @DecimalMin("0.0")
     @DecimalMax("100.0")
     public double getValidationPercentage()
@@ -14,15 +14,21 @@
 package io.trino.plugin.hive.parquet;
 
 import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.TrinoInput;
 import io.trino.filesystem.TrinoInputFile;
 import io.trino.parquet.AbstractParquetDataSource;
+import io.trino.parquet.DiskRange;
 import io.trino.parquet.ParquetDataSourceId;
 import io.trino.parquet.ParquetReaderOptions;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 
 import java.io.IOException;
+import java.util.List;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNull;
 
 public class TrinoParquetDataSource
@@ -30,6 +36,7 @@ public class TrinoParquetDataSource
 {
     private final FileFormatDataSourceStats stats;
     private final TrinoInput input;
+    private final DataSize maxReadAheadSize;
 
     public TrinoParquetDataSource(TrinoInputFile file, ParquetReaderOptions options, FileFormatDataSourceStats stats)
             throws IOException
@@ -37,6 +44,7 @@ public class TrinoParquetDataSource
         super(new ParquetDataSourceId(file.location().toString()), file.length(), options);
         this.stats = requireNonNull(stats, "stats is null");
         this.input = file.newInput();
+        this.maxReadAheadSize = options.getMaxReadAheadSize();
     }
 
     @Override
@@ -64,4 +72,22 @@ public class TrinoParquetDataSource
         input.readFully(position, buffer, bufferOffset, bufferLength);
         stats.readDataBytesPerSecond(bufferLength, System.nanoTime() - readStart);
     }
+
+    @Override
+    protected DataSize getMaxReadAheadSize()
+    {
+        return maxReadAheadSize;
+    }
+
+    @Override
+    protected List<Slice> readInternal(List<DiskRange> diskRanges)
+            throws IOException
+    {
+        long readStart = System.nanoTime();
+        List<Slice> slices = input.readFully(diskRanges.stream()
+                .map(diskRange -> new FileRange(diskRange.getOffset(), toIntExact(diskRange.getLength())))
+                .collect(toImmutableList()));
+        stats.readDataBytesPerSecond(slices.stream().mapToLong(Slice::length).sum(), System.nanoTime() - readStart);
+        return slices;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.util;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ListenableFutureTask;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Computes the next element of the delegate iterator in the background while
+ * the current element is being consumed. At most one element is computed ahead,
+ * and the delegate is never accessed concurrently. If the executor has not
+ * started the computation by the time the element is requested, the consumer
+ * computes it directly, so a saturated executor cannot block the consumer.
+ */
+public class PrefetchingIterator<T>
+        extends AbstractIterator<T>
+{
+    private final Iterator<T> delegate;
+    private final Executor executor;
+    private ListenableFutureTask<Optional<T>> next;
+
+    public PrefetchingIterator(Iterator<T> delegate, Executor executor)
+    {
+        this.delegate = requireNonNull(delegate, "delegate is null");
+        this.executor = requireNonNull(executor, "executor is null");
+    }
+
+    @Override
+    protected T computeNext()
+    {
+        ListenableFutureTask<Optional<T>> current = next;
+        if (current == null) {
+            current = ListenableFutureTask.create(this::fetchNext);
+        }
+        // no-op if the executor has already started or completed the task
+        current.run();
+        Optional<T> value = getFutureValue(current);
+        if (value.isEmpty()) {
+            next = null;
+            return endOfData();
+        }
+
+        next = ListenableFutureTask.create(this::fetchNext);
+        executor.execute(next);
+        return value.get();
+    }
+
+    private Optional<T> fetchNext()
+    {
+        if (!delegate.hasNext()) {
+            return Optional.empty();
+        }
+        return Optional.of(delegate.next());
+    }
+}
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.io.Resources;
 import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
 import io.airlift.units.DataSize;
 import io.airlift.units.Duration;
 import io.trino.filesystem.FileEntry;
@@ -44,6 +45,7 @@ import io.trino.plugin.hive.util.HiveBucketing.HiveBucketFilter;
 import io.trino.plugin.hive.util.InternalHiveSplitFactory;
 import io.trino.plugin.hive.util.ValidWriteIdList;
 import io.trino.spi.TrinoException;
+import io.trino.spi.catalog.CatalogName;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitSource.ConnectorSplitBatch;
@@ -480,7 +482,7 @@ public class TestBackgroundHiveSplitLoader
                 createBucketSplitInfo(Optional.empty(), Optional.empty()),
                 SESSION,
                 fileSystemFactory,
-                new CachingDirectoryLister(new HiveConfig()),
+                new CachingDirectoryLister(new CatalogName("hive"), new HiveConfig()),
                 executor,
                 threads,
                 false,
@@ -1172,7 +1174,7 @@ public class TestBackgroundHiveSplitLoader
                 createBucketSplitInfo(tablePartitioning, hiveBucketFilter),
                 SESSION,
                 fileSystemFactory,
-                new CachingDirectoryLister(new HiveConfig()),
+                new CachingDirectoryLister(new CatalogName("hive"), new HiveConfig()),
                 executor,
                 2,
                 false,
@@ -1243,7 +1245,7 @@ public class TestBackgroundHiveSplitLoader
                 createBucketSplitInfo(Optional.empty(), Optional.empty()),
                 connectorSession,
                 fileSystemFactory,
-                new CachingDirectoryLister(new HiveConfig()),
+                new CachingDirectoryLister(new CatalogName("hive"), new HiveConfig()),
                 executor,
                 2,
                 false,
@@ -1288,6 +1290,7 @@ public class TestBackgroundHiveSplitLoader
                 hiveSplitLoader,
                 executor,
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
     }
@@ -99,6 +99,8 @@ public class TestHiveConfig
                 .setFileStatusCacheExpireAfterWrite(new Duration(1, TimeUnit.MINUTES))
                 .setFileStatusCacheMaxRetainedSize(DataSize.of(1, GIGABYTE))
                 .setFileStatusCacheTables(ImmutableList.of())
+                .setFileStatusCachePersistenceDirectory(null)
+                .setFileStatusCachePersistenceInterval(new Duration(5, TimeUnit.MINUTES))
                 .setPerTransactionFileStatusCacheMaxRetainedSize(DataSize.of(100, MEGABYTE))
                 .setTranslateHiveViews(false)
                 .setLegacyHiveViewTranslation(false)
@@ -119,7 +121,8 @@ public class TestHiveConfig
                 .setAutoPurge(false)
                 .setPartitionProjectionEnabled(false)
                 .setS3StorageClassFilter(S3StorageClassFilter.READ_ALL)
-                .setMetadataParallelism(8));
+                .setMetadataParallelism(8)
+                .setDecompressedChunkCacheMaxSize(DataSize.of(0, MEGABYTE)));
     }
 
     @Test
@@ -185,6 +188,8 @@ public class TestHiveConfig
                 .put("hive.file-status-cache-tables", "foo.bar1, foo.bar2")
                 .put("hive.file-status-cache.max-retained-size", "1000B")
                 .put("hive.file-status-cache-expire-time", "30m")
+                .put("hive.file-status-cache.persistence-directory", "/tmp/file-status-cache")
+                .put("hive.file-status-cache.persistence-interval", "10m")
                 .put("hive.per-transaction-file-status-cache.max-retained-size", "42B")
                 .put("hive.hive-views.enabled", "true")
                 .put("hive.hive-views.legacy-translation", "true")
@@ -206,6 +211,7 @@ public class TestHiveConfig
                 .put(CONFIGURATION_HIVE_PARTITION_PROJECTION_ENABLED, "true")
                 .put("hive.s3.storage-class-filter", "READ_NON_GLACIER_AND_RESTORED")
                 .put("hive.metadata.parallelism", "10")
+                .put("hive.decompressed-chunk-cache.max-size", "2GB")
                 .buildOrThrow();
 
         HiveConfig expected = new HiveConfig()
@@ -268,6 +274,8 @@ public class TestHiveConfig
                 .setFileStatusCacheTables(ImmutableList.of("foo.bar1", "foo.bar2"))
                 .setFileStatusCacheMaxRetainedSize(DataSize.ofBytes(1000))
                 .setFileStatusCacheExpireAfterWrite(new Duration(30, TimeUnit.MINUTES))
+                .setFileStatusCachePersistenceDirectory("/tmp/file-status-cache")
+                .setFileStatusCachePersistenceInterval(new Duration(10, TimeUnit.MINUTES))
                 .setPerTransactionFileStatusCacheMaxRetainedSize(DataSize.ofBytes(42))
                 .setTranslateHiveViews(true)
                 .setLegacyHiveViewTranslation(true)
@@ -288,7 +296,8 @@ public class TestHiveConfig
                 .setAutoPurge(true)
                 .setPartitionProjectionEnabled(true)
                 .setS3StorageClassFilter(S3StorageClassFilter.READ_NON_GLACIER_AND_RESTORED)
-                .setMetadataParallelism(10);
+                .setMetadataParallelism(10)
+                .setDecompressedChunkCacheMaxSize(DataSize.of(2, GIGABYTE));
 
         assertFullMapping(properties, expected);
     }
@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.SettableFuture;
 import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
 import io.airlift.units.DataSize;
 import io.trino.filesystem.cache.DefaultCachingHostAddressProvider;
 import io.trino.spi.connector.ConnectorSplit;
@@ -58,6 +59,7 @@ public class TestHiveSplitSource
                 new TestingHiveSplitLoader(),
                 Executors.newFixedThreadPool(5),
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
 
@@ -80,6 +82,32 @@ public class TestHiveSplitSource
         assertThat(hiveSplitSource.getBufferedInternalSplitCount()).isEqualTo(0);
     }
 
+    @Test
+    public void testTimeToFirstSplit()
+    {
+        TimeStat timeToFirstSplit = new TimeStat();
+        HiveSplitSource hiveSplitSource = HiveSplitSource.allAtOnce(
+                SESSION,
+                "database",
+                "table",
+                10,
+                10,
+                DataSize.of(1, MEGABYTE),
+                Integer.MAX_VALUE,
+                new TestingHiveSplitLoader(),
+                Executors.newFixedThreadPool(5),
+                new CounterStat(),
+                timeToFirstSplit,
+                new DefaultCachingHostAddressProvider(),
+                false);
+        assertThat(timeToFirstSplit.getAllTime().getCount()).isEqualTo(0);
+
+        // only the first split is recorded
+        hiveSplitSource.addToQueue(new TestSplit(0));
+        hiveSplitSource.addToQueue(new TestSplit(1));
+        assertThat(timeToFirstSplit.getAllTime().getCount()).isEqualTo(1);
+    }
+
     @Test
     public void testDynamicPartitionPruning()
     {
@@ -94,6 +122,7 @@ public class TestHiveSplitSource
                 new TestingHiveSplitLoader(),
                 Executors.newFixedThreadPool(5),
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
 
@@ -122,6 +151,7 @@ public class TestHiveSplitSource
                 new TestingHiveSplitLoader(),
                 Executors.newSingleThreadExecutor(),
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
 
@@ -151,6 +181,7 @@ public class TestHiveSplitSource
                 new TestingHiveSplitLoader(),
                 Executors.newFixedThreadPool(5),
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
 
@@ -203,6 +234,7 @@ public class TestHiveSplitSource
                 new TestingHiveSplitLoader(),
                 Executors.newFixedThreadPool(5),
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
 
@@ -259,6 +291,7 @@ public class TestHiveSplitSource
                 new TestingHiveSplitLoader(),
                 Executors.newFixedThreadPool(5),
                 new CounterStat(),
+                new TimeStat(),
                 new DefaultCachingHostAddressProvider(),
                 false);
         int testSplitSizeInBytes = new TestSplit(0).getEstimatedSizeInBytes();
@@ -0,0 +1,227 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.fs;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.filesystem.memory.MemoryFileSystem;
+import io.trino.metastore.Column;
+import io.trino.metastore.Partition;
+import io.trino.metastore.StorageFormat;
+import io.trino.metastore.Table;
+import io.trino.plugin.hive.HiveConfig;
+import io.trino.spi.catalog.CatalogName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Predicates.alwaysTrue;
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.metastore.HiveType.HIVE_STRING;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachingDirectoryListerPersistence
+{
+    private static final Location TABLE_LOCATION = Location.of("memory:///table");
+    private static final Location PARTITION_LOCATION = TABLE_LOCATION.appendPath("part=1");
+    private static final Column PARTITION_COLUMN = new Column("part", HIVE_STRING, Optional.empty(), Map.of());
+    private static final Table TABLE = Table.builder()
+            .setDatabaseName("test_schema")
+            .setTableName("test_table")
+            .setOwner(Optional.of("owner"))
+            .setTableType("MANAGED_TABLE")
+            .setDataColumns(ImmutableList.of(new Column("col", HIVE_STRING, Optional.empty(), Map.of())))
+            .setPartitionColumns(ImmutableList.of(PARTITION_COLUMN))
+            .withStorage(storage -> storage
+                    .setStorageFormat(StorageFormat.create("serde", "input", "output"))
+                    .setLocation(TABLE_LOCATION.toString()))
+            .build();
+
+    @Test
+    public void testPartitionParametersValidateListing()
+            throws IOException
+    {
+        TrinoFileSystem fileSystem = new MemoryFileSystem();
+        createFile(fileSystem, PARTITION_LOCATION.appendPath("file1"));
+        CachingDirectoryLister lister = createLister(Optional.empty());
+
+        assertThat(list(lister, fileSystem, partition("1000"))).containsExactly("file1");
+        createFile(fileSystem, PARTITION_LOCATION.appendPath("file2"));
+
+        // the partition has not changed, so the cached listing is used
+        assertThat(list(lister, fileSystem, partition("1000"))).containsExactly("file1");
+        // the partition is unknown, so the cached listing cannot be validated
+        assertThat(listFiles(lister.listFilesRecursively(fileSystem, TABLE, PARTITION_LOCATION))).containsExactly("file1");
+        // the partition was altered since the listing was cached
+        assertThat(list(lister, fileSystem, partition("2000"))).containsExactlyInAnyOrder("file1", "file2");
+        assertThat(lister.isCached(PARTITION_LOCATION)).isTrue();
+        assertThat(lister.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPersistence()
+            throws IOException
+    {
+        Path directory = Files.createTempDirectory("file-status-cache");
+        try {
+            TrinoFileSystem fileSystem = new MemoryFileSystem();
+            createFile(fileSystem, PARTITION_LOCATION.appendPath("file1"));
+            Location unversionedLocation = Location.of("memory:///other");
+            createFile(fileSystem, unversionedLocation.appendPath("file1"));
+
+            CachingDirectoryLister lister = createLister(Optional.of(directory));
+            assertThat(list(lister, fileSystem, partition("1000"))).containsExactly("file1");
+            assertThat(listFiles(lister.listFilesRecursively(fileSystem, TABLE, unversionedLocation))).containsExactly("file1");
+            lister.persist();
+
+            CachingDirectoryLister restoredLister = createLister(Optional.of(directory));
+            restoredLister.restore();
+            assertThat(restoredLister.isCached(PARTITION_LOCATION)).isTrue();
+            // listings without a validity token are not persisted
+            assertThat(restoredLister.isCached(unversionedLocation)).isFalse();
+
+            createFile(fileSystem, PARTITION_LOCATION.appendPath("file2"));
+            assertThat(list(restoredLister, fileSystem, partition("1000"))).containsExactly("file1");
+            assertThat(list(restoredLister, fileSystem, partition("2000"))).containsExactlyInAnyOrder("file1", "file2");
+
+            // a restored listing is not used when the partition is unknown, as it cannot be validated
+            CachingDirectoryLister uncheckedLister = createLister(Optional.of(directory));
+            uncheckedLister.restore();
+            assertThat(uncheckedLister.isCached(PARTITION_LOCATION)).isTrue();
+            assertThat(listFiles(uncheckedLister.listFilesRecursively(fileSystem, TABLE, PARTITION_LOCATION))).containsExactlyInAnyOrder("file1", "file2");
+
+            // a missing or corrupted file does not fail startup
+            Files.write(directory.resolve("file-status-cache.bin"), new byte[] {1, 2, 3});
+            CachingDirectoryLister corruptedLister = createLister(Optional.of(directory));
+            corruptedLister.restore();
+            assertThat(corruptedLister.isCached(PARTITION_LOCATION)).isFalse();
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    public void testPersistenceOfLongPaths()
+            throws IOException
+    {
+        Path directory = Files.createTempDirectory("file-status-cache");
+        try {
+            TrinoFileSystem fileSystem = new MemoryFileSystem();
+            // longer than the 64kB supported by DataOutput.writeUTF
+            String fileName = "x".repeat(70_000);
+            createFile(fileSystem, PARTITION_LOCATION.appendPath(fileName));
+
+            CachingDirectoryLister lister = createLister(Optional.of(directory));
+            assertThat(list(lister, fileSystem, partition("1000"))).containsExactly(fileName);
+            lister.persist();
+
+            CachingDirectoryLister restoredLister = createLister(Optional.of(directory));
+            restoredLister.restore();
+            assertThat(restoredLister.isCached(PARTITION_LOCATION)).isTrue();
+            assertThat(list(restoredLister, fileSystem, partition("1000"))).containsExactly(fileName);
+            assertThat(restoredLister.getMissCount()).isEqualTo(0);
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    public void testPersistencePerCatalog()
+            throws IOException
+    {
+        Path directory = Files.createTempDirectory("file-status-cache");
+        try {
+            TrinoFileSystem fileSystem = new MemoryFileSystem();
+            createFile(fileSystem, PARTITION_LOCATION.appendPath("file1"));
+            HiveConfig config = new HiveConfig()
+                    .setFileStatusCacheTables(List.of("*"))
+                    .setFileStatusCachePersistenceDirectory(directory.toString());
+
+            CachingDirectoryLister lister = new CachingDirectoryLister(new CatalogName("first"), config);
+            assertThat(list(lister, fileSystem, partition("1000"))).containsExactly("file1");
+            lister.persist();
+            new CachingDirectoryLister(new CatalogName("second"), config).persist();
+
+            assertThat(directory.resolve("first").resolve("file-status-cache.bin")).exists();
+            assertThat(directory.resolve("second").resolve("file-status-cache.bin")).exists();
+
+            // a catalog sharing the directory does not restore the listings of another catalog
+            CachingDirectoryLister restoredLister = new CachingDirectoryLister(new CatalogName("first"), config);
+            restoredLister.restore();
+            assertThat(restoredLister.isCached(PARTITION_LOCATION)).isTrue();
+            CachingDirectoryLister otherLister = new CachingDirectoryLister(new CatalogName("second"), config);
+            otherLister.restore();
+            assertThat(otherLister.isCached(PARTITION_LOCATION)).isFalse();
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    private static CachingDirectoryLister createLister(Optional<Path> persistenceDirectory)
+    {
+        return new CachingDirectoryLister(new Duration(5, MINUTES), DataSize.of(1, MEGABYTE), List.of("*"), alwaysTrue(), persistenceDirectory, new Duration(5, MINUTES));
+    }
+
+    private static Partition partition(String lastDdlTime)
+    {
+        return Partition.builder()
+                .setDatabaseName(TABLE.getDatabaseName())
+                .setTableName(TABLE.getTableName())
+                .setValues(ImmutableList.of("1"))
+                .setColumns(TABLE.getDataColumns())
+                .withStorage(storage -> storage
+                        .setStorageFormat(StorageFormat.create("serde", "input", "output"))
+                        .setLocation(PARTITION_LOCATION.toString()))
+                .setParameters(ImmutableMap.of("transient_lastDdlTime", lastDdlTime))
+                .build();
+    }
+
+    private static List<String> list(CachingDirectoryLister lister, TrinoFileSystem fileSystem, Partition partition)
+            throws IOException
+    {
+        return listFiles(lister.listFilesRecursively(fileSystem, TABLE, Optional.of(partition), PARTITION_LOCATION));
+    }
+
+    private static List<String> listFiles(RemoteIterator<TrinoFileStatus> iterator)
+            throws IOException
+    {
+        List<String> files = new ArrayList<>();
+        while (iterator.hasNext()) {
+            files.add(Location.of(iterator.next().getPath()).fileName());
+        }
+        return files;
+    }
+
+    private static void createFile(TrinoFileSystem fileSystem, Location location)
+            throws IOException
+    {
+        fileSystem.newOutputFile(location).createOrOverwrite(new byte[] {1});
+    }
+}
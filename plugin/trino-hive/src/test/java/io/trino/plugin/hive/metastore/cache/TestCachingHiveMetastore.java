@@ -1119,6 +1119,7 @@ public class TestCachingHiveMetastore
                 1000,
                 CachingHiveMetastore.StatsRecording.ENABLED,
                 partitionCacheEnabled,
-                cacheMissing ? ImmutableSet.copyOf(CachingHiveMetastore.ObjectType.values()) : ImmutableSet.of());
+                cacheMissing ? ImmutableSet.copyOf(CachingHiveMetastore.ObjectType.values()) : ImmutableSet.of(),
+                100);
     }
 }
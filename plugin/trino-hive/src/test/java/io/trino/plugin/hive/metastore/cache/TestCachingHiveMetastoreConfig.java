@@ -44,7 +44,8 @@ public class TestCachingHiveMetastoreConfig
                 .setPartitionCacheEnabled(true)
                 .setCacheMissing(true)
                 .setCacheMissingPartitions(true)
-                .setCacheMissingStats(true));
+                .setCacheMissingStats(true)
+                .setPartitionLoadBatchSize(100));
     }
 
     @Test
@@ -60,6 +61,7 @@ public class TestCachingHiveMetastoreConfig
                 .put("hive.metastore-cache.cache-missing", "false")
                 .put("hive.metastore-cache.cache-missing-partitions", "false")
                 .put("hive.metastore-cache.cache-missing-stats", "false")
+                .put("hive.metastore-cache.partition-load-batch-size", "50")
                 .buildOrThrow();
 
         CachingHiveMetastoreConfig expected = new CachingHiveMetastoreConfig()
@@ -71,7 +73,8 @@ public class TestCachingHiveMetastoreConfig
                 .setPartitionCacheEnabled(false)
                 .setCacheMissing(false)
                 .setCacheMissingPartitions(false)
-                .setCacheMissingStats(false);
+                .setCacheMissingStats(false)
+                .setPartitionLoadBatchSize(50);
 
         assertFullMapping(properties, expected);
     }
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.metastore.cache;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCoalescingBulkLoader
+{
+    @Test
+    public void testBatching()
+            throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4, daemonThreadsNamed("test-bulk-loader-%s"));
+        try {
+            CoalescingBulkLoader<Integer, String> loader = new CoalescingBulkLoader<>(Optional.of(executor), 3);
+            List<Set<Integer>> loads = new CopyOnWriteArrayList<>();
+            Map<Integer, String> values = loader.load(valueHolders(1, 2, 3, 4, 5, 6, 7), null, keys -> {
+                loads.add(keys);
+                return load(keys);
+            });
+
+            assertThat(values).isEqualTo(load(ImmutableSet.of(1, 2, 3, 4, 5, 6, 7)));
+            assertThat(loads).hasSize(3);
+            assertThat(loads.stream().mapToInt(Set::size).sum()).isEqualTo(7);
+            assertThat(loader.getIssuedLoads().getTotalCount()).isEqualTo(3);
+            assertThat(loader.getLoadedKeys().getTotalCount()).isEqualTo(7);
+            assertThat(loader.getCoalescedKeys().getTotalCount()).isEqualTo(0);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalescing()
+            throws Exception
+    {
+        CoalescingBulkLoader<Integer, String> loader = new CoalescingBulkLoader<>(Optional.empty(), 100);
+        Map<Integer, AtomicReference<String>> valueHolders = valueHolders(1, 2);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch finishLoad = new CountDownLatch(1);
+        Function<Set<Integer>, Map<Integer, String>> blockingLoader = keys -> {
+            loadStarted.countDown();
+            try {
+                assertThat(finishLoad.await(10, SECONDS)).isTrue();
+            }
+            catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return load(keys);
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(daemonThreadsNamed("test-bulk-loader-%s"));
+        try {
+            Future<Map<Integer, String>> first = executor.submit(() -> loader.load(valueHolders, null, blockingLoader));
+            assertThat(loadStarted.await(10, SECONDS)).isTrue();
+
+            // the same entry loaded with a different context is not shared
+            assertThat(loader.load(ImmutableMap.of(1, valueHolders.get(1)), "other", TestCoalescingBulkLoader::load))
+                    .isEqualTo(ImmutableMap.of(1, "value1"));
+            // a new entry for the same key, for example after invalidation, is not shared
+            assertThat(loader.load(valueHolders(1), null, TestCoalescingBulkLoader::load))
+                    .isEqualTo(ImmutableMap.of(1, "value1"));
+            assertThat(loader.getIssuedLoads().getTotalCount()).isEqualTo(3);
+
+            Thread thread = new Thread(() -> {
+                // wait until the second caller joins the in-flight load
+                while (loader.getCoalescedKeys().getTotalCount() < 2) {
+                    Thread.onSpinWait();
+                }
+                finishLoad.countDown();
+            });
+            thread.start();
+            assertThat(loader.load(valueHolders, null, _ -> {
+                throw new AssertionError("keys should be loaded by the first caller");
+            })).isEqualTo(ImmutableMap.of(1, "value1", 2, "value2"));
+            assertThat(first.get(10, SECONDS)).isEqualTo(ImmutableMap.of(1, "value1", 2, "value2"));
+            assertThat(loader.getIssuedLoads().getTotalCount()).isEqualTo(3);
+            assertThat(loader.getCoalescedKeys().getTotalCount()).isEqualTo(2);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailure()
+    {
+        CoalescingBulkLoader<Integer, String> loader = new CoalescingBulkLoader<>(Optional.empty(), 1);
+        assertThatThrownBy(() -> loader.load(valueHolders(1, 2), null, _ -> {
+            throw new IllegalStateException("test failure");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("test failure");
+
+        // failed loads are not retained
+        assertThat(loader.load(valueHolders(1, 2), null, TestCoalescingBulkLoader::load))
+                .isEqualTo(ImmutableMap.of(1, "value1", 2, "value2"));
+    }
+
+    private static Map<Integer, AtomicReference<String>> valueHolders(Integer... keys)
+    {
+        return ImmutableSet.copyOf(keys).stream()
+                .collect(toImmutableMap(Function.identity(), _ -> new AtomicReference<>()));
+    }
+
+    private static Map<Integer, String> load(Set<Integer> keys)
+    {
+        return keys.stream()
+                .collect(toImmutableMap(Function.identity(), key -> "value" + key));
+    }
+}
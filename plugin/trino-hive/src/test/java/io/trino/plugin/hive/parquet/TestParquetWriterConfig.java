@@ -36,6 +36,8 @@ public class TestParquetWriterConfig
                 .setPageSize(DataSize.ofBytes(ParquetProperties.DEFAULT_PAGE_SIZE))
                 .setPageValueCount(ParquetWriterOptions.DEFAULT_MAX_PAGE_VALUE_COUNT)
                 .setBatchSize(ParquetWriterOptions.DEFAULT_BATCH_SIZE)
+                .setWriterParallelism(ParquetWriterOptions.DEFAULT_WRITER_PARALLELISM)
+                .setDictionaryMaxMemory(ParquetWriterOptions.DEFAULT_MAX_DICTIONARY_MEMORY)
                 .setValidationPercentage(5));
     }
 
@@ -62,6 +64,8 @@ public class TestParquetWriterConfig
                 "parquet.writer.page-size", "6MB",
                 "parquet.writer.page-value-count", "10000",
                 "parquet.writer.batch-size", "100",
+                "parquet.writer.parallelism", "8",
+                "parquet.writer.dictionary-max-memory", "4MB",
                 "parquet.writer.validation-percentage", "10");
 
         ParquetWriterConfig expected = new ParquetWriterConfig()
@@ -69,6 +73,8 @@ public class TestParquetWriterConfig
                 .setPageSize(DataSize.of(6, MEGABYTE))
                 .setPageValueCount(10_000)
                 .setBatchSize(100)
+                .setWriterParallelism(8)
+                .setDictionaryMaxMemory(DataSize.of(4, MEGABYTE))
                 .setValidationPercentage(10);
 
         assertFullMapping(properties, expected);
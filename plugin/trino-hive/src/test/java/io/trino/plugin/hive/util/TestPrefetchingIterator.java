@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.util;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPrefetchingIterator
+{
+    @Test
+    public void testOrder()
+    {
+        List<Integer> values = ImmutableList.of(1, 2, 3, 4, 5);
+        ExecutorService executor = Executors.newFixedThreadPool(2, daemonThreadsNamed("test-prefetching-iterator-%s"));
+        try {
+            List<Integer> result = new ArrayList<>();
+            new PrefetchingIterator<>(values.iterator(), executor).forEachRemaining(result::add);
+            assertThat(result).isEqualTo(values);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPrefetchesNextElement()
+    {
+        List<Integer> computed = new ArrayList<>();
+        Iterator<Integer> delegate = new AbstractIterator<>()
+        {
+            private int next;
+
+            @Override
+            protected Integer computeNext()
+            {
+                if (next == 3) {
+                    return endOfData();
+                }
+                computed.add(next);
+                return next++;
+            }
+        };
+
+        Iterator<Integer> iterator = new PrefetchingIterator<>(delegate, directExecutor());
+        assertThat(computed).isEmpty();
+        assertThat(iterator.next()).isEqualTo(0);
+        assertThat(computed).containsExactly(0, 1);
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(computed).containsExactly(0, 1, 2);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testSaturatedExecutor()
+    {
+        // tasks submitted to the executor never run, so the consumer must compute the elements itself
+        List<Integer> values = ImmutableList.of(1, 2, 3);
+        List<Integer> result = new ArrayList<>();
+        new PrefetchingIterator<>(values.iterator(), command -> {}).forEachRemaining(result::add);
+        assertThat(result).isEqualTo(values);
+    }
+
+    @Test
+    public void testFailure()
+    {
+        Iterator<Integer> delegate = new AbstractIterator<>()
+        {
+            @Override
+            protected Integer computeNext()
+            {
+                throw new IllegalStateException("test failure");
+            }
+        };
+
+        assertThatThrownBy(() -> new PrefetchingIterator<>(delegate, directExecutor()).next())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("test failure");
+    }
+}
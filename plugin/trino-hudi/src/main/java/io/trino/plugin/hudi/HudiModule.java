@@ -20,6 +20,8 @@ import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.Singleton;
 import io.trino.metastore.HiveMetastore;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCacheConfig;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.base.session.SessionPropertiesProvider;
 import io.trino.plugin.hive.HiveNodePartitioningProvider;
@@ -61,6 +63,8 @@ public class HudiModule
         binder.bind(HudiTableProperties.class).in(Scopes.SINGLETON);
 
         binder.bind(ConnectorSplitManager.class).to(HudiSplitManager.class).in(Scopes.SINGLETON);
+        binder.bind(HudiSplitSourceStats.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(HudiSplitSourceStats.class).withGeneratedName();
         binder.bind(ConnectorPageSourceProvider.class).to(HudiPageSourceProvider.class).in(Scopes.SINGLETON);
         binder.bind(ConnectorNodePartitioningProvider.class).to(HiveNodePartitioningProvider.class).in(Scopes.SINGLETON);
 
@@ -71,6 +75,9 @@ public class HudiModule
 
         binder.bind(FileFormatDataSourceStats.class).in(Scopes.SINGLETON);
         newExporter(binder).export(FileFormatDataSourceStats.class).withGeneratedName();
+        configBinder(binder).bindConfig(FooterCacheConfig.class, "hudi");
+        binder.bind(FooterCache.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(FooterCache.class).withGeneratedName();
 
         closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForHudiSplitManager.class));
         closingBinder(binder).registerExecutor(Key.get(ScheduledExecutorService.class, ForHudiSplitSource.class));
@@ -44,6 +44,7 @@ public class HudiSessionProperties
     private static final String COLUMNS_TO_HIDE = "columns_to_hide";
     private static final String USE_PARQUET_COLUMN_NAMES = "use_parquet_column_names";
     private static final String PARQUET_SMALL_FILE_THRESHOLD = "parquet_small_file_threshold";
+    private static final String PARQUET_MAX_READ_AHEAD_SIZE = "parquet_max_read_ahead_size";
     private static final String PARQUET_VECTORIZED_DECODING_ENABLED = "parquet_vectorized_decoding_enabled";
     private static final String SIZE_BASED_SPLIT_WEIGHTS_ENABLED = "size_based_split_weights_enabled";
     private static final String STANDARD_SPLIT_WEIGHT_SIZE = "standard_split_weight_size";
@@ -81,6 +82,11 @@ public class HudiSessionProperties
                         parquetReaderConfig.getSmallFileThreshold(),
                         value -> validateMaxDataSize(PARQUET_SMALL_FILE_THRESHOLD, value, DataSize.valueOf(PARQUET_READER_MAX_SMALL_FILE_THRESHOLD)),
                         false),
+                dataSizeProperty(
+                        PARQUET_MAX_READ_AHEAD_SIZE,
+                        "Parquet: Maximum size of the column chunks fetched ahead of the reader, 0 disables read-ahead",
+                        parquetReaderConfig.getMaxReadAheadSize(),
+                        false),
                 booleanProperty(
                         PARQUET_VECTORIZED_DECODING_ENABLED,
                         "Enable using Java Vector API for faster decoding of parquet files",
@@ -150,6 +156,11 @@ public class HudiSessionProperties
         return session.getProperty(PARQUET_SMALL_FILE_THRESHOLD, DataSize.class);
     }
 
+    public static DataSize getParquetMaxReadAheadSize(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_MAX_READ_AHEAD_SIZE, DataSize.class);
+    }
+
     public static boolean isParquetVectorizedDecodingEnabled(ConnectorSession session)
     {
         return session.getProperty(PARQUET_VECTORIZED_DECODING_ENABLED, Boolean.class);
@@ -57,6 +57,7 @@ public class HudiSplitManager
     private final TrinoFileSystemFactory fileSystemFactory;
     private final ExecutorService executor;
     private final ScheduledExecutorService splitLoaderExecutorService;
+    private final HudiSplitSourceStats splitSourceStats;
 
     @Inject
     public HudiSplitManager(
@@ -64,13 +65,15 @@ public class HudiSplitManager
             BiFunction<ConnectorIdentity, HiveTransactionHandle, HiveMetastore> metastoreProvider,
             @ForHudiSplitManager ExecutorService executor,
             TrinoFileSystemFactory fileSystemFactory,
-            @ForHudiSplitSource ScheduledExecutorService splitLoaderExecutorService)
+            @ForHudiSplitSource ScheduledExecutorService splitLoaderExecutorService,
+            HudiSplitSourceStats splitSourceStats)
     {
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.metastoreProvider = requireNonNull(metastoreProvider, "metastoreProvider is null");
         this.executor = requireNonNull(executor, "executor is null");
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.splitLoaderExecutorService = requireNonNull(splitLoaderExecutorService, "splitLoaderExecutorService is null");
+        this.splitSourceStats = requireNonNull(splitSourceStats, "splitSourceStats is null");
     }
 
     @Override
@@ -102,7 +105,8 @@ public class HudiSplitManager
                 splitLoaderExecutorService,
                 getMaxSplitsPerSecond(session),
                 getMaxOutstandingSplits(session),
-                partitions);
+                partitions,
+                splitSourceStats);
         return new ClassLoaderSafeConnectorSplitSource(splitSource, HudiSplitManager.class.getClassLoader());
     }
 
@@ -27,7 +27,6 @@ import io.trino.plugin.hudi.query.HudiReadOptimizedDirectoryLister;
 import io.trino.plugin.hudi.split.HudiBackgroundSplitLoader;
 import io.trino.plugin.hudi.split.HudiSplitWeightProvider;
 import io.trino.plugin.hudi.split.SizeBasedSplitWeightProvider;
-import io.trino.plugin.hudi.table.HudiTableMetaClient;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplit;
@@ -40,15 +39,19 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.airlift.concurrent.MoreFutures.toCompletableFuture;
+import static io.trino.plugin.hudi.HudiErrorCode.HUDI_CANNOT_OPEN_SPLIT;
 import static io.trino.plugin.hudi.HudiSessionProperties.getMinimumAssignedSplitWeight;
 import static io.trino.plugin.hudi.HudiSessionProperties.getSplitGeneratorParallelism;
 import static io.trino.plugin.hudi.HudiSessionProperties.getStandardSplitWeightSize;
 import static io.trino.plugin.hudi.HudiSessionProperties.isSizeBasedSplitWeightsEnabled;
 import static io.trino.plugin.hudi.HudiUtil.buildTableMetaClient;
+import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 public class HudiSplitSource
@@ -57,6 +60,9 @@ public class HudiSplitSource
     private final AsyncQueue<ConnectorSplit> queue;
     private final ScheduledFuture splitLoaderFuture;
     private final AtomicReference<TrinoException> trinoException = new AtomicReference<>();
+    private final HudiSplitSourceStats stats;
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean firstSplitReturned = new AtomicBoolean();
 
     public HudiSplitSource(
             ConnectorSession session,
@@ -69,20 +75,23 @@ public class HudiSplitSource
             ScheduledExecutorService splitLoaderExecutorService,
             int maxSplitsPerSecond,
             int maxOutstandingSplits,
-            List<String> partitions)
+            List<String> partitions,
+            HudiSplitSourceStats stats)
     {
-        HudiTableMetaClient metaClient = buildTableMetaClient(fileSystemFactory.create(session), tableHandle.getBasePath());
+        this.stats = requireNonNull(stats, "stats is null");
         List<HiveColumnHandle> partitionColumnHandles = table.getPartitionColumns().stream()
                 .map(column -> partitionColumnHandleMap.get(column.getName())).collect(toList());
 
-        HudiDirectoryLister hudiDirectoryLister = new HudiReadOptimizedDirectoryLister(
+        // the timeline and the file system view are loaded by the split loader, so that the splits are generated in the background
+        Supplier<HudiDirectoryLister> hudiDirectoryLister = () -> new HudiReadOptimizedDirectoryLister(
                 tableHandle,
-                metaClient,
+                buildTableMetaClient(fileSystemFactory.create(session), tableHandle.getBasePath()),
                 metastore,
                 table,
                 partitionColumnHandles,
                 partitions);
 
+        // the number of outstanding splits is bounded, so the split generators wait for the splits to be consumed
         this.queue = new ThrottledAsyncQueue<>(maxSplitsPerSecond, maxOutstandingSplits, executor);
         HudiBackgroundSplitLoader splitLoader = new HudiBackgroundSplitLoader(
                 session,
@@ -91,7 +100,9 @@ public class HudiSplitSource
                 queue,
                 new BoundedExecutor(executor, getSplitGeneratorParallelism(session)),
                 createSplitWeightProvider(session),
-                partitions);
+                partitions,
+                stats,
+                this::fail);
         this.splitLoaderFuture = splitLoaderExecutorService.schedule(splitLoader, 0, TimeUnit.MILLISECONDS);
     }
 
@@ -106,7 +117,14 @@ public class HudiSplitSource
 
         return toCompletableFuture(Futures.transform(
                 queue.getBatchAsync(maxSize),
-                splits -> new ConnectorSplitBatch(splits, noMoreSplits),
+                splits -> {
+                    // the queue is finished when the split loader fails
+                    checkFailure();
+                    if (!splits.isEmpty() && firstSplitReturned.compareAndSet(false, true)) {
+                        stats.recordTimeToFirstSplit(System.nanoTime() - startNanos);
+                    }
+                    return new ConnectorSplitBatch(splits, noMoreSplits);
+                },
                 directExecutor()));
     }
 
@@ -119,9 +137,29 @@ public class HudiSplitSource
     @Override
     public boolean isFinished()
     {
+        checkFailure();
         return splitLoaderFuture.isDone() && queue.isFinished();
     }
 
+    private void fail(Throwable throwable)
+    {
+        if (throwable instanceof TrinoException exception) {
+            trinoException.compareAndSet(null, exception);
+        }
+        else {
+            trinoException.compareAndSet(null, new TrinoException(HUDI_CANNOT_OPEN_SPLIT, "Error generating Hudi split", throwable));
+        }
+        queue.finish();
+    }
+
+    private void checkFailure()
+    {
+        TrinoException exception = trinoException.get();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
     private static HudiSplitWeightProvider createSplitWeightProvider(ConnectorSession session)
     {
         if (isSizeBasedSplitWeightsEnabled(session)) {
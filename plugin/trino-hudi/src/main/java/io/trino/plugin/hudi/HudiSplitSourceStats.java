@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hudi;
+
+import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
+import io.airlift.units.Duration;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class HudiSplitSourceStats
+{
+    private final TimeStat fileSystemViewLoadTime = new TimeStat(MILLISECONDS);
+    private final TimeStat partitionListingTime = new TimeStat(MILLISECONDS);
+    private final TimeStat timeToFirstSplit = new TimeStat(MILLISECONDS);
+    private final TimeStat splitLoadingTime = new TimeStat(MILLISECONDS);
+    private final CounterStat listedPartitions = new CounterStat();
+    private final CounterStat listedFiles = new CounterStat();
+
+    public void recordFileSystemViewLoad(long nanos)
+    {
+        fileSystemViewLoadTime.add(new Duration(nanos, NANOSECONDS));
+    }
+
+    public void recordPartitionListing(long nanos, int files)
+    {
+        partitionListingTime.add(new Duration(nanos, NANOSECONDS));
+        listedPartitions.update(1);
+        listedFiles.update(files);
+    }
+
+    public void recordTimeToFirstSplit(long nanos)
+    {
+        timeToFirstSplit.add(new Duration(nanos, NANOSECONDS));
+    }
+
+    public void recordSplitLoading(long nanos)
+    {
+        splitLoadingTime.add(new Duration(nanos, NANOSECONDS));
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getFileSystemViewLoadTime()
+    {
+        return fileSystemViewLoadTime;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getPartitionListingTime()
+    {
+        return partitionListingTime;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getTimeToFirstSplit()
+    {
+        return timeToFirstSplit;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getSplitLoadingTime()
+    {
+        return splitLoadingTime;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getListedPartitions()
+    {
+        return listedPartitions;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getListedFiles()
+    {
+        return listedFiles;
+    }
+}
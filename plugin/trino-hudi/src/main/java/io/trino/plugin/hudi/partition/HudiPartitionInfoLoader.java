@@ -17,6 +17,7 @@ import io.airlift.concurrent.MoreFutures;
 import io.trino.plugin.hive.HivePartitionKey;
 import io.trino.plugin.hive.util.AsyncQueue;
 import io.trino.plugin.hudi.HudiFileStatus;
+import io.trino.plugin.hudi.HudiSplitSourceStats;
 import io.trino.plugin.hudi.query.HudiDirectoryLister;
 import io.trino.plugin.hudi.split.HudiSplitFactory;
 import io.trino.spi.connector.ConnectorSplit;
@@ -34,19 +35,22 @@ public class HudiPartitionInfoLoader
     private final HudiSplitFactory hudiSplitFactory;
     private final AsyncQueue<ConnectorSplit> asyncQueue;
     private final Deque<String> partitionQueue;
+    private final HudiSplitSourceStats stats;
 
-    private boolean isRunning;
+    private volatile boolean isRunning;
 
     public HudiPartitionInfoLoader(
             HudiDirectoryLister hudiDirectoryLister,
             HudiSplitFactory hudiSplitFactory,
             AsyncQueue<ConnectorSplit> asyncQueue,
-            Deque<String> partitionQueue)
+            Deque<String> partitionQueue,
+            HudiSplitSourceStats stats)
     {
         this.hudiDirectoryLister = hudiDirectoryLister;
         this.hudiSplitFactory = hudiSplitFactory;
         this.asyncQueue = asyncQueue;
         this.partitionQueue = partitionQueue;
+        this.stats = stats;
         this.isRunning = true;
     }
 
@@ -68,7 +72,9 @@ public class HudiPartitionInfoLoader
         partitionInfo.ifPresent(hudiPartitionInfo -> {
             if (hudiPartitionInfo.doesMatchPredicates() || partitionName.equals(NON_PARTITION)) {
                 List<HivePartitionKey> partitionKeys = hudiPartitionInfo.getHivePartitionKeys();
+                long start = System.nanoTime();
                 List<HudiFileStatus> partitionFiles = hudiDirectoryLister.listStatus(hudiPartitionInfo);
+                stats.recordPartitionListing(System.nanoTime() - start, partitionFiles.size());
                 partitionFiles.stream()
                         .flatMap(fileStatus -> hudiSplitFactory.createSplits(partitionKeys, fileStatus).stream())
                         .map(asyncQueue::offer)
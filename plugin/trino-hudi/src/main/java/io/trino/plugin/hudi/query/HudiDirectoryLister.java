@@ -26,4 +26,7 @@ public interface HudiDirectoryLister
     List<HudiFileStatus> listStatus(HudiPartitionInfo partitionInfo);
 
     Optional<HudiPartitionInfo> getPartitionInfo(String partition);
+
+    @Override
+    void close();
 }
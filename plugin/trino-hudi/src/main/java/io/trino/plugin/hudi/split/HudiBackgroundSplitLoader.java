@@ -15,10 +15,10 @@ package io.trino.plugin.hudi.split;
 
 import com.google.common.util.concurrent.Futures;
 import io.trino.plugin.hive.util.AsyncQueue;
+import io.trino.plugin.hudi.HudiSplitSourceStats;
 import io.trino.plugin.hudi.HudiTableHandle;
 import io.trino.plugin.hudi.partition.HudiPartitionInfoLoader;
 import io.trino.plugin.hudi.query.HudiDirectoryLister;
-import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplit;
 
@@ -29,66 +29,90 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static io.trino.plugin.hudi.HudiErrorCode.HUDI_CANNOT_OPEN_SPLIT;
 import static io.trino.plugin.hudi.HudiSessionProperties.getSplitGeneratorParallelism;
 import static java.util.Objects.requireNonNull;
 
 public class HudiBackgroundSplitLoader
         implements Runnable
 {
-    private final HudiDirectoryLister hudiDirectoryLister;
+    private final Supplier<HudiDirectoryLister> hudiDirectoryListerSupplier;
     private final AsyncQueue<ConnectorSplit> asyncQueue;
     private final Executor splitGeneratorExecutor;
     private final int splitGeneratorNumThreads;
     private final HudiSplitFactory hudiSplitFactory;
     private final List<String> partitions;
+    private final HudiSplitSourceStats stats;
+    private final Consumer<Throwable> errorListener;
 
     public HudiBackgroundSplitLoader(
             ConnectorSession session,
             HudiTableHandle tableHandle,
-            HudiDirectoryLister hudiDirectoryLister,
+            Supplier<HudiDirectoryLister> hudiDirectoryListerSupplier,
             AsyncQueue<ConnectorSplit> asyncQueue,
             Executor splitGeneratorExecutor,
             HudiSplitWeightProvider hudiSplitWeightProvider,
-            List<String> partitions)
+            List<String> partitions,
+            HudiSplitSourceStats stats,
+            Consumer<Throwable> errorListener)
     {
-        this.hudiDirectoryLister = requireNonNull(hudiDirectoryLister, "hudiDirectoryLister is null");
+        this.hudiDirectoryListerSupplier = requireNonNull(hudiDirectoryListerSupplier, "hudiDirectoryListerSupplier is null");
         this.asyncQueue = requireNonNull(asyncQueue, "asyncQueue is null");
         this.splitGeneratorExecutor = requireNonNull(splitGeneratorExecutor, "splitGeneratorExecutorService is null");
         this.splitGeneratorNumThreads = getSplitGeneratorParallelism(session);
         this.hudiSplitFactory = new HudiSplitFactory(tableHandle, hudiSplitWeightProvider);
         this.partitions = requireNonNull(partitions, "partitions is null");
+        this.stats = requireNonNull(stats, "stats is null");
+        this.errorListener = requireNonNull(errorListener, "errorListener is null");
     }
 
     @Override
     public void run()
     {
+        long start = System.nanoTime();
         Deque<String> partitionQueue = new ConcurrentLinkedDeque<>(partitions);
-        List<HudiPartitionInfoLoader> splitGeneratorList = new ArrayList<>();
-        List<Future> splitGeneratorFutures = new ArrayList<>();
+        try (HudiDirectoryLister hudiDirectoryLister = hudiDirectoryListerSupplier.get()) {
+            stats.recordFileSystemViewLoad(System.nanoTime() - start);
 
-        // Start a number of partition split generators to generate the splits in parallel
-        for (int i = 0; i < splitGeneratorNumThreads; i++) {
-            HudiPartitionInfoLoader generator = new HudiPartitionInfoLoader(hudiDirectoryLister, hudiSplitFactory, asyncQueue, partitionQueue);
-            splitGeneratorList.add(generator);
-            splitGeneratorFutures.add(Futures.submit(generator, splitGeneratorExecutor));
-        }
+            List<HudiPartitionInfoLoader> splitGeneratorList = new ArrayList<>();
+            List<Future> splitGeneratorFutures = new ArrayList<>();
 
-        for (HudiPartitionInfoLoader generator : splitGeneratorList) {
-            // Let the split generator stop once the partition queue is empty
-            generator.stopRunning();
-        }
+            // Start a number of partition split generators to list the partitions and generate the splits in parallel
+            for (int i = 0; i < splitGeneratorNumThreads; i++) {
+                HudiPartitionInfoLoader generator = new HudiPartitionInfoLoader(hudiDirectoryLister, hudiSplitFactory, asyncQueue, partitionQueue, stats);
+                splitGeneratorList.add(generator);
+                splitGeneratorFutures.add(Futures.submit(generator, splitGeneratorExecutor));
+            }
 
-        // Wait for all split generators to finish
-        for (Future future : splitGeneratorFutures) {
-            try {
-                future.get();
+            for (HudiPartitionInfoLoader generator : splitGeneratorList) {
+                // Let the split generator stop once the partition queue is empty
+                generator.stopRunning();
             }
-            catch (InterruptedException | ExecutionException e) {
-                throw new TrinoException(HUDI_CANNOT_OPEN_SPLIT, "Error generating Hudi split", e);
+
+            // Wait for all split generators to finish
+            for (Future future : splitGeneratorFutures) {
+                future.get();
             }
+            asyncQueue.finish();
+        }
+        catch (ExecutionException e) {
+            // Let the other split generators stop once their current partition is done
+            partitionQueue.clear();
+            errorListener.accept(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            partitionQueue.clear();
+            errorListener.accept(e);
+        }
+        catch (Throwable e) {
+            partitionQueue.clear();
+            errorListener.accept(e);
+        }
+        finally {
+            stats.recordSplitLoading(System.nanoTime() - start);
         }
-        asyncQueue.finish();
     }
 }
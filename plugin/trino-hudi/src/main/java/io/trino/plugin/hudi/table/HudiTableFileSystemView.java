@@ -55,6 +55,7 @@ import java.util.stream.Stream;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static io.trino.plugin.hudi.HudiErrorCode.HUDI_BAD_DATA;
 import static io.trino.plugin.hudi.files.FSUtils.LOG_FILE_PATTERN;
 import static io.trino.plugin.hudi.files.FSUtils.getPartitionLocation;
@@ -71,10 +72,9 @@ public class HudiTableFileSystemView
     // For the common-case, we allow concurrent read of single or multiple partitions
     private final ReentrantReadWriteLock globalLock = new ReentrantReadWriteLock();
     private final ReentrantReadWriteLock.ReadLock readLock = globalLock.readLock();
-    // Used to concurrently load and populate partition views
-    private final ConcurrentHashMap<String, Boolean> addedPartitions = new ConcurrentHashMap<>(4096);
     private final HudiTableMetaClient metaClient;
     private final HudiTimeline visibleCommitsAndCompactionTimeline;
+    private final Set<String> pendingReplaceInstants;
 
     private boolean closed;
     private Map<String, List<HudiFileGroup>> partitionToFileGroupsMap;
@@ -90,6 +90,11 @@ public class HudiTableFileSystemView
         resetPendingCompactionOperations(getAllPendingCompactionOperations(metaClient)
                 .values().stream()
                 .map(pair -> Map.entry(pair.getKey(), CompactionOperation.convertFromAvroRecordInstance(pair.getValue()))));
+        this.pendingReplaceInstants = metaClient.getActiveTimeline()
+                .filterPendingReplaceTimeline()
+                .getInstants()
+                .map(HudiInstant::getTimestamp)
+                .collect(toImmutableSet());
     }
 
     private static Map<HudiFileGroupId, Entry<String, HudiCompactionOperation>> getAllPendingCompactionOperations(
@@ -248,36 +253,33 @@ public class HudiTableFileSystemView
         return partitionStr.endsWith("/") ? partitionStr.substring(0, partitionStr.length() - 1) : partitionStr;
     }
 
-    private void ensurePartitionLoadedCorrectly(String partition)
+    private void ensurePartitionLoadedCorrectly(String partitionPathStr)
     {
         checkState(!isClosed(), "View is already closed");
 
-        addedPartitions.computeIfAbsent(partition, (partitionPathStr) -> {
-            long beginTs = System.currentTimeMillis();
-            if (!isPartitionAvailableInStore(partitionPathStr)) {
-                // Not loaded yet
-                try {
-                    LOG.debug("Building file system view for partition (%s)", partitionPathStr);
+        // The partition is listed without holding a lock, so that the split generators list different partitions concurrently.
+        // Each partition is requested by a single split generator, so a partition is not listed twice in practice.
+        if (isPartitionAvailableInStore(partitionPathStr)) {
+            LOG.debug("View already built for Partition :%s, FOUND is ", partitionPathStr);
+            return;
+        }
+        long beginTs = System.currentTimeMillis();
+        try {
+            LOG.debug("Building file system view for partition (%s)", partitionPathStr);
 
-                    Location partitionLocation = getPartitionLocation(metaClient.getBasePath(), partitionPathStr);
-                    FileIterator partitionFiles = listPartition(partitionLocation);
-                    List<HudiFileGroup> groups = addFilesToView(partitionFiles);
+            Location partitionLocation = getPartitionLocation(metaClient.getBasePath(), partitionPathStr);
+            FileIterator partitionFiles = listPartition(partitionLocation);
+            List<HudiFileGroup> groups = addFilesToView(partitionFiles);
 
-                    if (groups.isEmpty()) {
-                        storePartitionView(partitionPathStr, new ArrayList<>());
-                    }
-                }
-                catch (IOException e) {
-                    throw new TrinoException(HUDI_BAD_DATA, "Failed to list base files in partition " + partitionPathStr, e);
-                }
+            if (groups.isEmpty()) {
+                storePartitionView(partitionPathStr, new ArrayList<>());
             }
-            else {
-                LOG.debug("View already built for Partition :%s, FOUND is ", partitionPathStr);
-            }
-            long endTs = System.currentTimeMillis();
-            LOG.debug("Time to load partition (%s) =%s", partitionPathStr, endTs - beginTs);
-            return true;
-        });
+        }
+        catch (IOException e) {
+            throw new TrinoException(HUDI_BAD_DATA, "Failed to list base files in partition " + partitionPathStr, e);
+        }
+        long endTs = System.currentTimeMillis();
+        LOG.debug("Time to load partition (%s) =%s", partitionPathStr, endTs - beginTs);
     }
 
     protected boolean isPartitionAvailableInStore(String partitionPath)
@@ -451,13 +453,7 @@ public class HudiTableFileSystemView
 
     private boolean isBaseFileDueToPendingClustering(HudiBaseFile baseFile)
     {
-        List<String> pendingReplaceInstants = metaClient.getActiveTimeline()
-                .filterPendingReplaceTimeline()
-                .getInstants()
-                .map(HudiInstant::getTimestamp)
-                .collect(toImmutableList());
-
-        return !pendingReplaceInstants.isEmpty() && pendingReplaceInstants.contains(baseFile.getCommitTime());
+        return pendingReplaceInstants.contains(baseFile.getCommitTime());
     }
 
     public boolean isClosed()
@@ -0,0 +1,214 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hudi.split;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.filesystem.Location;
+import io.trino.metastore.Partition;
+import io.trino.plugin.hive.HivePartitionKey;
+import io.trino.plugin.hive.parquet.ParquetReaderConfig;
+import io.trino.plugin.hive.util.AsyncQueue;
+import io.trino.plugin.hudi.HudiConfig;
+import io.trino.plugin.hudi.HudiFileStatus;
+import io.trino.plugin.hudi.HudiSessionProperties;
+import io.trino.plugin.hudi.HudiSplit;
+import io.trino.plugin.hudi.HudiSplitSourceStats;
+import io.trino.plugin.hudi.HudiTableHandle;
+import io.trino.plugin.hudi.partition.HudiPartitionInfo;
+import io.trino.plugin.hudi.query.HudiDirectoryLister;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorSplit;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.testing.TestingConnectorSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static io.trino.plugin.hudi.model.HudiTableType.COPY_ON_WRITE;
+import static io.trino.plugin.hudi.split.HudiSplitWeightProvider.uniformStandardWeightProvider;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TestHudiBackgroundSplitLoader
+{
+    private static final HudiTableHandle TABLE_HANDLE = new HudiTableHandle(
+            "test_schema",
+            "test_table",
+            "memory:///test_table",
+            COPY_ON_WRITE,
+            ImmutableList.of(),
+            TupleDomain.all(),
+            TupleDomain.all());
+
+    @Test
+    void testConcurrentPartitionListing()
+    {
+        List<String> partitions = ImmutableList.of("p1", "p2", "p3", "p4");
+        // every listing waits until all partitions are listed at the same time
+        CountDownLatch concurrentListings = new CountDownLatch(partitions.size());
+        TestingDirectoryLister lister = new TestingDirectoryLister(partition -> {
+            concurrentListings.countDown();
+            try {
+                if (!concurrentListings.await(10, SECONDS)) {
+                    throw new AssertionError("Partitions are not listed concurrently");
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            return ImmutableList.of(new HudiFileStatus(Location.of("memory:///test_table/%s/data.parquet".formatted(partition)), false, 10, 0, 100));
+        });
+
+        HudiSplitSourceStats stats = new HudiSplitSourceStats();
+        AsyncQueue<ConnectorSplit> queue = new AsyncQueue<>(100, directExecutor());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        runSplitLoader(partitions.size(), lister, queue, partitions, stats, failure);
+
+        assertThat(failure.get()).isNull();
+        assertThat(queue.isFinished()).isFalse();
+        assertThat(getFutureValue(queue.getBatchAsync(100)))
+                .map(split -> ((HudiSplit) split).getLocation())
+                .containsExactlyInAnyOrder(
+                        "memory:///test_table/p1/data.parquet",
+                        "memory:///test_table/p2/data.parquet",
+                        "memory:///test_table/p3/data.parquet",
+                        "memory:///test_table/p4/data.parquet");
+        assertThat(queue.isFinished()).isTrue();
+        assertThat(stats.getListedPartitions().getTotalCount()).isEqualTo(4);
+        assertThat(stats.getListedFiles().getTotalCount()).isEqualTo(4);
+        assertThat(lister.isClosed()).isTrue();
+    }
+
+    @Test
+    void testListingFailure()
+    {
+        RuntimeException listingFailure = new RuntimeException("listing failed");
+        TestingDirectoryLister lister = new TestingDirectoryLister(partition -> {
+            if (partition.equals("p2")) {
+                throw listingFailure;
+            }
+            return ImmutableList.of();
+        });
+
+        AsyncQueue<ConnectorSplit> queue = new AsyncQueue<>(100, directExecutor());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        runSplitLoader(2, lister, queue, ImmutableList.of("p1", "p2", "p3"), new HudiSplitSourceStats(), failure);
+
+        // the failure is reported to the split source, and the queue is not finished as if all splits were loaded
+        assertThat(failure.get()).isSameAs(listingFailure);
+        assertThat(queue.isFinished()).isFalse();
+        assertThat(lister.isClosed()).isTrue();
+    }
+
+    private static void runSplitLoader(
+            int splitGeneratorParallelism,
+            HudiDirectoryLister lister,
+            AsyncQueue<ConnectorSplit> queue,
+            List<String> partitions,
+            HudiSplitSourceStats stats,
+            AtomicReference<Throwable> failure)
+    {
+        ConnectorSession session = TestingConnectorSession.builder()
+                .setPropertyMetadata(new HudiSessionProperties(new HudiConfig().setSplitGeneratorParallelism(splitGeneratorParallelism), new ParquetReaderConfig()).getSessionProperties())
+                .build();
+        ExecutorService executor = newCachedThreadPool(daemonThreadsNamed("test-hudi-split-generator-%s"));
+        try {
+            new HudiBackgroundSplitLoader(
+                    session,
+                    TABLE_HANDLE,
+                    () -> lister,
+                    queue,
+                    executor,
+                    uniformStandardWeightProvider(),
+                    partitions,
+                    stats,
+                    throwable -> failure.compareAndSet(null, throwable))
+                    .run();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestingDirectoryLister
+            implements HudiDirectoryLister
+    {
+        private final Function<String, List<HudiFileStatus>> partitionFiles;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        public TestingDirectoryLister(Function<String, List<HudiFileStatus>> partitionFiles)
+        {
+            this.partitionFiles = partitionFiles;
+        }
+
+        @Override
+        public List<HudiFileStatus> listStatus(HudiPartitionInfo partitionInfo)
+        {
+            return partitionFiles.apply(partitionInfo.getRelativePartitionPath());
+        }
+
+        @Override
+        public Optional<HudiPartitionInfo> getPartitionInfo(String partition)
+        {
+            return Optional.of(new TestingPartitionInfo(partition));
+        }
+
+        @Override
+        public void close()
+        {
+            closed.set(true);
+        }
+
+        public boolean isClosed()
+        {
+            return closed.get();
+        }
+    }
+
+    private record TestingPartitionInfo(String partition)
+            implements HudiPartitionInfo
+    {
+        @Override
+        public String getRelativePartitionPath()
+        {
+            return partition;
+        }
+
+        @Override
+        public List<HivePartitionKey> getHivePartitionKeys()
+        {
+            return ImmutableList.of();
+        }
+
+        @Override
+        public boolean doesMatchPredicates()
+        {
+            return true;
+        }
+
+        @Override
+        public void loadPartitionInfo(Optional<Partition> hivePartition) {}
+    }
+}
@@ -94,6 +94,7 @@ public class IcebergConfig
     private boolean objectStoreLayoutEnabled;
     private int metadataParallelism = 8;
     private boolean bucketExecutionEnabled = true;
+    private DataSize deleteFileCacheMaxSize = DataSize.of(0, MEGABYTE);
 
     public CatalogType getCatalogType()
     {
@@ -562,4 +563,18 @@ public class IcebergConfig
         this.bucketExecutionEnabled = bucketExecutionEnabled;
         return this;
     }
+
+    @NotNull
+    public DataSize getDeleteFileCacheMaxSize()
+    {
+        return deleteFileCacheMaxSize;
+    }
+
+    @Config("iceberg.delete-file-cache.max-size")
+    @ConfigDescription("Maximum size of the worker cache of decoded position and equality delete files, 0 disables the cache")
+    public IcebergConfig setDeleteFileCacheMaxSize(DataSize deleteFileCacheMaxSize)
+    {
+        this.deleteFileCacheMaxSize = deleteFileCacheMaxSize;
+        return this;
+    }
 }
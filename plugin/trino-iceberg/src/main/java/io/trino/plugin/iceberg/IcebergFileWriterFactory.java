@@ -48,6 +48,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -68,8 +69,10 @@ import static io.trino.plugin.iceberg.IcebergSessionProperties.getOrcWriterMinSt
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getOrcWriterValidateMode;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterBatchSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterBlockSize;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterDictionaryMaxMemory;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterPageSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterPageValueCount;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterParallelism;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isOrcWriterValidate;
 import static io.trino.plugin.iceberg.IcebergTableProperties.ORC_BLOOM_FILTER_FPP_PROPERTY;
 import static io.trino.plugin.iceberg.IcebergUtil.getOrcBloomFilterColumns;
@@ -96,19 +99,22 @@ public class IcebergFileWriterFactory
     private final FileFormatDataSourceStats readStats;
     private final OrcWriterStats orcWriterStats = new OrcWriterStats();
     private final OrcWriterOptions orcWriterOptions;
+    private final ExecutorService writerExecutor;
 
     @Inject
     public IcebergFileWriterFactory(
             TypeManager typeManager,
             NodeVersion nodeVersion,
             FileFormatDataSourceStats readStats,
-            OrcWriterConfig orcWriterConfig)
+            OrcWriterConfig orcWriterConfig,
+            @ForIcebergFileWriters ExecutorService writerExecutor)
     {
         checkArgument(!orcWriterConfig.isUseLegacyVersion(), "the ORC writer shouldn't be configured to use a legacy version");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.nodeVersion = requireNonNull(nodeVersion, "nodeVersion is null");
         this.readStats = requireNonNull(readStats, "readStats is null");
         this.orcWriterOptions = orcWriterConfig.toOrcWriterOptions();
+        this.writerExecutor = requireNonNull(writerExecutor, "writerExecutor is null");
     }
 
     @Managed
@@ -174,6 +180,8 @@ public class IcebergFileWriterFactory
                     .setMaxBlockSize(getParquetWriterBlockSize(session))
                     .setBatchSize(getParquetWriterBatchSize(session))
                     .setBloomFilterColumns(getParquetBloomFilterColumns(storageProperties))
+                    .setWriterParallelism(getParquetWriterParallelism(session))
+                    .setMaxDictionaryMemory(getParquetWriterDictionaryMaxMemory(session))
                     .build();
 
             HiveCompressionCodec hiveCompressionCodec = getCompressionCodec(session);
@@ -189,7 +197,8 @@ public class IcebergFileWriterFactory
                     IntStream.range(0, fileColumnNames.size()).toArray(),
                     hiveCompressionCodec.getParquetCompressionCodec()
                             .orElseThrow(() -> new TrinoException(NOT_SUPPORTED, "Compression codec %s not supported for Parquet".formatted(hiveCompressionCodec))),
-                    nodeVersion.toString());
+                    nodeVersion.toString(),
+                    writerExecutor);
         }
         catch (IOException e) {
             throw new TrinoException(ICEBERG_WRITER_OPEN_ERROR, "Error creating Parquet file", e);
@@ -255,7 +264,8 @@ public class IcebergFileWriterFactory
                             .buildOrThrow(),
                     validationInputFactory,
                     getOrcWriterValidateMode(session),
-                    orcWriterStats);
+                    orcWriterStats,
+                    writerExecutor);
         }
         catch (IOException e) {
             throw new TrinoException(ICEBERG_WRITER_OPEN_ERROR, "Error creating ORC file", e);
@@ -22,6 +22,8 @@ import com.google.inject.Scopes;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
 import io.trino.filesystem.cache.CacheKeyProvider;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCacheConfig;
 import io.trino.plugin.base.classloader.ClassLoaderSafeConnectorPageSinkProvider;
 import io.trino.plugin.base.classloader.ClassLoaderSafeConnectorPageSourceProviderFactory;
 import io.trino.plugin.base.classloader.ClassLoaderSafeConnectorSplitManager;
@@ -39,6 +41,7 @@ import io.trino.plugin.hive.parquet.ParquetReaderConfig;
 import io.trino.plugin.hive.parquet.ParquetWriterConfig;
 import io.trino.plugin.iceberg.cache.IcebergCacheKeyProvider;
 import io.trino.plugin.iceberg.catalog.rest.DefaultIcebergFileSystemFactory;
+import io.trino.plugin.iceberg.delete.DeleteFileCache;
 import io.trino.plugin.iceberg.functions.IcebergFunctionProvider;
 import io.trino.plugin.iceberg.functions.tablechanges.TableChangesFunctionProcessorProviderFactory;
 import io.trino.plugin.iceberg.functions.tablechanges.TableChangesFunctionProvider;
@@ -116,10 +119,18 @@ public class IcebergModule
 
         binder.bind(FileFormatDataSourceStats.class).in(Scopes.SINGLETON);
         newExporter(binder).export(FileFormatDataSourceStats.class).withGeneratedName();
+        configBinder(binder).bindConfig(FooterCacheConfig.class, "iceberg");
+        binder.bind(FooterCache.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(FooterCache.class).withGeneratedName();
+        binder.bind(DeleteFileCache.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(DeleteFileCache.class).withGeneratedName();
 
         binder.bind(IcebergFileWriterFactory.class).in(Scopes.SINGLETON);
         newExporter(binder).export(IcebergFileWriterFactory.class).withGeneratedName();
 
+        binder.bind(IcebergSplitSourceStats.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(IcebergSplitSourceStats.class).withGeneratedName();
+
         binder.bind(IcebergEnvironmentContext.class).asEagerSingleton();
 
         Multibinder<Procedure> procedures = newSetBinder(binder, Procedure.class);
@@ -145,6 +156,7 @@ public class IcebergModule
         closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForIcebergMetadata.class));
         closingBinder(binder).registerExecutor(Key.get(ListeningExecutorService.class, ForIcebergSplitManager.class));
         closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForIcebergScanPlanning.class));
+        closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForIcebergFileWriters.class));
 
         binder.bind(IcebergConnector.class).in(Scopes.SINGLETON);
     }
@@ -177,4 +189,15 @@ public class IcebergModule
                 config.getSplitManagerThreads(),
                 daemonThreadsNamed("iceberg-split-manager-" + catalogName + "-%s"));
     }
+
+    @Provides
+    @Singleton
+    @ForIcebergFileWriters
+    public ExecutorService createFileWriterExecutor(CatalogName catalogName)
+    {
+        // shared by the ORC and Parquet writers, threads are only started for writers with parallelism greater than one
+        return newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                daemonThreadsNamed("iceberg-file-writer-" + catalogName + "-%s"));
+    }
 }
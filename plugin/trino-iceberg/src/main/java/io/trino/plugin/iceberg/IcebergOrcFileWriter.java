@@ -39,6 +39,7 @@ import java.lang.management.ThreadMXBean;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
@@ -81,7 +82,8 @@ public final class IcebergOrcFileWriter
             Map<String, String> metadata,
             Optional<Supplier<OrcDataSource>> validationInputFactory,
             OrcWriteValidationMode validationMode,
-            OrcWriterStats stats)
+            OrcWriterStats stats,
+            Executor writerExecutor)
     {
         requireNonNull(orcDataSink, "orcDataSink is null");
         this.rollbackAction = requireNonNull(rollbackAction, "rollbackAction is null");
@@ -102,7 +104,8 @@ public final class IcebergOrcFileWriter
                 metadata,
                 validationInputFactory.isPresent(),
                 validationMode,
-                stats);
+                stats,
+                writerExecutor);
         this.icebergSchema = requireNonNull(icebergSchema, "icebergSchema is null");
         this.metricsConfig = requireNonNull(metricsConfig, "metricsConfig is null");
         orcColumns = fileColumnOrcTypes;
@@ -14,6 +14,7 @@
 package io.trino.plugin.iceberg;
 
 import io.trino.plugin.hive.ReaderProjectionsAdapter;
+import io.trino.plugin.iceberg.delete.DeleteFileLoadStats;
 import io.trino.plugin.iceberg.delete.RowPredicate;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
@@ -44,6 +45,7 @@ public class IcebergPageSource
     private final ConnectorPageSource delegate;
     private final Optional<ReaderProjectionsAdapter> projectionsAdapter;
     private final Supplier<Optional<RowPredicate>> deletePredicate;
+    private final DeleteFileLoadStats deleteFileLoadStats;
     private final Function<Block, RowBlock> rowIdBlockFactory;
     // The $row_id's index in 'expectedColumns', or -1 if there isn't one
     // this column with contain row position populated in the source, and must be wrapped with constant data for full row id
@@ -56,6 +58,7 @@ public class IcebergPageSource
             ConnectorPageSource delegate,
             Optional<ReaderProjectionsAdapter> projectionsAdapter,
             Supplier<Optional<RowPredicate>> deletePredicate,
+            DeleteFileLoadStats deleteFileLoadStats,
             Function<Block, RowBlock> rowIdBlockFactory)
     {
         // expectedColumns should contain columns which should be in the final Page
@@ -76,6 +79,7 @@ public class IcebergPageSource
         this.delegate = requireNonNull(delegate, "delegate is null");
         this.projectionsAdapter = requireNonNull(projectionsAdapter, "projectionsAdapter is null");
         this.deletePredicate = requireNonNull(deletePredicate, "deletePredicate is null");
+        this.deleteFileLoadStats = requireNonNull(deleteFileLoadStats, "deleteFileLoadStats is null");
         this.rowIdBlockFactory = requireNonNull(rowIdBlockFactory, "rowIdBlockFactory is null");
     }
 
@@ -186,7 +190,7 @@ public class IcebergPageSource
     @Override
     public Metrics getMetrics()
     {
-        return delegate.getMetrics();
+        return delegate.getMetrics().mergeWith(deleteFileLoadStats.getMetrics());
     }
 
     protected void closeWithSuppression(Throwable throwable)
@@ -46,6 +46,8 @@ import io.trino.parquet.predicate.TupleDomainParquetPredicate;
 import io.trino.parquet.reader.MetadataReader;
 import io.trino.parquet.reader.ParquetReader;
 import io.trino.parquet.reader.RowGroupInfo;
+import io.trino.plugin.base.cache.FooterCache;
+import io.trino.plugin.base.cache.FooterCache.CachedFile;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.ReaderColumns;
 import io.trino.plugin.hive.ReaderPageSource;
@@ -55,6 +57,8 @@ import io.trino.plugin.hive.orc.OrcPageSource.ColumnAdaptation;
 import io.trino.plugin.hive.parquet.ParquetPageSource;
 import io.trino.plugin.iceberg.IcebergParquetColumnIOConverter.FieldContext;
 import io.trino.plugin.iceberg.delete.DeleteFile;
+import io.trino.plugin.iceberg.delete.DeleteFileCache;
+import io.trino.plugin.iceberg.delete.DeleteFileLoadStats;
 import io.trino.plugin.iceberg.delete.DeleteManager;
 import io.trino.plugin.iceberg.delete.RowPredicate;
 import io.trino.plugin.iceberg.fileio.ForwardingInputFile;
@@ -149,6 +153,7 @@ import static io.trino.plugin.iceberg.IcebergSessionProperties.getOrcMaxMergeDis
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getOrcMaxReadBlockSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getOrcStreamBufferSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getOrcTinyStripeThreshold;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetMaxReadAheadSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetMaxReadBlockRowCount;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetMaxReadBlockSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetSmallFileThreshold;
@@ -207,6 +212,8 @@ public class IcebergPageSourceProvider
     private final OrcReaderOptions orcReaderOptions;
     private final ParquetReaderOptions parquetReaderOptions;
     private final TypeManager typeManager;
+    private final Optional<FooterCache> footerCache;
+    private final DeleteFileCache deleteFileCache;
     private final DeleteManager unpartitionedTableDeleteManager;
     private final Map<Integer, Function<PartitionData, PartitionKey>> partitionKeyFactories = new ConcurrentHashMap<>();
     private final Map<PartitionKey, DeleteManager> partitionedDeleteManagers = new ConcurrentHashMap<>();
@@ -216,14 +223,18 @@ public class IcebergPageSourceProvider
             FileFormatDataSourceStats fileFormatDataSourceStats,
             OrcReaderOptions orcReaderOptions,
             ParquetReaderOptions parquetReaderOptions,
-            TypeManager typeManager)
+            TypeManager typeManager,
+            Optional<FooterCache> footerCache,
+            DeleteFileCache deleteFileCache)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.fileFormatDataSourceStats = requireNonNull(fileFormatDataSourceStats, "fileFormatDataSourceStats is null");
         this.orcReaderOptions = requireNonNull(orcReaderOptions, "orcReaderOptions is null");
         this.parquetReaderOptions = requireNonNull(parquetReaderOptions, "parquetReaderOptions is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
-        this.unpartitionedTableDeleteManager = new DeleteManager(typeManager);
+        this.footerCache = requireNonNull(footerCache, "footerCache is null");
+        this.deleteFileCache = requireNonNull(deleteFileCache, "deleteFileCache is null");
+        this.unpartitionedTableDeleteManager = new DeleteManager(typeManager, deleteFileCache);
     }
 
     @Override
@@ -353,6 +364,7 @@ public class IcebergPageSourceProvider
                 .map(readerColumns -> readerColumns.get().stream().map(IcebergColumnHandle.class::cast).collect(toList()))
                 .orElse(requiredColumns);
 
+        DeleteFileLoadStats deleteFileLoadStats = new DeleteFileLoadStats();
         Supplier<Optional<RowPredicate>> deletePredicate = memoize(() -> getDeleteManager(partitionSpec, partitionData)
                 .getDeletePredicate(
                         path,
@@ -361,7 +373,8 @@ public class IcebergPageSourceProvider
                         readColumns,
                         tableSchema,
                         readerPageSourceWithRowPositions,
-                        (deleteFile, deleteColumns, tupleDomain) -> openDeletes(session, fileSystem, deleteFile, deleteColumns, tupleDomain)));
+                        (deleteFile, deleteColumns, tupleDomain) -> openDeletes(session, fileSystem, deleteFile, deleteColumns, tupleDomain),
+                        deleteFileLoadStats));
 
         return new IcebergPageSource(
                 icebergColumns,
@@ -369,6 +382,7 @@ public class IcebergPageSourceProvider
                 dataPageSource.get(),
                 projectionsAdapter,
                 deletePredicate,
+                deleteFileLoadStats,
                 MergeRowIdBlockFactory.create(utf8Slice(inputfile.location().toString()), partitionSpec.specId(), utf8Slice(partitionDataJson)));
     }
 
@@ -389,7 +403,7 @@ public class IcebergPageSourceProvider
                 })
                 .apply(partitionData);
 
-        return partitionedDeleteManagers.computeIfAbsent(partitionKey, ignored -> new DeleteManager(typeManager));
+        return partitionedDeleteManagers.computeIfAbsent(partitionKey, ignored -> new DeleteManager(typeManager, deleteFileCache));
     }
 
     private record PartitionKey(int specId, StructLikeWrapper partitionData) {}
@@ -494,6 +508,8 @@ public class IcebergPageSourceProvider
             Optional<NameMapping> nameMapping,
             Map<Integer, Optional<String>> partitionKeys)
     {
+        // data files are never overwritten, so the location and size identify the footer
+        Optional<CachedFile> cachedFile = footerCache.map(cache -> cache.forFile(inputFile.location().toString(), fileSize, 0));
         return switch (fileFormat) {
             case ORC -> createOrcPageSource(
                     inputFile,
@@ -513,7 +529,8 @@ public class IcebergPageSourceProvider
                     fileFormatDataSourceStats,
                     typeManager,
                     nameMapping,
-                    partitionKeys);
+                    partitionKeys,
+                    cachedFile);
             case PARQUET -> createParquetPageSource(
                     inputFile,
                     start,
@@ -524,6 +541,7 @@ public class IcebergPageSourceProvider
                             .withMaxReadBlockSize(getParquetMaxReadBlockSize(session))
                             .withMaxReadBlockRowCount(getParquetMaxReadBlockRowCount(session))
                             .withSmallFileThreshold(getParquetSmallFileThreshold(session))
+                            .withMaxReadAheadSize(getParquetMaxReadAheadSize(session))
                             .withIgnoreStatistics(isParquetIgnoreStatistics(session))
                             .withBloomFilter(useParquetBloomFilter(session))
                             // TODO https://github.com/trinodb/trino/issues/11000
@@ -532,7 +550,8 @@ public class IcebergPageSourceProvider
                     predicate,
                     fileFormatDataSourceStats,
                     nameMapping,
-                    partitionKeys);
+                    partitionKeys,
+                    cachedFile);
             case AVRO -> createAvroPageSource(
                     inputFile,
                     start,
@@ -588,13 +607,14 @@ public class IcebergPageSourceProvider
             FileFormatDataSourceStats stats,
             TypeManager typeManager,
             Optional<NameMapping> nameMapping,
-            Map<Integer, Optional<String>> partitionKeys)
+            Map<Integer, Optional<String>> partitionKeys,
+            Optional<CachedFile> footerCache)
     {
         OrcDataSource orcDataSource = null;
         try {
             orcDataSource = new TrinoOrcDataSource(inputFile, options, stats);
 
-            OrcReader reader = OrcReader.createOrcReader(orcDataSource, options)
+            OrcReader reader = OrcReader.createOrcReader(orcDataSource, options, footerCache)
                     .orElseThrow(() -> new TrinoException(ICEBERG_BAD_DATA, "ORC file is zero length"));
 
             Map<Integer, OrcColumn> fileColumnsByIcebergId = fileColumnsByIcebergId(reader, nameMapping);
@@ -855,14 +875,15 @@ public class IcebergPageSourceProvider
             TupleDomain<IcebergColumnHandle> effectivePredicate,
             FileFormatDataSourceStats fileFormatDataSourceStats,
             Optional<NameMapping> nameMapping,
-            Map<Integer, Optional<String>> partitionKeys)
+            Map<Integer, Optional<String>> partitionKeys,
+            Optional<CachedFile> footerCache)
     {
         AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
 
         ParquetDataSource dataSource = null;
         try {
             dataSource = createDataSource(inputFile, OptionalLong.of(fileSize), options, memoryContext, fileFormatDataSourceStats);
-            ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource, Optional.empty());
+            ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource, Optional.empty(), footerCache);
             FileMetadata fileMetaData = parquetMetadata.getFileMetaData();
             MessageType fileSchema = fileMetaData.getSchema();
             if (nameMapping.isPresent() && !ParquetSchemaUtil.hasIds(fileSchema)) {
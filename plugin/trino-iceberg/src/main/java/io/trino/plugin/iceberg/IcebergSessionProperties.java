@@ -87,12 +87,15 @@ public final class IcebergSessionProperties
     private static final String PARQUET_USE_BLOOM_FILTER = "parquet_use_bloom_filter";
     private static final String PARQUET_MAX_READ_BLOCK_ROW_COUNT = "parquet_max_read_block_row_count";
     private static final String PARQUET_SMALL_FILE_THRESHOLD = "parquet_small_file_threshold";
+    private static final String PARQUET_MAX_READ_AHEAD_SIZE = "parquet_max_read_ahead_size";
     private static final String PARQUET_IGNORE_STATISTICS = "parquet_ignore_statistics";
     private static final String PARQUET_VECTORIZED_DECODING_ENABLED = "parquet_vectorized_decoding_enabled";
     private static final String PARQUET_WRITER_BLOCK_SIZE = "parquet_writer_block_size";
     private static final String PARQUET_WRITER_PAGE_SIZE = "parquet_writer_page_size";
     private static final String PARQUET_WRITER_PAGE_VALUE_COUNT = "parquet_writer_page_value_count";
     private static final String PARQUET_WRITER_BATCH_SIZE = "parquet_writer_batch_size";
+    private static final String PARQUET_WRITER_PARALLELISM = "parquet_writer_parallelism";
+    private static final String PARQUET_WRITER_DICTIONARY_MAX_MEMORY = "parquet_writer_dictionary_max_memory";
     public static final String DYNAMIC_FILTERING_WAIT_TIMEOUT = "dynamic_filtering_wait_timeout";
     private static final String STATISTICS_ENABLED = "statistics_enabled";
     public static final String EXTENDED_STATISTICS_ENABLED = "extended_statistics_enabled";
@@ -257,6 +260,11 @@ public final class IcebergSessionProperties
                         parquetReaderConfig.getSmallFileThreshold(),
                         value -> validateMaxDataSize(PARQUET_SMALL_FILE_THRESHOLD, value, DataSize.valueOf(PARQUET_READER_MAX_SMALL_FILE_THRESHOLD)),
                         false))
+                .add(dataSizeProperty(
+                        PARQUET_MAX_READ_AHEAD_SIZE,
+                        "Parquet: Maximum size of the column chunks fetched ahead of the reader, 0 disables read-ahead",
+                        parquetReaderConfig.getMaxReadAheadSize(),
+                        false))
                 .add(booleanProperty(
                         PARQUET_IGNORE_STATISTICS,
                         "Ignore statistics from Parquet to allow querying files with corrupted or incorrect statistics",
@@ -299,6 +307,21 @@ public final class IcebergSessionProperties
                         "Parquet: Maximum number of rows passed to the writer in each batch",
                         parquetWriterConfig.getBatchSize(),
                         false))
+                .add(integerProperty(
+                        PARQUET_WRITER_PARALLELISM,
+                        "Parquet: Maximum number of threads encoding and compressing the column chunks of a writer",
+                        parquetWriterConfig.getWriterParallelism(),
+                        value -> {
+                            if (value < 1) {
+                                throw new TrinoException(INVALID_SESSION_PROPERTY, format("%s must be greater than 0: %s", PARQUET_WRITER_PARALLELISM, value));
+                            }
+                        },
+                        false))
+                .add(dataSizeProperty(
+                        PARQUET_WRITER_DICTIONARY_MAX_MEMORY,
+                        "Parquet: Maximum memory used by the dictionaries of a writer",
+                        parquetWriterConfig.getDictionaryMaxMemory(),
+                        false))
                 .add(durationProperty(
                         DYNAMIC_FILTERING_WAIT_TIMEOUT,
                         "Duration to wait for completion of dynamic filters during split generation",
@@ -524,6 +547,11 @@ public final class IcebergSessionProperties
         return session.getProperty(PARQUET_SMALL_FILE_THRESHOLD, DataSize.class);
     }
 
+    public static DataSize getParquetMaxReadAheadSize(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_MAX_READ_AHEAD_SIZE, DataSize.class);
+    }
+
     public static boolean isParquetIgnoreStatistics(ConnectorSession session)
     {
         return session.getProperty(PARQUET_IGNORE_STATISTICS, Boolean.class);
@@ -554,6 +582,16 @@ public final class IcebergSessionProperties
         return session.getProperty(PARQUET_WRITER_BATCH_SIZE, Integer.class);
     }
 
+    public static int getParquetWriterParallelism(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_WRITER_PARALLELISM, Integer.class);
+    }
+
+    public static DataSize getParquetWriterDictionaryMaxMemory(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_WRITER_DICTIONARY_MAX_MEMORY, DataSize.class);
+    }
+
     public static boolean useParquetBloomFilter(ConnectorSession session)
     {
         return session.getProperty(PARQUET_USE_BLOOM_FILTER, Boolean.class);
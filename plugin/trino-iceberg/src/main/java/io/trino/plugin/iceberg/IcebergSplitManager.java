@@ -57,6 +57,7 @@ public class IcebergSplitManager
     private final ListeningExecutorService splitSourceExecutor;
     private final ExecutorService icebergPlanningExecutor;
     private final CachingHostAddressProvider cachingHostAddressProvider;
+    private final IcebergSplitSourceStats splitSourceStats;
 
     @Inject
     public IcebergSplitManager(
@@ -65,7 +66,8 @@ public class IcebergSplitManager
             IcebergFileSystemFactory fileSystemFactory,
             @ForIcebergSplitManager ListeningExecutorService splitSourceExecutor,
             @ForIcebergScanPlanning ExecutorService icebergPlanningExecutor,
-            CachingHostAddressProvider cachingHostAddressProvider)
+            CachingHostAddressProvider cachingHostAddressProvider,
+            IcebergSplitSourceStats splitSourceStats)
     {
         this.transactionManager = requireNonNull(transactionManager, "transactionManager is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
@@ -73,6 +75,7 @@ public class IcebergSplitManager
         this.splitSourceExecutor = requireNonNull(splitSourceExecutor, "splitSourceExecutor is null");
         this.icebergPlanningExecutor = requireNonNull(icebergPlanningExecutor, "icebergPlanningExecutor is null");
         this.cachingHostAddressProvider = requireNonNull(cachingHostAddressProvider, "cachingHostAddressProvider is null");
+        this.splitSourceStats = requireNonNull(splitSourceStats, "splitSourceStats is null");
     }
 
     @Override
@@ -112,6 +115,7 @@ public class IcebergSplitManager
                 table.isRecordScannedFiles(),
                 getMinimumAssignedSplitWeight(session),
                 cachingHostAddressProvider,
+                splitSourceStats,
                 splitSourceExecutor);
 
         return new ClassLoaderSafeConnectorSplitSource(splitSource, IcebergSplitManager.class.getClassLoader());
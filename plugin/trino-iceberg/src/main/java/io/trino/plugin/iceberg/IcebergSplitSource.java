@@ -59,6 +59,7 @@ import org.apache.iceberg.Table;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.ScanReport;
 import org.apache.iceberg.types.Type;
 
 import java.io.IOException;
@@ -170,6 +171,10 @@ public class IcebergSplitSource
     @GuardedBy("this")
     private long outputRowsLowerBound;
     private final CachingHostAddressProvider cachingHostAddressProvider;
+    private final IcebergSplitSourceStats stats;
+    private final long startNanos;
+    @GuardedBy("this")
+    private boolean returnedFirstSplit;
     private volatile boolean finished;
 
     public IcebergSplitSource(
@@ -186,6 +191,7 @@ public class IcebergSplitSource
             boolean recordScannedFiles,
             double minimumAssignedSplitWeight,
             CachingHostAddressProvider cachingHostAddressProvider,
+            IcebergSplitSourceStats stats,
             ListeningExecutorService executor)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
@@ -222,7 +228,9 @@ public class IcebergSplitSource
                 .collect(toImmutableSet());
         this.fileModifiedTimeDomain = getFileModifiedTimePathDomain(tableHandle.getEnforcedPredicate());
         this.cachingHostAddressProvider = requireNonNull(cachingHostAddressProvider, "cachingHostAddressProvider is null");
+        this.stats = requireNonNull(stats, "stats is null");
         this.executor = requireNonNull(executor, "executor is null");
+        this.startNanos = System.nanoTime();
     }
 
     @Override
@@ -267,7 +275,14 @@ public class IcebergSplitSource
             }
 
             Expression filterExpression = toIcebergExpression(effectivePredicate);
+            // Manifests are read in parallel on the scan planning executor and the file tasks are streamed to this split source.
+            // The scan report is delivered when the file scan iterable is closed.
             Scan scan = (Scan) tableScan.filter(filterExpression);
+            scan = (Scan) scan.metricsReporter(report -> {
+                if (report instanceof ScanReport scanReport) {
+                    stats.recordScanReport(scanReport);
+                }
+            });
             // Use stats to populate fileStatisticsDomain if there are predicated columns. Otherwise, skip them.
             if (!predicatedColumnIds.isEmpty()) {
                 Schema schema = tableScan.schema();
@@ -299,6 +314,10 @@ public class IcebergSplitSource
 
         List<ConnectorSplit> splits = new ArrayList<>(maxSize);
         while (splits.size() < maxSize && (fileTasksIterator.hasNext() || fileScanIterator.hasNext())) {
+            if (!returnedFirstSplit && !splits.isEmpty()) {
+                // Return the first splits as soon as they are available, instead of waiting for more manifests to be read
+                break;
+            }
             if (!fileTasksIterator.hasNext()) {
                 if (limit.isPresent() && limit.getAsLong() <= outputRowsLowerBound) {
                     finish();
@@ -316,6 +335,10 @@ public class IcebergSplitSource
             }
             splits.add(toIcebergSplit(fileTasksIterator.next()));
         }
+        if (!returnedFirstSplit && !splits.isEmpty()) {
+            returnedFirstSplit = true;
+            stats.recordTimeToFirstSplit(Duration.nanosSince(startNanos));
+        }
         if (!fileScanIterator.hasNext() && !fileTasksIterator.hasNext()) {
             finish();
         }
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg;
+
+import io.airlift.stats.CounterStat;
+import io.airlift.stats.TimeStat;
+import io.airlift.units.Duration;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class IcebergSplitSourceStats
+{
+    private final TimeStat timeToFirstSplit = new TimeStat(MILLISECONDS);
+    private final TimeStat manifestScanTime = new TimeStat(MILLISECONDS);
+    private final CounterStat scannedDataManifests = new CounterStat();
+    private final CounterStat skippedDataManifests = new CounterStat();
+    private final CounterStat scannedDeleteManifests = new CounterStat();
+    private final CounterStat skippedDeleteManifests = new CounterStat();
+    private final CounterStat resultDataFiles = new CounterStat();
+    private final CounterStat skippedDataFiles = new CounterStat();
+
+    public void recordTimeToFirstSplit(Duration duration)
+    {
+        timeToFirstSplit.add(duration);
+    }
+
+    public void recordScanReport(ScanReport report)
+    {
+        ScanMetricsResult metrics = report.scanMetrics();
+        TimerResult planningDuration = metrics.totalPlanningDuration();
+        if (planningDuration != null) {
+            manifestScanTime.add(new Duration(planningDuration.totalDuration().toNanos(), NANOSECONDS));
+        }
+        update(scannedDataManifests, metrics.scannedDataManifests());
+        update(skippedDataManifests, metrics.skippedDataManifests());
+        update(scannedDeleteManifests, metrics.scannedDeleteManifests());
+        update(skippedDeleteManifests, metrics.skippedDeleteManifests());
+        update(resultDataFiles, metrics.resultDataFiles());
+        update(skippedDataFiles, metrics.skippedDataFiles());
+    }
+
+    private static void update(CounterStat stat, CounterResult result)
+    {
+        if (result != null) {
+            stat.update(result.value());
+        }
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getTimeToFirstSplit()
+    {
+        return timeToFirstSplit;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getManifestScanTime()
+    {
+        return manifestScanTime;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getScannedDataManifests()
+    {
+        return scannedDataManifests;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getSkippedDataManifests()
+    {
+        return skippedDataManifests;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getScannedDeleteManifests()
+    {
+        return scannedDeleteManifests;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getSkippedDeleteManifests()
+    {
+        return skippedDeleteManifests;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getResultDataFiles()
+    {
+        return resultDataFiles;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getSkippedDataFiles()
+    {
+        return skippedDataFiles;
+    }
+}
@@ -14,15 +14,19 @@
 package io.trino.plugin.iceberg;
 
 import io.airlift.slice.Slice;
+import io.trino.filesystem.FileRange;
 import io.trino.filesystem.TrinoInput;
 import io.trino.filesystem.TrinoInputFile;
 import io.trino.orc.AbstractOrcDataSource;
+import io.trino.orc.DiskRange;
 import io.trino.orc.OrcDataSourceId;
 import io.trino.orc.OrcReaderOptions;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 
 import java.io.IOException;
+import java.util.List;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.util.Objects.requireNonNull;
 
 public class TrinoOrcDataSource
@@ -64,4 +68,16 @@ public class TrinoOrcDataSource
         input.readFully(position, buffer, bufferOffset, bufferLength);
         stats.readDataBytesPerSecond(bufferLength, System.nanoTime() - readStart);
     }
+
+    @Override
+    protected List<Slice> readInternal(List<DiskRange> diskRanges)
+            throws IOException
+    {
+        long readStart = System.nanoTime();
+        List<Slice> slices = input.readFully(diskRanges.stream()
+                .map(diskRange -> new FileRange(diskRange.getOffset(), diskRange.getLength()))
+                .collect(toImmutableList()));
+        stats.readDataBytesPerSecond(slices.stream().mapToLong(Slice::length).sum(), System.nanoTime() - readStart);
+        return slices;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg.delete;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import io.airlift.units.DataSize;
+import io.trino.cache.CacheStatsMBean;
+import io.trino.cache.EvictableCacheBuilder;
+import io.trino.plugin.iceberg.IcebergConfig;
+import io.trino.spi.type.Type;
+import org.apache.iceberg.util.StructLikeWrapper;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cache of decoded delete files, shared by all queries running on a worker.
+ * Delete files are never modified once written, so entries are keyed by the delete
+ * file location and do not need to be invalidated.
+ */
+public class DeleteFileCache
+{
+    private final boolean enabled;
+    private final Cache<DeleteFileKey, LoadedDeletes<?>> cache;
+    private final CacheStatsMBean cacheStats;
+
+    @Inject
+    public DeleteFileCache(IcebergConfig config)
+    {
+        this(config.getDeleteFileCacheMaxSize());
+    }
+
+    public DeleteFileCache(DataSize maxSize)
+    {
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = EvictableCacheBuilder.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Weigher<DeleteFileKey, LoadedDeletes<?>>) (key, value) -> toIntExact(min(key.getRetainedSizeInBytes() + value.sizeInBytes(), Integer.MAX_VALUE)))
+                .recordStats()
+                .build();
+        this.cacheStats = new CacheStatsMBean(cache);
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Returns the positions deleted by the delete file in the given data file. The returned
+     * bitmap is shared and must not be modified.
+     */
+    public Roaring64Bitmap getPositionDeletes(DeleteFile deleteFile, String dataFilePath, DeleteFileLoadStats stats, Supplier<Roaring64Bitmap> loader)
+    {
+        DeleteFileKey key = new DeleteFileKey(deleteFile.path(), Optional.of(dataFilePath), ImmutableList.of());
+        return get(key, deleteFile, stats, () -> {
+            Roaring64Bitmap deletedRows = loader.get();
+            deletedRows.runOptimize();
+            return new LoadedDeletes<>(deletedRows, deletedRows.getLongSizeInBytes());
+        });
+    }
+
+    /**
+     * Returns the rows deleted by the equality delete file, decoded with the given column types.
+     */
+    public Set<StructLikeWrapper> getEqualityDeletes(DeleteFile deleteFile, List<Type> columnTypes, DeleteFileLoadStats stats, Supplier<LoadedDeletes<Set<StructLikeWrapper>>> loader)
+    {
+        // the types are part of the key, as the decoded values depend on them after type promotion
+        DeleteFileKey key = new DeleteFileKey(deleteFile.path(), Optional.empty(), columnTypes);
+        return get(key, deleteFile, stats, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(DeleteFileKey key, DeleteFile deleteFile, DeleteFileLoadStats stats, Supplier<LoadedDeletes<T>> loader)
+    {
+        AtomicBoolean loaded = new AtomicBoolean();
+        LoadedDeletes<?> deletes;
+        try {
+            deletes = cache.get(key, () -> {
+                loaded.set(true);
+                return loader.get();
+            });
+        }
+        catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+        if (loaded.get()) {
+            stats.recordRead(deleteFile);
+        }
+        else {
+            stats.recordCached(deleteFile);
+        }
+        return (T) deletes.deletes();
+    }
+
+    @Managed
+    @Nested
+    public CacheStatsMBean getCacheStats()
+    {
+        return cacheStats;
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @param deletes decoded deletes, must not be modified once loaded
+     * @param sizeInBytes estimated memory used by the decoded deletes
+     */
+    public record LoadedDeletes<T>(T deletes, long sizeInBytes)
+    {
+        public LoadedDeletes
+        {
+            requireNonNull(deletes, "deletes is null");
+        }
+    }
+
+    private record DeleteFileKey(String deleteFilePath, Optional<String> dataFilePath, List<Type> columnTypes)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(DeleteFileKey.class);
+
+        private DeleteFileKey
+        {
+            requireNonNull(deleteFilePath, "deleteFilePath is null");
+            requireNonNull(dataFilePath, "dataFilePath is null");
+            columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
+        }
+
+        public long getRetainedSizeInBytes()
+        {
+            // the types are shared with the type manager
+            return INSTANCE_SIZE + estimatedSizeOf(deleteFilePath) + sizeOf(dataFilePath, value -> estimatedSizeOf(value));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg.delete;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.spi.metrics.Metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delete files loaded by a single page source, reported in the page source metrics.
+ */
+public class DeleteFileLoadStats
+{
+    public static final String DELETE_FILES_READ = "IcebergDeleteFilesRead";
+    public static final String DELETE_FILE_BYTES_READ = "IcebergDeleteFileBytesRead";
+    public static final String DELETE_FILES_CACHED = "IcebergDeleteFilesCached";
+    public static final String DELETE_FILE_BYTES_CACHED = "IcebergDeleteFileBytesCached";
+
+    private final AtomicLong filesRead = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong filesCached = new AtomicLong();
+    private final AtomicLong bytesCached = new AtomicLong();
+
+    public void recordRead(DeleteFile deleteFile)
+    {
+        filesRead.incrementAndGet();
+        bytesRead.addAndGet(deleteFile.fileSizeInBytes());
+    }
+
+    public void recordCached(DeleteFile deleteFile)
+    {
+        filesCached.incrementAndGet();
+        bytesCached.addAndGet(deleteFile.fileSizeInBytes());
+    }
+
+    public Metrics getMetrics()
+    {
+        if (filesRead.get() == 0 && filesCached.get() == 0) {
+            return Metrics.EMPTY;
+        }
+        return new Metrics(ImmutableMap.of(
+                DELETE_FILES_READ, new LongCount(filesRead.get()),
+                DELETE_FILE_BYTES_READ, new LongCount(bytesRead.get()),
+                DELETE_FILES_CACHED, new LongCount(filesCached.get()),
+                DELETE_FILE_BYTES_CACHED, new LongCount(bytesCached.get())));
+    }
+}
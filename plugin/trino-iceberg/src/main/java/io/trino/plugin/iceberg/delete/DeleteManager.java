@@ -31,7 +31,6 @@ import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.predicate.ValueSet;
 import io.trino.spi.type.TypeManager;
 import org.apache.iceberg.Schema;
-import org.roaringbitmap.longlong.LongBitmapDataProvider;
 import org.roaringbitmap.longlong.Roaring64Bitmap;
 
 import java.io.IOException;
@@ -61,11 +60,13 @@ import static org.apache.iceberg.MetadataColumns.DELETE_FILE_POS;
 public class DeleteManager
 {
     private final TypeManager typeManager;
+    private final DeleteFileCache deleteFileCache;
     private final Map<List<Integer>, EqualityDeleteFilterBuilder> equalityDeleteFiltersBySchema = new ConcurrentHashMap<>();
 
-    public DeleteManager(TypeManager typeManager)
+    public DeleteManager(TypeManager typeManager, DeleteFileCache deleteFileCache)
     {
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
+        this.deleteFileCache = requireNonNull(deleteFileCache, "deleteFileCache is null");
     }
 
     public Optional<RowPredicate> getDeletePredicate(
@@ -75,7 +76,8 @@ public class DeleteManager
             List<IcebergColumnHandle> readColumns,
             Schema tableSchema,
             ReaderPageSourceWithRowPositions readerPageSourceWithRowPositions,
-            DeletePageSourceProvider deletePageSourceProvider)
+            DeletePageSourceProvider deletePageSourceProvider,
+            DeleteFileLoadStats stats)
     {
         if (deleteFiles.isEmpty()) {
             return Optional.empty();
@@ -91,9 +93,9 @@ public class DeleteManager
             }
         }
 
-        Optional<RowPredicate> positionDeletes = createPositionDeleteFilter(dataFilePath, positionDeleteFiles, readerPageSourceWithRowPositions, deletePageSourceProvider)
+        Optional<RowPredicate> positionDeletes = createPositionDeleteFilter(dataFilePath, positionDeleteFiles, readerPageSourceWithRowPositions, deletePageSourceProvider, stats)
                 .map(filter -> filter.createPredicate(readColumns, dataSequenceNumber));
-        Optional<RowPredicate> equalityDeletes = createEqualityDeleteFilter(equalityDeleteFiles, tableSchema, deletePageSourceProvider).stream()
+        Optional<RowPredicate> equalityDeletes = createEqualityDeleteFilter(equalityDeleteFiles, tableSchema, deletePageSourceProvider, stats).stream()
                 .map(filter -> filter.createPredicate(readColumns, dataSequenceNumber))
                 .reduce(RowPredicate::and);
 
@@ -117,7 +119,8 @@ public class DeleteManager
             String dataFilePath,
             List<DeleteFile> positionDeleteFiles,
             ReaderPageSourceWithRowPositions readerPageSourceWithRowPositions,
-            DeletePageSourceProvider deletePageSourceProvider)
+            DeletePageSourceProvider deletePageSourceProvider,
+            DeleteFileLoadStats stats)
     {
         if (positionDeleteFiles.isEmpty()) {
             return Optional.empty();
@@ -131,21 +134,28 @@ public class DeleteManager
         IcebergColumnHandle deleteFilePath = getColumnHandle(DELETE_FILE_PATH, typeManager);
         IcebergColumnHandle deleteFilePos = getColumnHandle(DELETE_FILE_POS, typeManager);
         List<IcebergColumnHandle> deleteColumns = ImmutableList.of(deleteFilePath, deleteFilePos);
-        TupleDomain<IcebergColumnHandle> deleteDomain = TupleDomain.fromFixedValues(ImmutableMap.of(deleteFilePath, NullableValue.of(VARCHAR, targetPath)));
+        TupleDomain<IcebergColumnHandle> targetPathDomain = TupleDomain.fromFixedValues(ImmutableMap.of(deleteFilePath, NullableValue.of(VARCHAR, targetPath)));
+        TupleDomain<IcebergColumnHandle> deleteDomain = targetPathDomain;
         if (startRowPosition.isPresent()) {
             Range positionRange = Range.range(deleteFilePos.getType(), startRowPosition.get(), true, endRowPosition.get(), true);
             TupleDomain<IcebergColumnHandle> positionDomain = TupleDomain.withColumnDomains(ImmutableMap.of(deleteFilePos, Domain.create(ValueSet.ofRanges(positionRange), false)));
             deleteDomain = deleteDomain.intersect(positionDomain);
         }
 
-        LongBitmapDataProvider deletedRows = new Roaring64Bitmap();
+        Roaring64Bitmap deletedRows = new Roaring64Bitmap();
         for (DeleteFile deleteFile : positionDeleteFiles) {
             if (shouldLoadPositionDeleteFile(deleteFile, startRowPosition, endRowPosition)) {
-                try (ConnectorPageSource pageSource = deletePageSourceProvider.openDeletes(deleteFile, deleteColumns, deleteDomain)) {
-                    readPositionDeletes(pageSource, targetPath, deletedRows);
+                if (deleteFileCache.isEnabled()) {
+                    // Cache the deletes of the whole data file, so they can be used by all splits of the file
+                    deletedRows.or(deleteFileCache.getPositionDeletes(deleteFile, dataFilePath, stats, () -> {
+                        Roaring64Bitmap fileDeletedRows = new Roaring64Bitmap();
+                        readPositionDeleteFile(deleteFile, deleteColumns, targetPathDomain, targetPath, deletePageSourceProvider, fileDeletedRows);
+                        return fileDeletedRows;
+                    }));
                 }
-                catch (IOException e) {
-                    throw new UncheckedIOException(e);
+                else {
+                    stats.recordRead(deleteFile);
+                    readPositionDeleteFile(deleteFile, deleteColumns, deleteDomain, targetPath, deletePageSourceProvider, deletedRows);
                 }
             }
         }
@@ -156,6 +166,22 @@ public class DeleteManager
         return Optional.of(new PositionDeleteFilter(deletedRows));
     }
 
+    private static void readPositionDeleteFile(
+            DeleteFile deleteFile,
+            List<IcebergColumnHandle> deleteColumns,
+            TupleDomain<IcebergColumnHandle> deleteDomain,
+            Slice targetPath,
+            DeletePageSourceProvider deletePageSourceProvider,
+            Roaring64Bitmap deletedRows)
+    {
+        try (ConnectorPageSource pageSource = deletePageSourceProvider.openDeletes(deleteFile, deleteColumns, deleteDomain)) {
+            readPositionDeletes(pageSource, targetPath, deletedRows);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static boolean shouldLoadPositionDeleteFile(DeleteFile deleteFile, Optional<Long> startRowPosition, Optional<Long> endRowPosition)
     {
         if (startRowPosition.isEmpty()) {
@@ -168,7 +194,7 @@ public class DeleteManager
                 (positionUpperBound.isEmpty() || positionUpperBound.get() >= startRowPosition.get());
     }
 
-    private List<EqualityDeleteFilter> createEqualityDeleteFilter(List<DeleteFile> equalityDeleteFiles, Schema schema, DeletePageSourceProvider deletePageSourceProvider)
+    private List<EqualityDeleteFilter> createEqualityDeleteFilter(List<DeleteFile> equalityDeleteFiles, Schema schema, DeletePageSourceProvider deletePageSourceProvider, DeleteFileLoadStats stats)
     {
         if (equalityDeleteFiles.isEmpty()) {
             return List.of();
@@ -186,10 +212,10 @@ public class DeleteManager
                     .collect(toImmutableList());
 
             // each file can have a different set of columns for the equality delete, so we need to create a new builder for each set of columns
-            EqualityDeleteFilterBuilder builder = equalityDeleteFiltersBySchema.computeIfAbsent(fieldIds, _ -> EqualityDeleteFilter.builder(schemaFromHandles(deleteColumns)));
+            EqualityDeleteFilterBuilder builder = equalityDeleteFiltersBySchema.computeIfAbsent(fieldIds, _ -> EqualityDeleteFilter.builder(schemaFromHandles(deleteColumns), deleteFileCache));
             deleteFilters.add(builder);
 
-            ListenableFuture<?> loadFuture = builder.readEqualityDeletes(deleteFile, deleteColumns, deletePageSourceProvider);
+            ListenableFuture<?> loadFuture = builder.readEqualityDeletes(deleteFile, deleteColumns, deletePageSourceProvider, stats);
             if (loadFuture.state() != SUCCESS) {
                 pendingLoads.add(loadFuture);
             }
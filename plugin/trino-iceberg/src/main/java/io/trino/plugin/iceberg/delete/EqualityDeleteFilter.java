@@ -14,10 +14,12 @@
 package io.trino.plugin.iceberg.delete;
 
 import com.amazonaws.annotation.ThreadSafe;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListenableFutureTask;
 import io.trino.plugin.iceberg.IcebergColumnHandle;
+import io.trino.plugin.iceberg.delete.DeleteFileCache.LoadedDeletes;
 import io.trino.plugin.iceberg.delete.DeleteManager.DeletePageSourceProvider;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
@@ -32,9 +34,12 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.slice.SizeOf.instanceSize;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_CANNOT_OPEN_SPLIT;
 import static io.trino.plugin.iceberg.IcebergUtil.schemaFromHandles;
 import static java.util.Objects.requireNonNull;
@@ -42,6 +47,8 @@ import static java.util.Objects.requireNonNull;
 public final class EqualityDeleteFilter
         implements DeleteFilter
 {
+    private static final long ROW_INSTANCE_SIZE = instanceSize(StructLikeWrapper.class);
+
     private final Schema deleteSchema;
     private final Map<StructLikeWrapper, DataSequenceNumber> deletedRows;
 
@@ -74,44 +81,67 @@ public final class EqualityDeleteFilter
         };
     }
 
-    public static EqualityDeleteFilterBuilder builder(Schema deleteSchema)
+    public static EqualityDeleteFilterBuilder builder(Schema deleteSchema, DeleteFileCache deleteFileCache)
     {
-        return new EqualityDeleteFilterBuilder(deleteSchema);
+        return new EqualityDeleteFilterBuilder(deleteSchema, deleteFileCache);
     }
 
     @ThreadSafe
     public static class EqualityDeleteFilterBuilder
     {
         private final Schema deleteSchema;
+        private final DeleteFileCache deleteFileCache;
         private final Map<StructLikeWrapper, DataSequenceNumber> deletedRows;
         private final Map<String, ListenableFutureTask<?>> loadingFiles = new ConcurrentHashMap<>();
 
-        private EqualityDeleteFilterBuilder(Schema deleteSchema)
+        private EqualityDeleteFilterBuilder(Schema deleteSchema, DeleteFileCache deleteFileCache)
         {
             this.deleteSchema = requireNonNull(deleteSchema, "deleteSchema is null");
+            this.deleteFileCache = requireNonNull(deleteFileCache, "deleteFileCache is null");
             this.deletedRows = new ConcurrentHashMap<>();
         }
 
-        public ListenableFuture<?> readEqualityDeletes(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, DeletePageSourceProvider deletePageSourceProvider)
+        public ListenableFuture<?> readEqualityDeletes(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, DeletePageSourceProvider deletePageSourceProvider, DeleteFileLoadStats stats)
         {
             verify(deleteColumns.size() == deleteSchema.columns().size(), "delete columns size doesn't match delete schema size");
 
             // ensure only one thread loads the file
             ListenableFutureTask<?> futureTask = loadingFiles.computeIfAbsent(
                     deleteFile.path(),
-                    key -> ListenableFutureTask.create(() -> readEqualityDeletesInternal(deleteFile, deleteColumns, deletePageSourceProvider), null));
+                    key -> ListenableFutureTask.create(() -> readEqualityDeletesInternal(deleteFile, deleteColumns, deletePageSourceProvider, stats), null));
             futureTask.run();
             return Futures.nonCancellationPropagating(futureTask);
         }
 
-        private void readEqualityDeletesInternal(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, DeletePageSourceProvider deletePageSourceProvider)
+        private void readEqualityDeletesInternal(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, DeletePageSourceProvider deletePageSourceProvider, DeleteFileLoadStats stats)
         {
             DataSequenceNumber sequenceNumber = new DataSequenceNumber(deleteFile.dataSequenceNumber());
-            try (ConnectorPageSource pageSource = deletePageSourceProvider.openDeletes(deleteFile, deleteColumns, TupleDomain.all())) {
-                Type[] types = deleteColumns.stream()
-                        .map(IcebergColumnHandle::getType)
-                        .toArray(Type[]::new);
+            List<Type> types = deleteColumns.stream()
+                    .map(IcebergColumnHandle::getType)
+                    .collect(toImmutableList());
+
+            if (deleteFileCache.isEnabled()) {
+                Set<StructLikeWrapper> rows = deleteFileCache.getEqualityDeletes(deleteFile, types, stats, () -> {
+                    ImmutableSet.Builder<StructLikeWrapper> fileRows = ImmutableSet.builder();
+                    long[] sizeInBytes = new long[1];
+                    readRows(deleteFile, deleteColumns, types, deletePageSourceProvider, (row, rowSizeInBytes) -> {
+                        fileRows.add(row);
+                        sizeInBytes[0] += rowSizeInBytes;
+                    });
+                    return new LoadedDeletes<>(fileRows.build(), sizeInBytes[0]);
+                });
+                rows.forEach(row -> addDeletedRow(row, sequenceNumber));
+                return;
+            }
 
+            stats.recordRead(deleteFile);
+            readRows(deleteFile, deleteColumns, types, deletePageSourceProvider, (row, _) -> addDeletedRow(row, sequenceNumber));
+        }
+
+        private void readRows(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, List<Type> types, DeletePageSourceProvider deletePageSourceProvider, RowConsumer consumer)
+        {
+            try (ConnectorPageSource pageSource = deletePageSourceProvider.openDeletes(deleteFile, deleteColumns, TupleDomain.all())) {
+                Type[] typesArray = types.toArray(Type[]::new);
                 StructLikeWrapper wrapper = StructLikeWrapper.forType(deleteSchema.asStruct());
                 while (!pageSource.isFinished()) {
                     Page page = pageSource.getNextPage();
@@ -120,13 +150,8 @@ public final class EqualityDeleteFilter
                     }
 
                     for (int position = 0; position < page.getPositionCount(); position++) {
-                        TrinoRow row = new TrinoRow(types, page, position);
-                        deletedRows.merge(wrapper.copyFor(row), sequenceNumber, (existing, newValue) -> {
-                            if (existing.dataSequenceNumber() > newValue.dataSequenceNumber()) {
-                                return existing;
-                            }
-                            return newValue;
-                        });
+                        TrinoRow row = new TrinoRow(typesArray, page, position);
+                        consumer.accept(wrapper.copyFor(row), ROW_INSTANCE_SIZE + row.getEstimatedSizeInBytes());
                     }
                 }
             }
@@ -135,6 +160,16 @@ public final class EqualityDeleteFilter
             }
         }
 
+        private void addDeletedRow(StructLikeWrapper row, DataSequenceNumber sequenceNumber)
+        {
+            deletedRows.merge(row, sequenceNumber, (existing, newValue) -> {
+                if (existing.dataSequenceNumber() > newValue.dataSequenceNumber()) {
+                    return existing;
+                }
+                return newValue;
+            });
+        }
+
         /**
          * Builds the EqualityDeleteFilter.
          * After building the EqualityDeleteFilter, additional rows can be added to this builder, and the filter can be rebuilt.
@@ -145,5 +180,10 @@ public final class EqualityDeleteFilter
         }
     }
 
+    private interface RowConsumer
+    {
+        void accept(StructLikeWrapper row, long sizeInBytes);
+    }
+
     private record DataSequenceNumber(long dataSequenceNumber) {}
 }
@@ -17,14 +17,23 @@ import io.trino.spi.Page;
 import io.trino.spi.type.Type;
 import org.apache.iceberg.StructLike;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOfObjectArray;
 import static io.trino.plugin.iceberg.IcebergPageSink.getIcebergValue;
 
 final class TrinoRow
         implements StructLike
 {
+    private static final int INSTANCE_SIZE = instanceSize(TrinoRow.class);
+    private static final int BYTE_BUFFER_INSTANCE_SIZE = instanceSize(ByteBuffer.class);
+    // boxed primitives, decimals and temporal values
+    private static final int OTHER_VALUE_SIZE = 32;
+
     private final Object[] values;
 
     public TrinoRow(Type[] types, Page page, int position)
@@ -54,6 +63,23 @@ final class TrinoRow
         throw new UnsupportedOperationException();
     }
 
+    public long getEstimatedSizeInBytes()
+    {
+        long size = INSTANCE_SIZE + sizeOfObjectArray(values.length);
+        for (Object value : values) {
+            if (value instanceof String string) {
+                size += estimatedSizeOf(string);
+            }
+            else if (value instanceof ByteBuffer buffer) {
+                size += BYTE_BUFFER_INSTANCE_SIZE + buffer.capacity();
+            }
+            else if (value != null) {
+                size += OTHER_VALUE_SIZE;
+            }
+        }
+        return size;
+    }
+
     @Override
     public String toString()
     {
@@ -212,6 +212,7 @@ public class TestIcebergSplitSource
                 false,
                 new IcebergConfig().getMinimumAssignedSplitWeight(),
                 new DefaultCachingHostAddressProvider(),
+                new IcebergSplitSourceStats(),
                 newDirectExecutorService())) {
             ImmutableList.Builder<IcebergSplit> splits = ImmutableList.builder();
             while (!splitSource.isFinished()) {
@@ -232,6 +233,22 @@ public class TestIcebergSplitSource
         }
     }
 
+    @Test
+    public void testSplitSourceStats()
+            throws Exception
+    {
+        SchemaTableName schemaTableName = new SchemaTableName("tpch", "nation");
+        Table nationTable = catalog.loadTable(SESSION, schemaTableName);
+        IcebergTableHandle tableHandle = createTableHandle(schemaTableName, nationTable, TupleDomain.all());
+
+        IcebergSplitSourceStats stats = new IcebergSplitSourceStats();
+        generateSplit(nationTable, tableHandle, DynamicFilter.EMPTY, stats);
+        assertThat(stats.getTimeToFirstSplit().getAllTime().getCount()).isEqualTo(1);
+        assertThat(stats.getManifestScanTime().getAllTime().getCount()).isEqualTo(1);
+        assertThat(stats.getScannedDataManifests().getTotalCount()).isGreaterThan(0);
+        assertThat(stats.getResultDataFiles().getTotalCount()).isEqualTo(1);
+    }
+
     @Test
     public void testFileStatisticsDomain()
             throws Exception
@@ -442,6 +459,12 @@ public class TestIcebergSplitSource
 
     private IcebergSplit generateSplit(Table nationTable, IcebergTableHandle tableHandle, DynamicFilter dynamicFilter)
             throws Exception
+    {
+        return generateSplit(nationTable, tableHandle, dynamicFilter, new IcebergSplitSourceStats());
+    }
+
+    private IcebergSplit generateSplit(Table nationTable, IcebergTableHandle tableHandle, DynamicFilter dynamicFilter, IcebergSplitSourceStats stats)
+            throws Exception
     {
         try (IcebergSplitSource splitSource = new IcebergSplitSource(
                 new DefaultIcebergFileSystemFactory(fileSystemFactory),
@@ -457,6 +480,7 @@ public class TestIcebergSplitSource
                 false,
                 0,
                 new DefaultCachingHostAddressProvider(),
+                stats,
                 newDirectExecutorService())) {
             ImmutableList.Builder<IcebergSplit> builder = ImmutableList.builder();
             while (!splitSource.isFinished()) {
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg.delete;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.units.DataSize;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.spi.metrics.Metrics;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.util.StructLikeWrapper;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.plugin.iceberg.delete.DeleteFileLoadStats.DELETE_FILES_CACHED;
+import static io.trino.plugin.iceberg.delete.DeleteFileLoadStats.DELETE_FILES_READ;
+import static io.trino.plugin.iceberg.delete.DeleteFileLoadStats.DELETE_FILE_BYTES_CACHED;
+import static io.trino.plugin.iceberg.delete.DeleteFileLoadStats.DELETE_FILE_BYTES_READ;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDeleteFileCache
+{
+    private static final DeleteFile POSITION_DELETE_FILE = deleteFile(FileContent.POSITION_DELETES, "memory:///position-deletes.parquet", 100);
+    private static final DeleteFile EQUALITY_DELETE_FILE = deleteFile(FileContent.EQUALITY_DELETES, "memory:///equality-deletes.parquet", 200);
+
+    @Test
+    public void testDisabled()
+    {
+        assertThat(new DeleteFileCache(DataSize.of(0, MEGABYTE)).isEnabled()).isFalse();
+        assertThat(new DeleteFileCache(DataSize.of(1, MEGABYTE)).isEnabled()).isTrue();
+        assertThat(new DeleteFileLoadStats().getMetrics()).isEqualTo(Metrics.EMPTY);
+    }
+
+    @Test
+    public void testPositionDeletes()
+    {
+        DeleteFileCache cache = new DeleteFileCache(DataSize.of(1, MEGABYTE));
+        DeleteFileLoadStats stats = new DeleteFileLoadStats();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Roaring64Bitmap deletedRows = cache.getPositionDeletes(POSITION_DELETE_FILE, "memory:///data.parquet", stats, () -> {
+                loads.incrementAndGet();
+                return Roaring64Bitmap.bitmapOf(1, 5, 7);
+            });
+            assertThat(deletedRows.toArray()).containsExactly(1, 5, 7);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getCacheStats().getHitCount()).isEqualTo(2);
+        assertMetrics(stats, 1, 100, 2, 200);
+
+        // positions are cached separately for each data file
+        cache.getPositionDeletes(POSITION_DELETE_FILE, "memory:///other.parquet", stats, () -> {
+            loads.incrementAndGet();
+            return Roaring64Bitmap.bitmapOf(3);
+        });
+        assertThat(loads.get()).isEqualTo(2);
+        assertMetrics(stats, 2, 200, 2, 200);
+
+        cache.flushCache();
+        cache.getPositionDeletes(POSITION_DELETE_FILE, "memory:///data.parquet", stats, Roaring64Bitmap::new);
+        assertMetrics(stats, 3, 300, 2, 200);
+    }
+
+    @Test
+    public void testEqualityDeletes()
+    {
+        DeleteFileCache cache = new DeleteFileCache(DataSize.of(1, MEGABYTE));
+        DeleteFileLoadStats stats = new DeleteFileLoadStats();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(cache.getEqualityDeletes(EQUALITY_DELETE_FILE, List.of(BIGINT), stats, () -> {
+                loads.incrementAndGet();
+                return new DeleteFileCache.LoadedDeletes<>(ImmutableSet.<StructLikeWrapper>of(), 0);
+            })).isEmpty();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertMetrics(stats, 1, 200, 1, 200);
+
+        // the decoded rows depend on the column types
+        cache.getEqualityDeletes(EQUALITY_DELETE_FILE, List.of(VARCHAR), stats, () -> {
+            loads.incrementAndGet();
+            return new DeleteFileCache.LoadedDeletes<>(ImmutableSet.<StructLikeWrapper>of(), 0);
+        });
+        assertThat(loads.get()).isEqualTo(2);
+        assertMetrics(stats, 2, 400, 1, 200);
+    }
+
+    @Test
+    public void testEviction()
+    {
+        DeleteFileCache cache = new DeleteFileCache(DataSize.ofBytes(1));
+        DeleteFileLoadStats stats = new DeleteFileLoadStats();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.getPositionDeletes(POSITION_DELETE_FILE, "memory:///data.parquet", stats, () -> {
+                loads.incrementAndGet();
+                return Roaring64Bitmap.bitmapOf(1);
+            });
+        }
+        // entries larger than the cache are not retained
+        assertThat(loads.get()).isEqualTo(2);
+        assertMetrics(stats, 2, 200, 0, 0);
+    }
+
+    private static void assertMetrics(DeleteFileLoadStats stats, long filesRead, long bytesRead, long filesCached, long bytesCached)
+    {
+        assertThat(stats.getMetrics().getMetrics())
+                .containsEntry(DELETE_FILES_READ, new LongCount(filesRead))
+                .containsEntry(DELETE_FILE_BYTES_READ, new LongCount(bytesRead))
+                .containsEntry(DELETE_FILES_CACHED, new LongCount(filesCached))
+                .containsEntry(DELETE_FILE_BYTES_CACHED, new LongCount(bytesCached));
+    }
+
+    private static DeleteFile deleteFile(FileContent content, String path, long fileSizeInBytes)
+    {
+        return new DeleteFile(content, path, FileFormat.PARQUET, 10, fileSizeInBytes, ImmutableList.of(), Optional.empty(), Optional.empty(), 1);
+    }
+}
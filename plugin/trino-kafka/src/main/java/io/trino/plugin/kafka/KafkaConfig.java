@@ -45,6 +45,7 @@ public class KafkaConfig
     private String defaultSchema = "default";
     private boolean hideInternalColumns = true;
     private int messagesPerSplit = 100_000;
+    private int prefetchBatches = 2;
     private boolean timestampUpperBoundPushDownEnabled;
     private String tableDescriptionSupplier = FileTableDescriptionSupplier.NAME;
     private List<File> resourceConfigFiles = ImmutableList.of();
@@ -139,6 +140,20 @@ public class KafkaConfig
         return this;
     }
 
+    @Min(0)
+    public int getPrefetchBatches()
+    {
+        return prefetchBatches;
+    }
+
+    @Config("kafka.prefetch-batches")
+    @ConfigDescription("Number of polled message batches buffered ahead of the reader for each split, 0 disables prefetching")
+    public KafkaConfig setPrefetchBatches(int prefetchBatches)
+    {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
     public boolean isTimestampUpperBoundPushDownEnabled()
     {
         return timestampUpperBoundPushDownEnabled;
@@ -0,0 +1,207 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.kafka;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.classloader.ThreadContextClassLoader;
+import jakarta.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Polls the messages of a split on a separate thread, keeping a bounded number of polled batches
+ * ahead of the reader. The consumer is owned by the polling thread once the prefetcher is created,
+ * and is closed by it when the end of the split is reached or the prefetcher is closed.
+ */
+final class KafkaMessagePrefetcher
+        implements Closeable
+{
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final KafkaConsumer<byte[], byte[]> consumer;
+    private final TopicPartition topicPartition;
+    private final long endOffset;
+    private final BlockingQueue<MessageBatch> batches;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    // guarded by this, so that closing does not race with the accounting of the polling and reading threads
+    private long bufferedBytes;
+    private volatile boolean closed;
+
+    KafkaMessagePrefetcher(KafkaConsumer<byte[], byte[]> consumer, TopicPartition topicPartition, long endOffset, int bufferedBatches, Executor executor)
+    {
+        checkArgument(bufferedBatches > 0, "bufferedBatches must be greater than zero");
+        this.consumer = requireNonNull(consumer, "consumer is null");
+        this.topicPartition = requireNonNull(topicPartition, "topicPartition is null");
+        this.endOffset = endOffset;
+        this.batches = new ArrayBlockingQueue<>(bufferedBatches);
+        executor.execute(this::run);
+    }
+
+    /**
+     * Returns the next polled batch, or null if no batch became available within the poll interval.
+     */
+    @Nullable
+    public MessageBatch next()
+    {
+        checkFailure();
+        MessageBatch batch;
+        try {
+            batch = batches.poll(POLL_INTERVAL_MILLIS, MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RuntimeException(e);
+        }
+        if (batch == null) {
+            // the failure is recorded before the polling thread exits
+            checkFailure();
+            return null;
+        }
+        synchronized (this) {
+            if (!closed) {
+                bufferedBytes -= batch.sizeInBytes();
+            }
+        }
+        return batch;
+    }
+
+    public synchronized long getBufferedBytes()
+    {
+        return bufferedBytes;
+    }
+
+    @Override
+    public void close()
+    {
+        synchronized (this) {
+            closed = true;
+            batches.clear();
+            bufferedBytes = 0;
+        }
+        // interrupts a poll in progress, the polling thread closes the consumer
+        consumer.wakeup();
+    }
+
+    private void run()
+    {
+        try (ThreadContextClassLoader _ = new ThreadContextClassLoader(getClass().getClassLoader())) {
+            while (!closed) {
+                MessageBatch batch = poll(consumer, topicPartition, endOffset);
+                if (!batch.messages().isEmpty() || batch.last()) {
+                    put(batch);
+                }
+                if (batch.last()) {
+                    return;
+                }
+            }
+        }
+        catch (WakeupException e) {
+            if (!closed) {
+                failure.compareAndSet(null, e);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        }
+        catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+        finally {
+            consumer.close();
+        }
+    }
+
+    private void put(MessageBatch batch)
+            throws InterruptedException
+    {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            // counted before the batch becomes visible to the reader
+            bufferedBytes += batch.sizeInBytes();
+        }
+        while (!closed) {
+            if (batches.offer(batch, POLL_INTERVAL_MILLIS, MILLISECONDS)) {
+                return;
+            }
+        }
+    }
+
+    private void checkFailure()
+    {
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            close();
+            throwIfUnchecked(throwable);
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    /**
+     * Polls the consumer once, returning the messages before the end offset of the split.
+     */
+    static MessageBatch poll(KafkaConsumer<byte[], byte[]> consumer, TopicPartition topicPartition, long endOffset)
+    {
+        if (consumer.position(topicPartition) >= endOffset) {
+            return new MessageBatch(ImmutableList.of(), 0, true);
+        }
+        ImmutableList.Builder<ConsumerRecord<byte[], byte[]>> messages = ImmutableList.builder();
+        long sizeInBytes = 0;
+        boolean last = false;
+        for (ConsumerRecord<byte[], byte[]> message : consumer.poll(Duration.ofMillis(POLL_INTERVAL_MILLIS)).records(topicPartition)) {
+            if (message.offset() >= endOffset) {
+                last = true;
+                break;
+            }
+            messages.add(message);
+            sizeInBytes += max(message.serializedKeySize(), 0) + max(message.serializedValueSize(), 0);
+            if (message.offset() == endOffset - 1) {
+                last = true;
+            }
+        }
+        return new MessageBatch(messages.build(), sizeInBytes, last);
+    }
+
+    /**
+     * @param messages polled messages, in offset order
+     * @param sizeInBytes serialized size of the keys and values of the messages
+     * @param last whether the end of the split is reached
+     */
+    record MessageBatch(List<ConsumerRecord<byte[], byte[]>> messages, long sizeInBytes, boolean last)
+    {
+        MessageBatch
+        {
+            messages = ImmutableList.copyOf(requireNonNull(messages, "messages is null"));
+        }
+    }
+}
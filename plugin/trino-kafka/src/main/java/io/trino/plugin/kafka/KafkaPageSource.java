@@ -0,0 +1,313 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.kafka;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimap;
+import io.airlift.units.Duration;
+import io.trino.decoder.BatchRowDecoder;
+import io.trino.decoder.DecoderColumnHandle;
+import io.trino.decoder.RowDecoder;
+import io.trino.plugin.base.metrics.DurationTiming;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.plugin.kafka.KafkaInternalFieldManager.InternalFieldId;
+import io.trino.plugin.kafka.KafkaMessagePrefetcher.MessageBatch;
+import io.trino.spi.Page;
+import io.trino.spi.block.ArrayBlockBuilder;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.MapBlockBuilder;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.metrics.Metrics;
+import io.trino.spi.type.MapType;
+import io.trino.spi.type.Type;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.slice.Slices.wrappedBuffer;
+import static io.trino.plugin.kafka.KafkaMessagePrefetcher.poll;
+import static io.trino.spi.type.Timestamps.MICROSECONDS_PER_MILLISECOND;
+import static io.trino.spi.type.TypeUtils.writeNativeValue;
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Reads the messages of a split one consumer poll at a time. The key and message columns of all the polled
+ * messages are decoded in one batch directly into blocks. When prefetching is enabled, the consumer is polled
+ * on a separate thread while the previous batches are decoded.
+ */
+public class KafkaPageSource
+        implements ConnectorPageSource
+{
+    public static final String POLL_WAIT_TIME = "KafkaPollWaitTime";
+    public static final String POLLED_BATCHES = "KafkaPolledBatches";
+
+    private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+
+    private final TopicPartition topicPartition;
+    private final long endOffset;
+    private final KafkaConsumer<byte[], byte[]> kafkaConsumer;
+    private final Optional<KafkaMessagePrefetcher> prefetcher;
+
+    private final List<Type> columnTypes;
+    // null for the columns which are not internal
+    private final InternalFieldId[] internalFieldIds;
+    private final int[] keyChannels;
+    private final BatchRowDecoder keyDecoder;
+    private final int[] messageChannels;
+    private final BatchRowDecoder messageDecoder;
+
+    private long completedBytes;
+    private long completedPositions;
+    private long readTimeNanos;
+    private long polledBatches;
+    private boolean finished;
+
+    KafkaPageSource(
+            KafkaSplit split,
+            KafkaConsumerFactory consumerFactory,
+            ConnectorSession connectorSession,
+            List<KafkaColumnHandle> columnHandles,
+            RowDecoder keyDecoder,
+            RowDecoder messageDecoder,
+            KafkaInternalFieldManager kafkaInternalFieldManager,
+            int prefetchBatches,
+            Executor prefetchExecutor)
+    {
+        requireNonNull(split, "split is null");
+        requireNonNull(consumerFactory, "consumerFactory is null");
+        requireNonNull(connectorSession, "connectorSession is null");
+        requireNonNull(columnHandles, "columnHandles is null");
+        requireNonNull(keyDecoder, "keyDecoder is null");
+        requireNonNull(messageDecoder, "messageDecoder is null");
+        requireNonNull(kafkaInternalFieldManager, "kafkaInternalFieldManager is null");
+        requireNonNull(prefetchExecutor, "prefetchExecutor is null");
+
+        this.columnTypes = columnHandles.stream()
+                .map(KafkaColumnHandle::getType)
+                .collect(toImmutableList());
+        this.internalFieldIds = new InternalFieldId[columnHandles.size()];
+        ImmutableList.Builder<Integer> keyChannels = ImmutableList.builder();
+        ImmutableList.Builder<DecoderColumnHandle> keyColumns = ImmutableList.builder();
+        ImmutableList.Builder<Integer> messageChannels = ImmutableList.builder();
+        ImmutableList.Builder<DecoderColumnHandle> messageColumns = ImmutableList.builder();
+        for (int channel = 0; channel < columnHandles.size(); channel++) {
+            KafkaColumnHandle column = columnHandles.get(channel);
+            if (column.isInternal()) {
+                internalFieldIds[channel] = kafkaInternalFieldManager.getFieldByName(column.getName()).getInternalFieldId();
+            }
+            else if (column.isKeyCodec()) {
+                keyChannels.add(channel);
+                keyColumns.add(column);
+            }
+            else {
+                messageChannels.add(channel);
+                messageColumns.add(column);
+            }
+        }
+        this.keyChannels = keyChannels.build().stream().mapToInt(Integer::intValue).toArray();
+        this.keyDecoder = keyDecoder.createBatchRowDecoder(keyColumns.build());
+        this.messageChannels = messageChannels.build().stream().mapToInt(Integer::intValue).toArray();
+        this.messageDecoder = messageDecoder.createBatchRowDecoder(messageColumns.build());
+
+        this.topicPartition = new TopicPartition(split.getTopicName(), split.getPartitionId());
+        this.endOffset = split.getMessagesRange().end();
+        this.kafkaConsumer = consumerFactory.create(connectorSession);
+        kafkaConsumer.assign(ImmutableList.of(topicPartition));
+        kafkaConsumer.seek(topicPartition, split.getMessagesRange().begin());
+        this.prefetcher = prefetchBatches > 0
+                ? Optional.of(new KafkaMessagePrefetcher(kafkaConsumer, topicPartition, endOffset, prefetchBatches, prefetchExecutor))
+                : Optional.empty();
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return completedBytes;
+    }
+
+    @Override
+    public OptionalLong getCompletedPositions()
+    {
+        return OptionalLong.of(completedPositions);
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return finished;
+    }
+
+    @Override
+    public long getMemoryUsage()
+    {
+        return prefetcher.map(KafkaMessagePrefetcher::getBufferedBytes).orElse(0L);
+    }
+
+    @Override
+    public Metrics getMetrics()
+    {
+        return new Metrics(ImmutableMap.of(
+                POLL_WAIT_TIME, new DurationTiming(new Duration(readTimeNanos, NANOSECONDS)),
+                POLLED_BATCHES, new LongCount(polledBatches)));
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        if (finished) {
+            return null;
+        }
+
+        // with prefetching, this is only the time spent waiting for the polling thread
+        long start = System.nanoTime();
+        MessageBatch batch = prefetcher.isPresent()
+                ? prefetcher.get().next()
+                : poll(kafkaConsumer, topicPartition, endOffset);
+        readTimeNanos += System.nanoTime() - start;
+
+        if (batch == null) {
+            return null;
+        }
+        finished = batch.last();
+        if (batch.messages().isEmpty()) {
+            return null;
+        }
+        polledBatches++;
+        return decodeMessages(batch.messages());
+    }
+
+    private Page decodeMessages(List<ConsumerRecord<byte[], byte[]>> messages)
+    {
+        int positionCount = messages.size();
+        BlockBuilder[] blockBuilders = new BlockBuilder[columnTypes.size()];
+        for (int channel = 0; channel < blockBuilders.length; channel++) {
+            blockBuilders[channel] = columnTypes.get(channel).createBlockBuilder(null, positionCount);
+        }
+
+        List<byte[]> keys = new ArrayList<>(positionCount);
+        // tombstone message has null value body, which is not decoded
+        List<byte[]> values = new ArrayList<>(positionCount);
+        for (ConsumerRecord<byte[], byte[]> message : messages) {
+            keys.add(message.key() == null ? EMPTY_BYTE_ARRAY : message.key());
+            values.add(message.value());
+            completedBytes += max(message.serializedKeySize(), 0) + max(message.serializedValueSize(), 0);
+        }
+        boolean[] keyDecoded = keyDecoder.decodeRows(keys, selectBlockBuilders(blockBuilders, keyChannels));
+        boolean[] messageDecoded = messageDecoder.decodeRows(values, selectBlockBuilders(blockBuilders, messageChannels));
+
+        for (int channel = 0; channel < blockBuilders.length; channel++) {
+            InternalFieldId fieldId = internalFieldIds[channel];
+            if (fieldId == null) {
+                continue;
+            }
+            Type type = columnTypes.get(channel);
+            BlockBuilder output = blockBuilders[channel];
+            for (int position = 0; position < positionCount; position++) {
+                ConsumerRecord<byte[], byte[]> message = messages.get(position);
+                switch (fieldId) {
+                    case PARTITION_OFFSET_FIELD -> type.writeLong(output, message.offset());
+                    case MESSAGE_FIELD -> writeBytes(type, output, message.value());
+                    case MESSAGE_LENGTH_FIELD -> type.writeLong(output, message.value() == null ? 0 : message.value().length);
+                    case KEY_FIELD -> writeBytes(type, output, message.key());
+                    case KEY_LENGTH_FIELD -> type.writeLong(output, message.key() == null ? 0 : message.key().length);
+                    case OFFSET_TIMESTAMP_FIELD -> type.writeLong(output, message.timestamp() * MICROSECONDS_PER_MILLISECOND);
+                    case KEY_CORRUPT_FIELD -> type.writeBoolean(output, !keyDecoded[position]);
+                    case HEADERS_FIELD -> writeHeaders((MapType) type, output, message.headers());
+                    case MESSAGE_CORRUPT_FIELD -> type.writeBoolean(output, !messageDecoded[position]);
+                    case PARTITION_ID_FIELD -> type.writeLong(output, message.partition());
+                }
+            }
+        }
+
+        completedPositions += positionCount;
+        Block[] blocks = new Block[blockBuilders.length];
+        for (int channel = 0; channel < blocks.length; channel++) {
+            blocks[channel] = blockBuilders[channel].build();
+        }
+        return new Page(positionCount, blocks);
+    }
+
+    private static BlockBuilder[] selectBlockBuilders(BlockBuilder[] blockBuilders, int[] channels)
+    {
+        BlockBuilder[] selected = new BlockBuilder[channels.length];
+        for (int i = 0; i < channels.length; i++) {
+            selected[i] = blockBuilders[channels[i]];
+        }
+        return selected;
+    }
+
+    private static void writeBytes(Type type, BlockBuilder output, byte[] value)
+    {
+        if (value == null || value.length == 0) {
+            output.appendNull();
+            return;
+        }
+        type.writeSlice(output, wrappedBuffer(value));
+    }
+
+    private static void writeHeaders(MapType varcharMapType, BlockBuilder output, Headers headers)
+    {
+        Type keyType = varcharMapType.getKeyType();
+        Type valueType = varcharMapType.getValueType().getTypeParameters().get(0);
+
+        // Group by keys and collect values as array.
+        Multimap<String, byte[]> headerMap = ArrayListMultimap.create();
+        for (Header header : headers) {
+            headerMap.put(header.key(), header.value());
+        }
+
+        ((MapBlockBuilder) output).buildEntry((keyBuilder, valueBuilder) -> {
+            for (String headerKey : headerMap.keySet()) {
+                writeNativeValue(keyType, keyBuilder, headerKey);
+                ((ArrayBlockBuilder) valueBuilder).buildEntry(elementBuilder -> {
+                    for (byte[] value : headerMap.get(headerKey)) {
+                        writeNativeValue(valueType, elementBuilder, value);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void close()
+    {
+        if (prefetcher.isPresent()) {
+            prefetcher.get().close();
+        }
+        else {
+            kafkaConsumer.close();
+        }
+    }
+}
@@ -19,39 +19,58 @@ import io.trino.decoder.DispatchingRowDecoderFactory;
 import io.trino.decoder.RowDecoder;
 import io.trino.decoder.RowDecoderSpec;
 import io.trino.spi.connector.ColumnHandle;
-import io.trino.spi.connector.ConnectorRecordSetProvider;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorPageSourceProvider;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplit;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
-import io.trino.spi.connector.RecordSet;
+import io.trino.spi.connector.DynamicFilter;
+import jakarta.annotation.PreDestroy;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static io.trino.decoder.avro.AvroRowDecoderFactory.DATA_SCHEMA;
+import static io.trino.plugin.kafka.KafkaSessionProperties.getPrefetchBatches;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 
-public class KafkaRecordSetProvider
-        implements ConnectorRecordSetProvider
+public class KafkaPageSourceProvider
+        implements ConnectorPageSourceProvider
 {
     private final DispatchingRowDecoderFactory decoderFactory;
     private final KafkaConsumerFactory consumerFactory;
     private final KafkaInternalFieldManager kafkaInternalFieldManager;
+    private final ExecutorService prefetchExecutor = newCachedThreadPool(daemonThreadsNamed("kafka-prefetch-%s"));
 
     @Inject
-    public KafkaRecordSetProvider(DispatchingRowDecoderFactory decoderFactory, KafkaConsumerFactory consumerFactory, KafkaInternalFieldManager kafkaInternalFieldManager)
+    public KafkaPageSourceProvider(DispatchingRowDecoderFactory decoderFactory, KafkaConsumerFactory consumerFactory, KafkaInternalFieldManager kafkaInternalFieldManager)
     {
         this.decoderFactory = requireNonNull(decoderFactory, "decoderFactory is null");
         this.consumerFactory = requireNonNull(consumerFactory, "consumerFactory is null");
         this.kafkaInternalFieldManager = requireNonNull(kafkaInternalFieldManager, "kafkaInternalFieldManager is null");
     }
 
+    @PreDestroy
+    public void shutdown()
+    {
+        prefetchExecutor.shutdownNow();
+    }
+
     @Override
-    public RecordSet getRecordSet(ConnectorTransactionHandle transaction, ConnectorSession session, ConnectorSplit split, ConnectorTableHandle table, List<? extends ColumnHandle> columns)
+    public ConnectorPageSource createPageSource(
+            ConnectorTransactionHandle transaction,
+            ConnectorSession session,
+            ConnectorSplit split,
+            ConnectorTableHandle table,
+            List<ColumnHandle> columns,
+            DynamicFilter dynamicFilter)
     {
         KafkaSplit kafkaSplit = (KafkaSplit) split;
 
@@ -79,7 +98,7 @@ public class KafkaRecordSetProvider
                                 .filter(col -> !col.isKeyCodec())
                                 .collect(toImmutableSet())));
 
-        return new KafkaRecordSet(kafkaSplit, consumerFactory, session, kafkaColumns, keyDecoder, messageDecoder, kafkaInternalFieldManager);
+        return new KafkaPageSource(kafkaSplit, consumerFactory, session, kafkaColumns, keyDecoder, messageDecoder, kafkaInternalFieldManager, getPrefetchBatches(session), prefetchExecutor);
     }
 
     private static Map<String, String> getDecoderParameters(Optional<String> dataSchema)
@@ -16,24 +16,54 @@ package io.trino.plugin.kafka;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import io.trino.plugin.base.session.SessionPropertiesProvider;
+import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.session.PropertyMetadata;
 
 import java.util.List;
 
+import static io.trino.spi.StandardErrorCode.INVALID_SESSION_PROPERTY;
+import static io.trino.spi.session.PropertyMetadata.booleanProperty;
+import static io.trino.spi.session.PropertyMetadata.integerProperty;
+import static java.lang.String.format;
+
 public final class KafkaSessionProperties
         implements SessionPropertiesProvider
 {
     private static final String TIMESTAMP_UPPER_BOUND_FORCE_PUSH_DOWN_ENABLED = "timestamp_upper_bound_force_push_down_enabled";
+    private static final String MESSAGES_PER_SPLIT = "messages_per_split";
+    private static final String PREFETCH_BATCHES = "prefetch_batches";
     private final List<PropertyMetadata<?>> sessionProperties;
 
     @Inject
     public KafkaSessionProperties(KafkaConfig kafkaConfig)
     {
-        sessionProperties = ImmutableList.of(PropertyMetadata.booleanProperty(
-                TIMESTAMP_UPPER_BOUND_FORCE_PUSH_DOWN_ENABLED,
-                "Enable or disable timestamp upper bound push down for topic createTime mode",
-                kafkaConfig.isTimestampUpperBoundPushDownEnabled(), false));
+        sessionProperties = ImmutableList.of(
+                booleanProperty(
+                        TIMESTAMP_UPPER_BOUND_FORCE_PUSH_DOWN_ENABLED,
+                        "Enable or disable timestamp upper bound push down for topic createTime mode",
+                        kafkaConfig.isTimestampUpperBoundPushDownEnabled(),
+                        false),
+                integerProperty(
+                        MESSAGES_PER_SPLIT,
+                        "Count of Kafka messages to be processed by single split",
+                        kafkaConfig.getMessagesPerSplit(),
+                        value -> {
+                            if (value < 1) {
+                                throw new TrinoException(INVALID_SESSION_PROPERTY, format("%s must be greater than 0: %s", MESSAGES_PER_SPLIT, value));
+                            }
+                        },
+                        false),
+                integerProperty(
+                        PREFETCH_BATCHES,
+                        "Number of polled message batches buffered ahead of the reader for each split, 0 disables prefetching",
+                        kafkaConfig.getPrefetchBatches(),
+                        value -> {
+                            if (value < 0) {
+                                throw new TrinoException(INVALID_SESSION_PROPERTY, format("%s must not be negative: %s", PREFETCH_BATCHES, value));
+                            }
+                        },
+                        false));
     }
 
     @Override
@@ -53,4 +83,14 @@ public final class KafkaSessionProperties
     {
         return session.getProperty(TIMESTAMP_UPPER_BOUND_FORCE_PUSH_DOWN_ENABLED, Boolean.class);
     }
+
+    public static int getMessagesPerSplit(ConnectorSession session)
+    {
+        return session.getProperty(MESSAGES_PER_SPLIT, Integer.class);
+    }
+
+    public static int getPrefetchBatches(ConnectorSession session)
+    {
+        return session.getProperty(PREFETCH_BATCHES, Integer.class);
+    }
 }
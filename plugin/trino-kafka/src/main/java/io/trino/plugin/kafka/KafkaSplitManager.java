@@ -36,6 +36,7 @@ import java.util.Optional;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.trino.plugin.kafka.KafkaErrorCode.KAFKA_SPLIT_ERROR;
+import static io.trino.plugin.kafka.KafkaSessionProperties.getMessagesPerSplit;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
@@ -45,13 +46,11 @@ public class KafkaSplitManager
     private final KafkaConsumerFactory consumerFactory;
     private final KafkaFilterManager kafkaFilterManager;
     private final ContentSchemaProvider contentSchemaProvider;
-    private final int messagesPerSplit;
 
     @Inject
-    public KafkaSplitManager(KafkaConsumerFactory consumerFactory, KafkaConfig kafkaConfig, KafkaFilterManager kafkaFilterManager, ContentSchemaProvider contentSchemaProvider)
+    public KafkaSplitManager(KafkaConsumerFactory consumerFactory, KafkaFilterManager kafkaFilterManager, ContentSchemaProvider contentSchemaProvider)
     {
         this.consumerFactory = requireNonNull(consumerFactory, "consumerFactory is null");
-        this.messagesPerSplit = kafkaConfig.getMessagesPerSplit();
         this.kafkaFilterManager = requireNonNull(kafkaFilterManager, "kafkaFilterManager is null");
         this.contentSchemaProvider = requireNonNull(contentSchemaProvider, "contentSchemaProvider is null");
     }
@@ -83,6 +82,8 @@ public class KafkaSplitManager
             ImmutableList.Builder<KafkaSplit> splits = ImmutableList.builder();
             Optional<String> keyDataSchemaContents = contentSchemaProvider.getKey(kafkaTableHandle);
             Optional<String> messageDataSchemaContents = contentSchemaProvider.getMessage(kafkaTableHandle);
+            // the ranges are already narrowed by the pushed down offset and timestamp predicates
+            int messagesPerSplit = getMessagesPerSplit(session);
 
             for (PartitionInfo partitionInfo : partitionInfos) {
                 TopicPartition topicPartition = toTopicPartition(partitionInfo);
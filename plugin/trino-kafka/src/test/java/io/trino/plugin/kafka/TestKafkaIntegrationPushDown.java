@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.kafka;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.trino.Session;
 import io.trino.execution.QueryInfo;
@@ -56,6 +57,7 @@ public class TestKafkaIntegrationPushDown
     private String topicNameOffset;
     private String topicNameCreateTime;
     private String topicNameLogAppend;
+    private String topicNameSplitSize;
 
     @Override
     protected QueryRunner createQueryRunner()
@@ -67,6 +69,7 @@ public class TestKafkaIntegrationPushDown
         topicNameOffset = "test_push_down_offset_" + UUID.randomUUID().toString().replaceAll("-", "_");
         topicNameCreateTime = "test_push_down_create_time_" + UUID.randomUUID().toString().replaceAll("-", "_");
         topicNameLogAppend = "test_push_down_log_append_" + UUID.randomUUID().toString().replaceAll("-", "_");
+        topicNameSplitSize = "test_push_down_split_size_" + UUID.randomUUID().toString().replaceAll("-", "_");
 
         QueryRunner queryRunner = KafkaQueryRunner.builder(testingKafka)
                 .setExtraTopicDescription(ImmutableMap.<SchemaTableName, KafkaTopicDescription>builder()
@@ -74,6 +77,7 @@ public class TestKafkaIntegrationPushDown
                         .put(createEmptyTopicDescription(topicNameOffset, new SchemaTableName("default", topicNameOffset)))
                         .put(createEmptyTopicDescription(topicNameCreateTime, new SchemaTableName("default", topicNameCreateTime)))
                         .put(createEmptyTopicDescription(topicNameLogAppend, new SchemaTableName("default", topicNameLogAppend)))
+                        .put(createEmptyTopicDescription(topicNameSplitSize, new SchemaTableName("default", topicNameSplitSize)))
                         .buildOrThrow())
                 .addConnectorProperties(ImmutableMap.of("kafka.messages-per-split", "100"))
                 .build();
@@ -81,6 +85,7 @@ public class TestKafkaIntegrationPushDown
         testingKafka.createTopicWithConfig(2, 1, topicNameOffset, false);
         testingKafka.createTopicWithConfig(1, 1, topicNameCreateTime, false);
         testingKafka.createTopicWithConfig(1, 1, topicNameLogAppend, true);
+        testingKafka.createTopicWithConfig(2, 1, topicNameSplitSize, false);
         return queryRunner;
     }
 
@@ -145,6 +150,22 @@ public class TestKafkaIntegrationPushDown
         assertProcessedInputPositions(format("SELECT count(*) FROM default.%s WHERE _timestamp = timestamp '%s'", topicNameLogAppend, recordMessage.getStartTime()), 0);
     }
 
+    @Test
+    public void testSplitSizeAndPrefetch()
+    {
+        createMessages(topicNameSplitSize);
+        for (String prefetchBatches : ImmutableList.of("0", "1", "4")) {
+            Session session = Session.builder(getSession())
+                    .setCatalogSessionProperty("kafka", "messages_per_split", "7")
+                    .setCatalogSessionProperty("kafka", "prefetch_batches", prefetchBatches)
+                    .build();
+            assertProcessedInputPositions(format("SELECT count(*) FROM default.%s", topicNameSplitSize), MESSAGE_NUM, session);
+            assertProcessedInputPositions(format("SELECT count(*) FROM default.%s WHERE _partition_offset between 2 and 10", topicNameSplitSize), 18, session);
+            assertThat(query(session, format("SELECT count(*), count(DISTINCT (_partition_id, _partition_offset)) FROM default.%s", topicNameSplitSize)))
+                    .matches(format("VALUES (BIGINT '%s', BIGINT '%s')", MESSAGE_NUM, MESSAGE_NUM));
+        }
+    }
+
     private void assertProcessedInputPositions(String sql, long expectedProcessedInputPositions)
     {
         assertProcessedInputPositions(sql, expectedProcessedInputPositions, getSession());
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.ByteArrayBlock;
+import io.trino.spi.block.DictionaryBlock;
+import io.trino.spi.block.IntArrayBlock;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.block.RunLengthEncodedBlock;
+import io.trino.spi.block.ShortArrayBlock;
+import io.trino.spi.block.ValueBlock;
+import io.trino.spi.block.VariableWidthBlock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes the columns of the stored pages. Columns with a single value are stored as run length encoded blocks,
+ * and columns with few distinct values as dictionary blocks, when the encoded block is smaller than the original.
+ */
+final class MemoryBlockEncoder
+{
+    // dictionary encoding is used only when each dictionary entry is used by this many positions on average
+    private static final int MIN_POSITIONS_PER_DICTIONARY_ENTRY = 2;
+    private static final Object NULL_KEY = new Object();
+
+    private MemoryBlockEncoder() {}
+
+    public static Page encode(Page page)
+    {
+        Block[] blocks = new Block[page.getChannelCount()];
+        for (int channel = 0; channel < blocks.length; channel++) {
+            blocks[channel] = encode(page.getBlock(channel));
+        }
+        return new Page(page.getPositionCount(), blocks);
+    }
+
+    static Block encode(Block block)
+    {
+        int positionCount = block.getPositionCount();
+        if (positionCount < MIN_POSITIONS_PER_DICTIONARY_ENTRY || !isSupported(block)) {
+            return block;
+        }
+        ValueBlock valueBlock = (ValueBlock) block;
+
+        int maxDictionarySize = positionCount / MIN_POSITIONS_PER_DICTIONARY_ENTRY;
+        Map<Object, Integer> dictionaryIds = new HashMap<>();
+        int[] dictionaryPositions = new int[maxDictionarySize];
+        int[] ids = new int[positionCount];
+        for (int position = 0; position < positionCount; position++) {
+            Object key = getKey(valueBlock, position);
+            Integer id = dictionaryIds.get(key);
+            if (id == null) {
+                if (dictionaryIds.size() == maxDictionarySize) {
+                    return block;
+                }
+                id = dictionaryIds.size();
+                dictionaryIds.put(key, id);
+                dictionaryPositions[id] = position;
+            }
+            ids[position] = id;
+        }
+
+        if (dictionaryIds.size() == 1) {
+            return RunLengthEncodedBlock.create(valueBlock.getSingleValueBlock(0), positionCount);
+        }
+        Block encoded = DictionaryBlock.create(positionCount, valueBlock.copyPositions(dictionaryPositions, 0, dictionaryIds.size()), ids);
+        if (encoded.getRetainedSizeInBytes() < block.getRetainedSizeInBytes()) {
+            return encoded;
+        }
+        return block;
+    }
+
+    private static boolean isSupported(Block block)
+    {
+        return block instanceof LongArrayBlock
+                || block instanceof IntArrayBlock
+                || block instanceof ShortArrayBlock
+                || block instanceof ByteArrayBlock
+                || block instanceof VariableWidthBlock;
+    }
+
+    private static Object getKey(ValueBlock block, int position)
+    {
+        if (block.isNull(position)) {
+            return NULL_KEY;
+        }
+        return switch (block) {
+            case LongArrayBlock longArrayBlock -> longArrayBlock.getLong(position);
+            case IntArrayBlock intArrayBlock -> intArrayBlock.getInt(position);
+            case ShortArrayBlock shortArrayBlock -> shortArrayBlock.getShort(position);
+            case ByteArrayBlock byteArrayBlock -> byteArrayBlock.getByte(position);
+            case VariableWidthBlock variableWidthBlock -> variableWidthBlock.getSlice(position);
+            default -> throw new IllegalArgumentException("Unsupported block: " + block.getClass().getName());
+        };
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
+import io.trino.spi.connector.ConnectorIndex;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.FixedPageSource;
+import io.trino.spi.connector.RecordCursor;
+import io.trino.spi.connector.RecordSet;
+import io.trino.spi.type.Type;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+final class MemoryConnectorIndex
+        implements ConnectorIndex
+{
+    private final MemoryPagesStore pagesStore;
+    private final MemoryIndexHandle indexHandle;
+    private final int[] keyFields;
+    private final int[] columnIndexes;
+    private final List<Type> columnTypes;
+
+    public MemoryConnectorIndex(MemoryPagesStore pagesStore, MemoryIndexHandle indexHandle, int[] keyFields, int[] columnIndexes, List<Type> columnTypes)
+    {
+        this.pagesStore = requireNonNull(pagesStore, "pagesStore is null");
+        this.indexHandle = requireNonNull(indexHandle, "indexHandle is null");
+        this.keyFields = requireNonNull(keyFields, "keyFields is null").clone();
+        this.columnIndexes = requireNonNull(columnIndexes, "columnIndexes is null").clone();
+        this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
+    }
+
+    @Override
+    public ConnectorPageSource lookup(RecordSet recordSet)
+    {
+        // the same key may be requested more than once, but each matching row must be returned once
+        Set<List<Object>> distinctKeys = new HashSet<>();
+        List<Object[]> keys = new ArrayList<>();
+        try (RecordCursor cursor = recordSet.cursor()) {
+            while (cursor.advanceNextPosition()) {
+                Object[] key = readKey(cursor);
+                if (key != null && distinctKeys.add(List.of(key))) {
+                    keys.add(key);
+                }
+            }
+        }
+        return new FixedPageSource(pagesStore.lookup(indexHandle.tableId(), indexHandle.expectedRows(), keys, columnIndexes, columnTypes));
+    }
+
+    private Object[] readKey(RecordCursor cursor)
+    {
+        Object[] key = new Object[keyFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            int field = keyFields[i];
+            if (cursor.isNull(field)) {
+                // null never matches a key
+                return null;
+            }
+            Class<?> javaType = cursor.getType(field).getJavaType();
+            if (javaType == boolean.class) {
+                key[i] = cursor.getBoolean(field);
+            }
+            else if (javaType == long.class) {
+                key[i] = cursor.getLong(field);
+            }
+            else if (javaType == Slice.class) {
+                key[i] = cursor.getSlice(field);
+            }
+            else {
+                throw new IllegalArgumentException("Unsupported key type: " + cursor.getType(field));
+            }
+        }
+        return key;
+    }
+}
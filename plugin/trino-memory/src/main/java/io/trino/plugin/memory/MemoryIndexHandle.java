@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.connector.ConnectorIndexHandle;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @param keyColumns key columns of the index of the table
+ * @param expectedRows number of rows of the table, all of which are stored on the worker running the lookups
+ */
+public record MemoryIndexHandle(long tableId, List<MemoryColumnHandle> keyColumns, long expectedRows)
+        implements ConnectorIndexHandle
+{
+    public MemoryIndexHandle
+    {
+        keyColumns = ImmutableList.copyOf(requireNonNull(keyColumns, "keyColumns is null"));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.google.inject.Inject;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorIndex;
+import io.trino.spi.connector.ConnectorIndexHandle;
+import io.trino.spi.connector.ConnectorIndexProvider;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorTransactionHandle;
+import io.trino.spi.type.Type;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.util.Arrays.stream;
+import static java.util.Objects.requireNonNull;
+
+public class MemoryIndexProvider
+        implements ConnectorIndexProvider
+{
+    private final MemoryPagesStore pagesStore;
+
+    @Inject
+    public MemoryIndexProvider(MemoryPagesStore pagesStore)
+    {
+        this.pagesStore = requireNonNull(pagesStore, "pagesStore is null");
+    }
+
+    @Override
+    public ConnectorIndex getIndex(
+            ConnectorTransactionHandle transactionHandle,
+            ConnectorSession session,
+            ConnectorIndexHandle indexHandle,
+            List<ColumnHandle> lookupSchema,
+            List<ColumnHandle> outputSchema)
+    {
+        MemoryIndexHandle memoryIndexHandle = (MemoryIndexHandle) indexHandle;
+
+        // fields of the lookup record set holding the key columns of the index
+        int[] keyFields = memoryIndexHandle.keyColumns().stream()
+                .mapToInt(lookupSchema::indexOf)
+                .toArray();
+        checkArgument(lookupSchema.size() == keyFields.length && stream(keyFields).noneMatch(field -> field == -1),
+                "Lookup columns %s do not match the key columns of the index %s", lookupSchema, memoryIndexHandle.keyColumns());
+
+        int[] columnIndexes = outputSchema.stream()
+                .mapToInt(column -> ((MemoryColumnHandle) column).columnIndex())
+                .toArray();
+        List<Type> columnTypes = outputSchema.stream()
+                .map(column -> ((MemoryColumnHandle) column).type())
+                .collect(toImmutableList());
+
+        return new MemoryConnectorIndex(pagesStore, memoryIndexHandle, keyFields, columnIndexes, columnTypes);
+    }
+}
@@ -13,14 +13,16 @@
  */
 package io.trino.plugin.memory;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import io.trino.spi.connector.ConnectorInsertTableHandle;
 
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
-public record MemoryInsertTableHandle(long table, InsertMode mode, Set<Long> activeTableIds)
+public record MemoryInsertTableHandle(long table, InsertMode mode, Set<Long> activeTableIds, List<MemoryColumnHandle> indexColumns)
         implements ConnectorInsertTableHandle
 {
     public enum InsertMode
@@ -32,5 +34,6 @@ public record MemoryInsertTableHandle(long table, InsertMode mode, Set<Long> act
     {
         requireNonNull(mode, "mode is null");
         activeTableIds = ImmutableSet.copyOf(requireNonNull(activeTableIds, "activeTableIds is null"));
+        indexColumns = ImmutableList.copyOf(requireNonNull(indexColumns, "indexColumns is null"));
     }
 }
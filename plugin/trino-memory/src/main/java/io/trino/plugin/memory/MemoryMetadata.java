@@ -33,12 +33,15 @@ import io.trino.spi.connector.ConnectorInsertTableHandle;
 import io.trino.spi.connector.ConnectorMetadata;
 import io.trino.spi.connector.ConnectorOutputMetadata;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
+import io.trino.spi.connector.ConnectorResolvedIndex;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTableLayout;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorTableVersion;
 import io.trino.spi.connector.ConnectorViewDefinition;
+import io.trino.spi.connector.Constraint;
+import io.trino.spi.connector.ConstraintApplicationResult;
 import io.trino.spi.connector.LimitApplicationResult;
 import io.trino.spi.connector.RelationColumnsMetadata;
 import io.trino.spi.connector.RelationCommentMetadata;
@@ -53,14 +56,17 @@ import io.trino.spi.connector.TableColumnsMetadata;
 import io.trino.spi.connector.ViewNotFoundException;
 import io.trino.spi.function.LanguageFunction;
 import io.trino.spi.function.SchemaFunctionName;
+import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.security.TrinoPrincipal;
 import io.trino.spi.statistics.ComputedStatistics;
 import io.trino.spi.statistics.Estimate;
 import io.trino.spi.statistics.TableStatistics;
+import io.trino.spi.type.Type;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -78,7 +84,11 @@ import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static io.trino.plugin.memory.MemoryTableIndex.isSupportedKeyType;
+import static io.trino.plugin.memory.MemoryTableProperties.getIndexColumns;
 import static io.trino.spi.StandardErrorCode.ALREADY_EXISTS;
+import static io.trino.spi.StandardErrorCode.INVALID_TABLE_PROPERTY;
 import static io.trino.spi.StandardErrorCode.NOT_FOUND;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.StandardErrorCode.SCHEMA_NOT_EMPTY;
@@ -173,7 +183,7 @@ public class MemoryMetadata
 
         for (TableInfo table : tables.values()) {
             if (table.schemaName().equals(source)) {
-                tables.put(table.id(), new TableInfo(table.id(), target, table.tableName(), table.columns(), false, table.dataFragments(), table.comment()));
+                tables.put(table.id(), new TableInfo(table.id(), target, table.tableName(), table.columns(), false, table.dataFragments(), table.comment(), table.indexColumns()));
             }
         }
 
@@ -211,7 +221,7 @@ public class MemoryMetadata
             return null;
         }
 
-        return new MemoryTableHandle(id, OptionalLong.empty(), OptionalDouble.empty());
+        return new MemoryTableHandle(id, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all());
     }
 
     @Override
@@ -316,7 +326,7 @@ public class MemoryMetadata
         long tableId = handle.id();
 
         TableInfo oldInfo = tables.get(tableId);
-        tables.put(tableId, new TableInfo(tableId, newTableName.getSchemaName(), newTableName.getTableName(), oldInfo.columns(), oldInfo.truncated(), oldInfo.dataFragments(), oldInfo.comment()));
+        tables.put(tableId, new TableInfo(tableId, newTableName.getSchemaName(), newTableName.getTableName(), oldInfo.columns(), oldInfo.truncated(), oldInfo.dataFragments(), oldInfo.comment(), oldInfo.indexColumns()));
 
         tableIds.remove(oldInfo.getSchemaTableName());
         tableIds.put(newTableName, tableId);
@@ -349,6 +359,7 @@ public class MemoryMetadata
             ColumnMetadata column = tableMetadata.getColumns().get(i);
             columns.add(new ColumnInfo(new MemoryColumnHandle(i, column.getType()), column.getName(), column.getType(), column.isNullable(), Optional.ofNullable(column.getComment())));
         }
+        List<Integer> indexColumns = getIndexColumnIndexes(tableMetadata);
 
         tableIds.put(tableMetadata.getTable(), tableId);
         tables.put(tableId, new TableInfo(
@@ -358,9 +369,35 @@ public class MemoryMetadata
                 columns.build(),
                 false,
                 new HashMap<>(),
-                tableMetadata.getComment()));
+                tableMetadata.getComment(),
+                indexColumns));
 
-        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(tableIds.values()));
+        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(tableIds.values()), tables.get(tableId).getIndexColumnHandles());
+    }
+
+    private static List<Integer> getIndexColumnIndexes(ConnectorTableMetadata tableMetadata)
+    {
+        List<String> columnNames = tableMetadata.getColumns().stream()
+                .map(ColumnMetadata::getName)
+                .collect(toImmutableList());
+
+        ImmutableList.Builder<Integer> indexColumns = ImmutableList.builder();
+        Set<String> seenColumns = new HashSet<>();
+        for (String columnName : getIndexColumns(tableMetadata.getProperties())) {
+            int index = columnNames.indexOf(columnName);
+            if (index == -1) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Index column '%s' does not exist", columnName));
+            }
+            if (!seenColumns.add(columnName)) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Duplicate index column '%s'", columnName));
+            }
+            Type type = tableMetadata.getColumns().get(index).getType();
+            if (!isSupportedKeyType(type)) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Index column '%s' has unsupported type: %s", columnName, type));
+            }
+            indexColumns.add(index);
+        }
+        return indexColumns.build();
     }
 
     @GuardedBy("this")
@@ -398,8 +435,8 @@ public class MemoryMetadata
         MemoryTableHandle memoryTableHandle = (MemoryTableHandle) tableHandle;
         TableInfo tableInfo = tables.get(memoryTableHandle.id());
         InsertMode mode = tableInfo.truncated() ? InsertMode.OVERWRITE : InsertMode.APPEND;
-        tables.put(tableInfo.id(), new TableInfo(tableInfo.id(), tableInfo.schemaName(), tableInfo.tableName(), tableInfo.columns(), false, tableInfo.dataFragments(), tableInfo.comment()));
-        return new MemoryInsertTableHandle(memoryTableHandle.id(), mode, ImmutableSet.copyOf(tableIds.values()));
+        tables.put(tableInfo.id(), new TableInfo(tableInfo.id(), tableInfo.schemaName(), tableInfo.tableName(), tableInfo.columns(), false, tableInfo.dataFragments(), tableInfo.comment(), tableInfo.indexColumns()));
+        return new MemoryInsertTableHandle(memoryTableHandle.id(), mode, ImmutableSet.copyOf(tableIds.values()), tableInfo.getIndexColumnHandles());
     }
 
     @Override
@@ -423,7 +460,7 @@ public class MemoryMetadata
         MemoryTableHandle handle = (MemoryTableHandle) tableHandle;
         long tableId = handle.id();
         TableInfo info = tables.get(handle.id());
-        tables.put(tableId, new TableInfo(tableId, info.schemaName(), info.tableName(), info.columns(), true, ImmutableMap.of(), info.comment()));
+        tables.put(tableId, new TableInfo(tableId, info.schemaName(), info.tableName(), info.columns(), true, ImmutableMap.of(), info.comment(), info.indexColumns()));
     }
 
     @Override
@@ -442,7 +479,7 @@ public class MemoryMetadata
                 .add(new ColumnInfo(new MemoryColumnHandle(table.columns().size(), column.getType()), column.getName(), column.getType(), column.isNullable(), Optional.ofNullable(column.getComment())))
                 .build();
 
-        tables.put(tableId, new TableInfo(tableId, table.schemaName(), table.tableName(), columns, table.truncated(), table.dataFragments(), table.comment()));
+        tables.put(tableId, new TableInfo(tableId, table.schemaName(), table.tableName(), columns, table.truncated(), table.dataFragments(), table.comment(), table.indexColumns()));
     }
 
     @Override
@@ -457,7 +494,7 @@ public class MemoryMetadata
         ColumnInfo columnInfo = columns.get(column.columnIndex());
         columns.set(column.columnIndex(), new ColumnInfo(columnInfo.handle(), target, columnInfo.type(), columnInfo.nullable(), columnInfo.comment()));
 
-        tables.put(tableId, new TableInfo(tableId, table.schemaName(), table.tableName(), ImmutableList.copyOf(columns), table.truncated(), table.dataFragments(), table.comment()));
+        tables.put(tableId, new TableInfo(tableId, table.schemaName(), table.tableName(), ImmutableList.copyOf(columns), table.truncated(), table.dataFragments(), table.comment(), table.indexColumns()));
     }
 
     @Override
@@ -472,7 +509,7 @@ public class MemoryMetadata
         ColumnInfo columnInfo = columns.get(column.columnIndex());
         columns.set(column.columnIndex(), new ColumnInfo(columnInfo.handle(), columnInfo.name(), columnInfo.type(), true, columnInfo.comment()));
 
-        tables.put(tableId, new TableInfo(tableId, table.schemaName(), table.tableName(), ImmutableList.copyOf(columns), table.truncated(), table.dataFragments(), table.comment()));
+        tables.put(tableId, new TableInfo(tableId, table.schemaName(), table.tableName(), ImmutableList.copyOf(columns), table.truncated(), table.dataFragments(), table.comment(), table.indexColumns()));
     }
 
     @Override
@@ -588,7 +625,7 @@ public class MemoryMetadata
             dataFragments.merge(memoryDataFragment.hostAddress(), memoryDataFragment, MemoryDataFragment::merge);
         }
 
-        tables.put(tableId, new TableInfo(tableId, info.schemaName(), info.tableName(), info.columns(), info.truncated(), dataFragments, info.comment()));
+        tables.put(tableId, new TableInfo(tableId, info.schemaName(), info.tableName(), info.columns(), info.truncated(), dataFragments, info.comment(), info.indexColumns()));
     }
 
     public synchronized List<MemoryDataFragment> getDataFragments(long tableId)
@@ -618,7 +655,7 @@ public class MemoryMetadata
         }
 
         return Optional.of(new LimitApplicationResult<>(
-                new MemoryTableHandle(table.id(), OptionalLong.of(limit), OptionalDouble.empty()),
+                new MemoryTableHandle(table.id(), OptionalLong.of(limit), OptionalDouble.empty(), table.constraint()),
                 true,
                 true));
     }
@@ -633,10 +670,67 @@ public class MemoryMetadata
         }
 
         return Optional.of(new SampleApplicationResult<>(
-                new MemoryTableHandle(table.id(), table.limit(), OptionalDouble.of(table.sampleRatio().orElse(1) * sampleRatio)),
+                new MemoryTableHandle(table.id(), table.limit(), OptionalDouble.of(table.sampleRatio().orElse(1) * sampleRatio), table.constraint()),
                 true));
     }
 
+    @Override
+    public Optional<ConstraintApplicationResult<ConnectorTableHandle>> applyFilter(ConnectorSession session, ConnectorTableHandle handle, Constraint constraint)
+    {
+        MemoryTableHandle table = (MemoryTableHandle) handle;
+        if (table.limit().isPresent()) {
+            return Optional.empty();
+        }
+
+        TupleDomain<ColumnHandle> newConstraint = table.constraint().intersect(constraint.getSummary());
+        if (newConstraint.equals(table.constraint())) {
+            return Optional.empty();
+        }
+
+        // the constraint is only used to skip pages, so it is not enforced
+        return Optional.of(new ConstraintApplicationResult<>(
+                new MemoryTableHandle(table.id(), table.limit(), table.sampleRatio(), newConstraint),
+                constraint.getSummary(),
+                constraint.getExpression(),
+                false));
+    }
+
+    @Override
+    public synchronized Optional<ConnectorResolvedIndex> resolveIndex(
+            ConnectorSession session,
+            ConnectorTableHandle tableHandle,
+            Set<ColumnHandle> indexableColumns,
+            Set<ColumnHandle> outputColumns,
+            TupleDomain<ColumnHandle> tupleDomain)
+    {
+        MemoryTableHandle handle = (MemoryTableHandle) tableHandle;
+        if (handle.limit().isPresent() || handle.sampleRatio().isPresent()) {
+            return Optional.empty();
+        }
+        TableInfo info = tables.get(handle.id());
+        List<MemoryColumnHandle> keyColumns = info.getIndexColumnHandles();
+        if (keyColumns.isEmpty() || !indexableColumns.equals(ImmutableSet.copyOf(keyColumns))) {
+            return Optional.empty();
+        }
+
+        // The lookups are done on the worker running the join, which can only be
+        // guaranteed to store all the rows of the table when it is the only worker
+        Set<Node> nodes = nodeManager.getRequiredWorkerNodes();
+        if (nodes.size() != 1) {
+            return Optional.empty();
+        }
+        HostAddress worker = getOnlyElement(nodes).getHostAndPort();
+        if (!info.dataFragments().keySet().stream().allMatch(worker::equals)) {
+            return Optional.empty();
+        }
+
+        long rows = info.dataFragments().values().stream()
+                .mapToLong(MemoryDataFragment::rows)
+                .sum();
+        // the index does not filter the rows, so the whole predicate remains to be applied
+        return Optional.of(new ConnectorResolvedIndex(new MemoryIndexHandle(handle.id(), keyColumns, rows), tupleDomain));
+    }
+
     @Override
     public boolean allowSplittingReadIntoMultipleSubQueries(ConnectorSession session, ConnectorTableHandle tableHandle)
     {
@@ -649,7 +743,7 @@ public class MemoryMetadata
         MemoryTableHandle table = (MemoryTableHandle) tableHandle;
         TableInfo info = tables.get(table.id());
         checkArgument(info != null, "Table not found");
-        tables.put(table.id(), new TableInfo(table.id(), info.schemaName(), info.tableName(), info.columns(), info.truncated(), info.dataFragments(), comment));
+        tables.put(table.id(), new TableInfo(table.id(), info.schemaName(), info.tableName(), info.columns(), info.truncated(), info.dataFragments(), comment, info.indexColumns()));
     }
 
     @Override
@@ -669,7 +763,8 @@ public class MemoryMetadata
                                 .collect(toImmutableList()),
                         info.truncated(),
                         info.dataFragments(),
-                        info.comment()));
+                        info.comment(),
+                        info.indexColumns()));
     }
 
     @Override
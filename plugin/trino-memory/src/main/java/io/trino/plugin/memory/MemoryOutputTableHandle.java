@@ -13,19 +13,23 @@
  */
 package io.trino.plugin.memory;
 
+import com.google.common.collect.ImmutableList;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
 
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
 public record MemoryOutputTableHandle(
         long table,
-        Set<Long> activeTableIds)
+        Set<Long> activeTableIds,
+        List<MemoryColumnHandle> indexColumns)
         implements ConnectorOutputTableHandle
 {
     public MemoryOutputTableHandle
     {
         requireNonNull(activeTableIds, "activeTableIds is null");
+        indexColumns = ImmutableList.copyOf(requireNonNull(indexColumns, "indexColumns is null"));
     }
 }
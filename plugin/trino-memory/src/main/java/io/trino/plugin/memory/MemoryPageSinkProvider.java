@@ -65,7 +65,7 @@ public class MemoryPageSinkProvider
         checkState(memoryOutputTableHandle.activeTableIds().contains(tableId));
 
         pagesStore.cleanUp(memoryOutputTableHandle.activeTableIds());
-        pagesStore.initialize(tableId);
+        pagesStore.initialize(tableId, memoryOutputTableHandle.indexColumns());
         return new MemoryPageSink(pagesStore, currentHostAddress, tableId);
     }
 
@@ -81,7 +81,7 @@ public class MemoryPageSinkProvider
         }
 
         pagesStore.cleanUp(memoryInsertTableHandle.activeTableIds());
-        pagesStore.initialize(tableId);
+        pagesStore.initialize(tableId, memoryInsertTableHandle.indexColumns());
         return new MemoryPageSink(pagesStore, currentHostAddress, tableId);
     }
 
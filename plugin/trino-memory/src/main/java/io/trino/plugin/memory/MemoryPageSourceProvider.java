@@ -79,6 +79,11 @@ public final class MemoryPageSourceProvider
             columnTypes.add(column.type());
         }
 
+        // the dynamic filter collected so far is used to skip pages, the rows are filtered by the page source
+        TupleDomain<Integer> predicate = memoryTable.constraint()
+                .intersect(dynamicFilter.getCurrentPredicate())
+                .transformKeys(column -> ((MemoryColumnHandle) column).columnIndex());
+
         List<Page> pages = pagesStore.getPages(
                 tableId,
                 partNumber,
@@ -87,7 +92,8 @@ public final class MemoryPageSourceProvider
                 columnTypes.build(),
                 expectedRows,
                 memorySplit.limit(),
-                sampleRatio);
+                sampleRatio,
+                predicate);
 
         return new DynamicFilteringPageSource(new FixedPageSource(pages), columns, dynamicFilter, enableLazyDynamicFiltering);
     }
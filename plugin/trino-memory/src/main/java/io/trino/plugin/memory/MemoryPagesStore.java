@@ -17,48 +17,83 @@ import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.ThreadSafe;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import com.google.inject.Inject;
+import io.trino.plugin.memory.MemoryTableIndex.PageEntries;
 import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.Block;
 import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.DictionaryBlock;
+import io.trino.spi.block.RunLengthEncodedBlock;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
 import io.trino.spi.type.Type;
+import io.trino.spi.type.TypeManager;
+import io.trino.spi.type.TypeOperators;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
-import java.util.ArrayList;
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.IntStream;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static io.trino.plugin.memory.MemoryErrorCode.MEMORY_LIMIT_EXCEEDED;
 import static io.trino.plugin.memory.MemoryErrorCode.MISSING_DATA;
+import static io.trino.spi.function.InvocationConvention.InvocationArgumentConvention.BLOCK_POSITION;
+import static io.trino.spi.function.InvocationConvention.InvocationReturnConvention.FAIL_ON_NULL;
+import static io.trino.spi.function.InvocationConvention.simpleConvention;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.RealType.REAL;
+import static io.trino.spi.type.TypeUtils.readNativeValue;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
+/**
+ * Stores the table pages of a worker. The columns of the pages are encoded when they are added, and the
+ * minimum and maximum values of the columns of each page are used to skip the pages not matching the
+ * predicate of a read. Pages are added under a lock, while the reads do not take any lock.
+ */
 @ThreadSafe
 public class MemoryPagesStore
 {
     private final long maxBytes;
+    private final TypeOperators typeOperators;
 
     @GuardedBy("this")
     private long currentBytes;
 
-    private final Map<Long, TableData> tables = new HashMap<>();
+    private final Map<Long, TableData> tables = new ConcurrentHashMap<>();
 
     @Inject
-    public MemoryPagesStore(MemoryConfig config)
+    public MemoryPagesStore(MemoryConfig config, TypeManager typeManager)
+    {
+        this(config, typeManager.getTypeOperators());
+    }
+
+    public MemoryPagesStore(MemoryConfig config, TypeOperators typeOperators)
     {
         this.maxBytes = config.getMaxDataPerNode().toBytes();
+        this.typeOperators = requireNonNull(typeOperators, "typeOperators is null");
     }
 
-    public synchronized void initialize(long tableId)
+    public synchronized void initialize(long tableId, List<MemoryColumnHandle> indexColumns)
     {
         if (!tables.containsKey(tableId)) {
-            tables.put(tableId, new TableData());
+            tables.put(tableId, new TableData(indexColumns.isEmpty() ? Optional.empty() : Optional.of(new MemoryTableIndex(indexColumns))));
         }
     }
 
@@ -69,18 +104,20 @@ public class MemoryPagesStore
         }
 
         page.compact();
+        page = MemoryBlockEncoder.encode(page);
 
-        long newSize = currentBytes + page.getRetainedSizeInBytes();
+        TableData tableData = tables.get(tableId);
+        Optional<PageEntries> indexEntries = tableData.prepareIndexEntries(page);
+        long newSize = currentBytes + page.getRetainedSizeInBytes() + indexEntries.map(PageEntries::retainedSizeInBytes).orElse(0L);
         if (maxBytes < newSize) {
             throw new TrinoException(MEMORY_LIMIT_EXCEEDED, format("Memory limit [%d] for memory connector exceeded", maxBytes));
         }
         currentBytes = newSize;
 
-        TableData tableData = tables.get(tableId);
-        tableData.add(page);
+        tableData.add(new StoredPage(page), indexEntries);
     }
 
-    public synchronized List<Page> getPages(
+    public List<Page> getPages(
             Long tableId,
             int partNumber,
             int totalParts,
@@ -88,29 +125,40 @@ public class MemoryPagesStore
             List<Type> columnTypes,
             long expectedRows,
             OptionalLong limit,
-            OptionalDouble sampleRatio)
+            OptionalDouble sampleRatio,
+            TupleDomain<Integer> predicate)
     {
         checkArgument(columnIndexes.length == columnTypes.size(), "columnIndexes and columnTypes must have the same size");
 
-        if (!contains(tableId)) {
+        TableData tableData = tables.get(tableId);
+        if (tableData == null) {
             throw new TrinoException(MISSING_DATA, "Failed to find table on a worker.");
         }
-        TableData tableData = tables.get(tableId);
-        if (tableData.getRows() < expectedRows) {
+        Snapshot snapshot = tableData.getSnapshot();
+        if (snapshot.rows() < expectedRows) {
             throw new TrinoException(MISSING_DATA,
-                    format("Expected to find [%s] rows on a worker, but found [%s].", expectedRows, tableData.getRows()));
+                    format("Expected to find [%s] rows on a worker, but found [%s].", expectedRows, snapshot.rows()));
         }
+        if (predicate.isNone()) {
+            return ImmutableList.of();
+        }
+        Map<Integer, Domain> domains = predicate.getDomains().orElseThrow();
 
         ImmutableList.Builder<Page> partitionedPages = ImmutableList.builder();
 
         boolean done = false;
         long totalRows = 0;
-        for (int i = partNumber; i < tableData.getPages().size() && !done; i += totalParts) {
+        for (int i = partNumber; i < snapshot.pageCount() && !done; i += totalParts) {
             if (sampleRatio.isPresent() && ThreadLocalRandom.current().nextDouble() >= sampleRatio.getAsDouble()) {
                 continue;
             }
 
-            Page page = tableData.getPages().get(i);
+            StoredPage storedPage = snapshot.pages()[i];
+            if (!storedPage.mayMatch(domains)) {
+                continue;
+            }
+
+            Page page = storedPage.page();
             totalRows += page.getPositionCount();
             if (limit.isPresent() && totalRows > limit.getAsLong()) {
                 page = page.getRegion(0, (int) (page.getPositionCount() - (totalRows - limit.getAsLong())));
@@ -129,7 +177,64 @@ public class MemoryPagesStore
         return partitionedPages.build();
     }
 
-    public synchronized boolean contains(Long tableId)
+    /**
+     * Returns the rows matching the keys, using the index of the table.
+     *
+     * @param keys values of the key columns of the index, in the order of the key columns
+     */
+    public List<Page> lookup(long tableId, long expectedRows, List<Object[]> keys, int[] columnIndexes, List<Type> columnTypes)
+    {
+        checkArgument(columnIndexes.length == columnTypes.size(), "columnIndexes and columnTypes must have the same size");
+
+        if (expectedRows == 0) {
+            // the table is empty or truncated
+            return ImmutableList.of();
+        }
+        TableData tableData = tables.get(tableId);
+        if (tableData == null) {
+            throw new TrinoException(MISSING_DATA, "Failed to find table on a worker.");
+        }
+        // the index is read before the snapshot, so that the snapshot contains all the pages the index refers to
+        MemoryTableIndex index = tableData.getIndex().orElseThrow(() -> new IllegalStateException("Table is not indexed: " + tableId));
+        LongArrayList addresses = new LongArrayList();
+        for (Object[] key : keys) {
+            index.lookup(key, addresses::add);
+        }
+        Snapshot snapshot = tableData.getSnapshot();
+        if (snapshot.rows() < expectedRows) {
+            throw new TrinoException(MISSING_DATA,
+                    format("Expected to find [%s] rows on a worker, but found [%s].", expectedRows, snapshot.rows()));
+        }
+
+        ImmutableList.Builder<Page> pages = ImmutableList.builder();
+        PageBuilder pageBuilder = new PageBuilder(columnTypes);
+        for (int i = 0; i < addresses.size(); i++) {
+            long address = addresses.getLong(i);
+            Page page = snapshot.pages()[MemoryTableIndex.decodePageIndex(address)].page();
+            int position = MemoryTableIndex.decodePosition(address);
+            pageBuilder.declarePosition();
+            for (int channel = 0; channel < columnIndexes.length; channel++) {
+                BlockBuilder blockBuilder = pageBuilder.getBlockBuilder(channel);
+                if (columnIndexes[channel] >= page.getChannelCount()) {
+                    // the column was added after the page was inserted
+                    blockBuilder.appendNull();
+                }
+                else {
+                    columnTypes.get(channel).appendTo(page.getBlock(columnIndexes[channel]), position, blockBuilder);
+                }
+            }
+            if (pageBuilder.isFull()) {
+                pages.add(pageBuilder.build());
+                pageBuilder.reset();
+            }
+        }
+        if (!pageBuilder.isEmpty()) {
+            pages.add(pageBuilder.build());
+        }
+        return pages.build();
+    }
+
+    public boolean contains(Long tableId)
     {
         return tables.containsKey(tableId);
     }
@@ -159,9 +264,11 @@ public class MemoryPagesStore
             Map.Entry<Long, TableData> tablePagesEntry = tableDataIterator.next();
             Long tableId = tablePagesEntry.getKey();
             if (tableId < latestTableId && !activeTableIds.contains(tableId)) {
-                for (Page removedPage : tablePagesEntry.getValue().getPages()) {
-                    currentBytes -= removedPage.getRetainedSizeInBytes();
+                Snapshot snapshot = tablePagesEntry.getValue().getSnapshot();
+                for (int i = 0; i < snapshot.pageCount(); i++) {
+                    currentBytes -= snapshot.pages()[i].page().getRetainedSizeInBytes();
                 }
+                currentBytes -= tablePagesEntry.getValue().getIndexRetainedSizeInBytes();
                 tableDataIterator.remove();
             }
         }
@@ -169,23 +276,169 @@ public class MemoryPagesStore
 
     private static final class TableData
     {
-        private final List<Page> pages = new ArrayList<>();
-        private long rows;
+        private static final int INITIAL_CAPACITY = 16;
+
+        // Pages are only appended, so a snapshot remains valid after more pages are added.
+        // A new array is only allocated when the capacity is exhausted.
+        private volatile Snapshot snapshot = new Snapshot(new StoredPage[INITIAL_CAPACITY], 0, 0);
+        private final Optional<MemoryTableIndex> index;
+        private long indexRetainedSizeInBytes;
+
+        public TableData(Optional<MemoryTableIndex> index)
+        {
+            this.index = requireNonNull(index, "index is null");
+        }
+
+        /**
+         * Called under the lock of the store.
+         */
+        public Optional<PageEntries> prepareIndexEntries(Page page)
+        {
+            return index.map(tableIndex -> tableIndex.prepare(snapshot.pageCount(), page));
+        }
+
+        /**
+         * Called under the lock of the store, with the index entries prepared for the page.
+         */
+        public void add(StoredPage page, Optional<PageEntries> indexEntries)
+        {
+            Snapshot current = snapshot;
+            StoredPage[] pages = current.pages();
+            if (current.pageCount() == pages.length) {
+                pages = Arrays.copyOf(pages, pages.length * 2);
+            }
+            pages[current.pageCount()] = page;
+            snapshot = new Snapshot(pages, current.pageCount() + 1, current.rows() + page.page().getPositionCount());
+
+            // the page is indexed after it is published, so that the lookups always find the pages the index refers to
+            indexEntries.ifPresent(entries -> {
+                index.orElseThrow().add(entries);
+                indexRetainedSizeInBytes += entries.retainedSizeInBytes();
+            });
+        }
+
+        public Snapshot getSnapshot()
+        {
+            return snapshot;
+        }
+
+        public Optional<MemoryTableIndex> getIndex()
+        {
+            return index;
+        }
+
+        public long getIndexRetainedSizeInBytes()
+        {
+            return indexRetainedSizeInBytes;
+        }
+    }
+
+    /**
+     * @param pages the stored pages, only the first {@code pageCount} elements are visible in the snapshot
+     */
+    private record Snapshot(StoredPage[] pages, int pageCount, long rows) {}
+
+    private final class StoredPage
+    {
+        private final Page page;
+        // domains of the columns, computed when the column is first filtered
+        private final AtomicReferenceArray<Domain> columnDomains;
+
+        private StoredPage(Page page)
+        {
+            this.page = requireNonNull(page, "page is null");
+            this.columnDomains = new AtomicReferenceArray<>(page.getChannelCount());
+        }
 
-        public void add(Page page)
+        public Page page()
         {
-            pages.add(page);
-            rows += page.getPositionCount();
+            return page;
         }
 
-        private List<Page> getPages()
+        public boolean mayMatch(Map<Integer, Domain> domains)
         {
-            return pages;
+            for (Map.Entry<Integer, Domain> entry : domains.entrySet()) {
+                Domain domain = entry.getValue();
+                if (!domain.overlaps(getColumnDomain(entry.getKey(), domain.getType()))) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        private long getRows()
+        private Domain getColumnDomain(int columnIndex, Type type)
         {
-            return rows;
+            if (columnIndex >= page.getChannelCount()) {
+                // the column was added after the page was inserted
+                return Domain.onlyNull(type);
+            }
+            Domain domain = columnDomains.get(columnIndex);
+            if (domain == null) {
+                domain = computeDomain(type, page.getBlock(columnIndex));
+                columnDomains.set(columnIndex, domain);
+            }
+            return domain;
+        }
+    }
+
+    private Domain computeDomain(Type type, Block block)
+    {
+        // the comparison of structural types fails when a value contains a null element or field
+        if (!type.isOrderable() || !type.getTypeParameters().isEmpty()) {
+            return Domain.all(type);
+        }
+        Block values = switch (block) {
+            case DictionaryBlock dictionaryBlock -> dictionaryBlock.getDictionary();
+            case RunLengthEncodedBlock runLengthEncodedBlock -> runLengthEncodedBlock.getValue();
+            default -> block;
+        };
+
+        MethodHandle comparison = typeOperators.getComparisonUnorderedLastOperator(type, simpleConvention(FAIL_ON_NULL, BLOCK_POSITION, BLOCK_POSITION));
+        boolean hasNull = false;
+        int min = -1;
+        int max = -1;
+        try {
+            for (int position = 0; position < values.getPositionCount(); position++) {
+                if (values.isNull(position)) {
+                    hasNull = true;
+                    continue;
+                }
+                if (isNaN(type, values, position)) {
+                    return Domain.all(type);
+                }
+                if (min == -1) {
+                    min = position;
+                    max = position;
+                    continue;
+                }
+                if ((long) comparison.invokeExact(values, position, values, min) < 0) {
+                    min = position;
+                }
+                else if ((long) comparison.invokeExact(values, position, values, max) > 0) {
+                    max = position;
+                }
+            }
+        }
+        catch (Throwable e) {
+            throwIfUnchecked(e);
+            throw new RuntimeException(e);
+        }
+
+        if (min == -1) {
+            return Domain.onlyNull(type);
+        }
+        Range range = Range.range(type, readNativeValue(type, values, min), true, readNativeValue(type, values, max), true);
+        return Domain.create(ValueSet.ofRanges(range), hasNull);
+    }
+
+    private static boolean isNaN(Type type, Block block, int position)
+    {
+        if (type.equals(DOUBLE)) {
+            return Double.isNaN(DOUBLE.getDouble(block, position));
+        }
+        if (type.equals(REAL)) {
+            return Float.isNaN(REAL.getFloat(block, position));
         }
+        return false;
     }
 }
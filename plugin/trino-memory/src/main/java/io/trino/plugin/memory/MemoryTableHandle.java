@@ -13,7 +13,9 @@
  */
 package io.trino.plugin.memory;
 
+import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorTableHandle;
+import io.trino.spi.predicate.TupleDomain;
 
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
@@ -23,13 +25,16 @@ import static java.util.Objects.requireNonNull;
 public record MemoryTableHandle(
         long id,
         OptionalLong limit,
-        OptionalDouble sampleRatio)
+        OptionalDouble sampleRatio,
+        // used to skip the pages not matching the predicate, the predicate is still applied by the engine
+        TupleDomain<ColumnHandle> constraint)
         implements ConnectorTableHandle
 {
     public MemoryTableHandle
     {
         requireNonNull(limit, "limit is null");
         requireNonNull(sampleRatio, "sampleRatio is null");
+        requireNonNull(constraint, "constraint is null");
     }
 
     @Override
@@ -39,6 +44,9 @@ public record MemoryTableHandle(
         builder.append(id);
         limit.ifPresent(value -> builder.append("(limit:" + value + ")"));
         sampleRatio.ifPresent(value -> builder.append("(sampleRatio:" + value + ")"));
+        if (!constraint.isAll()) {
+            builder.append("(constraint:" + constraint + ")");
+        }
         return builder.toString();
     }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.BigintType;
+import io.trino.spi.type.BooleanType;
+import io.trino.spi.type.CharType;
+import io.trino.spi.type.DateType;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.IntegerType;
+import io.trino.spi.type.SmallintType;
+import io.trino.spi.type.TinyintType;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarbinaryType;
+import io.trino.spi.type.VarcharType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
+import static io.trino.spi.type.TypeUtils.readNativeValue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hash index of the rows of a table stored on a worker, maintained when pages are added to the table.
+ * Rows are addressed by the index of their page in the table and their position in the page.
+ * Rows with a null key are not indexed, as they never match a lookup.
+ */
+final class MemoryTableIndex
+{
+    // estimated size of a hash table entry and of its key
+    private static final long ENTRY_SIZE = 64;
+
+    private final int[] keyChannels;
+    private final List<Type> keyTypes;
+    private final Map<Object, RowAddresses> rows = new ConcurrentHashMap<>();
+
+    MemoryTableIndex(List<MemoryColumnHandle> keyColumns)
+    {
+        checkArgument(!keyColumns.isEmpty(), "keyColumns is empty");
+        this.keyChannels = keyColumns.stream()
+                .mapToInt(MemoryColumnHandle::columnIndex)
+                .toArray();
+        this.keyTypes = keyColumns.stream()
+                .map(MemoryColumnHandle::type)
+                .collect(toImmutableList());
+    }
+
+    public static boolean isSupportedKeyType(Type type)
+    {
+        // types for which the equality of the stack representation is the equality of the values
+        return type instanceof BooleanType
+                || type instanceof BigintType
+                || type instanceof IntegerType
+                || type instanceof SmallintType
+                || type instanceof TinyintType
+                || type instanceof DateType
+                || (type instanceof DecimalType decimalType && decimalType.isShort())
+                || type instanceof VarcharType
+                || type instanceof CharType
+                || type instanceof VarbinaryType;
+    }
+
+    public List<Type> getKeyTypes()
+    {
+        return keyTypes;
+    }
+
+    /**
+     * Computes the index entries of the rows of a page, without adding them to the index.
+     * Must not be called concurrently with {@link #add(PageEntries)} for the same index.
+     */
+    public PageEntries prepare(int pageIndex, Page page)
+    {
+        for (int keyChannel : keyChannels) {
+            if (keyChannel >= page.getChannelCount()) {
+                // a key column was added after the page was inserted, so all the keys are null
+                return new PageEntries(Map.of(), 0);
+            }
+        }
+
+        // positions are grouped by key first, so that each key is appended to once for the page
+        Map<Object, List<Integer>> pagePositions = new HashMap<>();
+        Object[] values = new Object[keyChannels.length];
+        for (int position = 0; position < page.getPositionCount(); position++) {
+            if (readKey(page, position, values)) {
+                pagePositions.computeIfAbsent(createKey(values), _ -> new ArrayList<>()).add(position);
+            }
+        }
+
+        Map<Object, long[]> entries = new HashMap<>();
+        long retainedSize = 0;
+        for (Map.Entry<Object, List<Integer>> entry : pagePositions.entrySet()) {
+            long[] addresses = new long[entry.getValue().size()];
+            for (int i = 0; i < addresses.length; i++) {
+                addresses[i] = encodeAddress(pageIndex, entry.getValue().get(i));
+            }
+            entries.put(entry.getKey(), addresses);
+            retainedSize += RowAddresses.INSTANCE_SIZE + sizeOf(addresses) + (rows.containsKey(entry.getKey()) ? 0 : ENTRY_SIZE);
+        }
+        return new PageEntries(entries, retainedSize);
+    }
+
+    /**
+     * Adds the entries of a page to the index. Must not be called concurrently for the same index.
+     */
+    public void add(PageEntries entries)
+    {
+        entries.addresses().forEach((key, addresses) -> rows.put(key, new RowAddresses(addresses, rows.get(key))));
+    }
+
+    /**
+     * Calls the consumer with the address of each row matching the key.
+     *
+     * @param values values of the key columns, in the order of the key columns of the index
+     */
+    public void lookup(Object[] values, LongConsumer consumer)
+    {
+        RowAddresses addresses = rows.get(createKey(values));
+        while (addresses != null) {
+            Arrays.stream(addresses.addresses()).forEach(consumer);
+            addresses = addresses.previous();
+        }
+    }
+
+    private boolean readKey(Page page, int position, Object[] values)
+    {
+        for (int i = 0; i < keyChannels.length; i++) {
+            Block block = page.getBlock(keyChannels[i]);
+            if (block.isNull(position)) {
+                return false;
+            }
+            values[i] = readNativeValue(keyTypes.get(i), block, position);
+        }
+        return true;
+    }
+
+    private static Object createKey(Object[] values)
+    {
+        if (values.length == 1) {
+            return requireNonNull(values[0], "value is null");
+        }
+        return List.of(values);
+    }
+
+    public static long encodeAddress(int pageIndex, int position)
+    {
+        return ((long) pageIndex << 32) | position;
+    }
+
+    public static int decodePageIndex(long address)
+    {
+        return (int) (address >>> 32);
+    }
+
+    public static int decodePosition(long address)
+    {
+        return (int) address;
+    }
+
+    /**
+     * Index entries of a page, prepared before the page is added, so that their size can be accounted for first.
+     *
+     * @param retainedSizeInBytes estimated size of the memory retained by the entries once added to the index
+     */
+    public record PageEntries(Map<Object, long[]> addresses, long retainedSizeInBytes)
+    {
+        public PageEntries
+        {
+            addresses = ImmutableMap.copyOf(requireNonNull(addresses, "addresses is null"));
+        }
+    }
+
+    /**
+     * Addresses of the rows with a key, appended as a chain so that the published addresses are never modified.
+     */
+    private record RowAddresses(long[] addresses, RowAddresses previous)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(RowAddresses.class);
+
+        public long getRetainedSizeInBytes()
+        {
+            return INSTANCE_SIZE + sizeOf(addresses);
+        }
+    }
+}
@@ -26,8 +26,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.MoreCollectors.onlyElement;
-import static java.util.Collections.emptyMap;
+import static io.trino.plugin.memory.MemoryTableProperties.INDEX_COLUMNS_PROPERTY;
 import static java.util.Objects.requireNonNull;
 
 public record TableInfo(
@@ -37,7 +38,8 @@ public record TableInfo(
         List<ColumnInfo> columns,
         boolean truncated,
         Map<HostAddress, MemoryDataFragment> dataFragments,
-        Optional<String> comment)
+        Optional<String> comment,
+        List<Integer> indexColumns)
 {
     public TableInfo
     {
@@ -46,6 +48,7 @@ public record TableInfo(
         columns = ImmutableList.copyOf(columns);
         dataFragments = ImmutableMap.copyOf(dataFragments);
         requireNonNull(comment, "comment is null");
+        indexColumns = ImmutableList.copyOf(indexColumns);
     }
 
     @JsonIgnore
@@ -62,10 +65,28 @@ public record TableInfo(
                 columns.stream()
                         .map(ColumnInfo::getMetadata)
                         .collect(Collectors.toList()),
-                emptyMap(),
+                getProperties(),
                 comment);
     }
 
+    private Map<String, Object> getProperties()
+    {
+        if (indexColumns.isEmpty()) {
+            return ImmutableMap.of();
+        }
+        return ImmutableMap.of(INDEX_COLUMNS_PROPERTY, indexColumns.stream()
+                .map(index -> columns.get(index).name())
+                .collect(toImmutableList()));
+    }
+
+    @JsonIgnore
+    public List<MemoryColumnHandle> getIndexColumnHandles()
+    {
+        return indexColumns.stream()
+                .map(index -> (MemoryColumnHandle) columns.get(index).handle())
+                .collect(toImmutableList());
+    }
+
     @JsonIgnore
     public ColumnInfo getColumn(ColumnHandle handle)
     {
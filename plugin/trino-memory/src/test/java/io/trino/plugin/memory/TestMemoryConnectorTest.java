@@ -137,6 +137,24 @@ public class TestMemoryConnectorTest
         assertThat(computeScalar("SELECT count(*) FROM test_select")).isEqualTo(75L);
     }
 
+    @Test
+    public void testIndexColumns()
+    {
+        try (TestTable table = new TestTable(getQueryRunner()::execute, "test_index_columns", "WITH (index_columns = ARRAY['nationkey']) AS SELECT nationkey, name FROM tpch.tiny.nation")) {
+            assertThat((String) computeScalar("SHOW CREATE TABLE " + table.getName()))
+                    .contains("index_columns = ARRAY['nationkey']");
+
+            assertUpdate("INSERT INTO " + table.getName() + " VALUES (100, 'extra')", 1);
+            assertQuery(
+                    "SELECT c.custkey, n.name FROM customer c JOIN " + table.getName() + " n ON c.nationkey = n.nationkey",
+                    "SELECT c.custkey, n.name FROM customer c JOIN nation n ON c.nationkey = n.nationkey");
+        }
+
+        assertQueryFails(
+                "CREATE TABLE test_index_columns_invalid WITH (index_columns = ARRAY['missing']) AS SELECT 1 x",
+                "Index column 'missing' does not exist");
+    }
+
     @Test
     public void testCustomMetricsScanFilter()
     {
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.operator.OperatorStats;
+import io.trino.sql.planner.Plan;
+import io.trino.sql.planner.plan.IndexJoinNode;
+import io.trino.sql.planner.plan.IndexSourceNode;
+import io.trino.testing.AbstractTestQueryFramework;
+import io.trino.testing.QueryRunner;
+import io.trino.testing.QueryRunner.MaterializedResultWithPlan;
+import io.trino.testing.sql.TestTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.sql.planner.optimizations.PlanNodeSearcher.searchFrom;
+import static io.trino.tpch.TpchTable.CUSTOMER;
+import static io.trino.tpch.TpchTable.NATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestMemoryIndexJoin
+        extends AbstractTestQueryFramework
+{
+    @Override
+    protected QueryRunner createQueryRunner()
+            throws Exception
+    {
+        // the index is only used when a single worker stores all the rows of the table
+        return MemoryQueryRunner.builder()
+                .setWorkerCount(0)
+                .setInitialTables(ImmutableList.of(CUSTOMER, NATION))
+                .build();
+    }
+
+    @Test
+    public void testIndexJoin()
+    {
+        try (TestTable table = new TestTable(getQueryRunner()::execute, "test_index_join", "WITH (index_columns = ARRAY['nationkey']) AS SELECT nationkey, name FROM nation")) {
+            // rows inserted after the table is created are indexed too
+            assertUpdate("INSERT INTO " + table.getName() + " VALUES (1, 'duplicate'), (100, 'unmatched'), (NULL, 'null key')", 3);
+
+            assertQuery(
+                    "SELECT c.custkey, n.name FROM customer c JOIN " + table.getName() + " n ON c.nationkey = n.nationkey",
+                    "SELECT c.custkey, n.name FROM customer c JOIN nation n ON c.nationkey = n.nationkey " +
+                            "UNION ALL SELECT custkey, 'duplicate' FROM customer WHERE nationkey = 1",
+                    TestMemoryIndexJoin::assertIndexJoin);
+            assertQuery(
+                    "SELECT c.custkey, n.name FROM customer c LEFT JOIN " + table.getName() + " n ON c.nationkey = n.nationkey WHERE c.nationkey < 3",
+                    "SELECT c.custkey, n.name FROM customer c JOIN nation n ON c.nationkey = n.nationkey WHERE c.nationkey < 3 " +
+                            "UNION ALL SELECT custkey, 'duplicate' FROM customer WHERE nationkey = 1",
+                    TestMemoryIndexJoin::assertIndexJoin);
+        }
+    }
+
+    @Test
+    public void testIndexLookup()
+    {
+        try (TestTable table = new TestTable(getQueryRunner()::execute, "test_index_lookup", "WITH (index_columns = ARRAY['nationkey']) AS SELECT nationkey, name FROM nation")) {
+            QueryRunner runner = getQueryRunner();
+            MaterializedResultWithPlan result = runner.executeWithPlan(
+                    getSession(),
+                    "SELECT n.name FROM customer c JOIN " + table.getName() + " n ON c.nationkey = n.nationkey WHERE c.custkey = 1");
+            assertThat(result.result().getOnlyValue()).isEqualTo("MOROCCO");
+            assertIndexJoin(result.queryPlan().orElseThrow());
+
+            // only the row matching the key of the single probe row is read, instead of the whole table
+            List<OperatorStats> indexSourceStats = runner.getCoordinator()
+                    .getQueryManager()
+                    .getFullQueryInfo(result.queryId())
+                    .getQueryStats()
+                    .getOperatorSummaries()
+                    .stream()
+                    .filter(summary -> summary.getOperatorType().equals("IndexSourceOperator"))
+                    .collect(toImmutableList());
+            assertThat(indexSourceStats).isNotEmpty();
+            assertThat(indexSourceStats.stream().mapToLong(OperatorStats::getOutputPositions).sum()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testIndexJoinMultipleKeys()
+    {
+        try (TestTable table = new TestTable(getQueryRunner()::execute, "test_index_join_keys", "WITH (index_columns = ARRAY['nationkey', 'regionkey']) AS SELECT nationkey, regionkey, name FROM nation")) {
+            assertQuery(
+                    "SELECT c.custkey, n.name FROM customer c JOIN " + table.getName() + " n ON c.nationkey = n.nationkey AND c.nationkey % 5 = n.regionkey",
+                    "SELECT c.custkey, n.name FROM customer c JOIN nation n ON c.nationkey = n.nationkey AND c.nationkey % 5 = n.regionkey",
+                    TestMemoryIndexJoin::assertIndexJoin);
+        }
+    }
+
+    @Test
+    public void testNoIndexJoinWithoutIndexColumns()
+    {
+        assertQuery(
+                "SELECT c.custkey, n.name FROM customer c JOIN nation n ON c.nationkey = n.nationkey",
+                "SELECT c.custkey, n.name FROM customer c JOIN nation n ON c.nationkey = n.nationkey",
+                plan -> assertThat(searchFrom(plan.getRoot()).whereIsInstanceOfAny(IndexJoinNode.class).matches()).isFalse());
+    }
+
+    private static void assertIndexJoin(Plan plan)
+    {
+        assertThat(searchFrom(plan.getRoot()).whereIsInstanceOfAny(IndexJoinNode.class).matches()).isTrue();
+        assertThat(searchFrom(plan.getRoot()).whereIsInstanceOfAny(IndexSourceNode.class).matches()).isTrue();
+    }
+}
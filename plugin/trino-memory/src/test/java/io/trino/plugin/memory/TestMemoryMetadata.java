@@ -16,8 +16,14 @@ package io.trino.plugin.memory;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import io.trino.client.NodeVersion;
+import io.trino.metadata.InternalNode;
+import io.trino.spi.HostAddress;
 import io.trino.spi.TrinoException;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
+import io.trino.spi.connector.ConnectorResolvedIndex;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorViewDefinition;
@@ -25,19 +31,26 @@ import io.trino.spi.connector.ConnectorViewDefinition.ViewColumn;
 import io.trino.spi.connector.SaveMode;
 import io.trino.spi.connector.SchemaNotFoundException;
 import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.security.TrinoPrincipal;
 import io.trino.testing.TestingNodeManager;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static io.trino.plugin.memory.MemoryTableProperties.INDEX_COLUMNS_PROPERTY;
 import static io.trino.spi.StandardErrorCode.ALREADY_EXISTS;
+import static io.trino.spi.StandardErrorCode.INVALID_TABLE_PROPERTY;
 import static io.trino.spi.StandardErrorCode.NOT_FOUND;
 import static io.trino.spi.connector.RetryMode.NO_RETRIES;
 import static io.trino.spi.security.PrincipalType.USER;
 import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.VarcharType.VARCHAR;
 import static io.trino.testing.QueryAssertions.assertEqualsIgnoreOrder;
 import static io.trino.testing.TestingConnectorSession.SESSION;
 import static io.trino.testing.assertions.TrinoExceptionAssert.assertTrinoExceptionThrownBy;
@@ -121,6 +134,99 @@ public class TestMemoryMetadata
         assertThat(metadata.beginInsert(SESSION, secondTableHandle, ImmutableList.of(), NO_RETRIES).activeTableIds()).contains(secondTableId);
     }
 
+    @Test
+    public void testIndexColumns()
+    {
+        TestingNodeManager nodeManager = new TestingNodeManager();
+        MemoryMetadata metadata = new MemoryMetadata(nodeManager);
+        SchemaTableName tableName = new SchemaTableName("default", "indexed_table");
+
+        MemoryOutputTableHandle table = metadata.beginCreateTable(
+                SESSION,
+                new ConnectorTableMetadata(
+                        tableName,
+                        ImmutableList.of(new ColumnMetadata("key", BIGINT), new ColumnMetadata("value", VARCHAR)),
+                        ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("key"))),
+                Optional.empty(),
+                NO_RETRIES,
+                false);
+        assertThat(table.indexColumns()).containsExactly(new MemoryColumnHandle(0, BIGINT));
+        metadata.finishCreateTable(SESSION, table, ImmutableList.of(new MemoryDataFragment(nodeManager.getCurrentNode().getHostAndPort(), 10).toSlice()), ImmutableList.of());
+
+        ConnectorTableHandle tableHandle = metadata.getTableHandle(SESSION, tableName, Optional.empty(), Optional.empty());
+        assertThat(metadata.getTableMetadata(SESSION, tableHandle).getProperties())
+                .isEqualTo(ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("key")));
+        assertThat(metadata.beginInsert(SESSION, tableHandle, ImmutableList.of(), NO_RETRIES).indexColumns())
+                .containsExactly(new MemoryColumnHandle(0, BIGINT));
+
+        Map<String, ColumnHandle> columns = metadata.getColumnHandles(SESSION, tableHandle);
+        Set<ColumnHandle> allColumns = ImmutableSet.copyOf(columns.values());
+        Optional<ConnectorResolvedIndex> resolvedIndex = metadata.resolveIndex(SESSION, tableHandle, ImmutableSet.of(columns.get("key")), allColumns, TupleDomain.all());
+        assertThat(resolvedIndex).isPresent();
+        assertThat(resolvedIndex.get().getIndexHandle())
+                .isEqualTo(new MemoryIndexHandle(((MemoryTableHandle) tableHandle).id(), ImmutableList.of(new MemoryColumnHandle(0, BIGINT)), 10));
+
+        // the lookup columns must be the key columns of the index
+        assertThat(metadata.resolveIndex(SESSION, tableHandle, ImmutableSet.of(columns.get("value")), allColumns, TupleDomain.all())).isEmpty();
+        assertThat(metadata.resolveIndex(SESSION, tableHandle, allColumns, allColumns, TupleDomain.all())).isEmpty();
+    }
+
+    @Test
+    public void testIndexNotUsedWithMultipleWorkers()
+    {
+        TestingNodeManager nodeManager = new TestingNodeManager(ImmutableList.of(
+                new InternalNode("first", URI.create("http://127.0.0.1:8080"), NodeVersion.UNKNOWN, true),
+                new InternalNode("second", URI.create("http://127.0.0.2:8080"), NodeVersion.UNKNOWN, false)));
+        MemoryMetadata metadata = new MemoryMetadata(nodeManager);
+        SchemaTableName tableName = new SchemaTableName("default", "indexed_table");
+        metadata.createTable(
+                SESSION,
+                new ConnectorTableMetadata(tableName, ImmutableList.of(new ColumnMetadata("key", BIGINT)), ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("key"))),
+                SaveMode.FAIL);
+
+        ConnectorTableHandle tableHandle = metadata.getTableHandle(SESSION, tableName, Optional.empty(), Optional.empty());
+        Set<ColumnHandle> columns = ImmutableSet.copyOf(metadata.getColumnHandles(SESSION, tableHandle).values());
+        assertThat(metadata.resolveIndex(SESSION, tableHandle, columns, columns, TupleDomain.all())).isEmpty();
+    }
+
+    @Test
+    public void testIndexNotUsedForRowsOfOtherWorker()
+    {
+        MemoryMetadata metadata = new MemoryMetadata(new TestingNodeManager());
+        SchemaTableName tableName = new SchemaTableName("default", "indexed_table");
+        MemoryOutputTableHandle table = metadata.beginCreateTable(
+                SESSION,
+                new ConnectorTableMetadata(tableName, ImmutableList.of(new ColumnMetadata("key", BIGINT)), ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("key"))),
+                Optional.empty(),
+                NO_RETRIES,
+                false);
+        // the rows were written by a worker which is no longer part of the cluster
+        metadata.finishCreateTable(SESSION, table, ImmutableList.of(new MemoryDataFragment(HostAddress.fromParts("127.0.0.2", 8080), 10).toSlice()), ImmutableList.of());
+
+        ConnectorTableHandle tableHandle = metadata.getTableHandle(SESSION, tableName, Optional.empty(), Optional.empty());
+        Set<ColumnHandle> columns = ImmutableSet.copyOf(metadata.getColumnHandles(SESSION, tableHandle).values());
+        assertThat(metadata.resolveIndex(SESSION, tableHandle, columns, columns, TupleDomain.all())).isEmpty();
+    }
+
+    @Test
+    public void testInvalidIndexColumns()
+    {
+        MemoryMetadata metadata = createMetadata();
+        SchemaTableName tableName = new SchemaTableName("default", "indexed_table");
+        List<ColumnMetadata> columns = ImmutableList.of(new ColumnMetadata("key", BIGINT), new ColumnMetadata("value", DOUBLE));
+
+        assertTrinoExceptionThrownBy(() -> metadata.createTable(SESSION, new ConnectorTableMetadata(tableName, columns, ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("missing"))), SaveMode.FAIL))
+                .hasErrorCode(INVALID_TABLE_PROPERTY)
+                .hasMessage("Index column 'missing' does not exist");
+        assertTrinoExceptionThrownBy(() -> metadata.createTable(SESSION, new ConnectorTableMetadata(tableName, columns, ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("key", "key"))), SaveMode.FAIL))
+                .hasErrorCode(INVALID_TABLE_PROPERTY)
+                .hasMessage("Duplicate index column 'key'");
+        assertTrinoExceptionThrownBy(() -> metadata.createTable(SESSION, new ConnectorTableMetadata(tableName, columns, ImmutableMap.of(INDEX_COLUMNS_PROPERTY, ImmutableList.of("value"))), SaveMode.FAIL))
+                .hasErrorCode(INVALID_TABLE_PROPERTY)
+                .hasMessage("Index column 'value' has unsupported type: double");
+        assertNoTables(metadata);
+    }
+
     @Test
     public void testReadTableBeforeCreationCompleted()
     {
@@ -14,27 +14,49 @@
 package io.trino.plugin.memory;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.airlift.units.DataSize;
 import io.trino.plugin.memory.MemoryInsertTableHandle.InsertMode;
 import io.trino.spi.HostAddress;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.ArrayBlockBuilder;
+import io.trino.spi.block.Block;
 import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.DictionaryBlock;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.block.RowBlockBuilder;
+import io.trino.spi.block.RunLengthEncodedBlock;
+import io.trino.spi.block.SqlRow;
 import io.trino.spi.connector.ConnectorInsertTableHandle;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
 import io.trino.spi.connector.ConnectorPageSink;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
+import io.trino.spi.type.ArrayType;
+import io.trino.spi.type.RowType;
+import io.trino.spi.type.TypeOperators;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.parallel.Execution;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.spi.block.ArrayValueBuilder.buildArrayValue;
+import static io.trino.spi.block.RowValueBuilder.buildRowValue;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.VarcharType.VARCHAR;
 import static io.trino.testing.TestingConnectorSession.SESSION;
 import static io.trino.testing.TestingPageSinkId.TESTING_PAGE_SINK_ID;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,7 +76,7 @@ public class TestMemoryPagesStore
     @BeforeEach
     public void setUp()
     {
-        pagesStore = new MemoryPagesStore(new MemoryConfig().setMaxDataPerNode(DataSize.of(1, DataSize.Unit.MEGABYTE)));
+        pagesStore = new MemoryPagesStore(new MemoryConfig().setMaxDataPerNode(DataSize.of(1, DataSize.Unit.MEGABYTE)), new TypeOperators());
         pageSinkProvider = new MemoryPageSinkProvider(pagesStore, HostAddress.fromString("localhost:8080"));
     }
 
@@ -62,7 +84,7 @@ public class TestMemoryPagesStore
     public void testCreateEmptyTable()
     {
         createTable(0L, 0L);
-        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 0, OptionalLong.empty(), OptionalDouble.empty())).isEqualTo(ImmutableList.of());
+        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 0, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all())).isEqualTo(ImmutableList.of());
     }
 
     @Test
@@ -70,21 +92,21 @@ public class TestMemoryPagesStore
     {
         createTable(0L, 0L);
         insertToTable(0L, 0L);
-        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), POSITIONS_PER_PAGE, OptionalLong.empty(), OptionalDouble.empty())).hasSize(1);
+        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), POSITIONS_PER_PAGE, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all())).hasSize(1);
     }
 
     @Test
     public void testInsertPageWithoutCreate()
     {
         insertToTable(0L, 0L);
-        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), POSITIONS_PER_PAGE, OptionalLong.empty(), OptionalDouble.empty())).hasSize(1);
+        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), POSITIONS_PER_PAGE, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all())).hasSize(1);
     }
 
     @Test
     public void testReadFromUnknownTable()
     {
         assertThatThrownBy(() -> {
-            pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 0, OptionalLong.empty(), OptionalDouble.empty());
+            pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 0, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all());
         })
                 .isInstanceOf(TrinoException.class);
     }
@@ -93,8 +115,8 @@ public class TestMemoryPagesStore
     public void testTryToReadFromEmptyTable()
     {
         createTable(0L, 0L);
-        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 0, OptionalLong.empty(), OptionalDouble.empty())).isEqualTo(ImmutableList.of());
-        assertThatThrownBy(() -> pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 42, OptionalLong.empty(), OptionalDouble.empty()))
+        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 0, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all())).isEqualTo(ImmutableList.of());
+        assertThatThrownBy(() -> pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(INTEGER), 42, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all()))
                 .isInstanceOf(TrinoException.class)
                 .hasMessageMatching("Expected to find.*");
     }
@@ -133,6 +155,153 @@ public class TestMemoryPagesStore
                 .hasMessageMatching("Memory limit.*");
     }
 
+    @Test
+    public void testMemoryLimitExceededByIndex()
+    {
+        // the page fits in the limit, but not together with the index entries of its distinct keys
+        pagesStore.initialize(0L, ImmutableList.of(new MemoryColumnHandle(0, BIGINT)));
+        assertThatThrownBy(() -> pagesStore.add(0L, createSequencePage(0, 50_000)))
+                .isInstanceOf(TrinoException.class)
+                .hasMessageMatching("Memory limit.*");
+        assertThat(getPages(TupleDomain.all())).isEmpty();
+
+        pagesStore.initialize(1L, ImmutableList.of());
+        pagesStore.add(1L, createSequencePage(0, 50_000));
+    }
+
+    @Test
+    public void testSkipPagesNotMatchingPredicate()
+    {
+        createTable(0L, 0L);
+        insertToTable(0L, createSequencePage(0, 100), 0L);
+        insertToTable(0L, createSequencePage(100, 100), 0L);
+        insertToTable(0L, createSequencePage(200, 100), 0L);
+
+        assertThat(getPages(TupleDomain.all())).hasSize(3);
+        assertThat(getPages(TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.singleValue(BIGINT, 150L)))))
+                .extracting(Page::getPositionCount)
+                .containsExactly(100);
+        assertThat(getPages(TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.create(ValueSet.ofRanges(Range.greaterThan(BIGINT, 199L)), false)))))
+                .hasSize(1);
+        assertThat(getPages(TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.singleValue(BIGINT, 1000L))))).isEmpty();
+        assertThat(getPages(TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.onlyNull(BIGINT))))).isEmpty();
+        assertThat(getPages(TupleDomain.none())).isEmpty();
+    }
+
+    @Test
+    public void testStructuralTypesWithNullElements()
+    {
+        ArrayType arrayType = new ArrayType(BIGINT);
+        RowType rowType = RowType.anonymous(ImmutableList.of(BIGINT, BIGINT));
+        createTable(0L, 0L);
+        ArrayBlockBuilder arrays = arrayType.createBlockBuilder(null, 2);
+        RowBlockBuilder rows = rowType.createBlockBuilder(null, 2);
+        for (long i = 0; i < 2; i++) {
+            long value = i;
+            arrays.buildEntry(elementBuilder -> {
+                BIGINT.writeLong(elementBuilder, value);
+                elementBuilder.appendNull();
+            });
+            rows.buildEntry(fieldBuilders -> {
+                BIGINT.writeLong(fieldBuilders.get(0), value);
+                fieldBuilders.get(1).appendNull();
+            });
+        }
+        insertToTable(0L, new Page(2, arrays.build(), rows.build()), 0L);
+
+        // no min/max is computed for the structural types, so the page is never skipped
+        Block arrayValue = buildArrayValue(arrayType, 2, elementBuilder -> {
+            BIGINT.writeLong(elementBuilder, 0L);
+            elementBuilder.appendNull();
+        });
+        SqlRow rowValue = buildRowValue(rowType, fieldBuilders -> {
+            BIGINT.writeLong(fieldBuilders.get(0), 0L);
+            fieldBuilders.get(1).appendNull();
+        });
+        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0, 1}, List.of(arrayType, rowType), 0, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.singleValue(arrayType, arrayValue)))))
+                .hasSize(1);
+        assertThat(pagesStore.getPages(0L, 0, 1, new int[] {0, 1}, List.of(arrayType, rowType), 0, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.withColumnDomains(ImmutableMap.of(1, Domain.singleValue(rowType, rowValue)))))
+                .hasSize(1);
+    }
+
+    @Test
+    public void testEncodePages()
+    {
+        createTable(0L, 0L);
+        BlockBuilder constant = BIGINT.createFixedSizeBlockBuilder(1000);
+        BlockBuilder lowCardinality = VARCHAR.createBlockBuilder(null, 1000);
+        BlockBuilder distinct = BIGINT.createFixedSizeBlockBuilder(1000);
+        for (int i = 0; i < 1000; i++) {
+            BIGINT.writeLong(constant, 42L);
+            if (i % 10 == 0) {
+                lowCardinality.appendNull();
+            }
+            else {
+                VARCHAR.writeSlice(lowCardinality, utf8Slice("value " + i % 3));
+            }
+            BIGINT.writeLong(distinct, i);
+        }
+        insertToTable(0L, new Page(1000, constant.build(), lowCardinality.build(), distinct.build()), 0L);
+
+        Page page = getOnlyElement(pagesStore.getPages(0L, 0, 1, new int[] {0, 1, 2}, List.of(BIGINT, VARCHAR, BIGINT), 1000, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all()));
+        assertThat(page.getBlock(0)).isInstanceOf(RunLengthEncodedBlock.class);
+        assertThat(page.getBlock(1)).isInstanceOf(DictionaryBlock.class);
+        assertThat(page.getBlock(2)).isInstanceOf(LongArrayBlock.class);
+        for (int position = 0; position < 1000; position++) {
+            assertThat(BIGINT.getLong(page.getBlock(0), position)).isEqualTo(42L);
+            if (position % 10 == 0) {
+                assertThat(page.getBlock(1).isNull(position)).isTrue();
+            }
+            else {
+                assertThat(VARCHAR.getSlice(page.getBlock(1), position)).isEqualTo(utf8Slice("value " + position % 3));
+            }
+            assertThat(BIGINT.getLong(page.getBlock(2), position)).isEqualTo(position);
+        }
+    }
+
+    @Test
+    public void testIndexLookup()
+    {
+        pagesStore.initialize(0L, ImmutableList.of(new MemoryColumnHandle(0, BIGINT)));
+        pagesStore.add(0L, createSequencePage(0, 100));
+        pagesStore.add(0L, createSequencePage(50, 100));
+        // the rows with a null key are not indexed
+        BlockBuilder blockBuilder = BIGINT.createFixedSizeBlockBuilder(2);
+        blockBuilder.appendNull();
+        BIGINT.writeLong(blockBuilder, 7L);
+        pagesStore.add(0L, new Page(2, blockBuilder.build()));
+
+        assertThat(lookup(10L)).containsExactly(10L);
+        assertThat(lookup(75L)).containsExactly(75L, 75L);
+        assertThat(lookup(7L, 200L)).containsExactlyInAnyOrder(7L, 7L);
+        assertThat(lookup(1000L)).isEmpty();
+
+        assertThatThrownBy(() -> pagesStore.lookup(0L, 1000, ImmutableList.of(new Object[] {10L}), new int[] {0}, List.of(BIGINT)))
+                .isInstanceOf(TrinoException.class)
+                .hasMessageMatching("Expected to find.*");
+        // an empty table has no rows to look up, even when the pages of a truncated table are still stored
+        assertThat(pagesStore.lookup(0L, 0, ImmutableList.of(new Object[] {10L}), new int[] {0}, List.of(BIGINT))).isEmpty();
+    }
+
+    private List<Long> lookup(Long... keys)
+    {
+        List<Object[]> keyValues = Arrays.stream(keys)
+                .map(key -> new Object[] {key})
+                .collect(toImmutableList());
+        ImmutableList.Builder<Long> values = ImmutableList.builder();
+        for (Page page : pagesStore.lookup(0L, 202, keyValues, new int[] {0}, List.of(BIGINT))) {
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                values.add(BIGINT.getLong(page.getBlock(0), position));
+            }
+        }
+        return values.build();
+    }
+
+    private List<Page> getPages(TupleDomain<Integer> predicate)
+    {
+        return pagesStore.getPages(0L, 0, 1, new int[] {0}, List.of(BIGINT), 0, OptionalLong.empty(), OptionalDouble.empty(), predicate);
+    }
+
     private void insertToTable(long tableId, Long... activeTableIds)
     {
         insertToTable(tableId, createPage(), activeTableIds);
@@ -161,12 +330,12 @@ public class TestMemoryPagesStore
 
     private static ConnectorOutputTableHandle createMemoryOutputTableHandle(long tableId, Long... activeTableIds)
     {
-        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(activeTableIds));
+        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(activeTableIds), ImmutableList.of());
     }
 
     private static ConnectorInsertTableHandle createMemoryInsertTableHandle(long tableId, Long[] activeTableIds)
     {
-        return new MemoryInsertTableHandle(tableId, InsertMode.APPEND, ImmutableSet.copyOf(activeTableIds));
+        return new MemoryInsertTableHandle(tableId, InsertMode.APPEND, ImmutableSet.copyOf(activeTableIds), ImmutableList.of());
     }
 
     private static Page createPage()
@@ -179,9 +348,20 @@ public class TestMemoryPagesStore
     private static Page createOneMegaBytePage()
     {
         BlockBuilder blockBuilder = BIGINT.createFixedSizeBlockBuilder(POSITIONS_PER_PAGE);
+        // distinct values, so that the page is not encoded when stored
+        long value = 0;
         while (blockBuilder.getRetainedSizeInBytes() < 1024 * 1024) {
-            BIGINT.writeLong(blockBuilder, 42L);
+            BIGINT.writeLong(blockBuilder, value++);
         }
         return new Page(0, blockBuilder.build());
     }
+
+    private static Page createSequencePage(long start, int positionCount)
+    {
+        BlockBuilder blockBuilder = BIGINT.createFixedSizeBlockBuilder(positionCount);
+        for (int i = 0; i < positionCount; i++) {
+            BIGINT.writeLong(blockBuilder, start + i);
+        }
+        return new Page(positionCount, blockBuilder.build());
+    }
 }
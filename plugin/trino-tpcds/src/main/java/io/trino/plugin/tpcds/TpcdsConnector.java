@@ -18,7 +18,7 @@ import io.airlift.bootstrap.LifeCycleManager;
 import io.trino.spi.connector.Connector;
 import io.trino.spi.connector.ConnectorMetadata;
 import io.trino.spi.connector.ConnectorNodePartitioningProvider;
-import io.trino.spi.connector.ConnectorRecordSetProvider;
+import io.trino.spi.connector.ConnectorPageSourceProvider;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitManager;
 import io.trino.spi.connector.ConnectorTransactionHandle;
@@ -35,7 +35,7 @@ public class TpcdsConnector
     private final LifeCycleManager lifeCycleManager;
     private final TpcdsMetadata metadata;
     private final TpcdsSplitManager splitManager;
-    private final TpcdsRecordSetProvider recordSetProvider;
+    private final TpcdsPageSourceProvider pageSourceProvider;
     private final TpcdsNodePartitioningProvider nodePartitioningProvider;
     private final TpcdsSessionProperties sessionProperties;
 
@@ -44,14 +44,14 @@ public class TpcdsConnector
             LifeCycleManager lifeCycleManager,
             TpcdsMetadata metadata,
             TpcdsSplitManager splitManager,
-            TpcdsRecordSetProvider recordSetProvider,
+            TpcdsPageSourceProvider pageSourceProvider,
             TpcdsNodePartitioningProvider nodePartitioningProvider,
             TpcdsSessionProperties sessionProperties)
     {
         this.lifeCycleManager = requireNonNull(lifeCycleManager, "lifeCycleManager is null");
         this.metadata = requireNonNull(metadata, "metadata is null");
         this.splitManager = requireNonNull(splitManager, "splitManager is null");
-        this.recordSetProvider = requireNonNull(recordSetProvider, "recordSetProvider is null");
+        this.pageSourceProvider = requireNonNull(pageSourceProvider, "pageSourceProvider is null");
         this.nodePartitioningProvider = requireNonNull(nodePartitioningProvider, "nodePartitioningProvider is null");
         this.sessionProperties = requireNonNull(sessionProperties, "sessionProperties is null");
     }
@@ -75,9 +75,9 @@ public class TpcdsConnector
     }
 
     @Override
-    public ConnectorRecordSetProvider getRecordSetProvider()
+    public ConnectorPageSourceProvider getPageSourceProvider()
     {
-        return recordSetProvider;
+        return pageSourceProvider;
     }
 
     @Override
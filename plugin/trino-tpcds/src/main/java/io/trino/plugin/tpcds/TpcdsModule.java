@@ -39,7 +39,7 @@ public class TpcdsModule
         binder.bind(TpcdsSessionProperties.class).in(Scopes.SINGLETON);
         binder.bind(TpcdsMetadata.class).in(Scopes.SINGLETON);
         binder.bind(TpcdsSplitManager.class).in(Scopes.SINGLETON);
-        binder.bind(TpcdsRecordSetProvider.class).in(Scopes.SINGLETON);
+        binder.bind(TpcdsPageSourceProvider.class).in(Scopes.SINGLETON);
         binder.bind(TpcdsNodePartitioningProvider.class).in(Scopes.SINGLETON);
         binder.bind(TpcdsConnector.class).in(Scopes.SINGLETON);
     }
@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.type.DecimalParseResult;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.Decimals;
+import io.trino.spi.type.Int128;
+import io.trino.spi.type.Int128Math;
+import io.trino.spi.type.Type;
+import io.trino.tpcds.Results;
+import io.trino.tpcds.column.Column;
+import org.joda.time.LocalTime;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.plugin.tpcds.TpcdsMetadata.getTrinoType;
+import static io.trino.spi.type.Chars.trimTrailingSpaces;
+import static io.trino.spi.type.Decimals.rescale;
+import static io.trino.spi.type.Timestamps.PICOSECONDS_PER_MILLISECOND;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts the generated rows of a split to pages. The conversion of each column is selected once
+ * for the split, and the values are written directly to the block builders of the page.
+ */
+public class TpcdsPageSource
+        implements ConnectorPageSource
+{
+    static final int ROWS_PER_PAGE = 8192;
+
+    private final Iterator<List<List<String>>> rows;
+    private final List<ColumnWriter> writers;
+    private final int[] positions;
+    private final PageBuilder pageBuilder;
+    private long readTimeNanos;
+    private boolean finished;
+
+    public TpcdsPageSource(Results results, List<Column> columns)
+    {
+        requireNonNull(results, "results is null");
+        this.rows = results.iterator();
+        ImmutableList.Builder<Type> types = ImmutableList.builder();
+        ImmutableList.Builder<ColumnWriter> writers = ImmutableList.builder();
+        this.positions = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            Type type = getTrinoType(column.getType());
+            types.add(type);
+            writers.add(createWriter(column, type));
+            positions[i] = column.getPosition();
+        }
+        this.writers = writers.build();
+        this.pageBuilder = new PageBuilder(ROWS_PER_PAGE, types.build());
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return 0;
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return finished;
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        if (finished) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        while (!pageBuilder.isFull() && pageBuilder.getPositionCount() < ROWS_PER_PAGE) {
+            if (!rows.hasNext()) {
+                finished = true;
+                break;
+            }
+            List<String> row = rows.next().get(0);
+            pageBuilder.declarePosition();
+            for (int channel = 0; channel < positions.length; channel++) {
+                String value = row.get(positions[channel]);
+                BlockBuilder blockBuilder = pageBuilder.getBlockBuilder(channel);
+                if (value == null) {
+                    blockBuilder.appendNull();
+                }
+                else {
+                    writers.get(channel).write(blockBuilder, value);
+                }
+            }
+        }
+
+        Page page = null;
+        if (!pageBuilder.isEmpty()) {
+            page = pageBuilder.build();
+            pageBuilder.reset();
+        }
+        readTimeNanos += System.nanoTime() - start;
+        return page;
+    }
+
+    @Override
+    public long getMemoryUsage()
+    {
+        return pageBuilder.getRetainedSizeInBytes();
+    }
+
+    @Override
+    public void close()
+    {
+        finished = true;
+    }
+
+    private static ColumnWriter createWriter(Column column, Type type)
+    {
+        return switch (column.getType().getBase()) {
+            case IDENTIFIER -> (blockBuilder, value) -> type.writeLong(blockBuilder, parseLong(value));
+            case INTEGER -> (blockBuilder, value) -> type.writeLong(blockBuilder, parseInt(value));
+            case DATE -> (blockBuilder, value) -> type.writeLong(blockBuilder, parseDate(value));
+            case TIME -> (blockBuilder, value) -> type.writeLong(blockBuilder, (long) LocalTime.parse(value).getMillisOfDay() * PICOSECONDS_PER_MILLISECOND);
+            case DECIMAL -> createDecimalWriter((DecimalType) type);
+            case CHAR -> (blockBuilder, value) -> type.writeSlice(blockBuilder, trimTrailingSpaces(utf8Slice(value)));
+            case VARCHAR -> (blockBuilder, value) -> type.writeSlice(blockBuilder, utf8Slice(value));
+        };
+    }
+
+    private static ColumnWriter createDecimalWriter(DecimalType type)
+    {
+        if (type.isShort()) {
+            return (blockBuilder, value) -> {
+                DecimalParseResult result = Decimals.parse(value);
+                type.writeLong(blockBuilder, rescale((long) result.getObject(), result.getType().getScale(), type.getScale()));
+            };
+        }
+        return (blockBuilder, value) -> {
+            DecimalParseResult result = Decimals.parse(value);
+            Int128 decimal = result.getObject() instanceof Long shortDecimal ? Int128.valueOf(shortDecimal) : (Int128) result.getObject();
+            type.writeObject(blockBuilder, Int128Math.rescale(decimal, type.getScale() - result.getType().getScale()));
+        };
+    }
+
+    private static long parseDate(String value)
+    {
+        // the generated dates are formatted as yyyy-MM-dd
+        if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            return LocalDate.of(parseInt(value, 0, 4, 10), parseInt(value, 5, 7, 10), parseInt(value, 8, 10, 10)).toEpochDay();
+        }
+        return LocalDate.parse(value).toEpochDay();
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter
+    {
+        void write(BlockBuilder blockBuilder, String value);
+    }
+}
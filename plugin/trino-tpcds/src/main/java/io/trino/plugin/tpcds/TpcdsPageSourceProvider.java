@@ -15,12 +15,13 @@ package io.trino.plugin.tpcds;
 
 import com.google.common.collect.ImmutableList;
 import io.trino.spi.connector.ColumnHandle;
-import io.trino.spi.connector.ConnectorRecordSetProvider;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorPageSourceProvider;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplit;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
-import io.trino.spi.connector.RecordSet;
+import io.trino.spi.connector.DynamicFilter;
 import io.trino.tpcds.Results;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.Table;
@@ -31,16 +32,17 @@ import java.util.List;
 import static io.trino.tpcds.Results.constructResults;
 import static io.trino.tpcds.Table.getTable;
 
-public class TpcdsRecordSetProvider
-        implements ConnectorRecordSetProvider
+public class TpcdsPageSourceProvider
+        implements ConnectorPageSourceProvider
 {
     @Override
-    public RecordSet getRecordSet(
+    public ConnectorPageSource createPageSource(
             ConnectorTransactionHandle transaction,
             ConnectorSession connectorSession,
             ConnectorSplit split,
             ConnectorTableHandle tableHandle,
-            List<? extends ColumnHandle> columns)
+            List<ColumnHandle> columns,
+            DynamicFilter dynamicFilter)
     {
         TpcdsSplit tpcdsSplit = (TpcdsSplit) split;
         TpcdsTableHandle tpcdsTable = (TpcdsTableHandle) tableHandle;
@@ -64,6 +66,6 @@ public class TpcdsRecordSetProvider
                 .withTable(table)
                 .withNoSexism(noSexism);
         Results results = constructResults(table, session);
-        return new TpcdsRecordSet(results, builder.build());
+        return new TpcdsPageSource(results, builder.build());
     }
 }
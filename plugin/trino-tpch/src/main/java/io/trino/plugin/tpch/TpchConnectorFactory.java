@@ -20,7 +20,6 @@ import io.trino.spi.connector.ConnectorFactory;
 import io.trino.spi.connector.ConnectorMetadata;
 import io.trino.spi.connector.ConnectorNodePartitioningProvider;
 import io.trino.spi.connector.ConnectorPageSourceProvider;
-import io.trino.spi.connector.ConnectorRecordSetProvider;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitManager;
 import io.trino.spi.connector.ConnectorTransactionHandle;
@@ -40,7 +39,7 @@ public class TpchConnectorFactory
 {
     public static final String TPCH_COLUMN_NAMING_PROPERTY = "tpch.column-naming";
     public static final String TPCH_DOUBLE_TYPE_MAPPING_PROPERTY = "tpch.double-type-mapping";
-    public static final String TPCH_PRODUCE_PAGES = "tpch.produce-pages";
+    public static final String TPCH_USE_RECORD_CURSOR = "tpch.use-record-cursor";
     public static final String TPCH_MAX_ROWS_PER_PAGE_PROPERTY = "tpch.max-rows-per-page";
     public static final String TPCH_TABLE_SCAN_REDIRECTION_CATALOG = "tpch.table-scan-redirection-catalog";
     public static final String TPCH_TABLE_SCAN_REDIRECTION_SCHEMA = "tpch.table-scan-redirection-schema";
@@ -113,21 +112,7 @@ public class TpchConnectorFactory
             @Override
             public ConnectorPageSourceProvider getPageSourceProvider()
             {
-                if (isProducePages(properties)) {
-                    return new TpchPageSourceProvider(getMaxRowsPerPage(properties), decimalTypeMapping);
-                }
-
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public ConnectorRecordSetProvider getRecordSetProvider()
-            {
-                if (!isProducePages(properties)) {
-                    return new TpchRecordSetProvider(decimalTypeMapping);
-                }
-
-                throw new UnsupportedOperationException();
+                return new TpchPageSourceProvider(isUseRecordCursor(properties), getMaxRowsPerPage(properties), decimalTypeMapping);
             }
 
             @Override
@@ -148,9 +133,9 @@ public class TpchConnectorFactory
         }
     }
 
-    private boolean isProducePages(Map<String, String> properties)
+    private boolean isUseRecordCursor(Map<String, String> properties)
     {
-        return Boolean.parseBoolean(firstNonNull(properties.get(TPCH_PRODUCE_PAGES), FALSE.toString()));
+        return Boolean.parseBoolean(firstNonNull(properties.get(TPCH_USE_RECORD_CURSOR), FALSE.toString()));
     }
 
     private int getMaxRowsPerPage(Map<String, String> properties)
@@ -0,0 +1,298 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.tpch;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
+import io.trino.plugin.tpch.TpchRecordSet.TpchRecordCursor;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.IntArrayBlock;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.block.VariableWidthBlock;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.type.Type;
+import io.trino.tpch.TpchColumn;
+import io.trino.tpch.TpchEntity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.airlift.slice.Slices.wrappedBuffer;
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates the rows of a split directly into the blocks of the columns. The generator of each
+ * column is selected once for the split, and writes the values into an array of the type of the
+ * column, avoiding the per value dispatch and object allocation of a record cursor.
+ */
+class TpchPageSource<E extends TpchEntity>
+        implements ConnectorPageSource
+{
+    static final int ROWS_PER_PAGE = 8192;
+
+    private final TpchRecordCursor<E> cursor;
+    private final List<ColumnGenerator<E>> generators;
+    private long readTimeNanos;
+    private boolean finished;
+
+    TpchPageSource(TpchRecordSet<E> recordSet)
+    {
+        requireNonNull(recordSet, "recordSet is null");
+        this.cursor = recordSet.cursor();
+        ImmutableList.Builder<ColumnGenerator<E>> generators = ImmutableList.builder();
+        for (int i = 0; i < recordSet.getColumns().size(); i++) {
+            generators.add(createGenerator(recordSet.getColumns().get(i), recordSet.getColumnTypes().get(i)));
+        }
+        this.generators = generators.build();
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return 0;
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return finished;
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        if (finished) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        int positionCount = 0;
+        while (positionCount < ROWS_PER_PAGE) {
+            if (!cursor.advanceNextPosition()) {
+                finished = true;
+                break;
+            }
+            E row = cursor.getRow();
+            for (ColumnGenerator<E> generator : generators) {
+                generator.append(row, positionCount);
+            }
+            positionCount++;
+        }
+
+        if (positionCount == 0) {
+            readTimeNanos += System.nanoTime() - start;
+            return null;
+        }
+
+        Block[] blocks = new Block[generators.size()];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = generators.get(i).build(positionCount);
+        }
+        readTimeNanos += System.nanoTime() - start;
+        return new Page(positionCount, blocks);
+    }
+
+    @Override
+    public long getMemoryUsage()
+    {
+        return 0;
+    }
+
+    @Override
+    public void close()
+    {
+        finished = true;
+        cursor.close();
+    }
+
+    private static <E extends TpchEntity> ColumnGenerator<E> createGenerator(TpchColumn<E> column, Type type)
+    {
+        if (type.getJavaType() == double.class) {
+            return new DoubleColumnGenerator<>(column::getDouble);
+        }
+        if (type.getJavaType() == Slice.class) {
+            return new VarcharColumnGenerator<>(column::getString);
+        }
+        return switch (column.getType().getBase()) {
+            case INTEGER -> new IntColumnGenerator<>(column::getInteger);
+            case DATE -> new IntColumnGenerator<>(column::getDate);
+            // identifiers, and the amounts in cents when the decimal columns are mapped to short decimals
+            default -> new LongColumnGenerator<>(column::getIdentifier);
+        };
+    }
+
+    /**
+     * Writes the values of a column to an array, which is handed over to the block of the page.
+     */
+    private interface ColumnGenerator<E>
+    {
+        void append(E row, int position);
+
+        Block build(int positionCount);
+    }
+
+    private static final class LongColumnGenerator<E>
+            implements ColumnGenerator<E>
+    {
+        private final ToLongFunction<E> getter;
+        private long[] values = new long[ROWS_PER_PAGE];
+
+        private LongColumnGenerator(ToLongFunction<E> getter)
+        {
+            this.getter = requireNonNull(getter, "getter is null");
+        }
+
+        @Override
+        public void append(E row, int position)
+        {
+            values[position] = getter.applyAsLong(row);
+        }
+
+        @Override
+        public Block build(int positionCount)
+        {
+            Block block = new LongArrayBlock(positionCount, Optional.empty(), values);
+            values = new long[ROWS_PER_PAGE];
+            return block;
+        }
+    }
+
+    private static final class DoubleColumnGenerator<E>
+            implements ColumnGenerator<E>
+    {
+        private final ToDoubleFunction<E> getter;
+        private long[] values = new long[ROWS_PER_PAGE];
+
+        private DoubleColumnGenerator(ToDoubleFunction<E> getter)
+        {
+            this.getter = requireNonNull(getter, "getter is null");
+        }
+
+        @Override
+        public void append(E row, int position)
+        {
+            values[position] = Double.doubleToLongBits(getter.applyAsDouble(row));
+        }
+
+        @Override
+        public Block build(int positionCount)
+        {
+            Block block = new LongArrayBlock(positionCount, Optional.empty(), values);
+            values = new long[ROWS_PER_PAGE];
+            return block;
+        }
+    }
+
+    private static final class IntColumnGenerator<E>
+            implements ColumnGenerator<E>
+    {
+        private final ToIntFunction<E> getter;
+        private int[] values = new int[ROWS_PER_PAGE];
+
+        private IntColumnGenerator(ToIntFunction<E> getter)
+        {
+            this.getter = requireNonNull(getter, "getter is null");
+        }
+
+        @Override
+        public void append(E row, int position)
+        {
+            values[position] = getter.applyAsInt(row);
+        }
+
+        @Override
+        public Block build(int positionCount)
+        {
+            Block block = new IntArrayBlock(positionCount, Optional.empty(), values);
+            values = new int[ROWS_PER_PAGE];
+            return block;
+        }
+    }
+
+    private static final class VarcharColumnGenerator<E>
+            implements ColumnGenerator<E>
+    {
+        private static final int EXPECTED_BYTES_PER_VALUE = 32;
+
+        private final Function<E, String> getter;
+        private byte[] bytes = new byte[ROWS_PER_PAGE * EXPECTED_BYTES_PER_VALUE];
+        private int[] offsets = new int[ROWS_PER_PAGE + 1];
+        private int size;
+
+        private VarcharColumnGenerator(Function<E, String> getter)
+        {
+            this.getter = requireNonNull(getter, "getter is null");
+        }
+
+        @Override
+        public void append(E row, int position)
+        {
+            String value = getter.apply(row);
+            int length = value.length();
+            ensureCapacity(size + length);
+            for (int i = 0; i < length; i++) {
+                char character = value.charAt(i);
+                if (character >= 0x80) {
+                    // the generated text is ASCII, but encode any other value properly
+                    appendEncoded(value);
+                    offsets[position + 1] = size;
+                    return;
+                }
+                bytes[size + i] = (byte) character;
+            }
+            size += length;
+            offsets[position + 1] = size;
+        }
+
+        private void appendEncoded(String value)
+        {
+            Slice slice = utf8Slice(value);
+            ensureCapacity(size + slice.length());
+            slice.getBytes(0, bytes, size, slice.length());
+            size += slice.length();
+        }
+
+        private void ensureCapacity(int capacity)
+        {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, max(capacity, bytes.length * 2));
+            }
+        }
+
+        @Override
+        public Block build(int positionCount)
+        {
+            Block block = new VariableWidthBlock(positionCount, wrappedBuffer(bytes, 0, size), offsets, Optional.empty());
+            // the size of the buffer follows the size of the values of the previous page
+            bytes = new byte[max(size, ROWS_PER_PAGE)];
+            offsets = new int[ROWS_PER_PAGE + 1];
+            size = 0;
+            return block;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.trino.spi.connector.ConnectorSplit;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.DynamicFilter;
+import io.trino.tpch.TpchTable;
 
 import java.util.List;
 
@@ -28,11 +29,17 @@ public class TpchPageSourceProvider
         implements ConnectorPageSourceProvider
 {
     private final TpchRecordSetProvider tpchRecordSetProvider;
+    private final boolean useRecordCursor;
     private final int maxRowsPerPage;
 
-    TpchPageSourceProvider(int maxRowsPerPage, DecimalTypeMapping decimalTypeMapping)
+    /**
+     * @param useRecordCursor when true, uses the legacy path, reading the generated rows through a record cursor
+     * into pages of at most {@code maxRowsPerPage} rows, instead of generating the rows directly into blocks
+     */
+    TpchPageSourceProvider(boolean useRecordCursor, int maxRowsPerPage, DecimalTypeMapping decimalTypeMapping)
     {
         this.tpchRecordSetProvider = new TpchRecordSetProvider(decimalTypeMapping);
+        this.useRecordCursor = useRecordCursor;
         this.maxRowsPerPage = maxRowsPerPage;
     }
 
@@ -45,6 +52,18 @@ public class TpchPageSourceProvider
             List<ColumnHandle> columns,
             DynamicFilter dynamicFilter)
     {
-        return new LazyRecordPageSource(maxRowsPerPage, tpchRecordSetProvider.getRecordSet(transaction, session, split, table, columns));
+        if (useRecordCursor) {
+            return new LazyRecordPageSource(maxRowsPerPage, tpchRecordSetProvider.getRecordSet(transaction, session, split, table, columns));
+        }
+
+        TpchSplit tpchSplit = (TpchSplit) split;
+        TpchTableHandle tpchTable = (TpchTableHandle) table;
+        return new TpchPageSource<>(tpchRecordSetProvider.getRecordSet(
+                TpchTable.getTable(tpchTable.tableName()),
+                columns,
+                tpchTable.scaleFactor(),
+                tpchSplit.getPartNumber(),
+                tpchSplit.getTotalParts(),
+                tpchTable.constraint()));
     }
 }
@@ -98,8 +98,13 @@ public class TpchRecordSet<E extends TpchEntity>
         return columnTypes;
     }
 
+    public List<TpchColumn<E>> getColumns()
+    {
+        return columns;
+    }
+
     @Override
-    public RecordCursor cursor()
+    public TpchRecordCursor<E> cursor()
     {
         return new TpchRecordCursor<>(rows.iterator(), table, columns, columnTypes, predicate);
     }
@@ -157,6 +162,12 @@ public class TpchRecordSet<E extends TpchEntity>
             return false;
         }
 
+        E getRow()
+        {
+            checkState(row != null, "No current row");
+            return row;
+        }
+
         @Override
         public boolean getBoolean(int field)
         {
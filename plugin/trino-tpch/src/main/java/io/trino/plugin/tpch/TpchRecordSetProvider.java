@@ -57,7 +57,7 @@ public class TpchRecordSetProvider
                 tpchTable.constraint());
     }
 
-    public <E extends TpchEntity> RecordSet getRecordSet(
+    public <E extends TpchEntity> TpchRecordSet<E> getRecordSet(
             TpchTable<E> table,
             List<? extends ColumnHandle> columns,
             double scaleFactor,
@@ -16,7 +16,6 @@ package io.trino.plugin.tpch;
 import com.google.common.collect.AbstractIterator;
 import io.trino.spi.Page;
 import io.trino.spi.connector.ConnectorPageSource;
-import io.trino.spi.connector.RecordPageSource;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.type.Type;
 import io.trino.tpch.TpchTable;
@@ -45,7 +44,7 @@ public final class TpchTables
             DecimalTypeMapping decimalTypeMapping)
     {
         TpchTable<?> table = TpchTable.getTable(tableName);
-        ConnectorPageSource pageSource = new RecordPageSource(
+        ConnectorPageSource pageSource = new TpchPageSource<>(
                 createTpchRecordSet(table, decimalTypeMapping, scaleFactor, 1, 1, TupleDomain.all()));
         return new AbstractIterator<>()
         {
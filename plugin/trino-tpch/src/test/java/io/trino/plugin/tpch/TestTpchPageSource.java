@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.tpch;
+
+import io.airlift.slice.Slice;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.RecordCursor;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.Type;
+import io.trino.tpch.TpchEntity;
+import io.trino.tpch.TpchTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.trino.plugin.tpch.TpchRecordSet.createTpchRecordSet;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.tpch.OrderColumn.ORDER_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestTpchPageSource
+{
+    @Test
+    public void testMatchesRecordSet()
+    {
+        for (TpchTable<?> table : TpchTable.getTables()) {
+            for (DecimalTypeMapping decimalTypeMapping : DecimalTypeMapping.values()) {
+                assertMatchesRecordSet(createTpchRecordSet(table, decimalTypeMapping, 0.01, 2, 3, TupleDomain.all()));
+            }
+        }
+    }
+
+    @Test
+    public void testPredicate()
+    {
+        TpchColumnHandle orderKey = new TpchColumnHandle(ORDER_KEY.getSimplifiedColumnName(), BIGINT);
+        TupleDomain<ColumnHandle> predicate = TupleDomain.withColumnDomains(Map.of(orderKey, Domain.singleValue(BIGINT, 7L)));
+        TpchRecordSet<?> recordSet = createTpchRecordSet(TpchTable.ORDERS, DecimalTypeMapping.DOUBLE, 0.01, 1, 1, predicate);
+        assertMatchesRecordSet(recordSet);
+
+        int rows = 0;
+        TpchPageSource<?> pageSource = new TpchPageSource<>(recordSet);
+        while (!pageSource.isFinished()) {
+            Page page = pageSource.getNextPage();
+            if (page != null) {
+                rows += page.getPositionCount();
+            }
+        }
+        assertThat(rows).isEqualTo(1);
+    }
+
+    private static <E extends TpchEntity> void assertMatchesRecordSet(TpchRecordSet<E> recordSet)
+    {
+        RecordCursor cursor = recordSet.cursor();
+        TpchPageSource<E> pageSource = new TpchPageSource<>(recordSet);
+        while (!pageSource.isFinished()) {
+            Page page = pageSource.getNextPage();
+            if (page == null) {
+                continue;
+            }
+            assertThat(page.getPositionCount()).isLessThanOrEqualTo(TpchPageSource.ROWS_PER_PAGE);
+            assertThat(page.getChannelCount()).isEqualTo(recordSet.getColumnTypes().size());
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                assertThat(cursor.advanceNextPosition()).isTrue();
+                for (int channel = 0; channel < page.getChannelCount(); channel++) {
+                    assertValue(recordSet.getColumnTypes().get(channel), page.getBlock(channel), position, cursor, channel);
+                }
+            }
+        }
+        assertThat(cursor.advanceNextPosition()).isFalse();
+        pageSource.close();
+    }
+
+    private static void assertValue(Type type, Block block, int position, RecordCursor cursor, int field)
+    {
+        assertThat(block.isNull(position)).isFalse();
+        if (type.getJavaType() == long.class) {
+            assertThat(type.getLong(block, position)).isEqualTo(cursor.getLong(field));
+        }
+        else if (type.getJavaType() == double.class) {
+            assertThat(type.getDouble(block, position)).isEqualTo(cursor.getDouble(field));
+        }
+        else {
+            assertThat(type.getJavaType()).isEqualTo(Slice.class);
+            assertThat(type.getSlice(block, position)).isEqualTo(cursor.getSlice(field));
+        }
+    }
+}